@@ -10,7 +10,10 @@
 
 package org.eclipse.buildship.core.internal.workspace;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -35,43 +38,86 @@ public final class CompositeModelQuery<T, U> implements BuildAction<Map<String,
 
     private Class<U> parameterType;
 
+    private final boolean parallel;
+
     public CompositeModelQuery(Class<T> modelType) {
         this(modelType, null, null);
     }
 
+    public CompositeModelQuery(Class<T> modelType, Boolean parallel) {
+        this(modelType, null, null, parallel);
+    }
+
     public CompositeModelQuery(Class<T> modelType, Class<U> parameterType, Action<? super U> parameter) {
+        this(modelType, parameterType, parameter, Boolean.FALSE);
+    }
+
+    /**
+     * Creates a new query.
+     *
+     * @param modelType the requested model type
+     * @param parameterType the model parameter type, can be null
+     * @param parameter the model parameter, can be null
+     * @param parallel whether the models of the included builds can be queried in parallel; must
+     *            only be set for Gradle 6.8 and above
+     */
+    public CompositeModelQuery(Class<T> modelType, Class<U> parameterType, Action<? super U> parameter, Boolean parallel) {
         this.modelType = modelType;
         this.parameterType = parameterType;
         this.parameter = parameter;
+        this.parallel = parallel;
     }
 
     @Override
     public Map<String, T> execute(BuildController controller) {
-        Map<String,T> acc = new HashMap<>();
+        Map<String, GradleBuild> builds = new LinkedHashMap<>();
         // ':' represents the root build
-        collectRootModels(controller, controller.getBuildModel(), acc, ":", controller.getBuildModel().getRootProject().getName());
+        collectBuilds(controller.getBuildModel(), builds, ":", controller.getBuildModel().getRootProject().getName());
+
+        Map<String,T> acc = new HashMap<>();
+        if (this.parallel && builds.size() > 1 && controller.getCanQueryProjectModelInParallel(this.modelType)) {
+            List<String> buildPaths = new ArrayList<>(builds.keySet());
+            List<RootModelQuery<T, U>> queries = new ArrayList<>(buildPaths.size());
+            for (String buildPath : buildPaths) {
+                queries.add(new RootModelQuery<>(builds.get(buildPath), this.modelType, this.parameterType, this.parameter));
+            }
+            // the results are returned in the order of the actions
+            List<T> models = controller.run(queries);
+            for (int i = 0; i < buildPaths.size(); i++) {
+                acc.put(buildPaths.get(i), models.get(i));
+            }
+        } else {
+            for (Map.Entry<String, GradleBuild> build : builds.entrySet()) {
+                acc.put(build.getKey(), queryRootModel(controller, build.getValue(), this.modelType, this.parameterType, this.parameter));
+            }
+        }
         return acc;
     }
 
-    private void collectRootModels(BuildController controller, GradleBuild build, Map<String, T> models, String buildPath, String rootBuildRootProjectName) {
-        if (models.containsKey(buildPath)) {
+    private static void collectBuilds(GradleBuild build, Map<String, GradleBuild> builds, String buildPath, String rootBuildRootProjectName) {
+        if (builds.containsKey(buildPath)) {
             return; // can happen when there's a cycle in the included builds
         }
 
-        if (this.parameter != null) {
-            models.put(buildPath, controller.getModel(build.getRootProject(), this.modelType, this.parameterType, this.parameter));
-        } else {
-            models.put(buildPath, controller.getModel(build.getRootProject(), this.modelType));
-        }
+        builds.put(buildPath, build);
 
         for (GradleBuild includedBuild : build.getIncludedBuilds()) {
             String includedBuildRootProjectName = includedBuild.getRootProject().getName();
             if (!includedBuildRootProjectName.equals(rootBuildRootProjectName)) {
-                collectRootModels(controller, includedBuild, models, includedBuildRootProjectName, rootBuildRootProjectName);
+                collectBuilds(includedBuild, builds, includedBuildRootProjectName, rootBuildRootProjectName);
             }
         }
     }
 
+    private static <T, U> T queryRootModel(BuildController controller, GradleBuild build, Class<T> modelType, Class<U> parameterType, Action<? super U> parameter) {
+        if (parameter != null) {
+            return controller.getModel(build.getRootProject(), modelType, parameterType, parameter);
+        } else {
+            return controller.getModel(build.getRootProject(), modelType);
+        }
+    }
+
+    // the parallel flag is not part of the identity as it doesn't affect the result
     @Override
     public int hashCode() {
         return Objects.hash(this.modelType, this.parameter);
@@ -92,4 +138,30 @@ public final class CompositeModelQuery<T, U> implements BuildAction<Map<String,
         return Objects.equals(this.modelType, other.modelType) && Objects.equals(this.parameter, other.parameter);
     }
 
+    /**
+     * Queries the model of the root project of a single build, used as a nested action to query
+     * multiple builds in parallel.
+     */
+    private static final class RootModelQuery<T, U> implements BuildAction<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final GradleBuild build;
+        private final Class<T> modelType;
+        private final Class<U> parameterType;
+        private final Action<? super U> parameter;
+
+        RootModelQuery(GradleBuild build, Class<T> modelType, Class<U> parameterType, Action<? super U> parameter) {
+            this.build = build;
+            this.modelType = modelType;
+            this.parameterType = parameterType;
+            this.parameter = parameter;
+        }
+
+        @Override
+        public T execute(BuildController controller) {
+            return queryRootModel(controller, this.build, this.modelType, this.parameterType, this.parameter);
+        }
+    }
+
 }
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.gradle.tooling.BuildAction;
+import org.gradle.tooling.BuildController;
+
+/**
+ * Build action to query multiple models for all participants in a composite with a single Gradle
+ * invocation.
+ * <p/>
+ * The result contains the composite model of each requested type, keyed by the fully qualified
+ * name of the model type.
+ *
+ * @see CompositeModelQuery
+ */
+public final class CompositeModelsQuery implements BuildAction<Map<String, Map<String, Object>>> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Class<?>> modelTypes;
+
+    private final boolean parallel;
+
+    /**
+     * Creates a new query.
+     *
+     * @param modelTypes the requested model types
+     * @param parallel whether the models of the included builds can be queried in parallel; must
+     *            only be set for Gradle 6.8 and above
+     */
+    public CompositeModelsQuery(List<Class<?>> modelTypes, Boolean parallel) {
+        this.modelTypes = new ArrayList<>(modelTypes);
+        this.parallel = parallel;
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> execute(BuildController controller) {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (Class<?> modelType : this.modelTypes) {
+            result.put(modelType.getName(), queryCompositeModel(controller, modelType));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> queryCompositeModel(BuildController controller, Class<?> modelType) {
+        return new CompositeModelQuery<Object, Object>((Class<Object>) modelType, null, null, this.parallel).execute(controller);
+    }
+}
@@ -33,18 +33,19 @@ abstract class BaseProjectConfiguratorTest extends ProjectSynchronizationSpecifi
         CorePlugin.instance.extensionManager = CorePlugin.instance.extensionManager.delegate
     }
 
-    protected def registerConfigurator(ProjectConfigurator configurator) {
+    protected def registerConfigurator(ProjectConfigurator configurator, List<Class<?>> requiredModels = []) {
         ExtensionManager manager = CorePlugin.instance.extensionManager
         int id = manager.configurators.size() + 1 - numOfInternalConfigurators
-        manager.configurators += contribution(id, configurator)
+        manager.configurators += contribution(id, configurator, requiredModels)
         configurator
     }
 
 
-    private ProjectConfiguratorContribution contribution(id, configurator) {
+    private ProjectConfiguratorContribution contribution(id, configurator, requiredModels) {
         IConfigurationElement extension = Mock(IConfigurationElement)
         extension.createExecutableExtension('class') >> { configurator }
         extension.getAttribute('id') >> "configurator$id"
+        extension.getAttribute('requiredModels') >> (requiredModels ? requiredModels.collect { it.name }.join(',') : null)
         IContributor contributor = Mock(IContributor)
         contributor.getName() >> 'pluginId'
         extension.getContributor() >> contributor
@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core
+
+import org.eclipse.core.runtime.IProgressMonitor
+import org.eclipse.core.runtime.NullProgressMonitor
+
+class ProjectConfiguratorIncrementalSynchronizationTest extends BaseProjectConfiguratorTest {
+
+    def setup() {
+        registerConfigurator(new ClasspathFileTouchingConfigurator())
+    }
+
+    def "Projects are skipped if only other configurators changed the workspace files"() {
+        setup:
+        File location = dir('ProjectConfiguratorIncrementalSynchronizationTest') {
+            file 'settings.gradle', "include 'a', 'b'"
+            file 'build.gradle', "subprojects { apply plugin: 'java' }"
+            dir('a') {
+                file 'build.gradle', ''
+                dir 'src/main/java'
+                dir 'src/extra/java'
+            }
+            dir('b') {
+                dir 'build'
+                dir 'src/main/java'
+            }
+        }
+        importAndWait(location)
+        findProject('b').getFolder('build').setDerived(false, new NullProgressMonitor())
+        new File(location, 'a/build.gradle').text = "sourceSets.main.java.srcDir 'src/extra/java'"
+
+        when:
+        synchronizeAndWait(location)
+
+        then:
+        !findProject('b').getFolder('build').derived
+    }
+
+    static class ClasspathFileTouchingConfigurator implements ProjectConfigurator {
+
+        @Override
+        void init(InitializationContext context, IProgressMonitor monitor) {
+        }
+
+        @Override
+        void configure(ProjectContext context, IProgressMonitor monitor) {
+            if (context.project.getFile('.classpath').exists()) {
+                context.project.getFile('.classpath').touch(monitor)
+            }
+        }
+
+        @Override
+        void unconfigure(ProjectContext context, IProgressMonitor monitor) {
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core
+
+import org.gradle.tooling.model.GradleProject
+import org.gradle.tooling.model.eclipse.EclipseProject
+
+import org.eclipse.core.runtime.IProgressMonitor
+import org.eclipse.core.runtime.NullProgressMonitor
+
+import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.console.ProcessStreamsProvider
+import org.eclipse.buildship.core.internal.test.fixtures.TestProcessStreamProvider
+
+class ProjectConfiguratorRequiredModelsTest extends BaseProjectConfiguratorTest {
+
+    File location
+
+    def setup() {
+        registerService(ProcessStreamsProvider, new TestProcessStreamProvider(){})
+        location = dir('ProjectConfiguratorRequiredModelsTest') {
+            file 'settings.gradle', "include 'sub'"
+            file 'build.gradle', 'System.out.println "ScriptExecuted"'
+            dir 'sub'
+        }
+    }
+
+    def "Declared Eclipse models are served from the synchronization"() {
+        setup:
+        ModelCapturingConfigurator configurator = registerConfigurator(new ModelCapturingConfigurator(EclipseProject), [EclipseProject])
+
+        when:
+        gradleBuildFor(location).synchronize(new NullProgressMonitor())
+
+        then:
+        configurator.models[':'].children*.name == ['sub']
+        assertModelLoadedTimes(1)
+    }
+
+    def "Models declared by multiple configurators are loaded with a single Gradle invocation"() {
+        setup:
+        ModelCapturingConfigurator first = registerConfigurator(new ModelCapturingConfigurator(GradleProject), [GradleProject])
+        ModelCapturingConfigurator second = registerConfigurator(new ModelCapturingConfigurator(GradleProject), [GradleProject, EclipseProject])
+
+        when:
+        gradleBuildFor(location).synchronize(new NullProgressMonitor())
+
+        then:
+        first.models[':'].children*.path == [':sub']
+        second.models[':'].is(first.models[':'])
+        assertModelLoadedTimes(2)
+    }
+
+    def "Undeclared models cannot be accessed"() {
+        setup:
+        ModelCapturingConfigurator configurator = registerConfigurator(new ModelCapturingConfigurator(GradleProject), [EclipseProject])
+
+        when:
+        SynchronizationResult result = gradleBuildFor(location).synchronize(new NullProgressMonitor())
+
+        then:
+        configurator.failure instanceof IllegalArgumentException
+        result.status.isOK()
+    }
+
+    private void assertModelLoadedTimes(int times) {
+        String out = CorePlugin.processStreamsProvider().backgroundJobProcessStreams.out
+        assert out.count('ScriptExecuted') == times
+    }
+
+    static class ModelCapturingConfigurator implements ProjectConfigurator {
+
+        Class<?> modelType
+        Map<String, ?> models
+        Exception failure
+
+        ModelCapturingConfigurator(Class<?> modelType) {
+            this.modelType = modelType
+        }
+
+        @Override
+        public void init(InitializationContext context, IProgressMonitor monitor) {
+            try {
+                models = context.getModels(modelType)
+            } catch (Exception e) {
+                failure = e
+            }
+        }
+
+        @Override
+        public void configure(ProjectContext context, IProgressMonitor monitor) { }
+
+        @Override
+        public void unconfigure(ProjectContext context, IProgressMonitor monitor) { }
+    }
+}
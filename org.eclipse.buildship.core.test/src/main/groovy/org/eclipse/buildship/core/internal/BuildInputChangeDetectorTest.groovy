@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal
+
+import org.eclipse.core.resources.IProject
+import org.eclipse.core.runtime.NullProgressMonitor
+
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+
+class BuildInputChangeDetectorTest extends WorkspaceSpecification {
+
+    IProject first
+    IProject second
+
+    def setup() {
+        first = newProject('first')
+        second = newProject('second')
+    }
+
+    def "Changed inputs are only reported for the directories containing them"() {
+        setup:
+        BuildInputChangeDetector detector = BuildInputChangeDetector.start()
+
+        when:
+        second.getFile('build.gradle').create(new ByteArrayInputStream(new byte[0]), true, new NullProgressMonitor())
+
+        then:
+        !detector.hasChanges([first.location.toFile()])
+        detector.hasChanges([second.location.toFile()])
+
+        cleanup:
+        detector.close()
+    }
+
+    def "Files that are not build inputs are ignored"() {
+        setup:
+        BuildInputChangeDetector detector = BuildInputChangeDetector.start()
+
+        when:
+        first.getFile('Foo.java').create(new ByteArrayInputStream(new byte[0]), true, new NullProgressMonitor())
+
+        then:
+        !detector.hasChanges([first.location.toFile()])
+
+        cleanup:
+        detector.close()
+    }
+
+    def "Workspace project changes are always reported"() {
+        setup:
+        BuildInputChangeDetector detector = BuildInputChangeDetector.start()
+
+        when:
+        second.close(new NullProgressMonitor())
+
+        then:
+        detector.hasChanges([])
+
+        cleanup:
+        detector.close()
+    }
+}
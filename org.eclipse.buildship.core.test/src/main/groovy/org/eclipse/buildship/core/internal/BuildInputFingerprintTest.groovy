@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal
+
+import org.gradle.tooling.model.UnsupportedMethodException
+import org.gradle.tooling.model.eclipse.EclipseProject
+
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+
+class BuildInputFingerprintTest extends WorkspaceSpecification {
+
+    File rootDir
+    BuildConfiguration buildConfig
+    List<EclipseProject> projects
+
+    def setup() {
+        rootDir = dir('sample-build') {
+            file 'settings.gradle', "include 'sub'"
+            file 'build.gradle', ''
+            dir('gradle') {
+                file 'libs.versions.toml', ''
+            }
+            dir('sub') {
+                file 'build.gradle.kts', ''
+                file 'src/main/java/Foo.java', 'class Foo {}'
+            }
+        }
+        buildConfig = createInheritingBuildConfiguration(rootDir)
+        projects = [eclipseProject(rootDir), eclipseProject(new File(rootDir, 'sub'))]
+    }
+
+    def "Fingerprint is stable for unchanged builds"() {
+        expect:
+        BuildInputFingerprint.compute(buildConfig, projects) == BuildInputFingerprint.compute(buildConfig, projects)
+    }
+
+    def "Fingerprint changes when a build input changes"(String path) {
+        setup:
+        String fingerprint = BuildInputFingerprint.compute(buildConfig, projects)
+
+        when:
+        File input = new File(rootDir, path)
+        input.parentFile.mkdirs()
+        input.text = '// changed'
+
+        then:
+        BuildInputFingerprint.compute(buildConfig, projects) != fingerprint
+
+        where:
+        path << ['settings.gradle', 'build.gradle', 'gradle.properties', 'gradle/libs.versions.toml', 'sub/build.gradle.kts', 'buildSrc/build.gradle']
+    }
+
+    def "Fingerprint ignores source files"() {
+        setup:
+        String fingerprint = BuildInputFingerprint.compute(buildConfig, projects)
+
+        when:
+        new File(rootDir, 'sub/src/main/java/Foo.java').text = 'class Foo { int bar; }'
+
+        then:
+        BuildInputFingerprint.compute(buildConfig, projects) == fingerprint
+    }
+
+    def "Fingerprint changes when an applied script or an included build changes"(String path) {
+        setup:
+        new File(rootDir, 'settings.gradle').text = "include 'sub'\npluginManagement { includeBuild('build-logic') }"
+        new File(rootDir, 'sub/build.gradle.kts').text = 'apply(from = "../gradle/common.gradle")'
+        new File(rootDir, 'gradle/common.gradle').text = "apply from: 'nested.gradle'"
+        new File(rootDir, 'gradle/nested.gradle').text = ''
+        new File(rootDir, 'build-logic/src/main/groovy').mkdirs()
+        new File(rootDir, 'build-logic/src/main/groovy/conventions.gradle').text = ''
+        String fingerprint = BuildInputFingerprint.compute(buildConfig, projects)
+
+        when:
+        new File(rootDir, path).text = '// changed'
+
+        then:
+        BuildInputFingerprint.compute(buildConfig, projects) != fingerprint
+
+        where:
+        path << ['gradle/common.gradle', 'gradle/nested.gradle', 'build-logic/src/main/groovy/conventions.gradle']
+    }
+
+    def "Fingerprint changes when workspace projects change"() {
+        setup:
+        String fingerprint = BuildInputFingerprint.compute(buildConfig, projects)
+
+        when:
+        newProject('other')
+
+        then:
+        BuildInputFingerprint.compute(buildConfig, projects) != fingerprint
+    }
+
+    private EclipseProject eclipseProject(File projectDir) {
+        EclipseProject project = Mock(EclipseProject)
+        project.projectDirectory >> projectDir
+        project.projectIdentifier >> { throw new UnsupportedMethodException('') }
+        project
+    }
+}
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal
+
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Supplier
+
+import org.gradle.tooling.BuildCancelledException
+import org.gradle.tooling.CancellationToken
+
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+
+class ModelCacheTest extends WorkspaceSpecification {
+
+    ModelCache cache
+    BuildConfiguration firstBuild
+    BuildConfiguration secondBuild
+    ExecutorService executor = Executors.newCachedThreadPool()
+
+    def setup() {
+        cache = new ModelCache(1024 * 1024, TimeUnit.HOURS.toMillis(1))
+        firstBuild = createInheritingBuildConfiguration(dir('first'))
+        secondBuild = createInheritingBuildConfiguration(dir('second'))
+    }
+
+    def cleanup() {
+        executor.shutdownNow()
+    }
+
+    def "Regions of different builds are isolated"() {
+        setup:
+        cache.region(firstBuild, ModelCache.Scope.BUILD).put('key', 'first')
+        cache.region(secondBuild, ModelCache.Scope.BUILD).put('key', 'second')
+
+        expect:
+        cache.region(firstBuild, ModelCache.Scope.BUILD).getIfPresent('key') == 'first'
+        cache.region(secondBuild, ModelCache.Scope.BUILD).getIfPresent('key') == 'second'
+        cache.region(firstBuild, ModelCache.Scope.SYNCHRONIZATION).getIfPresent('key') == null
+    }
+
+    def "Invalidating a region keeps the other scopes of the build"() {
+        setup:
+        cache.region(firstBuild, ModelCache.Scope.BUILD).put('key', 'build')
+        cache.region(firstBuild, ModelCache.Scope.SYNCHRONIZATION).put('key', 'sync')
+
+        when:
+        cache.region(firstBuild, ModelCache.Scope.SYNCHRONIZATION).invalidateAll()
+
+        then:
+        cache.region(firstBuild, ModelCache.Scope.BUILD).getIfPresent('key') == 'build'
+        cache.region(firstBuild, ModelCache.Scope.SYNCHRONIZATION).getIfPresent('key') == null
+    }
+
+    def "Invalidating a build removes all its entries"() {
+        setup:
+        cache.region(firstBuild, ModelCache.Scope.BUILD).put('key', 'build')
+        cache.region(firstBuild, ModelCache.Scope.SYNCHRONIZATION).put('key', 'sync')
+        cache.region(secondBuild, ModelCache.Scope.BUILD).put('key', 'second')
+
+        when:
+        cache.invalidate(firstBuild)
+
+        then:
+        cache.region(firstBuild, ModelCache.Scope.BUILD).getIfPresent('key') == null
+        cache.region(firstBuild, ModelCache.Scope.SYNCHRONIZATION).getIfPresent('key') == null
+        cache.region(secondBuild, ModelCache.Scope.BUILD).getIfPresent('key') == 'second'
+    }
+
+    def "Entries are evicted when the memory budget is exceeded"() {
+        setup:
+        cache = new ModelCache(16 * 1024, TimeUnit.HOURS.toMillis(1))
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+
+        when:
+        100.times { region.put("key-$it".toString(), 'value') }
+
+        then:
+        cache.size() <= 16
+        cache.stats.evictionCount() >= 84
+    }
+
+    def "Statistics record hits and misses"() {
+        setup:
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+        region.put('key', 'value')
+
+        when:
+        region.getIfPresent('key')
+        region.getIfPresent('missing')
+
+        then:
+        cache.stats.hitCount() == 1
+        cache.stats.missCount() == 1
+    }
+
+    def "Concurrent loads of the same entry share a single loader invocation"() {
+        setup:
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+        CountDownLatch loaderStarted = new CountDownLatch(1)
+        CountDownLatch releaseLoader = new CountDownLatch(1)
+        AtomicInteger invocations = new AtomicInteger()
+        def loader = {
+            invocations.incrementAndGet()
+            loaderStarted.countDown()
+            releaseLoader.await()
+            'value'
+        }
+
+        when:
+        Future<Object> first = executor.submit({ region.get('key', loader, null) } as Callable)
+        loaderStarted.await()
+        Future<Object> second = executor.submit({ region.get('key', loader, null) } as Callable)
+        Thread.sleep(200)
+        releaseLoader.countDown()
+
+        then:
+        first.get() == 'value'
+        second.get() == 'value'
+        invocations.get() == 1
+        region.getIfPresent('key') == 'value'
+    }
+
+    def "Load failure is propagated to all waiting callers"() {
+        setup:
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+        CountDownLatch loaderStarted = new CountDownLatch(1)
+        CountDownLatch releaseLoader = new CountDownLatch(1)
+        def loader = {
+            loaderStarted.countDown()
+            releaseLoader.await()
+            throw new IllegalStateException('failure')
+        }
+
+        when:
+        Future<Object> first = executor.submit({ region.get('key', loader, null) } as Callable)
+        loaderStarted.await()
+        Future<Object> second = executor.submit({ region.get('key', { 'unused' }, null) } as Callable)
+        Thread.sleep(200)
+        releaseLoader.countDown()
+        second.get()
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof IllegalStateException
+
+        when:
+        first.get()
+
+        then:
+        e = thrown(ExecutionException)
+        e.cause instanceof IllegalStateException
+        region.getIfPresent('key') == null
+    }
+
+    def "Waiting caller takes over the load if the loading caller is cancelled"() {
+        setup:
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+        CountDownLatch loaderStarted = new CountDownLatch(1)
+        CountDownLatch releaseLoader = new CountDownLatch(1)
+        def cancelledLoader = {
+            loaderStarted.countDown()
+            releaseLoader.await()
+            throw new BuildCancelledException('cancelled')
+        }
+
+        when:
+        Future<Object> first = executor.submit({ region.get('key', cancelledLoader, null) } as Callable)
+        loaderStarted.await()
+        Future<Object> second = executor.submit({ region.get('key', { 'value' }, null) } as Callable)
+        Thread.sleep(200)
+        releaseLoader.countDown()
+
+        then:
+        second.get() == 'value'
+        region.getIfPresent('key') == 'value'
+    }
+
+    def "Waiting caller stops waiting when cancelled"() {
+        setup:
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+        CountDownLatch loaderStarted = new CountDownLatch(1)
+        CountDownLatch releaseLoader = new CountDownLatch(1)
+        CancellationToken token = Mock(CancellationToken)
+        token.isCancellationRequested() >> true
+
+        when:
+        executor.submit({ region.get('key', { loaderStarted.countDown(); releaseLoader.await(); 'value' }, null) } as Callable)
+        loaderStarted.await()
+        region.get('key', { 'unused' }, token)
+
+        then:
+        thrown(BuildCancelledException)
+
+        cleanup:
+        releaseLoader.countDown()
+    }
+
+    def "Reload replaces the cached value"() {
+        setup:
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+        region.put('key', 'old')
+
+        expect:
+        region.get('key', { 'unused' }, null) == 'old'
+        region.reload('key', { 'new' }, null) == 'new'
+        region.getIfPresent('key') == 'new'
+    }
+
+    def "Reload doesn't join a load that started before it"() {
+        setup:
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+        CountDownLatch loaderStarted = new CountDownLatch(1)
+        CountDownLatch releaseLoader = new CountDownLatch(1)
+        Future<Object> staleLoad = executor.submit({ region.get('key', { loaderStarted.countDown(); releaseLoader.await(); 'stale' }, null) } as Callable)
+        loaderStarted.await()
+
+        when:
+        Object reloaded = region.reload('key', { 'fresh' }, null)
+        releaseLoader.countDown()
+
+        then:
+        reloaded == 'fresh'
+        staleLoad.get() == 'stale'
+        region.getIfPresent('key') == 'fresh'
+    }
+
+    def "Loads of different variants are not shared"() {
+        setup:
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+        CountDownLatch loaderStarted = new CountDownLatch(1)
+        CountDownLatch releaseLoader = new CountDownLatch(1)
+        Future<Object> firstLoad = executor.submit({ region.get('key', 'first', { loaderStarted.countDown(); releaseLoader.await(); 'first' }, null) } as Callable)
+        loaderStarted.await()
+
+        when:
+        Object second = region.get('key', 'second', { 'second' }, null)
+        releaseLoader.countDown()
+
+        then:
+        second == 'second'
+        firstLoad.get() == 'first'
+        region.getIfPresent('key') == 'second'
+    }
+
+    def "Concurrent asynchronous loads share a single loader invocation"() {
+        setup:
+        def region = cache.region(firstBuild, ModelCache.Scope.BUILD)
+        CompletableFuture<Object> loading = new CompletableFuture<>()
+        AtomicInteger invocations = new AtomicInteger()
+        def loader = { invocations.incrementAndGet(); loading } as Supplier
+
+        when:
+        CompletableFuture<Object> first = region.getAsync('key', loader, null)
+        CompletableFuture<Object> second = region.getAsync('key', loader, null)
+
+        then:
+        !first.done
+        !second.done
+
+        when:
+        loading.complete('value')
+
+        then:
+        first.get() == 'value'
+        second.get() == 'value'
+        invocations.get() == 1
+        region.getIfPresent('key') == 'value'
+        region.getAsync('key', loader, null).get() == 'value'
+        invocations.get() == 1
+    }
+}
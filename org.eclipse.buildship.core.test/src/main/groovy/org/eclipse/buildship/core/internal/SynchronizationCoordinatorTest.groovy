@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+import org.gradle.tooling.CancellationTokenSource
+import org.gradle.tooling.GradleConnector
+
+import org.eclipse.core.runtime.IProgressMonitor
+import org.eclipse.core.runtime.IStatus
+import org.eclipse.core.runtime.NullProgressMonitor
+import org.eclipse.core.runtime.OperationCanceledException
+import org.eclipse.core.runtime.Status
+import org.eclipse.core.runtime.jobs.Job
+
+import org.eclipse.buildship.core.GradleBuild
+import org.eclipse.buildship.core.SynchronizationResult
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+import org.eclipse.buildship.core.internal.workspace.NewProjectHandler
+
+class SynchronizationCoordinatorTest extends ProjectSynchronizationSpecification {
+
+    File projectDir
+
+    def setup() {
+        projectDir = dir('coordinated-build') {
+            file 'settings.gradle', ''
+            file 'build.gradle', """
+                new File(rootDir, 'evaluations.txt') << 'x'
+                new File(rootDir, 'started').text = 'x'
+                long end = System.currentTimeMillis() + 30000
+                while (new File(rootDir, 'block').exists() && System.currentTimeMillis() < end) {
+                    Thread.sleep(100)
+                }
+            """
+        }
+        importAndWait(projectDir)
+    }
+
+    def "Requests arriving during a synchronization are merged into a single follow-up"() {
+        setup:
+        new File(projectDir, 'started').delete()
+        new File(projectDir, 'block').text = 'x'
+        new File(projectDir, 'gradle.properties').text = 'changed=true'
+        GradleBuild gradleBuild = gradleBuildFor(projectDir)
+        SyncJob first = new SyncJob(gradleBuild)
+        first.schedule()
+        waitFor { new File(projectDir, 'started').exists() }
+
+        when:
+        List<SyncJob> followUps = [new SyncJob(gradleBuild), new SyncJob(gradleBuild)]
+        followUps.each { it.schedule() }
+        waitFor { followUps.every { it.state == Job.RUNNING } }
+        Thread.sleep(500)
+        new File(projectDir, 'block').delete()
+        ([first] + followUps).each { it.join() }
+
+        then:
+        ([first] + followUps).every { it.result.severity == IStatus.OK }
+        new File(projectDir, 'evaluations.txt').text == 'xxx'
+    }
+
+    def "Reentrant synchronization requests return immediately"() {
+        setup:
+        GradleBuild gradleBuild = gradleBuildFor(projectDir)
+        SynchronizationCoordinator coordinator = SynchronizationCoordinator.forRootDirectory(projectDir)
+        IStatus nestedStatus
+
+        when:
+        coordinator.synchronize(NewProjectHandler.NO_OP, false, GradleConnector.newCancellationTokenSource(), new SynchronizationCoordinator.Action() {
+            SynchronizationResult run(NewProjectHandler handler, CancellationTokenSource tokenSource, SynchronizationCoordinator.Execution execution) {
+                nestedStatus = gradleBuild.synchronize(new NullProgressMonitor()).status
+                null
+            }
+
+            SynchronizationResult alreadyRunning() {
+                null
+            }
+        })
+
+        then:
+        nestedStatus.isOK()
+    }
+
+    def "Waiting callers can be cancelled"() {
+        setup:
+        SynchronizationCoordinator coordinator = SynchronizationCoordinator.forRootDirectory(new File(projectDir, 'cancel-waiting'))
+        CountDownLatch release = new CountDownLatch(1)
+        TestAction firstAction = new TestAction(release)
+        Thread first = Thread.start { coordinator.synchronize(NewProjectHandler.NO_OP, true, GradleConnector.newCancellationTokenSource(), firstAction) }
+        waitFor { firstAction.executions.get() == 1 }
+        CancellationTokenSource tokenSource = GradleConnector.newCancellationTokenSource()
+        Exception failure = null
+        Thread second = Thread.start {
+            try {
+                coordinator.synchronize(NewProjectHandler.NO_OP, true, tokenSource, new TestAction())
+            } catch (Exception e) {
+                failure = e
+            }
+        }
+        waitFor { second.state == Thread.State.TIMED_WAITING }
+
+        when:
+        tokenSource.cancel()
+        second.join(5000)
+
+        then:
+        !second.alive
+        failure instanceof OperationCanceledException
+
+        cleanup:
+        release.countDown()
+        first.join(5000)
+    }
+
+    def "Follow-up is run by a merged caller if the caller that queued it is cancelled"() {
+        setup:
+        SynchronizationCoordinator coordinator = SynchronizationCoordinator.forRootDirectory(new File(projectDir, 'cancel-owner'))
+        CountDownLatch release = new CountDownLatch(1)
+        TestAction firstAction = new TestAction(release)
+        Thread first = Thread.start { coordinator.synchronize(NewProjectHandler.NO_OP, true, GradleConnector.newCancellationTokenSource(), firstAction) }
+        waitFor { firstAction.executions.get() == 1 }
+        CancellationTokenSource ownerTokenSource = GradleConnector.newCancellationTokenSource()
+        Exception ownerFailure = null
+        Thread owner = Thread.start {
+            try {
+                coordinator.synchronize(NewProjectHandler.NO_OP, true, ownerTokenSource, new TestAction())
+            } catch (Exception e) {
+                ownerFailure = e
+            }
+        }
+        waitFor { owner.state == Thread.State.TIMED_WAITING }
+        TestAction mergedAction = new TestAction()
+        SynchronizationResult mergedResult = null
+        Thread merged = Thread.start { mergedResult = coordinator.synchronize(NewProjectHandler.NO_OP, true, GradleConnector.newCancellationTokenSource(), mergedAction) }
+        waitFor { merged.state == Thread.State.TIMED_WAITING }
+
+        when:
+        ownerTokenSource.cancel()
+        owner.join(5000)
+        release.countDown()
+        merged.join(5000)
+
+        then:
+        ownerFailure instanceof OperationCanceledException
+        mergedAction.executions.get() == 1
+        mergedResult.status.isOK()
+
+        cleanup:
+        release.countDown()
+        first.join(5000)
+    }
+
+    def "Cancelling the caller cancels the running synchronization"() {
+        setup:
+        SynchronizationCoordinator coordinator = SynchronizationCoordinator.forRootDirectory(new File(projectDir, 'cancel-running'))
+        CancellationTokenSource tokenSource = GradleConnector.newCancellationTokenSource()
+        CountDownLatch started = new CountDownLatch(1)
+        boolean cancelled = false
+        Thread caller = Thread.start {
+            coordinator.synchronize(NewProjectHandler.NO_OP, true, tokenSource, new SynchronizationCoordinator.Action() {
+                SynchronizationResult run(NewProjectHandler handler, CancellationTokenSource executionTokenSource, SynchronizationCoordinator.Execution execution) {
+                    started.countDown()
+                    long end = System.currentTimeMillis() + 5000
+                    while (!executionTokenSource.token().cancellationRequested && System.currentTimeMillis() < end) {
+                        Thread.sleep(10)
+                    }
+                    cancelled = executionTokenSource.token().cancellationRequested
+                    null
+                }
+
+                SynchronizationResult alreadyRunning() {
+                    null
+                }
+            })
+        }
+        started.await(5, TimeUnit.SECONDS)
+
+        when:
+        tokenSource.cancel()
+        caller.join(5000)
+
+        then:
+        cancelled
+    }
+
+    def "Coordinators are discarded once no synchronization is running"() {
+        setup:
+        File rootDirectory = new File(projectDir, 'discarded')
+        SynchronizationCoordinator coordinator = SynchronizationCoordinator.forRootDirectory(rootDirectory)
+
+        when:
+        coordinator.synchronize(NewProjectHandler.NO_OP, true, GradleConnector.newCancellationTokenSource(), new TestAction())
+
+        then:
+        !SynchronizationCoordinator.isSynchronizing(rootDirectory)
+        !SynchronizationCoordinator.forRootDirectory(rootDirectory).is(coordinator)
+    }
+
+    static class TestAction implements SynchronizationCoordinator.Action {
+
+        CountDownLatch release
+        AtomicInteger executions = new AtomicInteger()
+
+        TestAction(CountDownLatch release = new CountDownLatch(0)) {
+            this.release = release
+        }
+
+        SynchronizationResult run(NewProjectHandler handler, CancellationTokenSource tokenSource, SynchronizationCoordinator.Execution execution) {
+            executions.incrementAndGet()
+            execution.startApplyingModels()
+            release.await(30, TimeUnit.SECONDS)
+            return { -> Status.OK_STATUS } as SynchronizationResult
+        }
+
+        SynchronizationResult alreadyRunning() {
+            null
+        }
+    }
+
+    class SyncJob extends Job {
+
+        GradleBuild gradleBuild
+
+        SyncJob(GradleBuild gradleBuild) {
+            super('Test sync job')
+            this.gradleBuild = gradleBuild
+        }
+
+        IStatus run(IProgressMonitor monitor) {
+            gradleBuild.synchronize(monitor).status
+        }
+    }
+}
@@ -77,6 +77,17 @@ class BuildConfigurationPersistenceTest extends WorkspaceSpecification {
         persistence.readBuildConfiguratonProperties(projectDir) == properties
     }
 
+    def "can save and read project filter"() {
+        setup:
+        ProjectFilter projectFilter = ProjectFilter.from([':app', ':libs:*'], [':libs:legacy'])
+        BuildConfigurationProperties properties = new BuildConfigurationProperties(projectDir, GradleDistribution.fromBuild(), null, null, false, false, false, false, [], [], false, false, false, projectFilter)
+        persistence.saveBuildConfiguration(projectDir, properties)
+
+        expect:
+        persistence.readBuildConfiguratonProperties(projectDir).projectFilter == projectFilter
+        persistence.readBuildConfiguratonProperties(project).projectFilter == ProjectFilter.ALL
+    }
+
     def "reading build configuration validates input"() {
         when:
         persistence.readBuildConfiguratonProperties((IProject) null)
@@ -294,6 +305,22 @@ connection.gradle.distribution=MODIFIED_DISTRIBUTION"""
         thrown RuntimeException
     }
 
+    def "parallel model building is read from the preferences and preserved when saving"() {
+        setup:
+        persistence.saveBuildConfiguration(projectDir, validProperties(projectDir))
+        File prefsFile = new File(projectDir, ".settings/${CorePlugin.PLUGIN_ID}.prefs")
+        prefsFile << '\nparallel.model.building=true\n'
+
+        expect:
+        persistence.readBuildConfiguratonProperties(projectDir).parallelModelBuilding
+
+        when:
+        persistence.saveBuildConfiguration(projectDir, validProperties(projectDir))
+
+        then:
+        persistence.readBuildConfiguratonProperties(projectDir).parallelModelBuilding
+    }
+
     private BuildConfigurationProperties validProperties(IProject project) {
         new BuildConfigurationProperties(project.getLocation().toFile(), GradleDistribution.fromBuild(), null, null, false, false, false, false, [], [], false, false)
     }
@@ -14,6 +14,7 @@ import org.eclipse.core.runtime.NullProgressMonitor
 
 import org.eclipse.buildship.core.GradleDistribution
 import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.ModelCache
 import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification;
 
 @SuppressWarnings("GroovyAccessibility")
@@ -165,6 +166,27 @@ connection.gradle.distribution=MODIFIED_DISTRO"""
         configuration.showExecutionsView == true
     }
 
+    def "changing the build configuration drops the cached models of the previous one"() {
+        setup:
+        File projectDir = dir('project-dir').canonicalFile
+        BuildConfiguration previous = createOverridingBuildConfiguration(projectDir, GradleDistribution.forVersion('2.0'))
+        configurationManager.saveBuildConfiguration(previous)
+        def region = CorePlugin.modelCache().region(previous, ModelCache.Scope.BUILD)
+        region.put(String, 'cached')
+
+        when:
+        configurationManager.saveBuildConfiguration(previous)
+
+        then:
+        region.getIfPresent(String) == 'cached'
+
+        when:
+        configurationManager.saveBuildConfiguration(createOverridingBuildConfiguration(projectDir, GradleDistribution.forVersion('3.0')))
+
+        then:
+        region.getIfPresent(String) == null
+    }
+
     def "can load build configuration from closed projects"() {
         setup:
         IProject project = newProject('project')
@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.configuration
+
+import spock.lang.Specification
+
+class ProjectFilterTest extends Specification {
+
+    def "Filter selects projects"(List<String> includes, List<String> excludes, String path, boolean selected) {
+        expect:
+        ProjectFilter.from(includes, excludes).isSelected(path) == selected
+
+        where:
+        includes        | excludes          | path              | selected
+        []              | []                | ':a'              | true
+        []              | [':a']            | ':a'              | false
+        []              | [':a']            | ':a:b'            | true
+        [':a']          | []                | ':b'              | false
+        [':a']          | []                | ':'               | true
+        [':libs:*']     | []                | ':libs:core'      | true
+        [':libs:*']     | []                | ':libs:core:impl' | false
+        [':libs:**']    | []                | ':libs:core:impl' | true
+        []              | [':**:legacy']    | ':libs:legacy'    | false
+        [':libs:*']     | [':libs:legacy']  | ':libs:legacy'    | false
+    }
+
+    def "Projects of included builds are prefixed with the build directory name"() {
+        setup:
+        File root = new File('root')
+
+        expect:
+        ProjectFilter.projectPath(root, root, ':a') == ':a'
+        ProjectFilter.projectPath(root, null, ':a') == ':a'
+        ProjectFilter.projectPath(root, new File(root, 'plugins'), ':') == ':plugins'
+        ProjectFilter.projectPath(root, new File(root, 'plugins'), ':a') == ':plugins:a'
+    }
+}
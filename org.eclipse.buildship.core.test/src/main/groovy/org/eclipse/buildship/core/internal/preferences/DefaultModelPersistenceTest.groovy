@@ -64,8 +64,9 @@ class DefaultModelPersistenceTest extends WorkspaceSpecification {
         def managedBuilders = [command]
         def hasAutoBuildTasks = true
         def gradleVersion = GradleVersion.current()
+        def modelDigest = 'digest'
 
-        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion)
+        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion, modelDigest)
 
         when:
         CorePlugin.modelPersistence().saveModel(model)
@@ -79,6 +80,7 @@ class DefaultModelPersistenceTest extends WorkspaceSpecification {
         model.classpath == classpath
         model.derivedResources == derivedResources
         model.linkedResources == linkedResources
+        model.modelDigest == modelDigest
     }
 
     def "Can delete a model"() {
@@ -95,8 +97,9 @@ class DefaultModelPersistenceTest extends WorkspaceSpecification {
         def managedBuilders = [command]
         def hasAutoBuildTasks = false
         def gradleVersion = GradleVersion.version('5.6')
+        def modelDigest = 'digest'
 
-        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion)
+        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion, modelDigest)
         CorePlugin.modelPersistence().saveModel(model)
 
         when:
@@ -121,8 +124,9 @@ class DefaultModelPersistenceTest extends WorkspaceSpecification {
         def managedBuilders = [command]
         def hasAutoBuildTasks = true
         def gradleVersion = GradleVersion.version('5.6')
+        def modelDigest = 'digest'
 
-        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion)
+        PersistentModel model = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion, modelDigest)
         CorePlugin.modelPersistence().saveModel(model)
 
         when:
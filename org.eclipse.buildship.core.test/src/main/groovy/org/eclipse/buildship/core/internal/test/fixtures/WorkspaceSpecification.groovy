@@ -214,7 +214,7 @@ abstract class WorkspaceSpecification extends Specification {
     }
 
     protected PersistentModel samplePersistentModel(IProject project) {
-        new DefaultPersistentModel(project, new Path("build"), new Path("build.gradle"), [], [], [], [], [], [], false, GradleVersion.version('5.6'))
+        new DefaultPersistentModel(project, new Path("build"), new Path("build.gradle"), [], [], [], [], [], [], false, GradleVersion.version('5.6'), null)
     }
 
     protected ILaunchConfigurationWorkingCopy createLaunchConfig(String id, String name = 'launch-config') {
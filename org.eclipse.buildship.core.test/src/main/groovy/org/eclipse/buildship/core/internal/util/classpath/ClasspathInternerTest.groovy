@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.classpath
+
+import spock.lang.Specification
+
+import org.eclipse.core.runtime.Path
+import org.eclipse.jdt.core.IAccessRule
+import org.eclipse.jdt.core.IClasspathAttribute
+import org.eclipse.jdt.core.IClasspathEntry
+import org.eclipse.jdt.core.JavaCore
+
+class ClasspathInternerTest extends Specification {
+
+    def "Equal library entries are interned to the same instance"() {
+        when:
+        IClasspathEntry first = ClasspathInterner.intern(libraryEntry('/repo/guava.jar', 'main'))
+        IClasspathEntry second = ClasspathInterner.intern(libraryEntry('/repo/guava.jar', 'main'))
+
+        then:
+        first.is(second)
+        first == libraryEntry('/repo/guava.jar', 'main')
+    }
+
+    def "Different entries share their parts"() {
+        when:
+        IClasspathEntry main = ClasspathInterner.intern(libraryEntry('/repo/guava.jar', 'main'))
+        IClasspathEntry test = ClasspathInterner.intern(libraryEntry('/repo/guava.jar', 'test'))
+
+        then:
+        !main.is(test)
+        main.path.is(test.path)
+        main.accessRules[0].is(test.accessRules[0])
+    }
+
+    def "Project entries are interned"() {
+        when:
+        IClasspathEntry first = ClasspathInterner.intern(JavaCore.newProjectEntry(new Path('/lib'), true))
+        IClasspathEntry second = ClasspathInterner.intern(JavaCore.newProjectEntry(new Path('/lib'), true))
+
+        then:
+        first.is(second)
+    }
+
+    def "Other entries are returned as is"() {
+        setup:
+        IClasspathEntry entry = JavaCore.newSourceEntry(new Path('/project/src'))
+
+        expect:
+        ClasspathInterner.intern(entry).is(entry)
+    }
+
+    private static IClasspathEntry libraryEntry(String path, String scope) {
+        IAccessRule[] accessRules = [JavaCore.newAccessRule(new Path('com/google/**'), IAccessRule.K_ACCESSIBLE)]
+        IClasspathAttribute[] attributes = [JavaCore.newClasspathAttribute('gradle_used_by_scope', scope)]
+        JavaCore.newLibraryEntry(new Path(path), null, null, accessRules, attributes, false)
+    }
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.gradle
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.atomic.AtomicInteger
+
+import org.gradle.tooling.GradleConnectionException
+import org.gradle.tooling.model.build.BuildEnvironment
+
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+
+class BuildEnvironmentCacheTest extends WorkspaceSpecification {
+
+    BuildEnvironmentCache cache = new BuildEnvironmentCache()
+    BuildConfiguration buildConfiguration
+
+    def setup() {
+        buildConfiguration = createInheritingBuildConfiguration(dir('build-environment-cache'))
+    }
+
+    def "Concurrent requests share a single query"() {
+        setup:
+        CompletableFuture<BuildEnvironment> query = new CompletableFuture<>()
+        AtomicInteger queries = new AtomicInteger()
+
+        when:
+        CompletableFuture<BuildEnvironment> first = cache.getAsync(buildConfiguration, { queries.incrementAndGet(); query })
+        CompletableFuture<BuildEnvironment> second = cache.getAsync(buildConfiguration, { queries.incrementAndGet(); query })
+        query.complete(Mock(BuildEnvironment))
+
+        then:
+        queries.get() == 1
+        first.get().is(second.get())
+        cache.missCount == 1
+        cache.hitCount == 1
+    }
+
+    def "Failed queries are not cached"() {
+        setup:
+        CompletableFuture<BuildEnvironment> failed = new CompletableFuture<>()
+        failed.completeExceptionally(new GradleConnectionException('failure'))
+        BuildEnvironment buildEnvironment = Mock(BuildEnvironment)
+
+        when:
+        cache.get(buildConfiguration, { failed })
+
+        then:
+        thrown(GradleConnectionException)
+
+        when:
+        BuildEnvironment result = cache.get(buildConfiguration, { CompletableFuture.completedFuture(buildEnvironment) })
+
+        then:
+        result.is(buildEnvironment)
+    }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.gradle
+
+import org.gradle.tooling.GradleConnector
+import org.gradle.tooling.ProjectConnection
+import org.gradle.tooling.model.eclipse.EclipseProject
+
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+
+class EclipseProjectSnapshotTest extends WorkspaceSpecification {
+
+    File projectDir
+    ProjectConnection connection
+
+    def setup() {
+        projectDir = dir('sample-build') {
+            file 'settings.gradle', "include 'sub1', 'sub2'"
+            file 'build.gradle', """
+                allprojects { apply plugin: 'java' }
+                task custom { group = 'custom'; description = 'Custom task' }
+            """
+            dir 'sub1/src/main/java'
+            dir 'sub2/src/main/java'
+        }
+        connection = GradleConnector.newConnector().forProjectDirectory(projectDir).connect()
+    }
+
+    def cleanup() {
+        connection.close()
+    }
+
+    def "Snapshot contains the project hierarchy and the tasks"() {
+        setup:
+        EclipseProject model = new CompatEclipseProject(connection.getModel(EclipseProject))
+
+        when:
+        EclipseProject root = EclipseProjectSnapshot.of(model)
+        EclipseProject sub1 = root.children.find { it.name == 'sub1' }
+
+        then:
+        root instanceof EclipseProjectSnapshot
+        root.name == model.name
+        root.projectDirectory == model.projectDirectory
+        root.parent == null
+        root.children.size() == 2
+        sub1.parent.is(root)
+        sub1.gradleProject.path == ':sub1'
+        sub1.gradleProject.parent.is(root.gradleProject)
+        root.gradleProject.findByPath(':sub1').is(sub1.gradleProject)
+        sub1.projectIdentifier.buildIdentifier.is(root.projectIdentifier.buildIdentifier)
+        sub1.sourceDirectories*.path == model.children.find { it.name == 'sub1' }.sourceDirectories*.path
+
+        def task = root.gradleProject.tasks.find { it.name == 'custom' }
+        task.group == 'custom'
+        task.description == 'Custom task'
+        task.path == ':custom'
+        task.project.is(root.gradleProject)
+    }
+
+    def "Snapshot of a subproject contains the whole hierarchy"() {
+        setup:
+        EclipseProject model = new CompatEclipseProject(connection.getModel(EclipseProject)).children.find { it.name == 'sub2' }
+
+        when:
+        EclipseProject sub2 = EclipseProjectSnapshot.of(model)
+
+        then:
+        sub2.gradleProject.path == ':sub2'
+        sub2.parent.children.size() == 2
+    }
+
+    def "Values shared by the projects are stored once"() {
+        setup:
+        EclipseProject root = EclipseProjectSnapshot.of(new CompatEclipseProject(connection.getModel(EclipseProject)))
+        EclipseProject sub1 = root.children.find { it.name == 'sub1' }
+        EclipseProject sub2 = root.children.find { it.name == 'sub2' }
+
+        expect:
+        sub1.projectNatures[0].id.is(sub2.projectNatures[0].id)
+        sub1.classpathContainers[0].path.is(sub2.classpathContainers[0].path)
+        sub1.sourceDirectories[0].path.is(sub2.sourceDirectories[0].path)
+    }
+
+    def "Compatibility checks work on the snapshot"() {
+        setup:
+        EclipseProject root = EclipseProjectSnapshot.of(new CompatEclipseProject(connection.getModel(EclipseProject)))
+        EclipseProject sub1 = root.children.find { it.name == 'sub1' }
+
+        expect:
+        CompatEclipseProject.supportsClasspathContainers(sub1)
+        CompatEclipseSourceDirectory.supportsOutput(sub1.sourceDirectories[0])
+        CompatEclipseSourceDirectory.supportsExcludes(sub1.sourceDirectories[0])
+        CompatEclipseClasspathEntry.supportsAttributes(sub1.sourceDirectories[0])
+    }
+
+    def "Snapshot can be serialized"() {
+        setup:
+        EclipseProject root = EclipseProjectSnapshot.of(new CompatEclipseProject(connection.getModel(EclipseProject)))
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        new ObjectOutputStream(bytes).withCloseable { it.writeObject(root) }
+
+        when:
+        EclipseProject restored = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).withCloseable { it.readObject() }
+        EclipseProject sub1 = restored.children.find { it.name == 'sub1' }
+
+        then:
+        restored.name == root.name
+        sub1.parent.is(restored)
+        sub1.gradleProject.parent.is(restored.gradleProject)
+        sub1.sourceDirectories*.path == root.children.find { it.name == 'sub1' }.sourceDirectories*.path
+        sub1.javaSourceSettings.sourceLanguageLevel == root.children.find { it.name == 'sub1' }.javaSourceSettings.sourceLanguageLevel
+        CompatEclipseProject.supportsClasspathContainers(sub1)
+    }
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.gradle
+
+import org.gradle.tooling.GradleConnector
+import org.gradle.tooling.ProjectConnection
+import org.gradle.tooling.model.GradleProject
+import org.gradle.tooling.model.UnsupportedMethodException
+import org.gradle.tooling.model.build.BuildEnvironment
+import org.gradle.tooling.model.eclipse.EclipseProject
+
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+
+class ModelSnapshotStoreTest extends WorkspaceSpecification {
+
+    ModelSnapshotStore store
+    File projectDir
+    BuildConfiguration buildConfig
+    ProjectConnection connection
+
+    def setup() {
+        store = new ModelSnapshotStore(dir('snapshots'))
+        projectDir = dir('sample-build') {
+            file 'settings.gradle', "include 'sub'"
+            file 'build.gradle', "task custom { group = 'custom'; description = 'Custom task' }"
+            dir 'sub'
+        }
+        buildConfig = createInheritingBuildConfiguration(projectDir)
+        connection = GradleConnector.newConnector().forProjectDirectory(projectDir).connect()
+    }
+
+    def cleanup() {
+        connection.close()
+    }
+
+    def "Snapshot is not available before saving the model"() {
+        expect:
+        store.load(buildConfig, GradleProject, true) == null
+    }
+
+    def "Project hierarchy and tasks are restored from the snapshot"() {
+        setup:
+        GradleProject model = connection.getModel(GradleProject)
+        store.save(buildConfig, GradleProject, [':' : model])
+
+        when:
+        Map<String, GradleProject> snapshot = store.load(buildConfig, GradleProject, true)
+        GradleProject root = snapshot[':']
+        GradleProject sub = root.children[0]
+
+        then:
+        root.name == model.name
+        root.projectDirectory == model.projectDirectory
+        root.parent == null
+        sub.name == 'sub'
+        sub.path == ':sub'
+        sub.parent.is(root)
+        def task = root.tasks.find { it.name == 'custom' }
+        task.group == 'custom'
+        task.description == 'Custom task'
+        task.path == ':custom'
+        task.project.is(root)
+    }
+
+    def "Attributes not recorded in the snapshot are reported as unsupported"() {
+        setup:
+        store.save(buildConfig, GradleProject, connection.getModel(GradleProject))
+        GradleProject snapshot = store.load(buildConfig, GradleProject, false)
+
+        when:
+        snapshot.findByPath(':sub')
+
+        then:
+        thrown(UnsupportedMethodException)
+    }
+
+    def "Eclipse project models are not persisted"() {
+        when:
+        store.save(buildConfig, EclipseProject, connection.getModel(EclipseProject))
+
+        then:
+        !store.isSupported(EclipseProject)
+        store.load(buildConfig, EclipseProject, false) == null
+    }
+
+    def "Build environment is restored from the snapshot"() {
+        setup:
+        BuildEnvironment model = connection.getModel(BuildEnvironment)
+        store.save(buildConfig, BuildEnvironment, model)
+
+        when:
+        BuildEnvironment snapshot = store.load(buildConfig, BuildEnvironment, false)
+
+        then:
+        snapshot.gradle.gradleVersion == model.gradle.gradleVersion
+        snapshot.gradle.gradleUserHome == model.gradle.gradleUserHome
+        snapshot.java.javaHome == model.java.javaHome
+        snapshot.java.jvmArguments == model.java.jvmArguments
+    }
+
+    def "Single and composite snapshots are stored separately"() {
+        setup:
+        store.save(buildConfig, GradleProject, connection.getModel(GradleProject))
+
+        expect:
+        store.load(buildConfig, GradleProject, false) != null
+        store.load(buildConfig, GradleProject, true) == null
+    }
+
+    def "Refresh is claimed once per saved snapshot"() {
+        expect:
+        store.claimRefresh(buildConfig, BuildEnvironment, false)
+        !store.claimRefresh(buildConfig, BuildEnvironment, false)
+
+        when:
+        store.save(buildConfig, BuildEnvironment, connection.getModel(BuildEnvironment))
+
+        then:
+        store.claimRefresh(buildConfig, BuildEnvironment, false)
+    }
+
+    def "Corrupt snapshot is ignored"() {
+        setup:
+        store.save(buildConfig, BuildEnvironment, connection.getModel(BuildEnvironment))
+        File snapshotFile = dir('snapshots').listFiles()[0].listFiles()[0]
+        snapshotFile.text = '{ corrupt'
+
+        expect:
+        store.load(buildConfig, BuildEnvironment, false) == null
+    }
+
+    def "Build fingerprint is restored along with the directories it covers"() {
+        setup:
+        File subDir = new File(projectDir, 'sub')
+        store.saveFingerprint(buildConfig, new ModelSnapshotStore.Fingerprint('hash', [projectDir] as Set, [projectDir, subDir] as Set))
+
+        when:
+        ModelSnapshotStore.Fingerprint fingerprint = store.loadFingerprint(buildConfig)
+
+        then:
+        fingerprint.value == 'hash'
+        fingerprint.buildRoots == [projectDir.absoluteFile] as Set
+        fingerprint.projectDirectories == [projectDir.absoluteFile, subDir.absoluteFile] as Set
+    }
+
+    def "Deleted build fingerprint is not available"() {
+        setup:
+        store.saveFingerprint(buildConfig, new ModelSnapshotStore.Fingerprint('hash', [] as Set, [projectDir] as Set))
+
+        when:
+        store.deleteFingerprint(buildConfig)
+
+        then:
+        store.loadFingerprint(buildConfig) == null
+    }
+}
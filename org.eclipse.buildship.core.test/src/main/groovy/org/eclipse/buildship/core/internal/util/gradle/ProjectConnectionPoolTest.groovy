@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.gradle
+
+import org.gradle.tooling.model.build.BuildEnvironment
+
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+
+class ProjectConnectionPoolTest extends WorkspaceSpecification {
+
+    ProjectConnectionPool pool
+    BuildConfiguration buildConfig
+
+    def setup() {
+        pool = ProjectConnectionPool.createAndRegister()
+        buildConfig = createInheritingBuildConfiguration(dir('sample-build') { file 'settings.gradle', '' })
+    }
+
+    def cleanup() {
+        pool.close()
+    }
+
+    def "Released connection is reused by the next lease"() {
+        when:
+        def first = pool.acquire(buildConfig)
+        first.close()
+        def second = pool.acquire(buildConfig)
+
+        then:
+        first.connection.is(second.connection)
+
+        cleanup:
+        second.close()
+    }
+
+    def "Concurrent leases share the same connection"() {
+        when:
+        def first = pool.acquire(buildConfig)
+        def second = pool.acquire(buildConfig)
+
+        then:
+        first.connection.is(second.connection)
+        first.connection.leases == 2
+
+        cleanup:
+        first.close()
+        second.close()
+    }
+
+    def "Releasing a lease twice has no effect"() {
+        setup:
+        def first = pool.acquire(buildConfig)
+        def second = pool.acquire(buildConfig)
+
+        when:
+        first.close()
+        first.close()
+
+        then:
+        second.connection.leases == 1
+
+        cleanup:
+        second.close()
+    }
+
+    def "Different build configurations use different connections"() {
+        setup:
+        def otherConfig = createInheritingBuildConfiguration(dir('other-build') { file 'settings.gradle', '' })
+
+        when:
+        def first = pool.acquire(buildConfig)
+        def second = pool.acquire(otherConfig)
+
+        then:
+        !first.connection.is(second.connection)
+
+        cleanup:
+        first.close()
+        second.close()
+    }
+
+    def "Leased connection can query models"() {
+        setup:
+        def connection = pool.acquire(buildConfig)
+
+        when:
+        BuildEnvironment environment = connection.getModel(BuildEnvironment)
+
+        then:
+        environment.gradle.gradleVersion
+
+        cleanup:
+        connection.close()
+    }
+
+    def "Closed pool hands out unshared connections"() {
+        setup:
+        pool.close()
+
+        when:
+        def first = pool.acquire(buildConfig)
+        def second = pool.acquire(buildConfig)
+
+        then:
+        !first.connection.is(second.connection)
+        pool.connections.isEmpty()
+
+        cleanup:
+        first.close()
+        second.close()
+    }
+
+    def "Build environment is queried only once per build"() {
+        setup:
+        def connection = pool.acquire(buildConfig)
+        def cache = pool.buildEnvironmentCache
+
+        when:
+        BuildEnvironment first = connection.getModel(BuildEnvironment)
+        BuildEnvironment second = connection.getModel(BuildEnvironment)
+
+        then:
+        first.is(second)
+        cache.missCount == 1
+        cache.hitCount == 1
+
+        cleanup:
+        connection.close()
+    }
+
+    def "Build environment cache survives closing the connection"() {
+        setup:
+        def first = pool.acquire(buildConfig)
+        first.getModel(BuildEnvironment)
+        first.close()
+        pool.evictionJob.cancel()
+        pool.connections.values()*.delegate*.close()
+        pool.connections.clear()
+
+        when:
+        def second = pool.acquire(buildConfig)
+        second.getModel(BuildEnvironment)
+
+        then:
+        pool.buildEnvironmentCache.missCount == 1
+        pool.buildEnvironmentCache.hitCount == 1
+
+        cleanup:
+        second.close()
+    }
+
+    def "Build environment is queried again after the build is invalidated"() {
+        setup:
+        def connection = pool.acquire(buildConfig)
+        connection.getModel(BuildEnvironment)
+
+        when:
+        pool.buildEnvironmentCache.invalidate(buildConfig)
+        connection.getModel(BuildEnvironment)
+
+        then:
+        pool.buildEnvironmentCache.missCount == 2
+
+        cleanup:
+        connection.close()
+    }
+
+    def "Build environment is queried again when the gradle.properties file changes"() {
+        setup:
+        def connection = pool.acquire(buildConfig)
+        connection.getModel(BuildEnvironment)
+
+        when:
+        File properties = new File(buildConfig.rootProjectDirectory, 'gradle.properties')
+        properties.text = 'org.gradle.jvmargs=-Xmx512m'
+        properties.lastModified = System.currentTimeMillis() + 1000
+        connection.getModel(BuildEnvironment)
+
+        then:
+        pool.buildEnvironmentCache.missCount == 2
+
+        cleanup:
+        connection.close()
+    }
+}
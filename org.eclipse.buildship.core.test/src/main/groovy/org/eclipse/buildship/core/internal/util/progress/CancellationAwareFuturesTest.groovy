@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.progress
+
+import java.util.concurrent.CompletableFuture
+
+import org.gradle.tooling.CancellationTokenSource
+import org.gradle.tooling.GradleConnector
+
+import org.eclipse.core.runtime.NullProgressMonitor
+import org.eclipse.core.runtime.OperationCanceledException
+
+import spock.lang.Specification
+
+class CancellationAwareFuturesTest extends Specification {
+
+    def "Returns the result of the future"() {
+        expect:
+        CancellationAwareFutures.await(CompletableFuture.completedFuture('value'), GradleConnector.newCancellationTokenSource(), new NullProgressMonitor()) == 'value'
+    }
+
+    def "Rethrows the failure of the future"() {
+        when:
+        CancellationAwareFutures.await(CompletableFuture.failedFuture(new IllegalStateException('failure')), GradleConnector.newCancellationTokenSource(), new NullProgressMonitor())
+
+        then:
+        IllegalStateException e = thrown()
+        e.message == 'failure'
+    }
+
+    def "Stops waiting and cancels the token source if the monitor is cancelled"() {
+        setup:
+        CancellationTokenSource tokenSource = GradleConnector.newCancellationTokenSource()
+        NullProgressMonitor monitor = new NullProgressMonitor()
+        monitor.canceled = true
+
+        when:
+        CancellationAwareFutures.await(new CompletableFuture(), tokenSource, monitor)
+
+        then:
+        thrown(OperationCanceledException)
+        tokenSource.token().cancellationRequested
+    }
+}
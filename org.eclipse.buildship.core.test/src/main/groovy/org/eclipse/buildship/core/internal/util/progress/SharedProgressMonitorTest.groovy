@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.progress
+
+import org.eclipse.core.runtime.IProgressMonitor
+
+import spock.lang.Specification
+
+class SharedProgressMonitorTest extends Specification {
+
+    def "Forwards the sub tasks and the cancellation"() {
+        setup:
+        IProgressMonitor monitor = Mock(IProgressMonitor)
+        SharedProgressMonitor shared = new SharedProgressMonitor(monitor)
+
+        when:
+        shared.subTask('query')
+        boolean canceled = shared.isCanceled()
+
+        then:
+        1 * monitor.subTask('query')
+        1 * monitor.isCanceled() >> true
+        canceled
+    }
+
+    def "Doesn't begin, advance or end the task of the wrapped monitor"() {
+        setup:
+        IProgressMonitor monitor = Mock(IProgressMonitor)
+        SharedProgressMonitor shared = new SharedProgressMonitor(monitor)
+
+        when:
+        shared.beginTask('query', 2)
+        shared.setTaskName('query')
+        shared.worked(1)
+        shared.done()
+
+        then:
+        0 * monitor._
+    }
+}
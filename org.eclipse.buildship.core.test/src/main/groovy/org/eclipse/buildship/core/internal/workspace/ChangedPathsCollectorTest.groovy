@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import java.nio.file.Path
+
+import org.gradle.tooling.ProjectConnection
+import org.gradle.tooling.UnsupportedVersionException
+
+import org.eclipse.core.resources.IProject
+import org.eclipse.core.runtime.NullProgressMonitor
+
+import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class ChangedPathsCollectorTest extends ProjectSynchronizationSpecification {
+
+    File projectDir
+    IProject project
+    BuildConfiguration buildConfig
+    ChangedPathsCollector collector
+
+    def setup() {
+        projectDir = dir('changed-paths-test') {
+            file 'settings.gradle', ''
+            file 'build.gradle', ''
+            dir 'src/main/java'
+        }
+        importAndWait(projectDir)
+        project = findProject('changed-paths-test')
+        buildConfig = createInheritingBuildConfiguration(projectDir)
+        collector = CorePlugin.changedPathsCollector()
+        collector.flush(buildConfig, Mock(ProjectConnection))
+    }
+
+    def "Changed files are reported to the daemons"() {
+        setup:
+        ProjectConnection connection = Mock(ProjectConnection)
+
+        when:
+        project.getFile('build.gradle').setContents(new ByteArrayInputStream('// changed'.bytes), true, false, new NullProgressMonitor())
+        project.getFile('src/main/java/Foo.java').create(new ByteArrayInputStream('class Foo {}'.bytes), true, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+
+        then:
+        collector.hasChangedPaths(buildConfig)
+
+        when:
+        collector.flush(buildConfig, connection)
+
+        then:
+        1 * connection.notifyDaemonsAboutChangedPaths({ List<Path> paths ->
+            paths.toSet() == [new File(projectDir, 'build.gradle').toPath(), new File(projectDir, 'src/main/java/Foo.java').toPath()].toSet()
+        })
+        !collector.hasChangedPaths(buildConfig)
+    }
+
+    def "Derived resources are not reported"() {
+        setup:
+        project.getFolder('build').create(true, true, new NullProgressMonitor())
+        project.getFolder('build').setDerived(true, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+        collector.flush(buildConfig, Mock(ProjectConnection))
+
+        when:
+        project.getFile('build/output.txt').create(new ByteArrayInputStream('output'.bytes), true, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+
+        then:
+        !collector.hasChangedPaths(buildConfig)
+    }
+
+    def "Paths are discarded if the Gradle version doesn't support the notification"() {
+        setup:
+        ProjectConnection connection = Mock(ProjectConnection)
+        connection.notifyDaemonsAboutChangedPaths(_) >> { throw new UnsupportedVersionException('unsupported') }
+
+        when:
+        project.getFile('build.gradle').setContents(new ByteArrayInputStream('// changed'.bytes), true, false, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+        collector.flush(buildConfig, connection)
+
+        then:
+        noExceptionThrown()
+        !collector.hasChangedPaths(buildConfig)
+    }
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import org.gradle.tooling.GradleConnector
+import org.gradle.tooling.ProjectConnection
+import org.gradle.tooling.model.GradleProject
+
+import org.eclipse.buildship.core.internal.test.fixtures.WorkspaceSpecification
+import org.eclipse.buildship.core.internal.util.gradle.GradleVersion
+import org.eclipse.buildship.core.internal.util.gradle.IdeFriendlyClassLoading
+
+class CompositeModelQueryTest extends WorkspaceSpecification {
+
+    ProjectConnection connection
+
+    def setup() {
+        File rootDir = dir('root') {
+            file 'settings.gradle', "includeBuild '../first'; includeBuild '../second'"
+        }
+        dir('first') {
+            file 'settings.gradle', "rootProject.name = 'first'; includeBuild '../second'"
+        }
+        dir('second') {
+            // cycle back to the first included build
+            file 'settings.gradle', "rootProject.name = 'second'; includeBuild '../first'"
+        }
+        connection = GradleConnector.newConnector().forProjectDirectory(rootDir).connect()
+    }
+
+    def cleanup() {
+        connection.close()
+    }
+
+    def "Parallel and sequential queries return the same models"() {
+        when:
+        Map<String, GradleProject> sequential = connection.action(IdeFriendlyClassLoading.loadCompositeModelQuery(GradleProject, GradleVersion.version('6.7'))).run()
+        Map<String, GradleProject> parallel = connection.action(IdeFriendlyClassLoading.loadCompositeModelQuery(GradleProject, GradleVersion.version('6.8'))).run()
+
+        then:
+        sequential.keySet() == [':', 'first', 'second'] as Set
+        parallel.keySet() == sequential.keySet()
+        parallel.collectEntries { k, v -> [k, v.projectDirectory] } == sequential.collectEntries { k, v -> [k, v.projectDirectory] }
+    }
+}
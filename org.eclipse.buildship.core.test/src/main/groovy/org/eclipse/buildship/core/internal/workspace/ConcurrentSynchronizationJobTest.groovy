@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.buildship.core.GradleBuild
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class ConcurrentSynchronizationJobTest extends ProjectSynchronizationSpecification {
+
+    def cleanup() {
+        System.clearProperty(SynchronizationJob.DAEMON_BUDGET_PROPERTY)
+    }
+
+    def "Independent builds are synchronized with their models loaded once"() {
+        setup:
+        List<File> locations = ['first', 'second', 'third'].collect { name -> evaluationCountingBuild(name) }
+        List<GradleBuild> builds = locations.collect { gradleBuildFor(it) }
+
+        when:
+        new SynchronizationJob(NewProjectHandler.IMPORT_AND_MERGE, builds).schedule()
+        waitForGradleJobsToFinish()
+
+        then:
+        findProject('first')
+        findProject('second')
+        findProject('third')
+        locations.every { new File(it, 'evaluations.txt').text == 'x' }
+    }
+
+    def "Nested builds are synchronized sequentially"() {
+        setup:
+        File outer = evaluationCountingBuild('outer')
+        File inner = dir('outer/inner') {
+            file 'settings.gradle', "rootProject.name = 'inner'"
+            file 'build.gradle', "new File(rootDir, 'evaluations.txt') << 'x'"
+        }
+
+        when:
+        new SynchronizationJob(NewProjectHandler.IMPORT_AND_MERGE, [gradleBuildFor(inner), gradleBuildFor(outer)]).schedule()
+        waitForGradleJobsToFinish()
+
+        then:
+        findProject('outer')
+        findProject('inner')
+        new File(outer, 'evaluations.txt').text == 'x'
+        new File(inner, 'evaluations.txt').text == 'x'
+    }
+
+    def "Concurrent model loading can be disabled"() {
+        setup:
+        System.setProperty(SynchronizationJob.DAEMON_BUDGET_PROPERTY, '1')
+        List<File> locations = ['first', 'second'].collect { name -> evaluationCountingBuild(name) }
+
+        when:
+        new SynchronizationJob(NewProjectHandler.IMPORT_AND_MERGE, locations.collect { gradleBuildFor(it) }).schedule()
+        waitForGradleJobsToFinish()
+
+        then:
+        findProject('first')
+        findProject('second')
+    }
+
+    private File evaluationCountingBuild(String name) {
+        dir(name) {
+            file 'settings.gradle', "rootProject.name = '$name'"
+            file 'build.gradle', "new File(rootDir, 'evaluations.txt') << 'x'"
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+import org.eclipse.buildship.core.internal.util.gradle.BuildEnvironmentCache
+
+class DaemonWarmUpTest extends ProjectSynchronizationSpecification {
+
+    File projectDir
+
+    def setup() {
+        projectDir = dir('warm-up-test') {
+            file 'settings.gradle', ''
+        }
+        importAndWait(projectDir)
+    }
+
+    def cleanup() {
+        System.clearProperty(DaemonWarmUp.ENABLED_PROPERTY)
+    }
+
+    def "Warm-up is disabled by default"() {
+        expect:
+        DaemonWarmUp.startIfEnabled() == null
+    }
+
+    def "Warm-up loads the build environment of the workspace builds"() {
+        setup:
+        System.setProperty(DaemonWarmUp.ENABLED_PROPERTY, 'true')
+        BuildEnvironmentCache buildEnvironmentCache = CorePlugin.projectConnectionPool().buildEnvironmentCache
+        buildEnvironmentCache.clear()
+        long misses = buildEnvironmentCache.missCount
+
+        when:
+        DaemonWarmUp warmUp = DaemonWarmUp.startIfEnabled()
+        waitForGradleJobsToFinish()
+
+        then:
+        warmUp != null
+        buildEnvironmentCache.missCount == misses + 1
+    }
+}
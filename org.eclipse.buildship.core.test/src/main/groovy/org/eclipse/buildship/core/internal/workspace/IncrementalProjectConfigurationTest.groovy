@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.core.runtime.NullProgressMonitor
+import org.eclipse.jdt.core.IClasspathEntry
+import org.eclipse.jdt.core.JavaCore
+
+import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class IncrementalProjectConfigurationTest extends ProjectSynchronizationSpecification {
+
+    File projectDir
+
+    def setup() {
+        projectDir = dir('incremental-sync') {
+            file 'settings.gradle', "include 'a', 'b'"
+            file 'build.gradle', "subprojects { apply plugin: 'java' }"
+            dir('a') {
+                file 'build.gradle', ''
+                dir 'build'
+                dir 'src/main/java'
+                dir 'src/extra/java'
+            }
+            dir('b') {
+                dir 'build'
+                dir 'src/main/java'
+            }
+        }
+        importAndWait(projectDir)
+    }
+
+    def cleanup() {
+        System.clearProperty(ProjectModelDigest.ENABLED_PROPERTY)
+    }
+
+    def "Model digest is stored for configured projects"() {
+        expect:
+        CorePlugin.modelPersistence().loadModel(findProject('a')).modelDigest != null
+        CorePlugin.modelPersistence().loadModel(findProject('b')).modelDigest != null
+    }
+
+    def "Only projects with a changed model are configured"() {
+        setup:
+        findProject('a').getFolder('build').setDerived(false, new NullProgressMonitor())
+        findProject('b').getFolder('build').setDerived(false, new NullProgressMonitor())
+        new File(projectDir, 'a/build.gradle').text = "sourceSets.main.java.srcDir 'src/extra/java'"
+
+        when:
+        synchronizeAndWait(projectDir)
+
+        then:
+        JavaCore.create(findProject('a')).rawClasspath.find { it.path.toPortableString() == '/a/src/extra/java' }
+        findProject('a').getFolder('build').derived
+        !findProject('b').getFolder('build').derived
+    }
+
+    def "Project is configured if a workspace file was modified"() {
+        setup:
+        findProject('b').getFolder('build').setDerived(false, new NullProgressMonitor())
+        JavaCore.create(findProject('b')).setRawClasspath([] as IClasspathEntry[], new NullProgressMonitor())
+        new File(projectDir, 'a/build.gradle').text = "sourceSets.main.java.srcDir 'src/extra/java'"
+
+        when:
+        synchronizeAndWait(projectDir)
+
+        then:
+        JavaCore.create(findProject('b')).rawClasspath.find { it.path.toPortableString() == '/b/src/main/java' }
+        findProject('b').getFolder('build').derived
+    }
+
+    def "Skipping unchanged projects can be disabled"() {
+        setup:
+        System.setProperty(ProjectModelDigest.ENABLED_PROPERTY, 'false')
+        findProject('b').getFolder('build').setDerived(false, new NullProgressMonitor())
+        new File(projectDir, 'a/build.gradle').text = "sourceSets.main.java.srcDir 'src/extra/java'"
+
+        when:
+        synchronizeAndWait(projectDir)
+
+        then:
+        findProject('b').getFolder('build').derived
+    }
+}
@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.core.resources.IProject
+import org.eclipse.core.resources.IWorkspaceRunnable
+import org.eclipse.core.runtime.NullProgressMonitor
+import org.eclipse.core.runtime.jobs.Job
+
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class NonBlockingModelLoadingTest extends ProjectSynchronizationSpecification {
+
+    File projectDir
+
+    def setup() {
+        projectDir = dir('blocking-build') {
+            file 'settings.gradle', ''
+            file 'build.gradle', """
+                if (project.hasProperty('blocking')) {
+                    new File(rootDir, 'started').text = 'x'
+                    long end = System.currentTimeMillis() + 30000
+                    while (!new File(rootDir, 'continue').exists() && System.currentTimeMillis() < end) {
+                        Thread.sleep(100)
+                    }
+                }
+            """
+        }
+        importAndWait(projectDir)
+    }
+
+    def "Workspace can be modified while the models are loaded"() {
+        setup:
+        new File(projectDir, 'gradle.properties').text = 'blocking=true'
+        SynchronizationJob job = new SynchronizationJob(gradleBuildFor(projectDir))
+        job.schedule()
+        waitFor { new File(projectDir, 'started').exists() }
+        IProject project = findProject('blocking-build')
+
+        when:
+        workspace.run({ project.getFile('edited.txt').create(new ByteArrayInputStream('x'.bytes), true, new NullProgressMonitor()) } as IWorkspaceRunnable,
+            workspace.root, 0, new NullProgressMonitor())
+
+        then:
+        project.getFile('edited.txt').exists()
+        job.state == Job.RUNNING
+
+        cleanup:
+        new File(projectDir, 'continue').text = 'x'
+        waitForGradleJobsToFinish()
+    }
+}
@@ -40,8 +40,9 @@ class PersistentModelBuilderTest extends WorkspaceSpecification {
         def managedBuilders = [command]
         def hasAutoBuildTasks = true
         def gradleVersion = GradleVersion.version('5.6')
+        def modelDigest = 'digest'
 
-        def previous = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion)
+        def previous = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion, modelDigest)
         def model = new PersistentModelBuilder(previous).build()
 
         expect:
@@ -55,6 +56,7 @@ class PersistentModelBuilderTest extends WorkspaceSpecification {
         model.managedNatures == managedNatures
         model.managedBuilders == managedBuilders
         model.gradleVersion == gradleVersion
+        model.modelDigest == modelDigest
     }
 
 
@@ -72,8 +74,9 @@ class PersistentModelBuilderTest extends WorkspaceSpecification {
         def managedBuilders = [command]
         def hasAutoBuildTasks = false
         def gradleVersion = GradleVersion.version('5.6')
+        def modelDigest = 'digest'
 
-        def previous = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion)
+        def previous = new DefaultPersistentModel(project, buildDir, buildScriptPath, subProjectPaths, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion, modelDigest)
         def builder = new PersistentModelBuilder(previous)
         builder."${method}"(null)
 
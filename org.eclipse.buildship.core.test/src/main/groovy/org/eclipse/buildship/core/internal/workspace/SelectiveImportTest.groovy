@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.jdt.core.IClasspathEntry
+import org.eclipse.jdt.core.IJavaProject
+
+import org.eclipse.buildship.core.internal.CorePlugin
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
+import org.eclipse.buildship.core.internal.configuration.ProjectFilter
+import org.eclipse.buildship.core.internal.test.fixtures.EclipseProjects
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class SelectiveImportTest extends ProjectSynchronizationSpecification {
+
+    File projectDir
+
+    def setup() {
+        projectDir = dir('selective-import') {
+            file 'settings.gradle', "include 'app', 'lib', 'unrelated'"
+            file 'build.gradle', """
+                allprojects {
+                    group = 'org.test'
+                    version = '1.0'
+                    apply plugin: 'java-library'
+                }
+                project(':app') {
+                    dependencies {
+                        implementation project(':lib')
+                    }
+                }
+            """
+            dir('lib/src/main/java') {
+                file 'Lib.java', 'public class Lib {}'
+            }
+        }
+    }
+
+    def "Excluded projects are not imported and dependencies on them are substituted"() {
+        setup:
+        importAndWait(projectDir)
+
+        when:
+        applyProjectFilter(ProjectFilter.from([], [':lib', ':unrelated']))
+        synchronizeAndWait(findProject('selective-import'))
+        IJavaProject javaProject = findJavaProject('app')
+
+        then:
+        findProject('app')
+        !findProject('lib')
+        !findProject('unrelated')
+        new File(projectDir, 'lib/src/main/java/Lib.java').exists()
+        !javaProject.getResolvedClasspath(true).find { it.entryKind == IClasspathEntry.CPE_PROJECT && it.path.lastSegment() == 'lib' }
+        javaProject.getResolvedClasspath(true).find { it.entryKind == IClasspathEntry.CPE_LIBRARY && it.path.lastSegment() == 'lib-1.0.jar' }
+    }
+
+    def "Projects are imported again when they are no longer excluded"() {
+        setup:
+        importAndWait(projectDir)
+        applyProjectFilter(ProjectFilter.from([':app'], []))
+        synchronizeAndWait(findProject('selective-import'))
+
+        expect:
+        findProject('app')
+        !findProject('lib')
+        !findProject('unrelated')
+
+        when:
+        applyProjectFilter(ProjectFilter.ALL)
+        synchronizeAndWait(findProject('selective-import'))
+
+        then:
+        findProject('lib')
+        findProject('unrelated')
+        findJavaProject('app').getResolvedClasspath(true).find { it.entryKind == IClasspathEntry.CPE_PROJECT && it.path.lastSegment() == 'lib' }
+    }
+
+    def "Projects not imported from the build are kept at the location of excluded projects"() {
+        setup:
+        importAndWait(projectDir)
+        applyProjectFilter(ProjectFilter.from([], [':lib']))
+        synchronizeAndWait(findProject('selective-import'))
+        new File(projectDir, 'lib/.project').delete()
+        new File(projectDir, 'lib/.settings').deleteDir()
+        EclipseProjects.newProject('plain-lib', new File(projectDir, 'lib'))
+
+        when:
+        synchronizeAndWait(findProject('selective-import'))
+
+        then:
+        findProject('plain-lib')
+        !findProject('lib')
+    }
+
+    private void applyProjectFilter(ProjectFilter projectFilter) {
+        BuildConfiguration current = CorePlugin.configurationManager().loadProjectConfiguration(findProject('selective-import')).buildConfiguration
+        BuildConfiguration updated = CorePlugin.configurationManager().createBuildConfiguration(current.rootProjectDirectory, current.overrideWorkspaceSettings,
+            current.gradleDistribution, current.gradleUserHome, current.javaHome, current.buildScansEnabled, current.offlineMode, current.autoSync,
+            current.arguments, current.jvmArguments, current.showConsoleView, current.showExecutionsView, projectFilter)
+        CorePlugin.configurationManager().saveBuildConfiguration(updated)
+    }
+}
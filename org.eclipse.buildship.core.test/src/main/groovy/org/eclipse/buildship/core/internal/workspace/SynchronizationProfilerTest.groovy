@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class SynchronizationProfilerTest extends ProjectSynchronizationSpecification {
+
+    File projectDir
+
+    def setup() {
+        projectDir = dir('profiled-sync') {
+            file 'settings.gradle', "include 'a'"
+            file 'build.gradle', "allprojects { apply plugin: 'java' }"
+        }
+    }
+
+    def cleanup() {
+        System.clearProperty(SynchronizationProfiler.ENABLED_PROPERTY)
+    }
+
+    def "Synchronization report is written"() {
+        when:
+        importAndWait(projectDir)
+        SynchronizationReport report = SynchronizationProfiler.loadLastReport().get()
+
+        then:
+        report.rootProjectDirectory == projectDir.absolutePath
+        report.status == 'OK'
+        report.entries.find { it.category == SynchronizationProfiler.CATEGORY_PHASE && it.name == 'Synchronize workspace projects' }
+        report.entries.find { it.category == SynchronizationProfiler.CATEGORY_INIT && it.name == 'org.eclipse.buildship.configurators.base' }
+        report.entries.find { it.category == SynchronizationProfiler.CATEGORY_CONFIGURE && it.name == 'org.eclipse.buildship.configurators.base' && it.project == 'a' }
+        report.entries.find { it.category == SynchronizationProfiler.CATEGORY_UPDATER && it.name == 'SourceFolderUpdater' && it.project == 'a' }
+        report.entries.every { it.durationMillis >= 0 }
+    }
+
+    def "Profiler can be disabled"() {
+        setup:
+        importAndWait(projectDir)
+        long previousStartTime = SynchronizationProfiler.loadLastReport().get().startTime
+        System.setProperty(SynchronizationProfiler.ENABLED_PROPERTY, 'false')
+
+        when:
+        synchronizeAndWait(projectDir)
+
+        then:
+        SynchronizationProfiler.loadLastReport().get().startTime == previousStartTime
+    }
+}
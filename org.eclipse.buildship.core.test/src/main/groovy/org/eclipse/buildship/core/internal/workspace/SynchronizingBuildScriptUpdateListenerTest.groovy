@@ -11,6 +11,9 @@ package org.eclipse.buildship.core.internal.workspace
 
 import org.eclipse.core.resources.IProject
 import org.eclipse.core.runtime.NullProgressMonitor
+import org.eclipse.core.runtime.jobs.IJobChangeEvent
+import org.eclipse.core.runtime.jobs.Job
+import org.eclipse.core.runtime.jobs.JobChangeAdapter
 import org.eclipse.jdt.core.JavaCore
 
 import org.eclipse.buildship.core.internal.configuration.BuildConfiguration
@@ -140,6 +143,126 @@ class SynchronizingBuildScriptUpdateListenerTest extends ProjectSynchronizationS
         waitFor { JavaCore.create(project).getResolvedClasspath(false).find { it.path.toPortableString().endsWith('spring-beans-1.2.8.jar') } }
     }
 
+    def "Execute project synchronization when settings.gradle file changes"() {
+        setup:
+        File projectDir = dir('auto-sync-test-project') {
+            file 'build.gradle', ''
+            file 'settings.gradle', ''
+        }
+        importAndWait(projectDir)
+        IProject project = findProject('auto-sync-test-project')
+        enableProjectAutoSync(project)
+
+        when:
+        new File(projectDir, 'sub').mkdirs()
+        project.getFile('settings.gradle').setContents(new ByteArrayInputStream("include 'sub'".bytes), 0, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+        waitForGradleJobsToFinish()
+
+        then:
+        waitFor { findProject('sub') }
+    }
+
+    def "Execute project synchronization when buildSrc changes"() {
+        setup:
+        File projectDir = dir('auto-sync-test-project') {
+            file 'build.gradle', ''
+            file 'settings.gradle', ''
+        }
+        importAndWait(projectDir)
+        IProject project = findProject('auto-sync-test-project')
+        enableProjectAutoSync(project)
+        int synchronizations = 0
+        JobChangeAdapter listener = new JobChangeAdapter() {
+            void done(IJobChangeEvent event) {
+                if (event.job instanceof SynchronizationJob) {
+                    synchronizations++
+                }
+            }
+        }
+        Job.jobManager.addJobChangeListener(listener)
+
+        when:
+        project.getFolder('buildSrc').create(true, true, new NullProgressMonitor())
+        project.getFile('buildSrc/build.gradle').create(new ByteArrayInputStream(''.bytes), false, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+        waitForGradleJobsToFinish()
+
+        then:
+        synchronizations == 1
+
+        cleanup:
+        Job.jobManager.removeJobChangeListener(listener)
+    }
+
+    def "Changes in quick succession result in a single synchronization"() {
+        setup:
+        File projectDir = dir('auto-sync-test-project') {
+            file 'build.gradle', ''
+            file 'settings.gradle', ''
+            file 'gradle.properties', ''
+        }
+        importAndWait(projectDir)
+        IProject project = findProject('auto-sync-test-project')
+        enableProjectAutoSync(project)
+        int synchronizations = 0
+        JobChangeAdapter listener = new JobChangeAdapter() {
+            void done(IJobChangeEvent event) {
+                if (event.job instanceof SynchronizationJob) {
+                    synchronizations++
+                }
+            }
+        }
+        Job.jobManager.addJobChangeListener(listener)
+
+        when:
+        project.getFile('build.gradle').setContents(new ByteArrayInputStream('apply plugin: "java"'.bytes), 0, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+        project.getFile('gradle.properties').setContents(new ByteArrayInputStream('org.gradle.caching=true'.bytes), 0, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+        project.getFile('settings.gradle').setContents(new ByteArrayInputStream("rootProject.name = 'auto-sync-test-project'".bytes), 0, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+        waitForGradleJobsToFinish()
+
+        then:
+        synchronizations == 1
+        JavaCore.create(project).exists()
+
+        cleanup:
+        Job.jobManager.removeJobChangeListener(listener)
+    }
+
+    def "Changes outside of the build configuration don't trigger synchronization"() {
+        setup:
+        File projectDir = dir('auto-sync-test-project') {
+            file 'build.gradle', ''
+            file 'settings.gradle', ''
+        }
+        importAndWait(projectDir)
+        IProject project = findProject('auto-sync-test-project')
+        enableProjectAutoSync(project)
+        int synchronizations = 0
+        JobChangeAdapter listener = new JobChangeAdapter() {
+            void done(IJobChangeEvent event) {
+                if (event.job instanceof SynchronizationJob) {
+                    synchronizations++
+                }
+            }
+        }
+        Job.jobManager.addJobChangeListener(listener)
+
+        when:
+        project.getFile('README.md').create(new ByteArrayInputStream('readme'.bytes), false, new NullProgressMonitor())
+        waitForResourceChangeEvents()
+        waitForGradleJobsToFinish()
+
+        then:
+        synchronizations == 0
+
+        cleanup:
+        Job.jobManager.removeJobChangeListener(listener)
+    }
+
     def "Synchronization can be disabled for the entire workspace"() {
         setup:
         File projectDir = dir('auto-sync-test-project') {
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.core.resources.IProject
+import org.eclipse.core.resources.IWorkspaceRunnable
+import org.eclipse.core.resources.ResourcesPlugin
+import org.eclipse.core.runtime.NullProgressMonitor
+import org.eclipse.jdt.core.IJavaProject
+import org.eclipse.jdt.core.JavaCore
+
+import org.eclipse.buildship.core.GradleCore
+import org.eclipse.buildship.core.SynchronizationResult
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNature
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class SynchronizingMultipleProjects extends ProjectSynchronizationSpecification {
+
+    File projectDir
+
+    def setup() {
+        projectDir = dir('multi-project-sync') {
+            file 'settings.gradle', "include 'a', 'b', 'c', 'd', 'e'"
+            file 'build.gradle', """
+                subprojects {
+                    apply plugin: 'java'
+                }
+                project(':b') { dependencies { implementation project(':a') } }
+            """
+            ['a', 'b', 'c', 'd', 'e'].each { name ->
+                dir(name) {
+                    dir 'src/main/java'
+                }
+            }
+        }
+    }
+
+    def "All projects are configured on the first import"() {
+        setup:
+        assert ['a', 'b', 'c', 'd', 'e'].every { findProject(it) == null }
+
+        when:
+        // the first import changes the natures and the raw classpaths, which require the workspace root rule
+        importAndWait(projectDir)
+
+        then:
+        gradleErrorMarkers.empty
+        ['a', 'b', 'c', 'd', 'e'].each { name ->
+            IProject project = findProject(name)
+            assert GradleProjectNature.isPresentOn(project)
+            assert project.hasNature(JavaCore.NATURE_ID)
+            IJavaProject javaProject = JavaCore.create(project)
+            assert javaProject.rawClasspath.find { it.path.toPortableString() == "/$name/src/main/java" }
+        }
+        JavaCore.create(findProject('b')).getResolvedClasspath(true).find { it.path.toPortableString() == '/a' }
+    }
+
+    def "Projects are configured if the caller holds the workspace root rule"() {
+        setup:
+        importAndWait(projectDir)
+        new File(projectDir, 'settings.gradle') << "\ninclude 'f'"
+        new File(projectDir, 'f/src/main/java').mkdirs()
+        SynchronizationResult result
+
+        when:
+        ResourcesPlugin.workspace.run({ monitor ->
+            result = GradleCore.workspace.getBuild(findProject('multi-project-sync')).get().synchronize(monitor)
+        } as IWorkspaceRunnable, ResourcesPlugin.workspace.root, 0, new NullProgressMonitor())
+
+        then:
+        result.status.isOK()
+        GradleProjectNature.isPresentOn(findProject('f'))
+    }
+}
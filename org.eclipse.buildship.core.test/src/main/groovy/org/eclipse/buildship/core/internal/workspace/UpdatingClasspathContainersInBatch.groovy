@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace
+
+import org.eclipse.jdt.core.ElementChangedEvent
+import org.eclipse.jdt.core.IClasspathContainer
+import org.eclipse.jdt.core.IElementChangedListener
+import org.eclipse.jdt.core.IJavaElementDelta
+import org.eclipse.jdt.core.JavaCore
+
+import org.eclipse.buildship.core.internal.test.fixtures.ProjectSynchronizationSpecification
+
+class UpdatingClasspathContainersInBatch extends ProjectSynchronizationSpecification {
+
+    File projectDir
+
+    def setup() {
+        projectDir = dir('batch-container-update') {
+            file 'settings.gradle', "include 'a', 'b'"
+            file 'build.gradle', "subprojects { apply plugin: 'java' }"
+            dir 'a/src/main/java'
+            dir 'b/src/main/java'
+            file 'lib/lib.jar', ''
+        }
+        importAndWait(projectDir)
+    }
+
+    def "Unchanged classpath containers are not updated"() {
+        setup:
+        IClasspathContainer containerOfB = gradleClasspathContainer('b')
+        new File(projectDir, 'a/build.gradle').text = "dependencies { implementation project(':b') }"
+
+        when:
+        synchronizeAndWait(projectDir)
+
+        then:
+        gradleClasspathContainer('a').classpathEntries.find { it.path.toPortableString() == '/b' }
+        gradleClasspathContainer('b').is(containerOfB)
+    }
+
+    def "Changed classpath containers are updated in a single Java model change"() {
+        setup:
+        List<Set<String>> updatedProjects = []
+        IElementChangedListener listener = { ElementChangedEvent event ->
+            Set<String> projects = event.delta.affectedChildren
+                .findAll { (it.flags & IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED) != 0 }
+                .collect { it.element.elementName } as Set
+            if (projects) {
+                updatedProjects << projects
+            }
+        } as IElementChangedListener
+        new File(projectDir, 'build.gradle').text = """
+            subprojects {
+                apply plugin: 'java'
+                dependencies { implementation rootProject.files('lib/lib.jar') }
+            }
+        """
+
+        when:
+        JavaCore.addElementChangedListener(listener, ElementChangedEvent.POST_CHANGE)
+        synchronizeAndWait(projectDir)
+
+        then:
+        updatedProjects.find { it.containsAll(['a', 'b']) }
+
+        cleanup:
+        JavaCore.removeElementChangedListener(listener)
+    }
+
+    private IClasspathContainer gradleClasspathContainer(String projectName) {
+        JavaCore.getClasspathContainer(GradleClasspathContainer.CONTAINER_PATH, JavaCore.create(findProject(projectName)))
+    }
+}
@@ -10,6 +10,7 @@
 package org.eclipse.buildship.core.internal.workspace
 
 import org.eclipse.core.resources.IProject
+import org.eclipse.core.resources.IWorkspaceRunnable
 import org.eclipse.core.runtime.NullProgressMonitor
 import org.eclipse.jdt.core.JavaCore
 
@@ -419,6 +420,65 @@ class WorkspaceOperationsTest extends WorkspaceSpecification {
         thrown(GradlePluginsRuntimeException)
     }
 
+    def "Can find a project by name"() {
+        setup:
+        newProject('project-a')
+
+        expect:
+        workspaceOperations.findProjectByName('project-a').get() == findProject('project-a')
+        !workspaceOperations.findProjectByName('Project-A').present
+        !workspaceOperations.findProjectByName('project-b').present
+        !workspaceOperations.findProjectByName('invalid/name').present
+    }
+
+    def "Can find a project by location"() {
+        setup:
+        IProject project = newProject('project-a')
+
+        expect:
+        workspaceOperations.findProjectByLocation(dir('project-a')).get() == project
+        !workspaceOperations.findProjectByLocation(dir('project-b')).present
+    }
+
+    def "Closed projects can be found by location"() {
+        setup:
+        IProject project = newClosedProject('project-a')
+
+        expect:
+        workspaceOperations.findProjectByLocation(dir('project-a')).get() == project
+    }
+
+    def "Project location lookup reflects renamed and deleted projects"() {
+        setup:
+        IProject project = newProject('project-a')
+
+        when:
+        IProject renamedProject = workspaceOperations.renameProject(project, 'project-b', new NullProgressMonitor())
+
+        then:
+        workspaceOperations.findProjectByLocation(dir('project-a')).get() == renamedProject
+
+        when:
+        renamedProject.delete(false, true, new NullProgressMonitor())
+
+        then:
+        !workspaceOperations.findProjectByLocation(dir('project-a')).present
+    }
+
+    def "Project created in the running workspace operation can be found by location"() {
+        setup:
+        IProject project = null
+
+        when:
+        workspace.run({ monitor ->
+            project = workspaceOperations.createProject('project-a', dir('project-a'), [], monitor)
+            assert workspaceOperations.findProjectByLocation(dir('project-a')).get() == project
+        } as IWorkspaceRunnable, new NullProgressMonitor())
+
+        then:
+        workspaceOperations.findProjectByLocation(dir('project-a')).get() == project
+    }
+
     private IProject createSampleProject() {
         newProject("sample-project")
     }
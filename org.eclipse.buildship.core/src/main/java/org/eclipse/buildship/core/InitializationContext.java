@@ -9,6 +9,8 @@
  ******************************************************************************/
 package org.eclipse.buildship.core;
 
+import java.util.Map;
+
 /**
  * Describes a Gradle build being synchronized.
  *
@@ -22,4 +24,21 @@ public interface InitializationContext extends SynchronizationContext {
      * @return the current Gradle build being synchronized
      */
     GradleBuild getGradleBuild();
+
+    /**
+     * Returns the Tooling API models declared in the {@code requiredModels} attribute of the
+     * configurator's extension.
+     * <p>
+     * The declared models of all configurators are loaded once per synchronization, with a single
+     * Gradle invocation. Configurators should prefer this method over querying the same models via
+     * {@link GradleBuild#withConnection(java.util.function.Function, org.eclipse.core.runtime.IProgressMonitor)}.
+     *
+     * @param modelType the model type, must be declared by the configurator
+     * @return the root project model of each build in the composite, keyed by the build path;
+     *         {@code ":"} identifies the root build
+     * @throws IllegalArgumentException if the configurator did not declare the model type
+     * @throws RuntimeException if the models could not be loaded
+     * @since 3.2
+     */
+    <T> Map<String, T> getModels(Class<T> modelType);
 }
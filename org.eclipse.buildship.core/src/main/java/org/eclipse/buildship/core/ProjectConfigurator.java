@@ -31,6 +31,12 @@ import org.eclipse.core.runtime.IProgressMonitor;
  * removal.
  *
  * <p>
+ * The content of the Gradle classpath container of the Java projects is updated once all workspace
+ * projects have been configured. When {@code configure()} is called, the raw classpath of the project
+ * already contains the container, but the container may still resolve to the dependencies from the
+ * previous synchronization.
+ *
+ * <p>
  * The configurator ordering can be influenced via the {@code runsBefore} and {@code runsAfter}
  * attribute in the extension. If the extension doesn't define the attributes then the ordering is
  * unspecified.
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Detects workspace changes that can invalidate the models loaded by a running synchronization.
+ * <p/>
+ * The detector records the locations of the changed files matching
+ * {@link BuildInputFingerprint#isInput(org.eclipse.core.runtime.IPath)}, so that the callers can
+ * ignore the changes outside of the directories of the build being synchronized. Adding, removing,
+ * opening and closing workspace projects is always reported, as the workspace projects are sent to
+ * Gradle for closed project substitution.
+ */
+final class BuildInputChangeDetector implements IResourceChangeListener, AutoCloseable {
+
+    private final Set<Path> changedInputs = ConcurrentHashMap.newKeySet();
+    private volatile boolean projectsChanged;
+
+    private BuildInputChangeDetector() {
+    }
+
+    /**
+     * Returns whether a change affecting the given directories was detected.
+     *
+     * @param directories the project directories of the build
+     * @return {@code true} if the workspace projects changed or if an input file in one of the
+     *         directories changed
+     */
+    boolean hasChanges(Collection<File> directories) {
+        if (this.projectsChanged) {
+            return true;
+        }
+        for (Path changedInput : this.changedInputs) {
+            for (File directory : directories) {
+                if (changedInput.startsWith(directory.toPath().toAbsolutePath().normalize())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        IResourceDelta delta = event.getDelta();
+        if (delta == null || this.projectsChanged) {
+            return;
+        }
+
+        try {
+            delta.accept(d -> {
+                IResource resource = d.getResource();
+                if (resource instanceof IProject) {
+                    if (d.getKind() != IResourceDelta.CHANGED || (d.getFlags() & IResourceDelta.OPEN) != 0) {
+                        this.projectsChanged = true;
+                    }
+                } else if (resource.getType() == IResource.FILE && BuildInputFingerprint.isInput(resource.getProjectRelativePath())) {
+                    IPath location = resource.getLocation();
+                    if (location != null) {
+                        this.changedInputs.add(location.toFile().toPath().toAbsolutePath().normalize());
+                    }
+                }
+                return !this.projectsChanged;
+            });
+        } catch (CoreException e) {
+            this.projectsChanged = true;
+        }
+    }
+
+    static BuildInputChangeDetector start() {
+        BuildInputChangeDetector detector = new BuildInputChangeDetector();
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(detector, IResourceChangeEvent.POST_CHANGE);
+        return detector;
+    }
+
+    @Override
+    public void close() {
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+    }
+}
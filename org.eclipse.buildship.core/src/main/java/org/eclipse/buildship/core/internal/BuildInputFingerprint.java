@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.gradle.tooling.model.UnsupportedMethodException;
+import org.gradle.tooling.model.eclipse.EclipseProject;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+
+/**
+ * Computes a hash of the inputs influencing the models returned by a Gradle build.
+ * <p/>
+ * The Tooling API doesn't report the files read during the build configuration, so the fingerprint
+ * covers the files that conventionally do: the settings and build scripts, the
+ * {@code gradle.properties} files, the version catalogs, the wrapper properties, the content of
+ * {@code buildSrc} and the init scripts and properties in the Gradle user home. The local scripts
+ * applied with {@code apply from:} and the content of the builds included with {@code includeBuild}
+ * are covered if the scripts reference them with a string literal. Besides the files, the
+ * fingerprint contains the build configuration and the workspace projects, as the latter are sent
+ * to Gradle for closed project substitution.
+ * <p/>
+ * The fingerprint doesn't cover remote scripts, paths computed by the build logic, the files read
+ * by plugins and dependencies resolved to changing versions like snapshots or dynamic versions. As
+ * a consequence, the fingerprint is only used to skip automatic synchronizations; a synchronization
+ * requested by the user always reloads the models.
+ */
+public final class BuildInputFingerprint {
+
+    /**
+     * System property to disable skipping the model queries for unchanged builds.
+     */
+    static final String ENABLED_PROPERTY = "org.eclipse.buildship.core.buildInputFingerprint.enabled";
+
+    private static final Set<String> ROOT_INPUTS = new TreeSet<>(Arrays.asList("settings.gradle", "settings.gradle.kts", "gradle.properties", "gradle/wrapper/gradle-wrapper.properties"));
+    private static final Set<String> IGNORED_DIRECTORIES = new TreeSet<>(Arrays.asList("build", ".gradle", ".git"));
+    private static final Pattern APPLIED_SCRIPT_PATTERN = Pattern.compile("apply\\s*\\(?\\s*from\\s*[:=]\\s*(?:file\\s*\\(\\s*)?['\"]([^'\"]+)['\"]");
+    private static final Pattern INCLUDED_BUILD_PATTERN = Pattern.compile("includeBuild\\s*\\(?\\s*(?:file\\s*\\(\\s*)?['\"]([^'\"]+)['\"]");
+
+    private BuildInputFingerprint() {
+    }
+
+    /**
+     * Returns whether a file in a project directory is one of the inputs covered by the fingerprint.
+     * <p/>
+     * The inputs of the build root directories are matched for every project, as any project can
+     * be the root of an included build.
+     *
+     * @param projectRelativePath the path of the file relative to the project directory
+     * @return {@code true} if changing the file can change the models of the build
+     */
+    public static boolean isInput(IPath projectRelativePath) {
+        String[] segments = projectRelativePath.segments();
+        if (segments.length == 0) {
+            return false;
+        }
+
+        String name = segments[segments.length - 1];
+        if (segments.length == 1) {
+            return name.endsWith(".gradle") || name.endsWith(".gradle.kts") || name.equals("gradle.properties");
+        } else if (ROOT_INPUTS.contains(projectRelativePath.toPortableString())) {
+            return true;
+        } else if (segments[0].equals("gradle")) {
+            return segments.length == 2 && name.endsWith(".toml");
+        } else if (segments[0].equals("buildSrc")) {
+            for (int i = 1; i < segments.length - 1; i++) {
+                if (IGNORED_DIRECTORIES.contains(segments[i])) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    }
+
+    /**
+     * Computes the fingerprint of the target build.
+     *
+     * @param buildConfiguration the build configuration
+     * @param projects the projects of the build; the build scripts are looked up in their project
+     *            directories
+     * @return the fingerprint
+     */
+    static String compute(BuildConfiguration buildConfiguration, Collection<? extends EclipseProject> projects) {
+        Set<File> projectDirs = new TreeSet<>();
+        for (EclipseProject project : projects) {
+            if (project.getProjectDirectory() != null) {
+                projectDirs.add(project.getProjectDirectory());
+            }
+        }
+        return compute(buildConfiguration, buildRoots(projects), projectDirs);
+    }
+
+    /**
+     * Computes the fingerprint of the target build from the directories of its projects, e.g. the
+     * ones stored along with the fingerprint of the last synchronization.
+     *
+     * @param buildConfiguration the build configuration
+     * @param buildRoots the root directories of the included builds
+     * @param projectDirectories the project directories
+     * @return the fingerprint
+     */
+    static String compute(BuildConfiguration buildConfiguration, Collection<File> buildRoots, Collection<File> projectDirectories) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        putConfiguration(hasher, buildConfiguration);
+        putWorkspaceProjects(hasher);
+
+        Set<File> allBuildRoots = new TreeSet<>(buildRoots);
+        Set<File> projectDirs = new TreeSet<>(projectDirectories);
+        Set<File> scripts = new TreeSet<>();
+        allBuildRoots.add(buildConfiguration.getRootProjectDirectory());
+
+        for (File buildRoot : allBuildRoots) {
+            for (String input : ROOT_INPUTS) {
+                putFile(hasher, new File(buildRoot, input));
+            }
+            putMatchingFiles(hasher, new File(buildRoot, "gradle"), ".toml");
+            putDirectory(hasher, new File(buildRoot, "buildSrc"));
+            scripts.add(new File(buildRoot, "settings.gradle"));
+            scripts.add(new File(buildRoot, "settings.gradle.kts"));
+        }
+        for (File projectDir : projectDirs) {
+            scripts.addAll(putMatchingFiles(hasher, projectDir, ".gradle"));
+            scripts.addAll(putMatchingFiles(hasher, projectDir, ".gradle.kts"));
+            putFile(hasher, new File(projectDir, "gradle.properties"));
+        }
+        putReferencedInputs(hasher, scripts);
+
+        File gradleUserHome = gradleUserHome(buildConfiguration);
+        putFile(hasher, new File(gradleUserHome, "gradle.properties"));
+        putDirectory(hasher, new File(gradleUserHome, "init.d"));
+
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Returns the root directories of the builds the projects belong to.
+     *
+     * @param projects the projects
+     * @return the build root directories
+     */
+    static Set<File> buildRoots(Collection<? extends EclipseProject> projects) {
+        Set<File> result = new TreeSet<>();
+        for (EclipseProject project : projects) {
+            try {
+                result.add(project.getProjectIdentifier().getBuildIdentifier().getRootDir());
+            } catch (UnsupportedMethodException e) {
+                // included builds are not supported by the Gradle version used by the build
+            }
+        }
+        return result;
+    }
+
+    private static void putConfiguration(Hasher hasher, BuildConfiguration buildConfiguration) {
+        putString(hasher, buildConfiguration.getRootProjectDirectory().getAbsolutePath());
+        putString(hasher, buildConfiguration.getGradleDistribution().toString());
+        putString(hasher, String.valueOf(buildConfiguration.getGradleUserHome()));
+        putString(hasher, String.valueOf(buildConfiguration.getJavaHome()));
+        hasher.putBoolean(buildConfiguration.isBuildScansEnabled());
+        hasher.putBoolean(buildConfiguration.isOfflineMode());
+        putString(hasher, String.valueOf(buildConfiguration.getArguments()));
+        putString(hasher, String.valueOf(buildConfiguration.getJvmArguments()));
+        putString(hasher, String.valueOf(CorePlugin.invocationCustomizer().getExtraArguments()));
+        putString(hasher, String.valueOf(buildConfiguration.getProjectFilter()));
+    }
+
+    private static void putWorkspaceProjects(Hasher hasher) {
+        List<IProject> projects = new ArrayList<>(CorePlugin.workspaceOperations().getAllProjects());
+        projects.sort(Comparator.comparing(IProject::getName));
+        for (IProject project : projects) {
+            putString(hasher, project.getName());
+            putString(hasher, String.valueOf(project.getLocation()));
+            hasher.putBoolean(project.isOpen());
+        }
+    }
+
+    private static List<File> putMatchingFiles(Hasher hasher, File directory, String suffix) {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(suffix));
+        if (files == null) {
+            return new ArrayList<>();
+        }
+        Arrays.sort(files);
+        for (File file : files) {
+            putFile(hasher, file);
+        }
+        return Arrays.asList(files);
+    }
+
+    /**
+     * Adds the scripts applied by the given scripts, transitively, and the directories of the
+     * included builds they declare. Only string literals are recognized, remote scripts are
+     * ignored.
+     */
+    private static void putReferencedInputs(Hasher hasher, Set<File> scripts) {
+        Set<File> visitedScripts = new TreeSet<>(scripts);
+        Set<File> includedBuilds = new TreeSet<>();
+        List<File> pending = new ArrayList<>(scripts);
+        while (!pending.isEmpty()) {
+            File script = pending.remove(pending.size() - 1);
+            String content = readScript(script);
+            for (String path : findReferences(APPLIED_SCRIPT_PATTERN, content)) {
+                File appliedScript = resolve(script, path);
+                if (visitedScripts.add(appliedScript)) {
+                    putFile(hasher, appliedScript);
+                    pending.add(appliedScript);
+                }
+            }
+            for (String path : findReferences(INCLUDED_BUILD_PATTERN, content)) {
+                includedBuilds.add(resolve(script, path));
+            }
+        }
+        for (File includedBuild : includedBuilds) {
+            putDirectory(hasher, includedBuild);
+        }
+    }
+
+    private static String readScript(File script) {
+        if (!script.isFile()) {
+            return "";
+        }
+        try {
+            return Files.asCharSource(script, StandardCharsets.UTF_8).read();
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static List<String> findReferences(Pattern pattern, String content) {
+        List<String> result = new ArrayList<>();
+        Matcher matcher = pattern.matcher(content);
+        while (matcher.find()) {
+            String path = matcher.group(1);
+            if (!path.contains("://") && !path.contains("$")) {
+                result.add(path);
+            }
+        }
+        return result;
+    }
+
+    private static File resolve(File script, String path) {
+        File file = new File(path);
+        file = file.isAbsolute() ? file : new File(script.getParentFile(), path);
+        return file.toPath().normalize().toFile();
+    }
+
+    private static void putDirectory(Hasher hasher, File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            Arrays.sort(files, Comparator.comparing(File::getName));
+            for (File file : files) {
+                if (file.isDirectory()) {
+                    if (!IGNORED_DIRECTORIES.contains(file.getName())) {
+                        putDirectory(hasher, file);
+                    }
+                } else {
+                    putFile(hasher, file);
+                }
+            }
+        }
+    }
+
+    private static void putFile(Hasher hasher, File file) {
+        if (!file.isFile()) {
+            return;
+        }
+
+        putString(hasher, file.getAbsolutePath());
+        try {
+            hasher.putBytes(Files.asByteSource(file).hash(Hashing.sha256()).asBytes());
+        } catch (IOException e) {
+            // unreadable inputs make the fingerprint unique so that the models are always reloaded
+            putString(hasher, String.valueOf(System.nanoTime()));
+        }
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        hasher.putString(value, StandardCharsets.UTF_8).putChar('\0');
+    }
+
+    private static File gradleUserHome(BuildConfiguration buildConfiguration) {
+        if (buildConfiguration.getGradleUserHome() != null) {
+            return buildConfiguration.getGradleUserHome();
+        }
+        String gradleUserHome = System.getenv("GRADLE_USER_HOME");
+        return gradleUserHome != null ? new File(gradleUserHome) : new File(System.getProperty("user.home"), ".gradle");
+    }
+}
@@ -25,7 +25,6 @@ import org.gradle.tooling.ResultHandler;
 import org.gradle.tooling.StreamedValueListener;
 import org.gradle.tooling.events.OperationType;
 
-import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 
 import org.eclipse.buildship.core.internal.util.gradle.InspectableResultHandler;
@@ -33,10 +32,11 @@ import org.eclipse.buildship.core.internal.util.gradle.InspectableResultHandler;
 public class CachingBuildActionExecuter<T> implements BuildActionExecuter<T> {
 
     private final BuildActionExecuter<T> delegate;
-    private final Cache<Object, Object> cache;
+    private final ModelCache.Region cache;
     private final CacheKey.Builder cacheKeyBuilder;
+    private CancellationToken cancellationToken;
 
-    CachingBuildActionExecuter(BuildActionExecuter<T> delegate, BuildAction<T> buildAction, Cache<Object, Object> cache) {
+    CachingBuildActionExecuter(BuildActionExecuter<T> delegate, BuildAction<T> buildAction, ModelCache.Region cache) {
         this.delegate = delegate;
         this.cache = cache;
         this.cacheKeyBuilder = CacheKey.builder().setBuildAction(buildAction);
@@ -170,6 +170,7 @@ public class CachingBuildActionExecuter<T> implements BuildActionExecuter<T> {
 
     @Override
     public CachingBuildActionExecuter<T> withCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
         this.delegate.withCancellationToken(cancellationToken);
         return this;
     }
@@ -192,14 +193,11 @@ public class CachingBuildActionExecuter<T> implements BuildActionExecuter<T> {
     @SuppressWarnings("unchecked")
     public T run() throws GradleConnectionException, IllegalStateException {
         CacheKey key = this.cacheKeyBuilder.build();
-        Object cachedValue = key.isInvalid() ? null : this.cache.getIfPresent(key);
-        if (cachedValue != null) {
-            return (T) cachedValue;
-        } else {
-            T result = this.delegate.run();
-            this.cache.put(key, result);
-            return result;
+        if (key.isInvalid()) {
+            return this.delegate.run();
         }
+        // identical concurrent requests share a single Gradle invocation
+        return (T) this.cache.get(key, () -> this.delegate.run(), this.cancellationToken);
     }
 
     @Override
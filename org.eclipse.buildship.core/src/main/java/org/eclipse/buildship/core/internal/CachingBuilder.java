@@ -15,14 +15,12 @@ import org.gradle.tooling.BuildActionExecuter.Builder;
 import org.gradle.tooling.IntermediateResultHandler;
 import org.gradle.tooling.ProjectConnection;
 
-import com.google.common.cache.Cache;
-
 final class CachingBuilder implements BuildActionExecuter.Builder {
 
-    private final Cache<Object, Object> cache;
+    private final ModelCache.Region cache;
     private final Builder delegate;
 
-    public CachingBuilder(ProjectConnection connection, Cache<Object, Object> cache) {
+    public CachingBuilder(ProjectConnection connection, ModelCache.Region cache) {
         this.delegate = connection.action();
         this.cache = cache;
     }
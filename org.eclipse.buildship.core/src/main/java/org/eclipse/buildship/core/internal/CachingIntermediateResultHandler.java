@@ -12,15 +12,13 @@ package org.eclipse.buildship.core.internal;
 import org.gradle.tooling.BuildAction;
 import org.gradle.tooling.IntermediateResultHandler;
 
-import com.google.common.cache.Cache;
-
 class CachingIntermediateResultHandler<T> implements IntermediateResultHandler<T> {
 
     private BuildAction<T> buildAction;
     private IntermediateResultHandler<? super T> delegate;
-    private Cache<Object, Object> cache;
+    private ModelCache.Region cache;
 
-    public CachingIntermediateResultHandler(BuildAction<T> buildAction, IntermediateResultHandler<? super T> handler, Cache<Object, Object> cache) {
+    public CachingIntermediateResultHandler(BuildAction<T> buildAction, IntermediateResultHandler<? super T> handler, ModelCache.Region cache) {
         this.buildAction = buildAction;
         this.delegate = handler;
         this.cache = cache;
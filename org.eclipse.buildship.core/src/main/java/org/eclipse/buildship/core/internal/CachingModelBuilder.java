@@ -23,7 +23,6 @@ import org.gradle.tooling.ProgressListener;
 import org.gradle.tooling.ResultHandler;
 import org.gradle.tooling.events.OperationType;
 
-import com.google.common.cache.Cache;
 import com.google.common.collect.Lists;
 
 import org.eclipse.buildship.core.internal.CacheKey.Builder;
@@ -32,10 +31,11 @@ import org.eclipse.buildship.core.internal.util.gradle.InspectableResultHandler;
 final class CachingModelBuilder<T> implements ModelBuilder<T> {
 
     private final ModelBuilder<T> delegate;
-    private final Cache<Object, Object> cache;
+    private final ModelCache.Region cache;
     private final Builder cacheKeyBuilder;
+    private CancellationToken cancellationToken;
 
-    CachingModelBuilder(ModelBuilder<T> delegate, Cache<Object, Object> cache, Class<T> modelType) {
+    CachingModelBuilder(ModelBuilder<T> delegate, ModelCache.Region cache, Class<T> modelType) {
         this.delegate = delegate;
         this.cache = cache;
         this.cacheKeyBuilder = CacheKey.builder().setModelType(modelType);
@@ -170,6 +170,7 @@ final class CachingModelBuilder<T> implements ModelBuilder<T> {
 
     @Override
     public CachingModelBuilder<T> withCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
         this.delegate.withCancellationToken(cancellationToken);
         return this;
     }
@@ -192,14 +193,11 @@ final class CachingModelBuilder<T> implements ModelBuilder<T> {
     @SuppressWarnings("unchecked")
     public T get() throws GradleConnectionException, IllegalStateException {
         CacheKey key = this.cacheKeyBuilder.build();
-        Object cachedValue = key.isInvalid() ? null : this.cache.getIfPresent(key);
-        if (cachedValue != null) {
-            return (T) cachedValue;
-        } else {
-            T result = this.delegate.get();
-            this.cache.put(key, result);
-            return result;
+        if (key.isInvalid()) {
+            return this.delegate.get();
         }
+        // identical concurrent requests share a single Gradle invocation
+        return (T) this.cache.get(key, () -> this.delegate.get(), this.cancellationToken);
     }
 
     @Override
@@ -21,27 +21,34 @@ import org.gradle.tooling.ModelBuilder;
 import org.gradle.tooling.ProjectConnection;
 import org.gradle.tooling.ResultHandler;
 import org.gradle.tooling.TestLauncher;
-
-import com.google.common.cache.Cache;
+import org.gradle.tooling.model.build.BuildEnvironment;
 
 final class CachingProjectConnection implements ProjectConnection {
 
     private final ProjectConnection delegate;
-    private final Cache<Object, Object> cache;
+    private final ModelCache.Region cache;
 
-    public CachingProjectConnection(ProjectConnection delegate, Cache<Object, Object> cache) {
+    public CachingProjectConnection(ProjectConnection delegate, ModelCache.Region cache) {
         this.delegate = delegate;
         this.cache = cache;
     }
 
     @Override
     public <T> T getModel(Class<T> modelType) throws GradleConnectionException, IllegalStateException {
+        if (modelType == BuildEnvironment.class) {
+            // already cached by the underlying connection
+            return this.delegate.getModel(modelType);
+        }
         return model(modelType).get();
     }
 
     @Override
     public <T> void getModel(Class<T> modelType, ResultHandler<? super T> handler) throws IllegalStateException {
-        model(modelType).get(handler);
+        if (modelType == BuildEnvironment.class) {
+            this.delegate.getModel(modelType, handler);
+        } else {
+            model(modelType).get(handler);
+        }
     }
 
     @Override
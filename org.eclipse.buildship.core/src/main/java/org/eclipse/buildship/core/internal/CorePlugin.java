@@ -48,8 +48,12 @@ import org.eclipse.buildship.core.internal.preferences.DefaultModelPersistence;
 import org.eclipse.buildship.core.internal.preferences.ModelPersistence;
 import org.eclipse.buildship.core.internal.preferences.PersistentModel;
 import org.eclipse.buildship.core.internal.util.gradle.IdeFriendlyClassLoading;
+import org.eclipse.buildship.core.internal.util.gradle.ModelSnapshotStore;
+import org.eclipse.buildship.core.internal.util.gradle.ProjectConnectionPool;
 import org.eclipse.buildship.core.internal.util.gradle.PublishedGradleVersionsWrapper;
 import org.eclipse.buildship.core.internal.util.logging.EclipseLogger;
+import org.eclipse.buildship.core.internal.workspace.ChangedPathsCollector;
+import org.eclipse.buildship.core.internal.workspace.DaemonWarmUp;
 import org.eclipse.buildship.core.internal.workspace.DefaultGradleWorkspace;
 import org.eclipse.buildship.core.internal.workspace.DefaultWorkspaceOperations;
 import org.eclipse.buildship.core.internal.workspace.InternalGradleBuild;
@@ -57,6 +61,7 @@ import org.eclipse.buildship.core.internal.workspace.InternalGradleWorkspace;
 import org.eclipse.buildship.core.internal.workspace.ProjectChangeListener;
 import org.eclipse.buildship.core.internal.workspace.SynchronizationJob;
 import org.eclipse.buildship.core.internal.workspace.SynchronizingBuildScriptUpdateListener;
+import org.eclipse.buildship.core.internal.workspace.WorkspaceProjectIndex;
 import org.eclipse.buildship.core.internal.workspace.WorkspaceOperations;
 import org.eclipse.buildship.core.invocation.InvocationCustomizer;
 
@@ -102,9 +107,15 @@ public final class CorePlugin extends Plugin {
     private ServiceTracker gradleLaunchConfigurationServiceTracker;
     private ServiceTracker listenerRegistryServiceTracker;
 
+    private WorkspaceProjectIndex workspaceProjectIndex;
     private DefaultModelPersistence modelPersistence;
+    private ModelCache modelCache;
+    private ModelSnapshotStore modelSnapshotStore;
+    private ProjectConnectionPool projectConnectionPool;
     private ProjectChangeListener projectChangeListener;
     private SynchronizingBuildScriptUpdateListener buildScriptUpdateListener;
+    private ChangedPathsCollector changedPathsCollector;
+    private DaemonWarmUp daemonWarmUp;
     private InvocationCustomizer invocationCustomizer;
     private ConfigurationManager configurationManager;
     private DefaultExternalLaunchConfigurationManager externalLaunchConfigurationManager;
@@ -152,6 +163,9 @@ public final class CorePlugin extends Plugin {
         this.gradleLaunchConfigurationServiceTracker = createServiceTracker(context, GradleLaunchConfigurationManager.class);
         this.listenerRegistryServiceTracker = createServiceTracker(context, ListenerRegistry.class);
 
+        // the workspace operations service looks up the projects in the index
+        this.workspaceProjectIndex = WorkspaceProjectIndex.createAndRegister();
+
         // register all services
         this.loggerService = registerService(context, Logger.class, createLogger(), preferences);
         this.publishedGradleVersionsService = registerService(context, PublishedGradleVersionsWrapper.class, createPublishedGradleVersions(), preferences);
@@ -162,13 +176,18 @@ public final class CorePlugin extends Plugin {
         this.listenerRegistryService = registerService(context, ListenerRegistry.class, createListenerRegistry(), preferences);
 
         this.modelPersistence = DefaultModelPersistence.createAndRegister();
+        this.modelCache = ModelCache.create();
+        this.modelSnapshotStore = ModelSnapshotStore.create();
+        this.projectConnectionPool = ProjectConnectionPool.createAndRegister();
         this.projectChangeListener = ProjectChangeListener.createAndRegister();
         this.buildScriptUpdateListener = SynchronizingBuildScriptUpdateListener.createAndRegister();
+        this.changedPathsCollector = ChangedPathsCollector.createAndRegister();
         this.invocationCustomizer = new InvocationCustomizerCollector();
         this.configurationManager = new DefaultConfigurationManager();
         this.externalLaunchConfigurationManager = DefaultExternalLaunchConfigurationManager.createAndRegister();
         this.operationManager = new DefaultToolingApiOperationManager();
         this.extensionManager = new DefaultExtensionManager();
+        this.daemonWarmUp = DaemonWarmUp.startIfEnabled();
     }
 
     private ServiceTracker createServiceTracker(BundleContext context, Class<?> clazz) {
@@ -229,6 +248,7 @@ public final class CorePlugin extends Plugin {
                 InternalGradleBuild gradleBuild = CorePlugin.internalGradleWorkspace().getGradleBuild(config);
                 if (!((DefaultGradleBuild) gradleBuild).isSynchronizing()) {
                     SynchronizationJob job = new SynchronizationJob(gradleBuild);
+                    job.setAutomatic(true);
                     job.setUser(false);
                     job.schedule();
                 }
@@ -237,9 +257,15 @@ public final class CorePlugin extends Plugin {
     }
 
     private void unregisterServices() {
+        if (this.daemonWarmUp != null) {
+            this.daemonWarmUp.cancel();
+        }
         this.externalLaunchConfigurationManager.unregister();
+        this.changedPathsCollector.close();
         this.buildScriptUpdateListener.close();
         this.projectChangeListener.close();
+        this.projectConnectionPool.close();
+        this.modelCache.invalidateAll();
         this.modelPersistence.close();
         this.listenerRegistryService.unregister();
         this.gradleLaunchConfigurationService.unregister();
@@ -248,6 +274,7 @@ public final class CorePlugin extends Plugin {
         this.workspaceOperationsService.unregister();
         this.publishedGradleVersionsService.unregister();
         this.loggerService.unregister();
+        this.workspaceProjectIndex.close();
 
         this.listenerRegistryServiceTracker.close();
         this.gradleLaunchConfigurationServiceTracker.close();
@@ -294,6 +321,26 @@ public final class CorePlugin extends Plugin {
         return getInstance().modelPersistence;
     }
 
+    public static ModelCache modelCache() {
+        return getInstance().modelCache;
+    }
+
+    public static ModelSnapshotStore modelSnapshotStore() {
+        return getInstance().modelSnapshotStore;
+    }
+
+    public static ProjectConnectionPool projectConnectionPool() {
+        return getInstance().projectConnectionPool;
+    }
+
+    public static WorkspaceProjectIndex workspaceProjectIndex() {
+        return getInstance().workspaceProjectIndex;
+    }
+
+    public static ChangedPathsCollector changedPathsCollector() {
+        return getInstance().changedPathsCollector;
+    }
+
     public static InvocationCustomizer invocationCustomizer() {
         return getInstance().invocationCustomizer;
     }
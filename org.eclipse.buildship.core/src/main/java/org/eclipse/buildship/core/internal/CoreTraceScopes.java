@@ -15,7 +15,8 @@ package org.eclipse.buildship.core.internal;
 public enum CoreTraceScopes implements TraceScope {
     CLASSPATH("classpath"),
     PREFERENCES("preferences"),
-    PROJECT_CONFIGURATORS("projectConfigurators");
+    PROJECT_CONFIGURATORS("projectConfigurators"),
+    TOOLING_API("toolingApi");
 
     private final String scopeKey;
 
@@ -10,13 +10,16 @@
 package org.eclipse.buildship.core.internal;
 
 import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.gradle.tooling.BuildLauncher;
 import org.gradle.tooling.CancellationTokenSource;
@@ -27,24 +30,29 @@ import org.gradle.tooling.model.build.BuildEnvironment;
 import org.gradle.tooling.model.eclipse.EclipseProject;
 
 import com.google.common.base.Preconditions;
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 
-import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 
 import org.eclipse.buildship.core.SynchronizationResult;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
 import org.eclipse.buildship.core.internal.configuration.GradleArguments;
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
+import org.eclipse.buildship.core.internal.configuration.ProjectConfiguration;
+import org.eclipse.buildship.core.internal.configuration.ProjectFilter;
 import org.eclipse.buildship.core.internal.configuration.RunConfiguration;
 import org.eclipse.buildship.core.internal.configuration.TestRunConfiguration;
+import org.eclipse.buildship.core.internal.extension.InternalProjectConfigurator;
 import org.eclipse.buildship.core.internal.gradle.GradleProgressAttributes;
 import org.eclipse.buildship.core.internal.marker.GradleErrorMarker;
 import org.eclipse.buildship.core.internal.marker.GradleMarkerManager;
@@ -52,6 +60,8 @@ import org.eclipse.buildship.core.internal.operation.BaseToolingApiOperation;
 import org.eclipse.buildship.core.internal.operation.ToolingApiStatus;
 import org.eclipse.buildship.core.internal.util.gradle.HierarchicalElementUtils;
 import org.eclipse.buildship.core.internal.util.gradle.IdeAttachedProjectConnection;
+import org.eclipse.buildship.core.internal.util.gradle.ModelSnapshotStore;
+import org.eclipse.buildship.core.internal.workspace.ConfiguratorModels;
 import org.eclipse.buildship.core.internal.workspace.ConnectionAwareLauncherProxy;
 import org.eclipse.buildship.core.internal.workspace.DefaultModelProvider;
 import org.eclipse.buildship.core.internal.workspace.FetchStrategy;
@@ -62,23 +72,25 @@ import org.eclipse.buildship.core.internal.workspace.NewProjectHandler;
 import org.eclipse.buildship.core.internal.workspace.ProjectConfigurators;
 import org.eclipse.buildship.core.internal.workspace.RunOnImportTasksOperation;
 import org.eclipse.buildship.core.internal.workspace.SynchronizationProblem;
+import org.eclipse.buildship.core.internal.workspace.SynchronizationProfiler;
+import org.eclipse.buildship.core.internal.workspace.SynchronizationProfiler.Activation;
 import org.eclipse.buildship.core.internal.workspace.SynchronizeGradleBuildOperation;
 import org.eclipse.buildship.core.internal.workspace.ValidateProjectLocationOperation;
 
 public final class DefaultGradleBuild implements InternalGradleBuild {
-    private static Map<File, SynchronizeOperation> syncOperations = new ConcurrentHashMap<>();
-
-    // TODO (donat) Now, we have two caches: one for the project configurators and that lives within
-    // a synchronization (projectConnectionCache field) and one that lives forever (modelProvider).
-    // We should revisit this at some point and unify them.
+    // both caches are regions of the workspace-wide model cache: the model provider entries live until evicted,
+    // the project connection entries are only used by the project configurators during a synchronization
+    private final ModelCache.Region modelCache;
     private final ModelProvider modelProvider;
-    private final Cache<Object, Object> projectConnectionCache;
+    private final ModelCache.Region projectConnectionCache;
     private final org.eclipse.buildship.core.internal.configuration.BuildConfiguration buildConfig;
+    private final AtomicReference<PrefetchedModels> prefetchedModels = new AtomicReference<>();
 
     public DefaultGradleBuild(org.eclipse.buildship.core.internal.configuration.BuildConfiguration buildConfiguration) {
         this.buildConfig = buildConfiguration;
-        this.modelProvider = new DefaultModelProvider(this);
-        this.projectConnectionCache = CacheBuilder.newBuilder().build();
+        this.modelCache = CorePlugin.modelCache().region(buildConfiguration, ModelCache.Scope.BUILD);
+        this.modelProvider = new DefaultModelProvider(this, this.modelCache, CorePlugin.modelSnapshotStore());
+        this.projectConnectionCache = CorePlugin.modelCache().region(buildConfiguration, ModelCache.Scope.SYNCHRONIZATION);
     }
 
     @Override
@@ -87,6 +99,27 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
     }
 
     public SynchronizationResult synchronize(NewProjectHandler newProjectHandler, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+        return synchronize(newProjectHandler, false, tokenSource, monitor);
+    }
+
+    /**
+     * Synchronizes the build with the workspace.
+     * <p/>
+     * Automatic synchronizations, e.g. the ones triggered by build script changes, reuse the models
+     * of the last synchronization if the build inputs are unchanged, see {@link BuildInputFingerprint}.
+     * If the models are no longer in memory, e.g. after a restart, an automatic synchronization is
+     * skipped altogether if the build inputs match the fingerprint stored by the last successful
+     * synchronization and all workspace projects of the build have a persisted model. The other
+     * synchronizations always reload the models, as the fingerprint doesn't cover every input of the
+     * build.
+     *
+     * @param newProjectHandler the handler for the new projects
+     * @param automatic {@code true} if the synchronization was not requested by the user
+     * @param tokenSource the cancellation token source
+     * @param monitor the monitor to report progress on
+     * @return the result of the synchronization
+     */
+    public SynchronizationResult synchronize(NewProjectHandler newProjectHandler, boolean automatic, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
         IStatus toolingApiCompatibilityStatus = CompatibilityChecker.validateToolingApiCompatibility(this, this.buildConfig, monitor);
         if (!toolingApiCompatibilityStatus.isOK()) {
             return DefaultSynchronizationResult.from(toolingApiCompatibilityStatus);
@@ -94,22 +127,96 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
 
         monitor = monitor != null ? monitor : new NullProgressMonitor();
 
-        SynchronizeOperation operation = new SynchronizeOperation(this, newProjectHandler);
-        SynchronizeOperation runningOperation = syncOperations.putIfAbsent(getBuildConfig().getRootProjectDirectory(), operation);
+        IProgressMonitor progress = monitor;
+        SynchronizationCoordinator coordinator = SynchronizationCoordinator.forRootDirectory(getBuildConfig().getRootProjectDirectory());
+        return coordinator.synchronize(newProjectHandler, automatic, tokenSource, new SynchronizationCoordinator.Action() {
+
+            @Override
+            public SynchronizationResult run(NewProjectHandler handler, CancellationTokenSource executionTokenSource, SynchronizationCoordinator.Execution execution) {
+                return new SynchronizeOperation(DefaultGradleBuild.this, handler, execution).run(executionTokenSource, progress);
+            }
+
+            @Override
+            public SynchronizationResult alreadyRunning() {
+                return DefaultSynchronizationResult.success();
+            }
+        });
+    }
 
-        if (runningOperation != null && (newProjectHandler == NewProjectHandler.NO_OP || Objects.equals(newProjectHandler, runningOperation.newProjectHandler))) {
-            return DefaultSynchronizationResult.success();
+    /**
+     * Loads the models for the next synchronization of this build without holding any scheduling
+     * rule, so that the models of independent builds can be loaded concurrently. The next
+     * {@link #synchronize(NewProjectHandler, boolean, CancellationTokenSource, IProgressMonitor)} call
+     * uses the loaded models if the build inputs didn't change in the meantime.
+     * <p/>
+     * For automatic synchronizations, nothing is loaded if the build inputs are unchanged since the
+     * last synchronization, as the synchronization reuses the previous models in that case. Nothing
+     * is loaded either if the build is being synchronized: the running synchronization loads the
+     * models and runs the synchronization tasks itself.
+     *
+     * @param automatic {@code true} if the models are loaded for an automatic synchronization
+     * @param tokenSource the cancellation token source
+     * @param monitor the monitor to report progress on
+     * @throws Exception if the models cannot be loaded
+     */
+    public void prefetchModels(boolean automatic, CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
+        if (!this.buildConfig.getProjectFilter().isSelectingAll()) {
+            // the excluded projects have to be substituted, which the synchronization takes care of
+            return;
+        }
+        if (isSynchronizing()) {
+            CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Not prefetching the models of " + this.buildConfig.getRootProjectDirectory() + " as the build is being synchronized");
+            return;
+        }
+        SynchronizedModel previousModel = (SynchronizedModel) this.modelCache.getIfPresent(SynchronizedModel.class);
+        if (automatic && previousModel != null && previousModel.getFingerprint() != null && BuildInputFingerprint.isEnabled()
+                && previousModel.getFingerprint().equals(BuildInputFingerprint.compute(this.buildConfig, previousModel.getProjects()))) {
+            return;
         }
 
+        SubMonitor progress = SubMonitor.convert(monitor, 2);
+        // the detector stays active until the synchronization takes the models, which are discarded if the build inputs changed
+        BuildInputChangeDetector changeDetector = BuildInputChangeDetector.start();
         try {
-            return operation.run(tokenSource, monitor);
-        } finally {
-            syncOperations.remove(this.getBuildConfig().getRootProjectDirectory());
+            ToolingApiSystemProperties.withSyncActive(() -> {
+                this.modelProvider.fetchModel(BuildEnvironment.class, FetchStrategy.FORCE_RELOAD, tokenSource, progress.newChild(1));
+                Map<String, EclipseProject> rootModels = this.modelProvider.fetchEclipseProjectAndRunSyncTasks(tokenSource, progress.newChild(1));
+                String fingerprint = BuildInputFingerprint.isEnabled() ? BuildInputFingerprint.compute(this.buildConfig, collectAll(rootModels)) : null;
+                PrefetchedModels previous = this.prefetchedModels.getAndSet(new PrefetchedModels(fingerprint, rootModels, changeDetector));
+                if (previous != null) {
+                    previous.close();
+                }
+            });
+        } catch (Exception e) {
+            changeDetector.close();
+            throw e;
         }
     }
 
+    /**
+     * Discards the models loaded by {@link #prefetchModels(boolean, CancellationTokenSource, IProgressMonitor)}
+     * if no synchronization used them.
+     */
+    public void discardPrefetchedModels() {
+        PrefetchedModels prefetchedModels = this.prefetchedModels.getAndSet(null);
+        if (prefetchedModels != null) {
+            prefetchedModels.close();
+        }
+    }
+
+    /**
+     * Returns the directories of the projects loaded by the last synchronization, including the
+     * projects of the included builds.
+     *
+     * @return the project directories, or an empty set if the build was not synchronized yet
+     */
+    public Set<File> getSynchronizedProjectDirectories() {
+        SynchronizedModel model = (SynchronizedModel) this.modelCache.getIfPresent(SynchronizedModel.class);
+        return model != null ? SynchronizeOperation.projectDirectories(model.getProjects()) : ImmutableSet.of();
+    }
+
     public boolean isSynchronizing() {
-        return syncOperations.containsKey(this.getBuildConfig().getRootProjectDirectory());
+        return SynchronizationCoordinator.isSynchronizing(this.getBuildConfig().getRootProjectDirectory());
     }
 
     @Override
@@ -142,14 +249,26 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
 
     @Override
     public BuildLauncher newBuildLauncher(RunConfiguration runConfiguration, GradleProgressAttributes progressAttributes) {
+        notifyDaemonsAboutChangedPaths();
         return ConnectionAwareLauncherProxy.newBuildLauncher(runConfiguration.toGradleArguments(), progressAttributes);
     }
 
     @Override
     public TestLauncher newTestLauncher(TestRunConfiguration testRunConfiguration, GradleProgressAttributes progressAttributes) {
+        notifyDaemonsAboutChangedPaths();
         return ConnectionAwareLauncherProxy.newTestLauncher(testRunConfiguration.toGradleArguments(), progressAttributes);
     }
 
+    private void notifyDaemonsAboutChangedPaths() {
+        if (!CorePlugin.changedPathsCollector().hasChangedPaths(this.buildConfig)) {
+            return;
+        }
+        // the notification reaches all daemons compatible with the connection, including the one executing the launch
+        try (ProjectConnection connection = CorePlugin.projectConnectionPool().acquire(this.buildConfig)) {
+            CorePlugin.changedPathsCollector().flush(this.buildConfig, connection);
+        }
+    }
+
     @Override
     public org.eclipse.buildship.core.internal.configuration.BuildConfiguration getBuildConfig() {
         return this.buildConfig;
@@ -180,18 +299,32 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
      */
     private static class SynchronizeOperation extends BaseToolingApiOperation {
 
+        private static final int MAX_FETCH_ATTEMPTS = 3;
+
         private final DefaultGradleBuild gradleBuild;
         private final NewProjectHandler newProjectHandler;
+        private final SynchronizationCoordinator.Execution execution;
         private List<SynchronizationProblem> failures;
-
-        public SynchronizeOperation(DefaultGradleBuild gradleBuild, NewProjectHandler newProjectHandler) {
+        private Set<EclipseProject> previousProjects;
+        private Map<String, EclipseProject> rootModels;
+        private Set<EclipseProject> allProjects;
+        private List<InternalProjectConfigurator> configurators;
+        private ConfiguratorModels configuratorModels;
+        private String fingerprint;
+        private boolean upToDate;
+        private boolean skipped;
+        private SynchronizationProfiler profiler;
+
+        public SynchronizeOperation(DefaultGradleBuild gradleBuild, NewProjectHandler newProjectHandler, SynchronizationCoordinator.Execution execution) {
             super("Synchronize project " + gradleBuild.getBuildConfig().getRootProjectDirectory().getName());
             this.gradleBuild = gradleBuild;
             this.newProjectHandler = newProjectHandler;
+            this.execution = execution;
         }
 
         SynchronizationResult run(CancellationTokenSource tokenSource, IProgressMonitor monitor) {
             GradleMarkerManager.clear(this.gradleBuild);
+            this.profiler = SynchronizationProfiler.start(this.gradleBuild.getBuildConfig());
             DefaultSynchronizationResult result;
             try {
                 CorePlugin.operationManager().run(this, tokenSource, monitor);
@@ -215,6 +348,7 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
                 CorePlugin.getInstance().getLog().log(result.status);
             }
 
+            this.profiler.finish(result.status);
             return result;
         }
 
@@ -225,27 +359,252 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
         @Override
         public void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
             ToolingApiSystemProperties.withSyncActive(() -> {
+                boolean succeeded = false;
+                Activation activation = this.profiler.activate();
                 try {
                     SubMonitor progress = SubMonitor.convert(monitor, 6);
                     progress.setTaskName((String.format("Synchronizing Gradle build at %s with workspace", this.gradleBuild.getBuildConfig().getRootProjectDirectory())));
-                    new ImportRootProjectOperation(this.gradleBuild.getBuildConfig(), this.newProjectHandler).run(progress.newChild(1));
-                    // Force caching the result
-                    // Note, that this is a TAPI client-side operation and does not trigger configuration
-                    this.gradleBuild.modelProvider.fetchModel(BuildEnvironment.class, FetchStrategy.FORCE_RELOAD, tokenSource, progress.newChild(1));
-                    Set<EclipseProject> allProjects = collectAll(this.gradleBuild.modelProvider.fetchEclipseProjectAndRunSyncTasks(tokenSource, progress.newChild(1)));
-                    new ValidateProjectLocationOperation(allProjects).run(progress.newChild(1));
-                    new RunOnImportTasksOperation(allProjects, this.gradleBuild.getBuildConfig()).run(progress.newChild(1), tokenSource);
-                    this.failures = new SynchronizeGradleBuildOperation(allProjects, this.gradleBuild, this.newProjectHandler,
-                            ProjectConfigurators.create(this.gradleBuild, CorePlugin.extensionManager().loadConfigurators())).run(progress.newChild(1));
+
+                    // the models are loaded without holding a scheduling rule so that the workspace stays editable while
+                    // Gradle configures the build; the workspace projects are configured afterwards under the workspace root rule,
+                    // see SynchronizeGradleBuildOperation
+                    this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Load models", null, () -> loadModels(tokenSource, progress.newChild(5)));
+                    if (!this.execution.startApplyingModels()) {
+                        // a newer synchronization request reloads the models, see SynchronizationCoordinator
+                        throw new OperationCanceledException();
+                    }
+                    if (this.skipped) {
+                        this.failures = ImmutableList.of();
+                        succeeded = true;
+                        return;
+                    }
+                    this.failures = this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Synchronize workspace projects", null,
+                            () -> new SynchronizeGradleBuildOperation(this.allProjects, this.gradleBuild, this.newProjectHandler,
+                                    ProjectConfigurators.create(this.gradleBuild, this.configurators, this.configuratorModels, this.profiler)).run(progress.newChild(1)));
+
+                    if (!this.upToDate) {
+                        storeModels(this.failures.stream().noneMatch(f -> f.getSeverity() == IStatus.ERROR));
+                    }
+                    succeeded = true;
                 } finally {
-                    this.gradleBuild.projectConnectionCache.invalidateAll();
+                    activation.deactivate();
+                    if (!succeeded) {
+                        this.gradleBuild.modelCache.invalidate(SynchronizedModel.class);
+                        this.gradleBuild.projectConnectionCache.invalidateAll();
+                        CorePlugin.modelSnapshotStore().deleteFingerprint(this.gradleBuild.getBuildConfig());
+                    }
                 }
             });
         }
 
+        /**
+         * Keeps the loaded models for the next automatic synchronization. The fingerprint is also
+         * stored in the plugin state location so that it survives the eviction of the models and
+         * restarts; it is deleted if the workspace doesn't reflect it, e.g. if the synchronization
+         * failed.
+         */
+        private void storeModels(boolean successful) {
+            ModelSnapshotStore snapshotStore = CorePlugin.modelSnapshotStore();
+            BuildConfiguration buildConfig = this.gradleBuild.getBuildConfig();
+            if (!successful) {
+                snapshotStore.deleteFingerprint(buildConfig);
+                return;
+            }
+
+            this.gradleBuild.modelCache.put(SynchronizedModel.class, new SynchronizedModel(this.fingerprint, this.rootModels, this.allProjects));
+            if (this.fingerprint != null) {
+                snapshotStore.saveFingerprint(buildConfig, new ModelSnapshotStore.Fingerprint(this.fingerprint, BuildInputFingerprint.buildRoots(this.allProjects), projectDirectories(this.allProjects)));
+            } else {
+                snapshotStore.deleteFingerprint(buildConfig);
+            }
+        }
+
+        private void loadModels(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws CoreException {
+            SubMonitor progress = SubMonitor.convert(monitor, 6);
+            this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Import root project", null,
+                    () -> new ImportRootProjectOperation(this.gradleBuild.getBuildConfig(), this.newProjectHandler).run(progress.newChild(1)));
+
+            SynchronizedModel previousModel = (SynchronizedModel) this.gradleBuild.modelCache.getIfPresent(SynchronizedModel.class);
+            this.previousProjects = previousModel != null ? previousModel.getProjects() : ImmutableSet.of();
+
+            // the fingerprint doesn't cover every build input, so a synchronization requested by the user always reloads the
+            // models; the fingerprint is only computed if it can be compared with the one of the last synchronization
+            if (!this.execution.isReloadRequired() && BuildInputFingerprint.isEnabled()) {
+                this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Compute build fingerprint", null, () -> {
+                    if (previousModel != null) {
+                        this.upToDate = previousModel.getFingerprint() != null
+                                && previousModel.getFingerprint().equals(BuildInputFingerprint.compute(this.gradleBuild.getBuildConfig(), this.previousProjects));
+                    } else {
+                        this.skipped = isUnchangedSinceStoredFingerprint();
+                    }
+                });
+            }
+            if (this.skipped) {
+                // the models are no longer in memory, but the workspace reflects the unchanged build inputs
+                CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Build inputs of " + this.gradleBuild.getBuildConfig().getRootProjectDirectory() + " are unchanged since the last session, skipping synchronization");
+                return;
+            }
+
+            // the models declared by the configurators are loaded along with the synchronization's models, without holding a scheduling rule
+            this.configurators = InternalProjectConfigurator.from(CorePlugin.extensionManager().loadConfigurators());
+            PrefetchedModels prefetchedModels = this.gradleBuild.prefetchedModels.getAndSet(null);
+            try {
+                if (this.upToDate) {
+                    // the build inputs didn't change since the last synchronization: reuse the models loaded back then, the
+                    // project configurators are served from the cached project connection results of the same synchronization
+                    CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Build inputs of " + this.gradleBuild.getBuildConfig().getRootProjectDirectory() + " are unchanged, skipping model queries");
+                    this.fingerprint = previousModel.getFingerprint();
+                    this.rootModels = previousModel.getRootModels();
+                    this.allProjects = this.previousProjects;
+                    progress.worked(2);
+                    loadConfiguratorModels(tokenSource, progress.newChild(1));
+                } else if (prefetchedModels != null && !prefetchedModels.hasChanges()) {
+                    // the models were loaded concurrently with other builds before the synchronization, see SynchronizationJob
+                    CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Using prefetched models of " + this.gradleBuild.getBuildConfig().getRootProjectDirectory());
+                    this.gradleBuild.modelCache.invalidate(SynchronizedModel.class);
+                    this.fingerprint = prefetchedModels.fingerprint;
+                    this.rootModels = prefetchedModels.rootModels;
+                    this.allProjects = collectAll(this.rootModels);
+                    progress.worked(2);
+                    loadConfiguratorModels(tokenSource, progress.newChild(1));
+                } else {
+                    this.gradleBuild.modelCache.invalidate(SynchronizedModel.class);
+                    fetchModels(tokenSource, progress.newChild(3));
+                }
+            } finally {
+                if (prefetchedModels != null) {
+                    prefetchedModels.close();
+                }
+            }
+
+            this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Validate project locations", null,
+                    () -> new ValidateProjectLocationOperation(this.allProjects).run(progress.newChild(1)));
+            if (!this.upToDate) {
+                this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Run on-import tasks", null,
+                        () -> new RunOnImportTasksOperation(this.allProjects, this.gradleBuild.getBuildConfig()).run(progress.newChild(1), tokenSource));
+            }
+        }
+
+        /**
+         * Returns whether the build inputs match the fingerprint stored by the last synchronization,
+         * e.g. in a previous session, and all workspace projects of the build were synchronized
+         * successfully back then.
+         */
+        private boolean isUnchangedSinceStoredFingerprint() {
+            BuildConfiguration buildConfig = this.gradleBuild.getBuildConfig();
+            ModelSnapshotStore.Fingerprint fingerprint = CorePlugin.modelSnapshotStore().loadFingerprint(buildConfig);
+            if (fingerprint == null) {
+                return false;
+            }
+
+            boolean hasProjects = false;
+            for (IProject project : CorePlugin.workspaceOperations().getAllProjects()) {
+                if (!GradleProjectNature.isPresentOn(project)) {
+                    continue;
+                }
+                ProjectConfiguration configuration = CorePlugin.configurationManager().tryLoadProjectConfiguration(project);
+                if (configuration != null && configuration.getBuildConfiguration().getRootProjectDirectory().equals(buildConfig.getRootProjectDirectory())) {
+                    if (!CorePlugin.modelPersistence().loadModel(project).isPresent()) {
+                        // e.g. the classpath containers of the project cannot be restored
+                        return false;
+                    }
+                    hasProjects = true;
+                }
+            }
+            return hasProjects && fingerprint.getValue().equals(BuildInputFingerprint.compute(buildConfig, fingerprint.getBuildRoots(), fingerprint.getProjectDirectories()));
+        }
+
+        /**
+         * Loads the models from Gradle, including the ones declared by the project configurators. As
+         * no scheduling rule is held, the workspace can change in the meantime; if the change affects
+         * the build inputs, the models are loaded again, at most {@link #MAX_FETCH_ATTEMPTS} times.
+         */
+        private void fetchModels(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws CoreException {
+            SubMonitor progress = SubMonitor.convert(monitor, MAX_FETCH_ATTEMPTS);
+            Set<EclipseProject> knownProjects = this.previousProjects;
+            for (int attempt = 1;; attempt++) {
+                if (progress.isCanceled()) {
+                    throw new OperationCanceledException();
+                }
+                try (BuildInputChangeDetector changeDetector = BuildInputChangeDetector.start()) {
+                    SubMonitor attemptProgress = progress.newChild(1).setWorkRemaining(3);
+                    this.gradleBuild.projectConnectionCache.invalidateAll();
+                    // Force caching the result
+                    // Note, that this is a TAPI client-side operation and does not trigger configuration
+                    this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Load build environment", null,
+                            () -> this.gradleBuild.modelProvider.fetchModel(BuildEnvironment.class, FetchStrategy.FORCE_RELOAD, tokenSource, attemptProgress.newChild(1)));
+                    Map<String, File> substitutedProjects = excludedProjects(knownProjects);
+                    this.rootModels = this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Load Eclipse models and run synchronization tasks", null,
+                            () -> this.gradleBuild.modelProvider.fetchEclipseProjectAndRunSyncTasks(substitutedProjects, tokenSource, attemptProgress.newChild(1)));
+                    this.allProjects = collectAll(this.rootModels);
+
+                    if (attempt < MAX_FETCH_ATTEMPTS && !substitutedProjects.keySet().containsAll(excludedProjects(this.allProjects).keySet())) {
+                        // the excluded projects are only known from the models, e.g. on the first import; query the models
+                        // again so that the dependencies on them are substituted with their jars
+                        CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Reloading the models of " + this.gradleBuild.getBuildConfig().getRootProjectDirectory() + " to substitute excluded projects");
+                        knownProjects = this.allProjects;
+                        continue;
+                    }
+                    loadConfiguratorModels(tokenSource, attemptProgress.newChild(1));
+                    // only the changes in the directories of the loaded projects are relevant, the inputs of other builds can change freely
+                    Set<File> buildDirectories = buildDirectories(this.allProjects);
+                    if (!changeDetector.hasChanges(buildDirectories)) {
+                        // the fingerprint is computed after the Gradle invocation so that it covers the project directories found
+                        // by it; the changes made before it was computed are reported by the detector
+                        this.fingerprint = computeFingerprint(this.allProjects);
+                        if (!changeDetector.hasChanges(buildDirectories)) {
+                            return;
+                        }
+                    }
+                    if (attempt == MAX_FETCH_ATTEMPTS) {
+                        // use the models, but don't reuse them for the next synchronization
+                        this.fingerprint = null;
+                        return;
+                    }
+                    CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Build inputs of " + this.gradleBuild.getBuildConfig().getRootProjectDirectory() + " changed while loading the models, reloading");
+                }
+            }
+        }
+
+        private void loadConfiguratorModels(CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+            this.configuratorModels = this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Load configurator models", null,
+                    () -> ConfiguratorModels.load(this.gradleBuild, this.rootModels, this.configurators, tokenSource, monitor));
+        }
+
+        private String computeFingerprint(Set<EclipseProject> projects) {
+            if (!BuildInputFingerprint.isEnabled()) {
+                return null;
+            }
+            return this.profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Compute build fingerprint", null,
+                    () -> BuildInputFingerprint.compute(this.gradleBuild.getBuildConfig(), projects));
+        }
+
+        private Map<String, File> excludedProjects(Set<EclipseProject> projects) {
+            BuildConfiguration buildConfig = this.gradleBuild.getBuildConfig();
+            ProjectFilter projectFilter = buildConfig.getProjectFilter();
+            Map<String, File> result = new HashMap<>();
+            for (EclipseProject project : projects) {
+                if (project.getProjectDirectory() != null && !projectFilter.isSelected(buildConfig.getRootProjectDirectory(), project)) {
+                    result.put(project.getName(), project.getProjectDirectory());
+                }
+            }
+            return result;
+        }
+
+        private static Set<File> buildDirectories(Set<EclipseProject> projects) {
+            Set<File> result = new HashSet<>(projectDirectories(projects));
+            result.addAll(BuildInputFingerprint.buildRoots(projects));
+            return result;
+        }
+
+        private static Set<File> projectDirectories(Set<EclipseProject> projects) {
+            return projects.stream().map(EclipseProject::getProjectDirectory).filter(Objects::nonNull).collect(Collectors.toSet());
+        }
+
         @Override
         public ISchedulingRule getRule() {
-            return ResourcesPlugin.getWorkspace().getRoot();
+            // the synchronization acquires the rules for its individual steps
+            return null;
         }
 
         @Override
@@ -269,6 +628,32 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
         }
     }
 
+    /**
+     * Models loaded for the next synchronization, along with the fingerprint of the build inputs
+     * they were loaded from and the detector reporting the changes since the models were loaded.
+     */
+    private static final class PrefetchedModels implements AutoCloseable {
+
+        private final String fingerprint;
+        private final Map<String, EclipseProject> rootModels;
+        private final BuildInputChangeDetector changeDetector;
+
+        PrefetchedModels(String fingerprint, Map<String, EclipseProject> rootModels, BuildInputChangeDetector changeDetector) {
+            this.fingerprint = fingerprint;
+            this.rootModels = rootModels;
+            this.changeDetector = changeDetector;
+        }
+
+        boolean hasChanges() {
+            return this.changeDetector.hasChanges(SynchronizeOperation.buildDirectories(collectAll(this.rootModels)));
+        }
+
+        @Override
+        public void close() {
+            this.changeDetector.close();
+        }
+    }
+
     private static Set<EclipseProject> collectAll(Map<String, EclipseProject> models) {
         ImmutableSet.Builder<EclipseProject> result = ImmutableSet.builder();
         for (Entry<String, EclipseProject> model : models.entrySet()) {
@@ -329,7 +714,7 @@ public final class DefaultGradleBuild implements InternalGradleBuild {
 
         @Override
         public void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
-            // TODO (donat) use AutoCloseable once we update to Tooling API 5.0
+            // the connection is leased from the project connection pool, closing it releases the lease
             ProjectConnection connection = IdeAttachedProjectConnection.newInstance(tokenSource, getGradleArguments(), DefaultGradleBuild.this, monitor);
             if (isSynchronizing()) {
                 connection = new CachingProjectConnection(connection, DefaultGradleBuild.this.projectConnectionCache);
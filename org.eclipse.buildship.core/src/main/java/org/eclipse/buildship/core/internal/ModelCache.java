@@ -0,0 +1,556 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.gradle.tooling.BuildCancelledException;
+import org.gradle.tooling.CancellationToken;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+
+/**
+ * Workspace-wide cache for the models loaded from the Gradle builds.
+ * <p/>
+ * All builds share the same memory budget. The size of each entry is approximated by the
+ * {@link ModelWeigher}; when the budget is exceeded, the least recently used entries are evicted.
+ * Entries that were not accessed for the configured time are evicted too.
+ * <p/>
+ * Clients access the cache through {@link Region} instances that scope the entries to a build and
+ * to a lifetime (see {@link Scope}).
+ * <p/>
+ * Concurrent loads of the same entry and variant are coalesced: the first caller executes the
+ * loader and the others wait for its result instead of starting another Gradle invocation. The
+ * variant distinguishes loads storing their result under the same entry but querying Gradle
+ * differently, e.g. with or without running tasks. If the loading caller is cancelled, one of the
+ * waiting callers takes over the load; other failures are propagated to all callers. The same
+ * applies to the asynchronous loads, which don't block the calling thread.
+ * <p/>
+ * Reloads never join a load in progress, as it may have started before the change that triggered
+ * the reload. Loads are numbered in the order they start, and a load only replaces the cached
+ * value if no later started load stored its result already.
+ */
+public final class ModelCache {
+
+    /**
+     * System property to override the approximate memory budget of the cache in megabytes.
+     */
+    public static final String MAXIMUM_SIZE_PROPERTY = "org.eclipse.buildship.core.modelCache.maximumSize";
+
+    /**
+     * System property to override the time in minutes after which unused entries are evicted.
+     */
+    public static final String EXPIRATION_PROPERTY = "org.eclipse.buildship.core.modelCache.expireAfterAccess";
+
+    private static final long DEFAULT_MAXIMUM_SIZE_MB = 128;
+    private static final long DEFAULT_EXPIRATION_MINUTES = 8 * 60;
+
+    /**
+     * The lifetime of the cached entries.
+     */
+    public enum Scope {
+
+        /**
+         * Entries stay in the cache until they are evicted or the build is invalidated.
+         */
+        BUILD,
+
+        /**
+         * Entries are only used during synchronizations. They are invalidated when a synchronization
+         * reloads the models from Gradle or fails.
+         */
+        SYNCHRONIZATION
+    }
+
+    private static final long CANCELLATION_POLL_INTERVAL_MILLIS = 100;
+
+    private final Cache<Key, Object> cache;
+    private final ConcurrentMap<LoadKey, InFlightLoad> inFlightLoads = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, Long> cachedLoadSequences = new ConcurrentHashMap<>();
+    private final AtomicLong loadSequence = new AtomicLong();
+
+    ModelCache(long maximumWeight, long expireAfterAccessMillis) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher(new ModelWeigher())
+                .expireAfterAccess(expireAfterAccessMillis, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns a view of the cache containing the entries of the target build with the given
+     * lifetime.
+     *
+     * @param buildConfiguration the build owning the entries
+     * @param scope the lifetime of the entries
+     * @return the cache region, never null
+     */
+    public Region region(BuildConfiguration buildConfiguration, Scope scope) {
+        return new Region(Preconditions.checkNotNull(buildConfiguration), Preconditions.checkNotNull(scope));
+    }
+
+    /**
+     * Removes all entries belonging to the target build, regardless of their scope.
+     *
+     * @param buildConfiguration the target build
+     */
+    public void invalidate(BuildConfiguration buildConfiguration) {
+        invalidateMatching(key -> key.buildConfiguration.equals(buildConfiguration));
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+        this.cachedLoadSequences.clear();
+    }
+
+    /**
+     * Returns the hit, miss and eviction statistics of the cache.
+     *
+     * @return the statistics snapshot
+     */
+    public CacheStats getStats() {
+        return this.cache.stats();
+    }
+
+    /**
+     * Returns the approximate number of entries in the cache.
+     *
+     * @return the number of entries
+     */
+    public long size() {
+        return this.cache.size();
+    }
+
+    private void invalidateMatching(Predicate<Key> predicate) {
+        this.cache.asMap().keySet().removeIf(predicate);
+        this.cachedLoadSequences.keySet().removeIf(predicate);
+    }
+
+    private Object load(LoadKey key, Callable<?> loader, boolean reload, CancellationToken token) {
+        while (true) {
+            if (!reload) {
+                Object cachedValue = this.cache.getIfPresent(key.key);
+                if (cachedValue != null) {
+                    return cachedValue;
+                }
+            }
+
+            InFlightLoad load = new InFlightLoad(this.loadSequence.incrementAndGet());
+            InFlightLoad inFlightLoad = register(key, load, reload);
+            if (inFlightLoad == null) {
+                return executeLoad(key, loader, load);
+            }
+
+            try {
+                return awaitLoad(inFlightLoad.future, token);
+            } catch (RuntimeException e) {
+                if (!isCancellation(e) || isCancellationRequested(token)) {
+                    throw e;
+                }
+                // the loading caller was cancelled but this one wasn't: retry the load
+            }
+        }
+    }
+
+    /**
+     * Registers the load unless a load that can be joined is in progress.
+     *
+     * @return the load in progress to join, or {@code null} if the caller has to execute the load
+     */
+    private InFlightLoad register(LoadKey key, InFlightLoad load, boolean reload) {
+        if (reload) {
+            // the load in progress may not see the change the reload was requested for; later callers join the reload
+            this.inFlightLoads.put(key, load);
+            return null;
+        }
+        return this.inFlightLoads.putIfAbsent(key, load);
+    }
+
+    private Object executeLoad(LoadKey key, Callable<?> loader, InFlightLoad load) {
+        Object value;
+        try {
+            value = loader.call();
+        } catch (Exception e) {
+            RuntimeException failure = e instanceof RuntimeException ? (RuntimeException) e : new GradlePluginsRuntimeException(e);
+            completeLoad(key, load, null, failure);
+            throw failure;
+        } catch (Error e) {
+            completeLoad(key, load, null, e);
+            throw e;
+        }
+        completeLoad(key, load, value, null);
+        return value;
+    }
+
+    private CompletableFuture<Object> loadAsync(LoadKey key, Supplier<? extends CompletableFuture<?>> loader, boolean reload, CancellationToken token) {
+        if (!reload) {
+            Object cachedValue = this.cache.getIfPresent(key.key);
+            if (cachedValue != null) {
+                return CompletableFuture.completedFuture(cachedValue);
+            }
+        }
+
+        InFlightLoad load = new InFlightLoad(this.loadSequence.incrementAndGet());
+        InFlightLoad inFlightLoad = register(key, load, reload);
+        if (inFlightLoad == null) {
+            CompletableFuture<?> loading;
+            try {
+                loading = loader.get();
+            } catch (RuntimeException e) {
+                loading = CompletableFuture.failedFuture(e);
+            }
+            loading.whenComplete((value, failure) -> completeLoad(key, load, value, unwrap(failure)));
+            // clients cancelling the returned future must not affect the other callers
+            return load.future.copy();
+        }
+
+        return inFlightLoad.future.handle((value, failure) -> {
+            if (failure == null) {
+                return CompletableFuture.completedFuture(value);
+            }
+            Throwable cause = unwrap(failure);
+            if (isCancellation(cause) && !isCancellationRequested(token)) {
+                // the loading caller was cancelled but this one wasn't: retry the load
+                return loadAsync(key, loader, reload, token);
+            }
+            return CompletableFuture.<Object>failedFuture(cause);
+        }).thenCompose(Function.identity());
+    }
+
+    private void completeLoad(LoadKey key, InFlightLoad load, Object value, Throwable failure) {
+        // the in-flight load is removed before completion so that retrying callers start a new one
+        if (failure == null && value != null) {
+            putIfLatest(key.key, load.sequence, value);
+        }
+        this.inFlightLoads.remove(key, load);
+        if (failure == null) {
+            load.future.complete(value);
+        } else {
+            load.future.completeExceptionally(failure);
+        }
+    }
+
+    private void putIfLatest(Key key, long sequence, Object value) {
+        this.cachedLoadSequences.compute(key, (k, cachedSequence) -> {
+            if (cachedSequence != null && cachedSequence > sequence) {
+                // a load that started later already stored a more recent value
+                return cachedSequence;
+            }
+            this.cache.put(key, value);
+            return sequence;
+        });
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private static Object awaitLoad(CompletableFuture<Object> inFlightLoad, CancellationToken token) {
+        while (true) {
+            if (isCancellationRequested(token)) {
+                throw new BuildCancelledException("Model loading was cancelled.");
+            }
+
+            try {
+                return inFlightLoad.get(CANCELLATION_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // check the cancellation token again
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OperationCanceledException();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                } else {
+                    throw new GradlePluginsRuntimeException(cause);
+                }
+            }
+        }
+    }
+
+    private static boolean isCancellationRequested(CancellationToken token) {
+        return token != null && token.isCancellationRequested();
+    }
+
+    private static boolean isCancellation(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof BuildCancelledException || t instanceof OperationCanceledException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static ModelCache create() {
+        long maximumSizeMb = Long.getLong(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE_MB);
+        long expirationMinutes = Long.getLong(EXPIRATION_PROPERTY, DEFAULT_EXPIRATION_MINUTES);
+        return new ModelCache(Math.max(maximumSizeMb, 0) * 1024 * 1024, TimeUnit.MINUTES.toMillis(Math.max(expirationMinutes, 0)));
+    }
+
+    /**
+     * Entries of a single build with the same lifetime.
+     */
+    public final class Region {
+
+        private final BuildConfiguration buildConfiguration;
+        private final Scope scope;
+
+        private Region(BuildConfiguration buildConfiguration, Scope scope) {
+            this.buildConfiguration = buildConfiguration;
+            this.scope = scope;
+        }
+
+        public Object getIfPresent(Object key) {
+            return ModelCache.this.cache.getIfPresent(newKey(key));
+        }
+
+        public void put(Object key, Object value) {
+            putIfLatest(newKey(key), ModelCache.this.loadSequence.incrementAndGet(), value);
+        }
+
+        /**
+         * Returns the cached entry, loading it if it's absent. Concurrent loads of the same entry
+         * share a single invocation of the loader.
+         *
+         * @param key the entry key
+         * @param loader loads the value if the entry is absent
+         * @param token the cancellation token of the caller, can be null
+         * @return the cached or loaded value
+         * @throws RuntimeException the failure of the loader; checked exceptions are wrapped in a
+         *             {@link GradlePluginsRuntimeException}
+         */
+        public Object get(Object key, Callable<?> loader, CancellationToken token) {
+            return get(key, null, loader, token);
+        }
+
+        /**
+         * Variant of {@link #get(Object, Callable, CancellationToken)} that only shares a load in
+         * progress with the callers passing an equal variant.
+         *
+         * @param key the entry key
+         * @param variant identifies the kind of load, can be null
+         * @param loader loads the value if the entry is absent
+         * @param token the cancellation token of the caller, can be null
+         * @return the cached or loaded value
+         */
+        public Object get(Object key, Object variant, Callable<?> loader, CancellationToken token) {
+            return load(newLoadKey(key, variant), loader, false, token);
+        }
+
+        /**
+         * Loads the entry and replaces the cached value. A load of the same entry that is already in
+         * progress is not joined, as it may have started before the change that requires the reload;
+         * the callers requesting the entry afterwards share the reload instead.
+         *
+         * @param key the entry key
+         * @param loader loads the value
+         * @param token the cancellation token of the caller, can be null
+         * @return the loaded value
+         * @throws RuntimeException the failure of the loader; checked exceptions are wrapped in a
+         *             {@link GradlePluginsRuntimeException}
+         */
+        public Object reload(Object key, Callable<?> loader, CancellationToken token) {
+            return reload(key, null, loader, token);
+        }
+
+        /**
+         * Variant of {@link #reload(Object, Callable, CancellationToken)} whose load is only shared
+         * with the callers passing an equal variant.
+         *
+         * @param key the entry key
+         * @param variant identifies the kind of load, can be null
+         * @param loader loads the value
+         * @param token the cancellation token of the caller, can be null
+         * @return the loaded value
+         */
+        public Object reload(Object key, Object variant, Callable<?> loader, CancellationToken token) {
+            return load(newLoadKey(key, variant), loader, true, token);
+        }
+
+        /**
+         * Asynchronous variant of {@link #get(Object, Callable, CancellationToken)}. The returned
+         * future completes with the cached value, or with the result of the future returned by the
+         * loader.
+         *
+         * @param key the entry key
+         * @param loader starts loading the value if the entry is absent
+         * @param token the cancellation token of the caller, can be null
+         * @return the future of the cached or loaded value
+         */
+        public CompletableFuture<Object> getAsync(Object key, Supplier<? extends CompletableFuture<?>> loader, CancellationToken token) {
+            return getAsync(key, null, loader, token);
+        }
+
+        /**
+         * Asynchronous variant of {@link #get(Object, Object, Callable, CancellationToken)}.
+         *
+         * @param key the entry key
+         * @param variant identifies the kind of load, can be null
+         * @param loader starts loading the value if the entry is absent
+         * @param token the cancellation token of the caller, can be null
+         * @return the future of the cached or loaded value
+         */
+        public CompletableFuture<Object> getAsync(Object key, Object variant, Supplier<? extends CompletableFuture<?>> loader, CancellationToken token) {
+            return loadAsync(newLoadKey(key, variant), loader, false, token);
+        }
+
+        /**
+         * Asynchronous variant of {@link #reload(Object, Callable, CancellationToken)}.
+         *
+         * @param key the entry key
+         * @param loader starts loading the value
+         * @param token the cancellation token of the caller, can be null
+         * @return the future of the loaded value
+         */
+        public CompletableFuture<Object> reloadAsync(Object key, Supplier<? extends CompletableFuture<?>> loader, CancellationToken token) {
+            return reloadAsync(key, null, loader, token);
+        }
+
+        /**
+         * Asynchronous variant of {@link #reload(Object, Object, Callable, CancellationToken)}.
+         *
+         * @param key the entry key
+         * @param variant identifies the kind of load, can be null
+         * @param loader starts loading the value
+         * @param token the cancellation token of the caller, can be null
+         * @return the future of the loaded value
+         */
+        public CompletableFuture<Object> reloadAsync(Object key, Object variant, Supplier<? extends CompletableFuture<?>> loader, CancellationToken token) {
+            return loadAsync(newLoadKey(key, variant), loader, true, token);
+        }
+
+        public void invalidate(Object key) {
+            ModelCache.this.cache.invalidate(newKey(key));
+        }
+
+        public void invalidateAll() {
+            invalidateMatching(key -> key.buildConfiguration.equals(this.buildConfiguration) && key.scope == this.scope);
+        }
+
+        private Key newKey(Object key) {
+            return new Key(this.buildConfiguration, this.scope, Preconditions.checkNotNull(key));
+        }
+
+        private LoadKey newLoadKey(Object key, Object variant) {
+            return new LoadKey(newKey(key), variant);
+        }
+    }
+
+    /**
+     * A load in progress, numbered in the order the loads started.
+     */
+    private static final class InFlightLoad {
+
+        private final long sequence;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        private InFlightLoad(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * Key of the loads in progress, qualifying the entry with the kind of load.
+     */
+    private static final class LoadKey {
+
+        private final Key key;
+        private final Object variant;
+
+        private LoadKey(Key key, Object variant) {
+            this.key = key;
+            this.variant = variant;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.key, this.variant);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            LoadKey other = (LoadKey) obj;
+            return this.key.equals(other.key) && Objects.equals(this.variant, other.variant);
+        }
+    }
+
+    /**
+     * Cache key qualified with the owner build and the scope.
+     */
+    private static final class Key {
+
+        private final BuildConfiguration buildConfiguration;
+        private final Scope scope;
+        private final Object key;
+
+        private Key(BuildConfiguration buildConfiguration, Scope scope, Object key) {
+            this.buildConfiguration = buildConfiguration;
+            this.scope = scope;
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.buildConfiguration, this.scope, this.key);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(this.buildConfiguration, other.buildConfiguration)
+                    && this.scope == other.scope
+                    && Objects.equals(this.key, other.key);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.gradle.tooling.model.GradleProject;
+import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.gradle.GradleBuild;
+
+import com.google.common.cache.Weigher;
+
+/**
+ * Approximates the retained heap size of the models stored in the {@link ModelCache}.
+ * <p/>
+ * The numbers are deliberately rough: they only have to be proportional to the actual size of the
+ * models, mostly {@link org.eclipse.buildship.core.internal.util.gradle.EclipseProjectSnapshot}
+ * instances, so that large builds are evicted before small ones.
+ */
+final class ModelWeigher implements Weigher<Object, Object> {
+
+    private static final long DEFAULT_WEIGHT = 1024;
+    private static final long ENTRY_WEIGHT = 64;
+    private static final long PROJECT_WEIGHT = 2048;
+    private static final long CLASSPATH_ENTRY_WEIGHT = 512;
+    private static final long PROJECT_DEPENDENCY_WEIGHT = 256;
+    private static final long SOURCE_DIRECTORY_WEIGHT = 384;
+    private static final long TASK_WEIGHT = 256;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight;
+        try {
+            weight = weightOf(value);
+        } catch (RuntimeException e) {
+            // some model elements are not available in older Gradle versions
+            weight = DEFAULT_WEIGHT;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, weight));
+    }
+
+    static long weightOf(Object value) {
+        if (value instanceof Map<?, ?>) {
+            long weight = 0;
+            for (Object element : ((Map<?, ?>) value).values()) {
+                weight += ENTRY_WEIGHT + weightOf(element);
+            }
+            return weight;
+        } else if (value instanceof Collection<?>) {
+            long weight = 0;
+            for (Object element : (Collection<?>) value) {
+                weight += ENTRY_WEIGHT + weightOf(element);
+            }
+            return weight;
+        } else if (value instanceof EclipseProject) {
+            return weightOf((EclipseProject) value);
+        } else if (value instanceof GradleProject) {
+            return weightOf((GradleProject) value);
+        } else if (value instanceof SynchronizedModel) {
+            // the set contains all projects, weigh the hierarchies starting from the root projects only
+            long weight = 0;
+            for (EclipseProject project : ((SynchronizedModel) value).getProjects()) {
+                weight += ENTRY_WEIGHT + (project.getParent() == null ? weightOf(project) : 0);
+            }
+            return weight;
+        } else if (value instanceof GradleBuild) {
+            return PROJECT_WEIGHT * ((GradleBuild) value).getProjects().size();
+        } else {
+            return DEFAULT_WEIGHT;
+        }
+    }
+
+    private static long weightOf(EclipseProject project) {
+        long weight = PROJECT_WEIGHT;
+        weight += CLASSPATH_ENTRY_WEIGHT * project.getClasspath().size();
+        weight += PROJECT_DEPENDENCY_WEIGHT * project.getProjectDependencies().size();
+        weight += SOURCE_DIRECTORY_WEIGHT * project.getSourceDirectories().size();
+        weight += TASK_WEIGHT * project.getGradleProject().getTasks().size();
+        for (EclipseProject child : project.getChildren()) {
+            weight += weightOf(child);
+        }
+        return weight;
+    }
+
+    private static long weightOf(GradleProject project) {
+        long weight = PROJECT_WEIGHT;
+        weight += TASK_WEIGHT * project.getTasks().size();
+        for (GradleProject child : project.getChildren()) {
+            weight += weightOf(child);
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,383 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.GradleConnector;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.buildship.core.SynchronizationResult;
+import org.eclipse.buildship.core.internal.workspace.NewProjectHandler;
+
+/**
+ * Coordinates the synchronizations of a single Gradle build.
+ * <p/>
+ * Each synchronization request gets a generation number. At most one synchronization runs at a
+ * time, and at most one follow-up is queued behind it: requests arriving while a follow-up is
+ * queued are merged into it, so rapid edits don't result in a chain of synchronizations.
+ * <p/>
+ * A follow-up supersedes the running synchronization if the latter is still loading the models:
+ * the running synchronization is cancelled through its own {@link CancellationTokenSource}, and its
+ * callers receive the result of the follow-up instead. Once a synchronization started to apply the
+ * models to the workspace, it is no longer cancelled and the follow-up runs after it.
+ * <p/>
+ * A request is only merged into a follow-up if their {@link NewProjectHandler}s are compatible, i.e.
+ * they are equal or one of them is {@link NewProjectHandler#NO_OP}. Otherwise, the request waits
+ * until the queued follow-up started. If any of the merged requests was not issued automatically,
+ * the synchronization reloads the models even if the build inputs are unchanged.
+ * <p/>
+ * The waiting callers can be cancelled through their own {@link CancellationTokenSource}. If the
+ * caller that queued the follow-up is cancelled, one of the callers merged into it runs the
+ * follow-up instead. The follow-up is only abandoned if no caller waits for it anymore. The
+ * cancellation of the caller running a synchronization is forwarded to the synchronization.
+ * <p/>
+ * A coordinator is discarded once no caller uses it anymore; the next request for the same build
+ * creates a new one.
+ */
+final class SynchronizationCoordinator {
+
+    private static final long CANCELLATION_POLL_INTERVAL_MILLIS = 100;
+
+    private static final Map<File, SynchronizationCoordinator> coordinators = new ConcurrentHashMap<>();
+
+    private static final ScheduledExecutorService cancellationForwarder = Executors
+            .newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setNameFormat("Buildship synchronization cancellation").setDaemon(true).build());
+
+    private final File rootProjectDirectory;
+    private long lastGeneration;
+    private Execution running;
+    private Execution followUp;
+    private int users;
+    private boolean discarded;
+
+    private SynchronizationCoordinator(File rootProjectDirectory) {
+        this.rootProjectDirectory = rootProjectDirectory;
+    }
+
+    static SynchronizationCoordinator forRootDirectory(File rootProjectDirectory) {
+        return coordinators.computeIfAbsent(rootProjectDirectory, SynchronizationCoordinator::new);
+    }
+
+    /**
+     * Returns whether a synchronization of the target build is running.
+     *
+     * @param rootProjectDirectory the root project directory of the build
+     * @return {@code true} if the build is being synchronized
+     */
+    static boolean isSynchronizing(File rootProjectDirectory) {
+        SynchronizationCoordinator coordinator = coordinators.get(rootProjectDirectory);
+        return coordinator != null && coordinator.isSynchronizing();
+    }
+
+    synchronized boolean isSynchronizing() {
+        return this.running != null;
+    }
+
+    /**
+     * Requests a synchronization and waits for its result.
+     *
+     * @param newProjectHandler the new project handler of the request
+     * @param automatic {@code false} if the synchronization was requested by the user and has to
+     *            reload the models, {@code true} if the models can be reused when the build inputs
+     *            are unchanged
+     * @param tokenSource the cancellation token source of the caller; if it is cancelled while the
+     *            caller waits, the caller stops waiting, if it is cancelled while the caller runs
+     *            the synchronization, so is the synchronization
+     * @param action the synchronization to execute
+     * @return the result of the synchronization that covered the request
+     * @throws OperationCanceledException if the caller was cancelled while waiting
+     */
+    SynchronizationResult synchronize(NewProjectHandler newProjectHandler, boolean automatic, CancellationTokenSource tokenSource, Action action) {
+        boolean discarded;
+        synchronized (this) {
+            discarded = this.discarded;
+            if (!discarded) {
+                this.users++;
+            }
+        }
+        if (discarded) {
+            // the coordinator was discarded after the caller obtained it
+            return forRootDirectory(this.rootProjectDirectory).synchronize(newProjectHandler, automatic, tokenSource, action);
+        }
+
+        try {
+            return coordinate(newProjectHandler, automatic, tokenSource, action);
+        } finally {
+            synchronized (this) {
+                if (--this.users == 0) {
+                    // no synchronization is running or queued, don't keep the coordinator of every build ever synchronized
+                    this.discarded = true;
+                    coordinators.remove(this.rootProjectDirectory, this);
+                }
+            }
+        }
+    }
+
+    private SynchronizationResult coordinate(NewProjectHandler newProjectHandler, boolean automatic, CancellationTokenSource tokenSource, Action action) {
+        Execution execution;
+        boolean owner;
+        synchronized (this) {
+            if (this.running != null && this.running.thread == Thread.currentThread()) {
+                // a synchronization step requested another synchronization of the same build
+                return action.alreadyRunning();
+            }
+
+            long generation = ++this.lastGeneration;
+            while (true) {
+                if (this.running == null && this.followUp == null) {
+                    execution = this.running = new Execution(generation, newProjectHandler, !automatic);
+                    owner = true;
+                    break;
+                } else if (this.followUp == null) {
+                    execution = this.followUp = new Execution(generation, newProjectHandler, !automatic);
+                    owner = true;
+                    supersedeRunning();
+                    break;
+                } else if (this.followUp.merge(generation, newProjectHandler, !automatic)) {
+                    execution = this.followUp;
+                    owner = false;
+                    supersedeRunning();
+                    break;
+                }
+                await(tokenSource);
+            }
+            execution.waiters++;
+            execution.owned |= owner;
+        }
+        return awaitResult(execution, owner, tokenSource, action);
+    }
+
+    private SynchronizationResult awaitResult(Execution execution, boolean owner, CancellationTokenSource tokenSource, Action action) {
+        Execution current = execution;
+        while (true) {
+            synchronized (this) {
+                while (true) {
+                    if (owner) {
+                        if (this.running == null || this.running == current) {
+                            this.running = current;
+                            if (this.followUp == current) {
+                                this.followUp = null;
+                            }
+                            current.thread = Thread.currentThread();
+                            notifyAll();
+                            break;
+                        }
+                    } else if (current.supersededBy != null) {
+                        current.waiters--;
+                        current = current.supersededBy;
+                        current.waiters++;
+                        continue;
+                    } else if (current.done) {
+                        current.waiters--;
+                        if (current.failure != null) {
+                            throw current.failure;
+                        }
+                        return current.result;
+                    } else if (!current.owned) {
+                        // the caller that queued the follow-up stopped waiting, run it instead
+                        current.owned = true;
+                        owner = true;
+                        continue;
+                    }
+
+                    try {
+                        await(tokenSource);
+                    } catch (OperationCanceledException e) {
+                        leave(current, owner);
+                        throw e;
+                    }
+                }
+            }
+
+            ScheduledFuture<?> cancellationForwarding = forwardCancellation(tokenSource, current.tokenSource);
+            SynchronizationResult result = null;
+            RuntimeException failure = null;
+            try {
+                result = action.run(current.newProjectHandler, current.tokenSource, current);
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                cancellationForwarding.cancel(false);
+                synchronized (this) {
+                    current.result = result;
+                    current.failure = failure;
+                    current.done = true;
+                    this.running = null;
+                    notifyAll();
+                }
+            }
+
+            // wait for the result like the other callers, the synchronization might have been superseded
+            owner = false;
+        }
+    }
+
+    private static ScheduledFuture<?> forwardCancellation(CancellationTokenSource callerTokenSource, CancellationTokenSource executionTokenSource) {
+        Runnable forwarding = () -> {
+            if (callerTokenSource.token().isCancellationRequested() && !executionTokenSource.token().isCancellationRequested()) {
+                executionTokenSource.cancel();
+            }
+        };
+        forwarding.run();
+        // the Tooling API tokens don't support listeners, so the caller's token is polled while the synchronization runs
+        return cancellationForwarder.scheduleWithFixedDelay(forwarding, CANCELLATION_POLL_INTERVAL_MILLIS, CANCELLATION_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private void leave(Execution execution, boolean owner) {
+        execution.waiters--;
+        if (owner) {
+            execution.owned = false;
+        }
+
+        // the queued follow-up is only abandoned if no other caller waits for it
+        Execution followUp = this.followUp;
+        if (followUp != null && !followUp.owned && countWaiters(followUp) == 0) {
+            CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Synchronization " + followUp.generation + " is abandoned");
+            this.followUp = null;
+            followUp.failure = new OperationCanceledException();
+            followUp.done = true;
+        }
+        notifyAll();
+    }
+
+    private int countWaiters(Execution followUp) {
+        int result = followUp.waiters;
+        if (this.running != null && this.running.supersededBy == followUp) {
+            // the callers of the superseded synchronization receive the result of the follow-up
+            result += this.running.waiters;
+        }
+        return result;
+    }
+
+    private void supersedeRunning() {
+        Execution running = this.running;
+        Execution followUp = this.followUp;
+        if (running == null || !running.loadingModels || running.supersededBy != null) {
+            return;
+        }
+        if (followUp.merge(running.generation, running.newProjectHandler, running.reloadRequired)) {
+            CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Synchronization " + running.generation + " is superseded by " + followUp.generation);
+            running.supersededBy = followUp;
+            running.tokenSource.cancel();
+        }
+    }
+
+    private void await(CancellationTokenSource tokenSource) {
+        if (tokenSource.token().isCancellationRequested()) {
+            throw new OperationCanceledException();
+        }
+        try {
+            wait(CANCELLATION_POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OperationCanceledException();
+        }
+    }
+
+    /**
+     * A synchronization covering one or more requests.
+     */
+    final class Execution {
+
+        private final CancellationTokenSource tokenSource = GradleConnector.newCancellationTokenSource();
+        private long generation;
+        private NewProjectHandler newProjectHandler;
+        private boolean reloadRequired;
+        private Thread thread;
+        private boolean owned;
+        private int waiters;
+        private boolean loadingModels = true;
+        private Execution supersededBy;
+        private SynchronizationResult result;
+        private RuntimeException failure;
+        private boolean done;
+
+        private Execution(long generation, NewProjectHandler newProjectHandler, boolean reloadRequired) {
+            this.generation = generation;
+            this.newProjectHandler = newProjectHandler;
+            this.reloadRequired = reloadRequired;
+        }
+
+        private boolean merge(long generation, NewProjectHandler newProjectHandler, boolean reloadRequired) {
+            if (newProjectHandler != NewProjectHandler.NO_OP && !Objects.equals(newProjectHandler, this.newProjectHandler)) {
+                if (this.newProjectHandler != NewProjectHandler.NO_OP) {
+                    return false;
+                }
+                this.newProjectHandler = newProjectHandler;
+            }
+            this.generation = Math.max(this.generation, generation);
+            this.reloadRequired |= reloadRequired;
+            return true;
+        }
+
+        /**
+         * Returns whether one of the covered requests was issued by the user, in which case the
+         * models have to be reloaded even if the build inputs are unchanged.
+         *
+         * @return {@code true} if the models have to be reloaded
+         */
+        boolean isReloadRequired() {
+            synchronized (SynchronizationCoordinator.this) {
+                return this.reloadRequired;
+            }
+        }
+
+        /**
+         * Marks the end of the model loading. Afterwards, the synchronization can no longer be
+         * superseded.
+         *
+         * @return {@code false} if the synchronization was superseded and should stop
+         */
+        boolean startApplyingModels() {
+            synchronized (SynchronizationCoordinator.this) {
+                if (this.supersededBy != null) {
+                    return false;
+                }
+                this.loadingModels = false;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * The synchronization executed by the coordinator.
+     */
+    interface Action {
+
+        /**
+         * Executes the synchronization.
+         *
+         * @param newProjectHandler the new project handler of the merged requests
+         * @param tokenSource the cancellation token source of the synchronization
+         * @param execution the execution to report the end of the model loading to
+         * @return the result of the synchronization
+         */
+        SynchronizationResult run(NewProjectHandler newProjectHandler, CancellationTokenSource tokenSource, Execution execution);
+
+        /**
+         * Returns the result for a request issued by the running synchronization itself.
+         *
+         * @return the result
+         */
+        SynchronizationResult alreadyRunning();
+    }
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.gradle.tooling.model.eclipse.EclipseProject;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * The Eclipse models of the last successful synchronization along with the fingerprint of the
+ * build inputs they were loaded from.
+ */
+final class SynchronizedModel {
+
+    private final String fingerprint;
+    private final Map<String, EclipseProject> rootModels;
+    private final Set<EclipseProject> projects;
+
+    SynchronizedModel(String fingerprint, Map<String, ? extends EclipseProject> rootModels, Set<? extends EclipseProject> projects) {
+        this.fingerprint = fingerprint;
+        this.rootModels = ImmutableMap.copyOf(rootModels);
+        this.projects = ImmutableSet.copyOf(projects);
+    }
+
+    /**
+     * @return the fingerprint, or {@code null} if the models must not be reused, e.g. because the
+     *         build inputs changed while they were loaded
+     */
+    String getFingerprint() {
+        return this.fingerprint;
+    }
+
+    /**
+     * @return the root project models of the builds in the composite, keyed by the build path
+     */
+    Map<String, EclipseProject> getRootModels() {
+        return this.rootModels;
+    }
+
+    Set<EclipseProject> getProjects() {
+        return this.projects;
+    }
+}
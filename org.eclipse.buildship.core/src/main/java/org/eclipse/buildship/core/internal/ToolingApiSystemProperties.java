@@ -18,6 +18,9 @@ public final class ToolingApiSystemProperties {
     static final String ACTIVE_NAME = "buildship.active";
     static final String SYNC_ACTIVE_NAME = "buildship.sync.active";
 
+    private static int syncActiveCount;
+    private static String originalSyncActive;
+
     /**
      * Sets the {@code buildship.active} system property to {@code "true"}.
      * 
@@ -41,22 +44,33 @@ public final class ToolingApiSystemProperties {
     /**
      * Runs the given code with the {@code buildship.sync.active} system property
      * set to {@code "true"}.
+     * <p>
+     * Synchronizations of different builds can run concurrently; the property is
+     * set while at least one of them is running and restored when the last one
+     * finishes.
      * 
-     * @param <T>      the type of return produced by {@code runnable}
      * @param runnable the code to run with the system property set
      * @throws Exception when {@code runnable} throws
      */
     public static void withSyncActive(ThrowingRunnable runnable) throws Exception {
-        withSystemProperty(SYNC_ACTIVE_NAME, "true", runnable);
-    }
-
-    private static synchronized void withSystemProperty(String propertyName, String value, ThrowingRunnable runnable)
-            throws Exception {
-        String originalValue = overrideProperty(propertyName, value);
+        enterSyncActive();
         try {
             runnable.run();
         } finally {
-            restoreProperty(propertyName, originalValue);
+            exitSyncActive();
+        }
+    }
+
+    private static synchronized void enterSyncActive() {
+        if (syncActiveCount++ == 0) {
+            originalSyncActive = overrideProperty(SYNC_ACTIVE_NAME, "true");
+        }
+    }
+
+    private static synchronized void exitSyncActive() {
+        if (--syncActiveCount == 0) {
+            restoreProperty(SYNC_ACTIVE_NAME, originalSyncActive);
+            originalSyncActive = null;
         }
     }
 
@@ -47,6 +47,28 @@ public interface BuildConfiguration {
 
     boolean isShowExecutionsView();
 
+    /**
+     * Returns whether the model queries of the synchronization should use parallel execution, so
+     * that Gradle can build the models of the included builds concurrently. The other Tooling API
+     * operations, e.g. the builds launched by the user, are not affected.
+     * <p/>
+     * Enabled with the {@code parallel.model.building} key in the project preferences of the root
+     * project, or for all builds with the {@value DefaultBuildConfiguration#PARALLEL_MODEL_BUILDING_PROPERTY}
+     * system property.
+     *
+     * @return {@code true} if parallel model building is enabled
+     */
+    boolean isParallelModelBuilding();
+
+    /**
+     * Returns the filter selecting the projects of this build that are imported into the workspace.
+     * The excluded projects are substituted with their jars in the dependencies of the other
+     * projects, see {@link ProjectFilter}.
+     *
+     * @return the project filter
+     */
+    ProjectFilter getProjectFilter();
+
     GradleArguments toGradleArguments();
 
     org.eclipse.buildship.core.BuildConfiguration toApiBuildConfiguration();
@@ -45,6 +45,10 @@ final class BuildConfigurationPersistence {
     private static final String PREF_KEY_JVM_ARGUMENTS = "jvm.arguments";
     private static final String PREF_KEY_SHOW_CONSOLE_VIEW = "show.console.view";
     private static final String PREF_KEY_SHOW_EXECUTIONS_VIEW = "show.executions.view";
+    // not exposed in the UI: it's only read so that editing the other settings preserves the value
+    private static final String PREF_KEY_PARALLEL_MODEL_BUILDING = "parallel.model.building";
+    private static final String PREF_KEY_PROJECT_FILTER_INCLUDES = "project.filter.includes";
+    private static final String PREF_KEY_PROJECT_FILTER_EXCLUDES = "project.filter.excludes";
 
     public BuildConfigurationProperties readBuildConfiguratonProperties(IProject project) {
         Preconditions.checkNotNull(project);
@@ -146,8 +150,12 @@ final class BuildConfigurationPersistence {
         List<String> jvmArguments = Lists.newArrayList(Splitter.on(' ').omitEmptyStrings().split(preferences.readString(PREF_KEY_JVM_ARGUMENTS, "")));
         boolean showConsoleView = preferences.readBoolean(PREF_KEY_SHOW_CONSOLE_VIEW, false);
         boolean showExecutionsView = preferences.readBoolean(PREF_KEY_SHOW_EXECUTIONS_VIEW, false);
+        boolean parallelModelBuilding = preferences.readBoolean(PREF_KEY_PARALLEL_MODEL_BUILDING, false);
+        List<String> projectFilterIncludes = Lists.newArrayList(Splitter.on(' ').omitEmptyStrings().split(preferences.readString(PREF_KEY_PROJECT_FILTER_INCLUDES, "")));
+        List<String> projectFilterExcludes = Lists.newArrayList(Splitter.on(' ').omitEmptyStrings().split(preferences.readString(PREF_KEY_PROJECT_FILTER_EXCLUDES, "")));
 
-        return new BuildConfigurationProperties(rootDir, distribution, gradleUserHome, javaHome, overrideWorkspaceSettings, buildScansEnabled, offlineMode, autoSync, arguments, jvmArguments, showConsoleView, showExecutionsView);
+        return new BuildConfigurationProperties(rootDir, distribution, gradleUserHome, javaHome, overrideWorkspaceSettings, buildScansEnabled, offlineMode, autoSync, arguments, jvmArguments, showConsoleView, showExecutionsView,
+                parallelModelBuilding, ProjectFilter.from(projectFilterIncludes, projectFilterExcludes));
     }
 
     private static void savePreferences(BuildConfigurationProperties properties, PreferenceStore preferences) {
@@ -166,6 +174,14 @@ final class BuildConfigurationPersistence {
         preferences.write(PREF_KEY_JVM_ARGUMENTS, jvmArguments == null ? "" : Joiner.on(' ').join(jvmArguments));
         preferences.writeBoolean(PREF_KEY_SHOW_CONSOLE_VIEW, properties.isShowConsoleView());
         preferences.writeBoolean(PREF_KEY_SHOW_EXECUTIONS_VIEW, properties.isShowExecutionsView());
+        ProjectFilter projectFilter = properties.getProjectFilter();
+        if (projectFilter.isSelectingAll()) {
+            preferences.delete(PREF_KEY_PROJECT_FILTER_INCLUDES);
+            preferences.delete(PREF_KEY_PROJECT_FILTER_EXCLUDES);
+        } else {
+            preferences.write(PREF_KEY_PROJECT_FILTER_INCLUDES, Joiner.on(' ').join(projectFilter.getIncludes()));
+            preferences.write(PREF_KEY_PROJECT_FILTER_EXCLUDES, Joiner.on(' ').join(projectFilter.getExcludes()));
+        }
         preferences.flush();
     }
 
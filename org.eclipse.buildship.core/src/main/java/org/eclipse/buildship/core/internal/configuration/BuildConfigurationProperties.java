@@ -36,9 +36,24 @@ public final class BuildConfigurationProperties {
     private final List<String> jvmArguments;
     private final boolean showConsoleView;
     private final boolean showExecutionsView;
+    private final boolean parallelModelBuilding;
+    private final ProjectFilter projectFilter;
 
     public BuildConfigurationProperties(File rootProjectDirectory, GradleDistribution gradleDistribution, File gradleUserHome, File javaHome, boolean overrideWorkspaceSettings, boolean buildScansEnabled,
             boolean offlineMode, boolean autoSync, List<String> arguments, List<String> jvmArguments, boolean showConsoleView, boolean showExecutionsView) {
+        this(rootProjectDirectory, gradleDistribution, gradleUserHome, javaHome, overrideWorkspaceSettings, buildScansEnabled, offlineMode, autoSync, arguments, jvmArguments, showConsoleView,
+                showExecutionsView, false);
+    }
+
+    public BuildConfigurationProperties(File rootProjectDirectory, GradleDistribution gradleDistribution, File gradleUserHome, File javaHome, boolean overrideWorkspaceSettings, boolean buildScansEnabled,
+            boolean offlineMode, boolean autoSync, List<String> arguments, List<String> jvmArguments, boolean showConsoleView, boolean showExecutionsView, boolean parallelModelBuilding) {
+        this(rootProjectDirectory, gradleDistribution, gradleUserHome, javaHome, overrideWorkspaceSettings, buildScansEnabled, offlineMode, autoSync, arguments, jvmArguments, showConsoleView,
+                showExecutionsView, parallelModelBuilding, ProjectFilter.ALL);
+    }
+
+    public BuildConfigurationProperties(File rootProjectDirectory, GradleDistribution gradleDistribution, File gradleUserHome, File javaHome, boolean overrideWorkspaceSettings, boolean buildScansEnabled,
+            boolean offlineMode, boolean autoSync, List<String> arguments, List<String> jvmArguments, boolean showConsoleView, boolean showExecutionsView, boolean parallelModelBuilding,
+            ProjectFilter projectFilter) {
         this.rootProjectDirectory = canonicalize(rootProjectDirectory);
         this.gradleDistribution = gradleDistribution;
         this.gradleUserHome = gradleUserHome;
@@ -51,6 +66,8 @@ public final class BuildConfigurationProperties {
         this.jvmArguments = jvmArguments;
         this.showConsoleView = showConsoleView;
         this.showExecutionsView = showExecutionsView;
+        this.parallelModelBuilding = parallelModelBuilding;
+        this.projectFilter = projectFilter;
     }
 
     private static File canonicalize(File file) {
@@ -109,6 +126,14 @@ public final class BuildConfigurationProperties {
         return this.showExecutionsView;
     }
 
+    public boolean isParallelModelBuilding() {
+        return this.parallelModelBuilding;
+    }
+
+    public ProjectFilter getProjectFilter() {
+        return this.projectFilter;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof BuildConfigurationProperties) {
@@ -124,7 +149,9 @@ public final class BuildConfigurationProperties {
                     && Objects.equal(this.arguments, other.arguments)
                     && Objects.equal(this.jvmArguments, other.jvmArguments)
                     && Objects.equal(this.showConsoleView, other.showConsoleView)
-                    && Objects.equal(this.showExecutionsView, other.showExecutionsView);
+                    && Objects.equal(this.showExecutionsView, other.showExecutionsView)
+                    && Objects.equal(this.parallelModelBuilding, other.parallelModelBuilding)
+                    && Objects.equal(this.projectFilter, other.projectFilter);
         }
         return false;
     }
@@ -142,6 +169,8 @@ public final class BuildConfigurationProperties {
                 this.arguments,
                 this.jvmArguments,
                 this.showConsoleView,
-                this.showExecutionsView);
+                this.showExecutionsView,
+                this.parallelModelBuilding,
+                this.projectFilter);
     }
 }
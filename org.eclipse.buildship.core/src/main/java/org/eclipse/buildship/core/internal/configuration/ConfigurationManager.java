@@ -35,6 +35,14 @@ public interface ConfigurationManager {
                                                 List<String> arguments, List<String> jvmArguments,
                                                 boolean showConsoleView, boolean showExecutionsView);
 
+    BuildConfiguration createBuildConfiguration(File rootProjectDirectory, boolean overrideWorkspaceSettings,
+                                                GradleDistribution gradleDistribution, File gradleUserHome,
+                                                File javaHome, boolean buildScansEnabled,
+                                                boolean offlineMode, boolean autoSync,
+                                                List<String> arguments, List<String> jvmArguments,
+                                                boolean showConsoleView, boolean showExecutionsView,
+                                                ProjectFilter projectFilter);
+
     BuildConfiguration loadBuildConfiguration(File rootProject);
 
     void saveBuildConfiguration(BuildConfiguration configuration);
@@ -24,6 +24,11 @@ import org.eclipse.buildship.core.GradleDistribution;
 // TODO (donat) remove public modifier
 public final class DefaultBuildConfiguration implements BuildConfiguration {
 
+    /**
+     * System property to enable parallel model building for all builds.
+     */
+    public static final String PARALLEL_MODEL_BUILDING_PROPERTY = "org.eclipse.buildship.core.parallelModelBuilding";
+
     private final BuildConfigurationProperties properties;
     private final WorkspaceConfiguration workspaceConfiguration;
 
@@ -128,6 +133,16 @@ public final class DefaultBuildConfiguration implements BuildConfiguration {
         }
     }
 
+    @Override
+    public boolean isParallelModelBuilding() {
+        return this.properties.isParallelModelBuilding() || Boolean.getBoolean(PARALLEL_MODEL_BUILDING_PROPERTY);
+    }
+
+    @Override
+    public ProjectFilter getProjectFilter() {
+        return this.properties.getProjectFilter();
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof DefaultBuildConfiguration) {
@@ -46,13 +46,27 @@ public class DefaultConfigurationManager implements ConfigurationManager {
 
     @Override
     public void saveWorkspaceConfiguration(WorkspaceConfiguration config) {
+        WorkspaceConfiguration previous = loadWorkspaceConfiguration();
         this.workspaceConfigurationPersistence.saveWorkspaceConfiguration(config);
+        if (!previous.equals(config)) {
+            // the workspace configuration is part of every build configuration
+            CorePlugin.modelCache().invalidateAll();
+            CorePlugin.projectConnectionPool().invalidateAll();
+        }
     }
 
     @Override
     public BuildConfiguration createBuildConfiguration(File rootProjectDirectory, boolean overrideWorkspaceSettings, GradleDistribution gradleDistribution, File gradleUserHome,
             File javaHome, boolean buildScansEnabled, boolean offlineMode, boolean autoSync, List<String> arguments, List<String> jvmArguments,
             boolean showConsoleView, boolean showExecutionsView) {
+        return createBuildConfiguration(rootProjectDirectory, overrideWorkspaceSettings, gradleDistribution, gradleUserHome, javaHome, buildScansEnabled, offlineMode, autoSync, arguments,
+                jvmArguments, showConsoleView, showExecutionsView, ProjectFilter.ALL);
+    }
+
+    @Override
+    public BuildConfiguration createBuildConfiguration(File rootProjectDirectory, boolean overrideWorkspaceSettings, GradleDistribution gradleDistribution, File gradleUserHome,
+            File javaHome, boolean buildScansEnabled, boolean offlineMode, boolean autoSync, List<String> arguments, List<String> jvmArguments,
+            boolean showConsoleView, boolean showExecutionsView, ProjectFilter projectFilter) {
         BuildConfigurationProperties persistentBuildConfigProperties = new BuildConfigurationProperties(rootProjectDirectory,
                                                                                                         gradleDistribution,
                                                                                                         gradleUserHome,
@@ -64,7 +78,9 @@ public class DefaultConfigurationManager implements ConfigurationManager {
                                                                                                         arguments,
                                                                                                         jvmArguments,
                                                                                                         showConsoleView,
-                                                                                                        showExecutionsView);
+                                                                                                        showExecutionsView,
+                                                                                                        false,
+                                                                                                        projectFilter);
         return new DefaultBuildConfiguration(persistentBuildConfigProperties, loadWorkspaceConfiguration());
     }
 
@@ -96,12 +112,31 @@ public class DefaultConfigurationManager implements ConfigurationManager {
         Preconditions.checkArgument(configuration instanceof DefaultBuildConfiguration, "Unknow configuration type: ", configuration.getClass());
         BuildConfigurationProperties properties = ((BuildConfiguration)configuration).getProperties();
         File rootDir = configuration.getRootProjectDirectory();
+        BuildConfiguration previous = tryLoadBuildConfiguration(rootDir);
         Optional<IProject> rootProject = CorePlugin.workspaceOperations().findProjectByLocation(rootDir);
         if (rootProject.isPresent() && rootProject.get().isAccessible()) {
             this.buildConfigurationPersistence.saveBuildConfiguration(rootProject.get(), properties);
         } else {
             this.buildConfigurationPersistence.saveBuildConfiguration(rootDir, properties);
         }
+        if (previous != null && !previous.equals(configuration)) {
+            invalidateCaches(previous);
+        }
+    }
+
+    private BuildConfiguration tryLoadBuildConfiguration(File rootDir) {
+        try {
+            return loadBuildConfiguration(rootDir);
+        } catch (RuntimeException e) {
+            CorePlugin.logger().trace(CoreTraceScopes.PREFERENCES, "Cannot load configuration for build " + rootDir, e);
+            return null;
+        }
+    }
+
+    private static void invalidateCaches(BuildConfiguration buildConfiguration) {
+        // the models and connections are keyed by the configuration, nothing refers to the old one anymore
+        CorePlugin.modelCache().invalidate(buildConfiguration);
+        CorePlugin.projectConnectionPool().invalidate(buildConfiguration);
     }
 
     @Override
@@ -175,11 +210,16 @@ public class DefaultConfigurationManager implements ConfigurationManager {
 
     @Override
     public void deleteProjectConfiguration(IProject project) {
+        ProjectConfiguration projectConfiguration = tryLoadProjectConfiguration(project);
         if (project.isAccessible()) {
             this.buildConfigurationPersistence.deletePathToRoot(project);
         } else {
             this.buildConfigurationPersistence.deletePathToRoot(project.getLocation().toFile());
         }
+        // removing the root project removes the build from the workspace
+        if (projectConfiguration != null && projectConfiguration.getProjectDir().equals(projectConfiguration.getBuildConfiguration().getRootProjectDirectory())) {
+            invalidateCaches(projectConfiguration.getBuildConfiguration());
+        }
     }
 
     @Override
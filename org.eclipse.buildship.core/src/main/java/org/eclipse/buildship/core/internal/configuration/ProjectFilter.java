@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.configuration;
+
+import java.io.File;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.gradle.tooling.model.UnsupportedMethodException;
+import org.gradle.tooling.model.eclipse.EclipseProject;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Selects the projects of a Gradle build that are imported into the workspace.
+ * <p/>
+ * The projects are identified by their Gradle path, for example {@code :app:core}. The projects of
+ * included builds are prefixed with the name of the included build's root directory, for example
+ * {@code :plugins:core}. The patterns are either explicit paths or contain wildcards: {@code *}
+ * matches any characters within a path segment and {@code **} matches any characters across
+ * segments.
+ * <p/>
+ * A project is selected if it matches any of the include patterns, or if there are none, and if it
+ * doesn't match any of the exclude patterns. The root project is always selected.
+ */
+public final class ProjectFilter {
+
+    /**
+     * Filter selecting all projects.
+     */
+    public static final ProjectFilter ALL = new ProjectFilter(ImmutableList.<String>of(), ImmutableList.<String>of());
+
+    private final List<String> includes;
+    private final List<String> excludes;
+    private final List<Pattern> includePatterns;
+    private final List<Pattern> excludePatterns;
+
+    private ProjectFilter(List<String> includes, List<String> excludes) {
+        this.includes = ImmutableList.copyOf(includes);
+        this.excludes = ImmutableList.copyOf(excludes);
+        this.includePatterns = compile(this.includes);
+        this.excludePatterns = compile(this.excludes);
+    }
+
+    public static ProjectFilter from(List<String> includes, List<String> excludes) {
+        if (includes.isEmpty() && excludes.isEmpty()) {
+            return ALL;
+        }
+        return new ProjectFilter(includes, excludes);
+    }
+
+    public List<String> getIncludes() {
+        return this.includes;
+    }
+
+    public List<String> getExcludes() {
+        return this.excludes;
+    }
+
+    public boolean isSelectingAll() {
+        return this.includes.isEmpty() && this.excludes.isEmpty();
+    }
+
+    /**
+     * Returns whether a project is selected by this filter.
+     *
+     * @param projectPath the path of the project, see {@link #projectPath(File, File, String)}
+     * @return {@code true} if the project should be imported
+     */
+    public boolean isSelected(String projectPath) {
+        if (":".equals(projectPath)) {
+            return true;
+        }
+        boolean included = this.includePatterns.isEmpty() || matchesAny(this.includePatterns, projectPath);
+        return included && !matchesAny(this.excludePatterns, projectPath);
+    }
+
+    /**
+     * Returns whether a project is selected by this filter.
+     *
+     * @param rootProjectDirectory the root project directory of the synchronized build
+     * @param project the project model
+     * @return {@code true} if the project should be imported
+     */
+    public boolean isSelected(File rootProjectDirectory, EclipseProject project) {
+        return isSelectingAll() || isSelected(projectPath(rootProjectDirectory, project));
+    }
+
+    /**
+     * Returns the path identifying a project in the filter patterns.
+     *
+     * @param rootProjectDirectory the root project directory of the synchronized build
+     * @param project the project model
+     * @return the path of the project
+     */
+    public static String projectPath(File rootProjectDirectory, EclipseProject project) {
+        File buildRootDirectory;
+        try {
+            buildRootDirectory = project.getProjectIdentifier().getBuildIdentifier().getRootDir();
+        } catch (UnsupportedMethodException e) {
+            // included builds are not supported by the Gradle version used by the build
+            buildRootDirectory = null;
+        }
+        return projectPath(rootProjectDirectory, buildRootDirectory, project.getGradleProject().getPath());
+    }
+
+    /**
+     * Returns the path identifying a project in the filter patterns.
+     *
+     * @param rootProjectDirectory the root project directory of the synchronized build
+     * @param buildRootDirectory the root directory of the build containing the project, can be an
+     *            included build
+     * @param projectPath the path of the project within its build
+     * @return the path of the project
+     */
+    public static String projectPath(File rootProjectDirectory, File buildRootDirectory, String projectPath) {
+        if (buildRootDirectory == null || buildRootDirectory.equals(rootProjectDirectory)) {
+            return projectPath;
+        }
+        String buildPath = ":" + buildRootDirectory.getName();
+        return ":".equals(projectPath) ? buildPath : buildPath + projectPath;
+    }
+
+    private static boolean matchesAny(List<Pattern> patterns, String projectPath) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(projectPath).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Pattern> compile(List<String> patterns) {
+        ImmutableList.Builder<Pattern> result = ImmutableList.builder();
+        for (String pattern : patterns) {
+            StringBuilder regex = new StringBuilder();
+            int start = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                if (pattern.charAt(i) == '*') {
+                    regex.append(Pattern.quote(pattern.substring(start, i)));
+                    if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                        regex.append(".*");
+                        i++;
+                    } else {
+                        regex.append("[^:]*");
+                    }
+                    start = i + 1;
+                }
+            }
+            regex.append(Pattern.quote(pattern.substring(start)));
+            result.add(Pattern.compile(regex.toString()));
+        }
+        return result.build();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof ProjectFilter) {
+            ProjectFilter other = (ProjectFilter) obj;
+            return Objects.equal(this.includes, other.includes) && Objects.equal(this.excludes, other.excludes);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.includes, this.excludes);
+    }
+
+    @Override
+    public String toString() {
+        return "include " + Joiner.on(' ').join(this.includes) + " exclude " + Joiner.on(' ').join(this.excludes);
+    }
+}
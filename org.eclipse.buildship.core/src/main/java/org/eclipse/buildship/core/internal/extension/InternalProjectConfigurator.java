@@ -40,11 +40,13 @@ public final class InternalProjectConfigurator implements ProjectConfigurator, C
 
     private final ProjectConfigurator configurator;
     private final ProjectConfiguratorContribution contribution;
+    private final List<Class<?>> requiredModels;
     private static final Logger LOGGER = CorePlugin.logger();
 
     private InternalProjectConfigurator(ProjectConfiguratorContribution contribution) {
         this.configurator = createConfigurator(contribution);
         this.contribution = contribution;
+        this.requiredModels = loadRequiredModels(contribution, this.configurator);
     }
 
     private static ProjectConfigurator createConfigurator(ProjectConfiguratorContribution contribution) {
@@ -56,6 +58,19 @@ public final class InternalProjectConfigurator implements ProjectConfigurator, C
         }
     }
 
+    private static List<Class<?>> loadRequiredModels(ProjectConfiguratorContribution contribution, ProjectConfigurator configurator) {
+        List<Class<?>> result = new ArrayList<>();
+        for (String modelName : contribution.getRequiredModels()) {
+            try {
+                // the model types are resolved from the contributing plugin, like the configurator class itself
+                result.add(configurator.getClass().getClassLoader().loadClass(modelName));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.trace(CoreTraceScopes.PROJECT_CONFIGURATORS, "Required model " + modelName + " of configurator " + contribution.getId() + " was removed because it cannot be loaded", e);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
     @Override
     public void init(InitializationContext context, IProgressMonitor monitor) {
         this.configurator.init(context, monitor);
@@ -79,6 +94,13 @@ public final class InternalProjectConfigurator implements ProjectConfigurator, C
         return this.contribution.getId();
     }
 
+    /**
+     * @return the Tooling API models declared by the configurator
+     */
+    public List<Class<?>> getRequiredModels() {
+        return this.requiredModels;
+    }
+
     public static List<InternalProjectConfigurator> from(List<ProjectConfiguratorContribution> configurators) {
         if (LOGGER.isScopeEnabled(CoreTraceScopes.PROJECT_CONFIGURATORS)) {
             LOGGER.trace(CoreTraceScopes.PROJECT_CONFIGURATORS, "Contributed configurators: " +
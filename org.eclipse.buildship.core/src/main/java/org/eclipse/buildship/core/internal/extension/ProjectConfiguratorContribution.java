@@ -32,15 +32,17 @@ public final class ProjectConfiguratorContribution {
     private final String id;
     private final List<String> runsBefore;
     private final List<String> runsAfter;
+    private final List<String> requiredModels;
 
     private ProjectConfigurator configurator;
 
-    private ProjectConfiguratorContribution(IConfigurationElement extension, String id, String contributorPluginId, List<String> runsBefore, List<String> runsAfter) {
+    private ProjectConfiguratorContribution(IConfigurationElement extension, String id, String contributorPluginId, List<String> runsBefore, List<String> runsAfter, List<String> requiredModels) {
         this.extension = extension;
         this.id = id;
         this.contributorPluginId = contributorPluginId;
         this.runsBefore = runsBefore;
         this.runsAfter = runsAfter;
+        this.requiredModels = requiredModels;
     }
 
     public ProjectConfigurator createConfigurator() throws CoreException {
@@ -67,6 +69,14 @@ public final class ProjectConfiguratorContribution {
         return this.runsAfter;
     }
 
+    /**
+     * @return the fully qualified names of the Tooling API models the configurator declared in the
+     *         {@code requiredModels} attribute
+     */
+    public List<String> getRequiredModels() {
+        return this.requiredModels;
+    }
+
     static ProjectConfiguratorContribution from(IConfigurationElement extension) {
         String pluginId = extension.getContributor().getName();
         String id = extension.getAttribute("id");
@@ -82,16 +92,21 @@ public final class ProjectConfiguratorContribution {
                 ? Collections.emptyList()
                 : Lists.newArrayList(splitter.split(runsAfterString));
 
-        return new ProjectConfiguratorContribution(extension, id, pluginId, runsBefore, runsAfter);
+        String requiredModelsString = extension.getAttribute("requiredModels");
+        List<String> requiredModels = requiredModelsString == null
+                ? Collections.emptyList()
+                : Lists.newArrayList(splitter.split(requiredModelsString));
+
+        return new ProjectConfiguratorContribution(extension, id, pluginId, runsBefore, runsAfter, requiredModels);
     }
 
     public static ProjectConfiguratorContribution from(ProjectConfiguratorContribution contribuion, List<String> runsBefore, List<String> runsAfter) {
-        return new ProjectConfiguratorContribution(contribuion.extension, contribuion.id, contribuion.contributorPluginId, runsBefore, runsAfter);
+        return new ProjectConfiguratorContribution(contribuion.extension, contribuion.id, contribuion.contributorPluginId, runsBefore, runsAfter, contribuion.requiredModels);
     }
 
     @Override
     public String toString() {
         return "ProjectConfiguratorContribution [id=" + getId() + ", runsBefore=" + this.runsBefore
-                + ", runsAfter=" + this.runsAfter + "]";
+                + ", runsAfter=" + this.runsAfter + ", requiredModels=" + this.requiredModels + "]";
     }
 }
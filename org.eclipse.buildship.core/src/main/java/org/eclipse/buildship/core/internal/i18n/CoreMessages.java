@@ -74,6 +74,10 @@ public final class CoreMessages extends NLS {
     public static String Preference_Label_AutoSyncHover;
     public static String Preference_Label_ShowConsoleViewHover;
     public static String Preference_Label_ShowExecutionsViewHover;
+    public static String Preference_Label_ProjectFilter;
+    public static String Preference_Label_ProjectFilterHover;
+    public static String Preference_Label_ProjectFilterIncludes;
+    public static String Preference_Label_ProjectFilterExcludes;
 
     public static String Preference_Label_ModulePath;
     public static String Preference_Label_ModulePathHover;
@@ -85,6 +89,14 @@ public final class CoreMessages extends NLS {
     public static String Preference_Label_LspJarBrowse;
     public static String Preference_Label_LspJarPathFilterName;
 
+    public static String Preference_Label_SynchronizationReportSummary;
+    public static String Preference_Label_SynchronizationReportMissing;
+    public static String Preference_Label_SynchronizationReportCategory;
+    public static String Preference_Label_SynchronizationReportName;
+    public static String Preference_Label_SynchronizationReportProject;
+    public static String Preference_Label_SynchronizationReportTime;
+    public static String Preference_Label_SynchronizationReportAllocation;
+
     static {
         // initialize resource bundle
         NLS.initializeMessages(BUNDLE_NAME, CoreMessages.class);
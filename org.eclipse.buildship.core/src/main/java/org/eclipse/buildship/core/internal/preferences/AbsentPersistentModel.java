@@ -93,4 +93,9 @@ final class AbsentPersistentModel implements PersistentModel {
     public GradleVersion getGradleVersion() {
         throw new IllegalStateException("Absent persistent model");
     }
+
+    @Override
+    public String getModelDigest() {
+        throw new IllegalStateException("Absent persistent model");
+    }
 }
@@ -38,6 +38,7 @@ import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 
 import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.util.classpath.ClasspathInterner;
 
 /**
  * Transforms classpath entries to XML format and vica versa.
@@ -64,7 +65,8 @@ public final class ClasspathConverter {
     public List<IClasspathEntry> toEntries(String classpath) {
         try {
             Element classpathNode = readClasspathNode(classpath);
-            return readEntriesFromClasspathNode(classpathNode);
+            // the decoded entries share their instances with the entries of the other projects
+            return ClasspathInterner.internAll(readEntriesFromClasspathNode(classpathNode));
         } catch (Exception e) {
             CorePlugin.logger().error(String.format("Could not read persisted classpath for project %s.", this.javaProject.getProject().getName()), e);
             return null;
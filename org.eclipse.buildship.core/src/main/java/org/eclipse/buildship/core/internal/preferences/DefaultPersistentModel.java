@@ -41,12 +41,13 @@ public final class DefaultPersistentModel implements PersistentModel {
     private final List<ICommand> managedBuilders;
     private final boolean hasAutoBuildTasks;
     private final GradleVersion gradleVersion;
+    private final String modelDigest;
 
     public DefaultPersistentModel(IProject project, IPath buildDir, IPath buildScriptPath,
                                   Collection<IPath> subprojectPaths, List<IClasspathEntry> classpath,
                                   Collection<IPath> derivedResources, Collection<IPath> linkedResources,
                                   Collection<String> managedNatures, Collection<ICommand> managedBuilders,
-                                  boolean hasAutoBuildTasks, GradleVersion gradleVersion) {
+                                  boolean hasAutoBuildTasks, GradleVersion gradleVersion, String modelDigest) {
         this.project = Preconditions.checkNotNull(project);
         this.buildDir = Preconditions.checkNotNull(buildDir);
         this.buildScriptPath = Preconditions.checkNotNull(buildScriptPath);
@@ -58,6 +59,7 @@ public final class DefaultPersistentModel implements PersistentModel {
         this.managedBuilders = ImmutableList.copyOf(managedBuilders);
         this.hasAutoBuildTasks = hasAutoBuildTasks;
         this.gradleVersion = gradleVersion;
+        this.modelDigest = modelDigest;
     }
 
     @Override
@@ -120,6 +122,11 @@ public final class DefaultPersistentModel implements PersistentModel {
         return this.gradleVersion;
     }
 
+    @Override
+    public String getModelDigest() {
+        return this.modelDigest;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (!(obj instanceof DefaultPersistentModel)) {
@@ -135,12 +142,13 @@ public final class DefaultPersistentModel implements PersistentModel {
                 && Objects.equal(this.managedNatures, that.managedNatures)
                 && Objects.equal(this.managedBuilders, that.managedBuilders)
                 && Objects.equal(this.hasAutoBuildTasks, that.hasAutoBuildTasks)
-                && Objects.equal(this.gradleVersion, that.gradleVersion);
+                && Objects.equal(this.gradleVersion, that.gradleVersion)
+                && Objects.equal(this.modelDigest, that.modelDigest);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.project, this.buildDir, this.subprojectPaths, this.classpath, this.derivedResources, this.linkedResources, this.managedNatures, this.managedBuilders, this.hasAutoBuildTasks, this.gradleVersion);
+        return Objects.hashCode(this.project, this.buildDir, this.subprojectPaths, this.classpath, this.derivedResources, this.linkedResources, this.managedNatures, this.managedBuilders, this.hasAutoBuildTasks, this.gradleVersion, this.modelDigest);
     }
 
 }
@@ -48,4 +48,6 @@ public interface PersistentModel {
     boolean hasAutoBuildTasks();
 
     GradleVersion getGradleVersion();
+
+    String getModelDigest();
 }
@@ -47,6 +47,7 @@ final class PersistentModelConverter {
     private static final String PROPERTY_MANAGED_BUILDERS = "managedBuilders";
     private static final String PROPERTY_HAS_AUTOBUILD_TASKS = "hasAutoBuildTasks";
     private static final String PROPERTY_GRADLE_VERSION = "gradleVersion";
+    private static final String PROPERTY_MODEL_DIGEST = "modelDigest";
 
     public static Properties toProperties(final PersistentModel model) {
         Properties properties = new Properties();
@@ -121,6 +122,10 @@ final class PersistentModelConverter {
             }
         });
 
+        if (model.getModelDigest() != null) {
+            storeValue(properties, PROPERTY_MODEL_DIGEST, model.getModelDigest(), Functions.<String>identity());
+        }
+
         return properties;
     }
 
@@ -192,10 +197,12 @@ final class PersistentModelConverter {
                 return GradleVersion.version(version);
             }
         });
+        String modelDigest = loadValue(properties, PROPERTY_MODEL_DIGEST, null, Functions.<String>identity());
+
         if (gradleVersion == null) {
             return new AbsentPersistentModel(project);
         } else {
-            return new DefaultPersistentModel(project, buildDir, buildScriptPath, subprojects, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion);
+            return new DefaultPersistentModel(project, buildDir, buildScriptPath, subprojects, classpath, derivedResources, linkedResources, managedNatures, managedBuilders, hasAutoBuildTasks, gradleVersion, modelDigest);
         }
     }
 
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.classpath;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.jdt.core.IAccessRule;
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Canonicalizes classpath entries and their parts.
+ * <p/>
+ * The projects of a large build mostly depend on the same libraries, so without canonicalization
+ * every project holds its own copy of the same paths, access rules, attributes and entries, both in
+ * the classpath containers and in the persisted models. The interned instances are held weakly, so
+ * they are released once no classpath references them anymore.
+ */
+public final class ClasspathInterner {
+
+    private static final Interner<IPath> paths = Interners.newWeakInterner();
+    private static final Interner<IClasspathAttribute> attributes = Interners.newWeakInterner();
+    private static final Interner<IAccessRule> accessRules = Interners.newWeakInterner();
+    private static final Interner<IClasspathEntry> entries = Interners.newWeakInterner();
+
+    private ClasspathInterner() {
+    }
+
+    /**
+     * Returns the canonical instance of a path.
+     *
+     * @param path the path to intern, can be {@code null}
+     * @return the canonical instance
+     */
+    public static IPath intern(IPath path) {
+        return path != null ? paths.intern(path) : null;
+    }
+
+    /**
+     * Returns a copy of an access rule array containing the canonical instances of the rules. The
+     * arrays themselves are shared through the interned entries referencing them.
+     *
+     * @param rules the access rules to intern
+     * @return the array of canonical instances
+     */
+    public static IAccessRule[] intern(IAccessRule[] rules) {
+        IAccessRule[] internedRules = new IAccessRule[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            internedRules[i] = accessRules.intern(rules[i]);
+        }
+        return internedRules;
+    }
+
+    /**
+     * Returns a copy of a classpath attribute array containing the canonical instances of the
+     * attributes.
+     *
+     * @param classpathAttributes the classpath attributes to intern
+     * @return the array of canonical instances
+     */
+    public static IClasspathAttribute[] intern(IClasspathAttribute[] classpathAttributes) {
+        IClasspathAttribute[] internedAttributes = new IClasspathAttribute[classpathAttributes.length];
+        for (int i = 0; i < classpathAttributes.length; i++) {
+            internedAttributes[i] = attributes.intern(classpathAttributes[i]);
+        }
+        return internedAttributes;
+    }
+
+    /**
+     * Returns the canonical instance of a classpath entry. Only library and project entries are
+     * interned, the other entries are returned as is.
+     *
+     * @param entry the entry to intern
+     * @return the canonical instance
+     */
+    public static IClasspathEntry intern(IClasspathEntry entry) {
+        // the entry is recreated first, so the interned instance references the interned parts
+        IClasspathEntry canonicalEntry;
+        switch (entry.getEntryKind()) {
+            case IClasspathEntry.CPE_LIBRARY:
+                canonicalEntry = JavaCore.newLibraryEntry(intern(entry.getPath()), intern(entry.getSourceAttachmentPath()), intern(entry.getSourceAttachmentRootPath()),
+                        intern(entry.getAccessRules()), intern(entry.getExtraAttributes()), entry.isExported());
+                break;
+            case IClasspathEntry.CPE_PROJECT:
+                canonicalEntry = JavaCore.newProjectEntry(intern(entry.getPath()), intern(entry.getAccessRules()), entry.combineAccessRules(), intern(entry.getExtraAttributes()),
+                        entry.isExported());
+                break;
+            default:
+                return entry;
+        }
+        return entries.intern(canonicalEntry.equals(entry) ? canonicalEntry : entry);
+    }
+
+    /**
+     * Interns all entries of a classpath.
+     *
+     * @param classpath the classpath entries
+     * @return the list of canonical instances
+     */
+    public static List<IClasspathEntry> internAll(List<IClasspathEntry> classpath) {
+        ImmutableList.Builder<IClasspathEntry> result = ImmutableList.builder();
+        for (IClasspathEntry entry : classpath) {
+            result.add(intern(entry));
+        }
+        return result.build();
+    }
+}
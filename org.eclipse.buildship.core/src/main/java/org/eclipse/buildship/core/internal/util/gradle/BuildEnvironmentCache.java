@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.gradle;
+
+import java.io.File;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.model.build.BuildEnvironment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import org.eclipse.buildship.core.GradleDistribution;
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.CoreTraceScopes;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+
+/**
+ * Memoizes the {@link BuildEnvironment} model of the Gradle builds.
+ * <p/>
+ * The build environment only depends on the Gradle distribution, the Gradle user home and the Java
+ * home used by the build. Entries are keyed by these attributes, hence changing any of them results
+ * in a new query. The key also contains the timestamps of the wrapper properties file and of the
+ * {@code gradle.properties} files in the build root and in the Gradle user home, as these can change
+ * the Gradle version, the Java home and the JVM arguments of the daemon.
+ */
+public final class BuildEnvironmentCache {
+
+    private static final String WRAPPER_PROPERTIES_PATH = "gradle/wrapper/gradle-wrapper.properties";
+    private static final String GRADLE_PROPERTIES_PATH = "gradle.properties";
+
+    private final Cache<Key, CompletableFuture<BuildEnvironment>> cache = CacheBuilder.newBuilder().maximumSize(256).build();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Returns the build environment for the target build configuration, querying it if it's not yet
+     * cached.
+     * <p/>
+     * Concurrent callers requesting the same build environment share a single query. Failed queries
+     * are not cached, the next request queries the build environment again.
+     *
+     * @param buildConfiguration the target build configuration
+     * @param loader starts the query of the build environment
+     * @return the future build environment, never null
+     */
+    public CompletableFuture<BuildEnvironment> getAsync(BuildConfiguration buildConfiguration, Supplier<CompletableFuture<BuildEnvironment>> loader) {
+        Key key = Key.from(buildConfiguration);
+        AtomicBoolean loaded = new AtomicBoolean();
+        CompletableFuture<BuildEnvironment> result;
+        try {
+            result = this.cache.get(key, () -> {
+                loaded.set(true);
+                return startLoad(loader);
+            });
+        } catch (ExecutionException e) {
+            // startLoad() reports the failures through the returned future
+            throw new IllegalStateException(e.getCause());
+        }
+
+        if (loaded.get()) {
+            this.missCount.incrementAndGet();
+            CompletableFuture<BuildEnvironment> load = result;
+            load.whenComplete((buildEnvironment, failure) -> {
+                if (failure != null) {
+                    this.cache.asMap().remove(key, load);
+                } else {
+                    CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, String.format("Queried build environment for %s (round trips saved so far: %d, queries: %d)",
+                            buildConfiguration.getRootProjectDirectory(), this.hitCount.get(), this.missCount.get()));
+                }
+            });
+        } else {
+            this.hitCount.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the build environment for the target build configuration, querying it if it's not yet
+     * cached. Blocks until the build environment is available.
+     *
+     * @param buildConfiguration the target build configuration
+     * @param loader starts the query of the build environment
+     * @return the build environment, never null
+     * @see #getAsync(BuildConfiguration, Supplier)
+     */
+    public BuildEnvironment get(BuildConfiguration buildConfiguration, Supplier<CompletableFuture<BuildEnvironment>> loader) {
+        try {
+            return getAsync(buildConfiguration, loader).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GradleConnectionException("Interrupted while querying the build environment", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new GradleConnectionException("Failed to query the build environment", cause);
+            }
+        }
+    }
+
+    private static CompletableFuture<BuildEnvironment> startLoad(Supplier<CompletableFuture<BuildEnvironment>> loader) {
+        try {
+            return loader.get();
+        } catch (RuntimeException e) {
+            CompletableFuture<BuildEnvironment> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+    }
+
+    /**
+     * Returns the number of build environment queries served from the cache, i.e. the number of
+     * saved round trips to the Gradle daemon.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Returns the number of build environment queries that had to contact Gradle.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return this.missCount.get();
+    }
+
+    /**
+     * Removes the cached entries of a build, so the next request queries the build environment
+     * again.
+     *
+     * @param buildConfiguration the build configuration to invalidate
+     */
+    public void invalidate(BuildConfiguration buildConfiguration) {
+        File rootDir = buildConfiguration.getRootProjectDirectory();
+        this.cache.asMap().keySet().removeIf(key -> key.rootDir.equals(rootDir));
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        this.cache.invalidateAll();
+    }
+
+    /**
+     * Attributes influencing the content of the build environment model.
+     */
+    private static final class Key {
+
+        private final File rootDir;
+        private final GradleDistribution distribution;
+        private final File gradleUserHome;
+        private final File javaHome;
+        private final long wrapperTimestamp;
+        private final long propertiesTimestamp;
+        private final long userPropertiesTimestamp;
+
+        private Key(File rootDir, GradleDistribution distribution, File gradleUserHome, File javaHome, long wrapperTimestamp, long propertiesTimestamp, long userPropertiesTimestamp) {
+            this.rootDir = rootDir;
+            this.distribution = distribution;
+            this.gradleUserHome = gradleUserHome;
+            this.javaHome = javaHome;
+            this.wrapperTimestamp = wrapperTimestamp;
+            this.propertiesTimestamp = propertiesTimestamp;
+            this.userPropertiesTimestamp = userPropertiesTimestamp;
+        }
+
+        private static Key from(BuildConfiguration buildConfiguration) {
+            File rootDir = buildConfiguration.getRootProjectDirectory();
+            long wrapperTimestamp = new File(rootDir, WRAPPER_PROPERTIES_PATH).lastModified();
+            long propertiesTimestamp = new File(rootDir, GRADLE_PROPERTIES_PATH).lastModified();
+            long userPropertiesTimestamp = new File(effectiveGradleUserHome(buildConfiguration.getGradleUserHome()), GRADLE_PROPERTIES_PATH).lastModified();
+            return new Key(rootDir, buildConfiguration.getGradleDistribution(), buildConfiguration.getGradleUserHome(), buildConfiguration.getJavaHome(), wrapperTimestamp,
+                    propertiesTimestamp, userPropertiesTimestamp);
+        }
+
+        private static File effectiveGradleUserHome(File gradleUserHome) {
+            if (gradleUserHome != null) {
+                return gradleUserHome;
+            }
+            String gradleUserHomeVariable = System.getenv("GRADLE_USER_HOME");
+            return gradleUserHomeVariable != null ? new File(gradleUserHomeVariable) : new File(System.getProperty("user.home"), ".gradle");
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.rootDir, this.distribution, this.gradleUserHome, this.javaHome, this.wrapperTimestamp, this.propertiesTimestamp, this.userPropertiesTimestamp);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null) {
+                return false;
+            }
+            if (getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(this.rootDir, other.rootDir)
+                    && Objects.equals(this.distribution, other.distribution)
+                    && Objects.equals(this.gradleUserHome, other.gradleUserHome)
+                    && Objects.equals(this.javaHome, other.javaHome)
+                    && this.wrapperTimestamp == other.wrapperTimestamp
+                    && this.propertiesTimestamp == other.propertiesTimestamp
+                    && this.userPropertiesTimestamp == other.userPropertiesTimestamp;
+        }
+    }
+}
@@ -24,7 +24,7 @@ import org.gradle.tooling.model.eclipse.EclipseClasspathEntry;
  */
 public abstract class CompatEclipseClasspathEntry<T extends EclipseClasspathEntry> extends CompatModelElement<T> implements EclipseClasspathEntry {
 
-    private static final DomainObjectSet<? extends ClasspathAttribute> UNSUPPORTED_ATTRIBUTES = ModelUtils.emptyDomainObjectSet();
+    static final DomainObjectSet<? extends ClasspathAttribute> UNSUPPORTED_ATTRIBUTES = ModelUtils.emptyDomainObjectSet();
 
     CompatEclipseClasspathEntry(T delegate) {
         super(delegate);
@@ -45,7 +45,7 @@ import com.google.common.collect.Lists;
  */
 public class CompatEclipseProject extends CompatModelElement<EclipseProject> implements EclipseProject {
 
-    private static final DomainObjectSet<? extends EclipseClasspathContainer> UNSUPPORTED_CONTAINERS = ModelUtils.emptyDomainObjectSet();
+    static final DomainObjectSet<? extends EclipseClasspathContainer> UNSUPPORTED_CONTAINERS = ModelUtils.emptyDomainObjectSet();
 
     static final EclipseJavaSourceSettings FALLBACK_JAVA_SOURCE_SETTINGS = new FallbackJavaSourceSettings();
     static final EclipseOutputLocation FALLBACK_OUTPUT_LOCATION = new FallbackOutputLocation();
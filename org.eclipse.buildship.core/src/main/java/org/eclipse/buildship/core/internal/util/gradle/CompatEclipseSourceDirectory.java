@@ -22,9 +22,9 @@ import org.gradle.tooling.model.eclipse.EclipseSourceDirectory;
  */
 public class CompatEclipseSourceDirectory extends CompatEclipseClasspathEntry<EclipseSourceDirectory> implements EclipseSourceDirectory {
 
-    private static List<String> UNSUPPORTED_EXCLUDES = Collections.emptyList();
-    private static List<String> UNSUPPORTED_INCLUDES = Collections.emptyList();
-    private static String UNSUPPORTED_OUTPUT = "bin";
+    static final List<String> UNSUPPORTED_EXCLUDES = Collections.emptyList();
+    static final List<String> UNSUPPORTED_INCLUDES = Collections.emptyList();
+    static final String UNSUPPORTED_OUTPUT = "bin";
 
     CompatEclipseSourceDirectory(EclipseSourceDirectory delegate) {
         super(delegate);
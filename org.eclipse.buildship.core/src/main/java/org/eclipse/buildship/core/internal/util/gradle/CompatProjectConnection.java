@@ -98,7 +98,8 @@ public class CompatProjectConnection implements ProjectConnection {
     @SuppressWarnings("unchecked")
     private static <T> T injectCompatibilityModel(T model) {
         if (model instanceof EclipseProject) {
-            return (T) new CompatEclipseProject((EclipseProject) model);
+            // the proxies are only read once, the rest of the application works with the snapshot
+            return (T) EclipseProjectSnapshot.of(new CompatEclipseProject((EclipseProject) model));
         } else if (model instanceof Map<?, ?>) {
             Map<String, EclipseProject> compatModel = Maps.newLinkedHashMap();
             for (Entry<Object, Object> entry : ((Map<Object, Object>)model).entrySet()) {
@@ -0,0 +1,1091 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.gradle;
+
+import java.io.File;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.gradle.api.JavaVersion;
+import org.gradle.tooling.model.BuildIdentifier;
+import org.gradle.tooling.model.ComponentSelector;
+import org.gradle.tooling.model.DomainObjectSet;
+import org.gradle.tooling.model.GradleModuleVersion;
+import org.gradle.tooling.model.GradleProject;
+import org.gradle.tooling.model.GradleTask;
+import org.gradle.tooling.model.ProjectIdentifier;
+import org.gradle.tooling.model.UnsupportedMethodException;
+import org.gradle.tooling.model.eclipse.AccessRule;
+import org.gradle.tooling.model.eclipse.ClasspathAttribute;
+import org.gradle.tooling.model.eclipse.EclipseBuildCommand;
+import org.gradle.tooling.model.eclipse.EclipseClasspathContainer;
+import org.gradle.tooling.model.eclipse.EclipseClasspathEntry;
+import org.gradle.tooling.model.eclipse.EclipseExternalDependency;
+import org.gradle.tooling.model.eclipse.EclipseJavaSourceSettings;
+import org.gradle.tooling.model.eclipse.EclipseLinkedResource;
+import org.gradle.tooling.model.eclipse.EclipseOutputLocation;
+import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.eclipse.EclipseProjectDependency;
+import org.gradle.tooling.model.eclipse.EclipseProjectNature;
+import org.gradle.tooling.model.eclipse.EclipseSourceDirectory;
+import org.gradle.tooling.model.gradle.GradleScript;
+import org.gradle.tooling.model.java.InstalledJdk;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Immutable copy of an {@link EclipseProject} model hierarchy.
+ * <p/>
+ * The models returned by the Tooling API are dynamic proxies backed by generic property maps, and
+ * every access to them goes through reflection and creates new wrapper objects. Keeping them in the
+ * model caches and in the configurators retains considerably more memory than the values they
+ * hold. The snapshot copies the complete project hierarchy, including the Gradle projects and
+ * their tasks, into plain value objects once, so the proxies can be released right after the
+ * models are loaded. The strings and files shared by the projects of a build, like the library
+ * paths and the project natures, are stored only once.
+ * <p/>
+ * The snapshot is created from the compatibility models, so it contains the same fallback values
+ * for older Gradle versions and the {@code supports*()} checks of the compatibility classes work
+ * on it. The snapshot is serializable.
+ */
+public final class EclipseProjectSnapshot implements EclipseProject, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Interner<String> strings = Interners.newWeakInterner();
+    private static final Interner<File> files = Interners.newWeakInterner();
+
+    private final String name;
+    private final String description;
+    private final File projectDirectory;
+    private final ProjectIdentifier projectIdentifier;
+    private final DomainObjectSet<? extends EclipseExternalDependency> classpath;
+    private final DomainObjectSet<? extends EclipseProjectDependency> projectDependencies;
+    private final DomainObjectSet<? extends EclipseSourceDirectory> sourceDirectories;
+    private final DomainObjectSet<? extends EclipseClasspathContainer> classpathContainers;
+    private final boolean supportsClasspathContainers;
+    private final DomainObjectSet<? extends EclipseLinkedResource> linkedResources;
+    private final DomainObjectSet<? extends EclipseProjectNature> projectNatures;
+    private final DomainObjectSet<? extends EclipseBuildCommand> buildCommands;
+    private final EclipseJavaSourceSettings javaSourceSettings;
+    private final EclipseOutputLocation outputLocation;
+    private final Boolean autoBuildTasks;
+
+    // the hierarchy is set up once while the snapshot is created
+    private GradleProject gradleProject;
+    private EclipseProject parent;
+    private DomainObjectSet<? extends EclipseProject> children;
+
+    private EclipseProjectSnapshot(EclipseProject project, ProjectIdentifier projectIdentifier) {
+        this.name = string(project.getName());
+        this.description = string(project.getDescription());
+        this.projectDirectory = file(project.getProjectDirectory());
+        this.projectIdentifier = projectIdentifier;
+        this.classpath = externalDependencies(project.getClasspath());
+        this.projectDependencies = projectDependencies(project.getProjectDependencies());
+        this.sourceDirectories = sourceDirectories(project.getSourceDirectories());
+        this.supportsClasspathContainers = CompatEclipseProject.supportsClasspathContainers(project);
+        this.classpathContainers = this.supportsClasspathContainers ? classpathContainers(project.getClasspathContainers()) : null;
+        this.linkedResources = unlessUnsupported(() -> linkedResources(project.getLinkedResources()));
+        this.projectNatures = projectNatures(project.getProjectNatures());
+        this.buildCommands = buildCommands(project.getBuildCommands());
+        this.javaSourceSettings = JavaSourceSettingsSnapshot.of(project.getJavaSourceSettings());
+        this.outputLocation = new OutputLocationSnapshot(string(project.getOutputLocation().getPath()));
+        this.autoBuildTasks = unlessUnsupported(project::hasAutoBuildTasks);
+    }
+
+    /**
+     * Creates a snapshot of the complete hierarchy of a project.
+     *
+     * @param project the project model, wrapped in a {@link CompatEclipseProject}
+     * @return the snapshot of the project, its parent and children are snapshots too
+     */
+    public static EclipseProject of(EclipseProject project) {
+        String path = project.getGradleProject().getPath();
+        Converter converter = new Converter();
+        converter.convertGradleProjects(HierarchicalElementUtils.getRoot(project.getGradleProject()), null);
+        EclipseProjectSnapshot root = converter.convertEclipseProjects(HierarchicalElementUtils.getRoot(project), null);
+        EclipseProject result = root.findByPath(path);
+        return result != null ? result : root;
+    }
+
+    private EclipseProjectSnapshot findByPath(String path) {
+        if (this.gradleProject.getPath().equals(path)) {
+            return this;
+        }
+        for (EclipseProject child : this.children) {
+            EclipseProjectSnapshot result = ((EclipseProjectSnapshot) child).findByPath(path);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+
+    @Override
+    public File getProjectDirectory() {
+        return this.projectDirectory;
+    }
+
+    @Override
+    public ProjectIdentifier getProjectIdentifier() {
+        return unsupportedIfNull(this.projectIdentifier, "getProjectIdentifier");
+    }
+
+    @Override
+    public GradleProject getGradleProject() {
+        return this.gradleProject;
+    }
+
+    @Override
+    public EclipseProject getParent() {
+        return this.parent;
+    }
+
+    @Override
+    public DomainObjectSet<? extends EclipseProject> getChildren() {
+        return this.children;
+    }
+
+    @Override
+    public DomainObjectSet<? extends EclipseExternalDependency> getClasspath() {
+        return this.classpath;
+    }
+
+    @Override
+    public DomainObjectSet<? extends EclipseProjectDependency> getProjectDependencies() {
+        return this.projectDependencies;
+    }
+
+    @Override
+    public DomainObjectSet<? extends EclipseSourceDirectory> getSourceDirectories() {
+        return this.sourceDirectories;
+    }
+
+    @Override
+    public DomainObjectSet<? extends EclipseClasspathContainer> getClasspathContainers() {
+        return this.supportsClasspathContainers ? this.classpathContainers : CompatEclipseProject.UNSUPPORTED_CONTAINERS;
+    }
+
+    @Override
+    public DomainObjectSet<? extends EclipseLinkedResource> getLinkedResources() {
+        return unsupportedIfNull(this.linkedResources, "getLinkedResources");
+    }
+
+    @Override
+    public DomainObjectSet<? extends EclipseProjectNature> getProjectNatures() {
+        return this.projectNatures;
+    }
+
+    @Override
+    public DomainObjectSet<? extends EclipseBuildCommand> getBuildCommands() {
+        return this.buildCommands;
+    }
+
+    @Override
+    public EclipseJavaSourceSettings getJavaSourceSettings() {
+        return this.javaSourceSettings;
+    }
+
+    @Override
+    public EclipseOutputLocation getOutputLocation() {
+        return this.outputLocation;
+    }
+
+    @Override
+    public boolean hasAutoBuildTasks() {
+        return unsupportedIfNull(this.autoBuildTasks, "hasAutoBuildTasks");
+    }
+
+    @Override
+    public String toString() {
+        return "EclipseProjectSnapshot[" + this.name + "]";
+    }
+
+    private static String string(String value) {
+        return value != null ? strings.intern(value) : null;
+    }
+
+    private static File file(File value) {
+        return value != null ? files.intern(value) : null;
+    }
+
+    private static List<String> strings(List<String> values) {
+        List<String> result = Lists.newArrayListWithCapacity(values.size());
+        for (String value : values) {
+            result.add(string(value));
+        }
+        return ImmutableList.copyOf(result);
+    }
+
+    private static <T> T unlessUnsupported(Supplier<T> value) {
+        // the unsupported properties are only reported when they are accessed, like on the proxies
+        try {
+            return value.get();
+        } catch (UnsupportedMethodException e) {
+            return null;
+        }
+    }
+
+    private static <T> T unsupportedIfNull(T value, String method) {
+        if (value == null) {
+            throw new UnsupportedMethodException("Method " + method + " is not supported by the target Gradle version");
+        }
+        return value;
+    }
+
+    private static DomainObjectSet<? extends EclipseExternalDependency> externalDependencies(DomainObjectSet<? extends EclipseExternalDependency> dependencies) {
+        List<EclipseExternalDependency> result = Lists.newArrayListWithCapacity(dependencies.size());
+        for (EclipseExternalDependency dependency : dependencies) {
+            result.add(new ExternalDependencySnapshot(dependency));
+        }
+        return ModelUtils.asDomainObjectSet(result);
+    }
+
+    private static DomainObjectSet<? extends EclipseProjectDependency> projectDependencies(DomainObjectSet<? extends EclipseProjectDependency> dependencies) {
+        List<EclipseProjectDependency> result = Lists.newArrayListWithCapacity(dependencies.size());
+        for (EclipseProjectDependency dependency : dependencies) {
+            result.add(new ProjectDependencySnapshot(dependency));
+        }
+        return ModelUtils.asDomainObjectSet(result);
+    }
+
+    private static DomainObjectSet<? extends EclipseSourceDirectory> sourceDirectories(DomainObjectSet<? extends EclipseSourceDirectory> directories) {
+        List<EclipseSourceDirectory> result = Lists.newArrayListWithCapacity(directories.size());
+        for (EclipseSourceDirectory directory : directories) {
+            result.add(new SourceDirectorySnapshot(directory));
+        }
+        return ModelUtils.asDomainObjectSet(result);
+    }
+
+    private static DomainObjectSet<? extends EclipseClasspathContainer> classpathContainers(DomainObjectSet<? extends EclipseClasspathContainer> containers) {
+        List<EclipseClasspathContainer> result = Lists.newArrayListWithCapacity(containers.size());
+        for (EclipseClasspathContainer container : containers) {
+            result.add(new ClasspathContainerSnapshot(container));
+        }
+        return ModelUtils.asDomainObjectSet(result);
+    }
+
+    private static DomainObjectSet<? extends EclipseLinkedResource> linkedResources(DomainObjectSet<? extends EclipseLinkedResource> linkedResources) {
+        List<EclipseLinkedResource> result = Lists.newArrayListWithCapacity(linkedResources.size());
+        for (EclipseLinkedResource linkedResource : linkedResources) {
+            result.add(new LinkedResourceSnapshot(linkedResource));
+        }
+        return ModelUtils.asDomainObjectSet(result);
+    }
+
+    private static DomainObjectSet<? extends EclipseProjectNature> projectNatures(DomainObjectSet<? extends EclipseProjectNature> natures) {
+        List<EclipseProjectNature> result = Lists.newArrayListWithCapacity(natures.size());
+        for (EclipseProjectNature nature : natures) {
+            result.add(new ProjectNatureSnapshot(string(nature.getId())));
+        }
+        return ModelUtils.asDomainObjectSet(result);
+    }
+
+    private static DomainObjectSet<? extends EclipseBuildCommand> buildCommands(DomainObjectSet<? extends EclipseBuildCommand> buildCommands) {
+        List<EclipseBuildCommand> result = Lists.newArrayListWithCapacity(buildCommands.size());
+        for (EclipseBuildCommand buildCommand : buildCommands) {
+            result.add(new BuildCommandSnapshot(buildCommand));
+        }
+        return ModelUtils.asDomainObjectSet(result);
+    }
+
+    /**
+     * Converts the Gradle and Eclipse project hierarchies of a single build.
+     */
+    private static final class Converter {
+
+        private final Map<String, GradleProjectSnapshot> gradleProjects = Maps.newHashMap();
+        private final Map<File, BuildIdentifier> buildIdentifiers = Maps.newHashMap();
+
+        private GradleProjectSnapshot convertGradleProjects(GradleProject project, GradleProjectSnapshot parent) {
+            GradleProjectSnapshot snapshot = new GradleProjectSnapshot(project, projectIdentifier(project), parent);
+            this.gradleProjects.put(snapshot.getPath(), snapshot);
+
+            List<GradleTask> tasks = Lists.newArrayList();
+            for (GradleTask task : project.getTasks()) {
+                tasks.add(new TaskSnapshot(task, snapshot));
+            }
+            snapshot.tasks = ModelUtils.asDomainObjectSet(tasks);
+
+            List<GradleProject> children = Lists.newArrayList();
+            for (GradleProject child : project.getChildren()) {
+                children.add(convertGradleProjects(child, snapshot));
+            }
+            snapshot.children = ModelUtils.asDomainObjectSet(children);
+            return snapshot;
+        }
+
+        private EclipseProjectSnapshot convertEclipseProjects(EclipseProject project, EclipseProjectSnapshot parent) {
+            GradleProject gradleProject = project.getGradleProject();
+            GradleProjectSnapshot gradleProjectSnapshot = this.gradleProjects.get(gradleProject.getPath());
+            if (gradleProjectSnapshot == null) {
+                gradleProjectSnapshot = convertGradleProjects(gradleProject, null);
+            }
+
+            EclipseProjectSnapshot snapshot = new EclipseProjectSnapshot(project, gradleProjectSnapshot.projectIdentifier);
+            snapshot.gradleProject = gradleProjectSnapshot;
+            snapshot.parent = parent;
+            List<EclipseProject> children = Lists.newArrayList();
+            for (EclipseProject child : project.getChildren()) {
+                children.add(convertEclipseProjects(child, snapshot));
+            }
+            snapshot.children = ModelUtils.asDomainObjectSet(children);
+            return snapshot;
+        }
+
+        private ProjectIdentifier projectIdentifier(GradleProject project) {
+            ProjectIdentifier projectIdentifier = unlessUnsupported(project::getProjectIdentifier);
+            if (projectIdentifier == null) {
+                return null;
+            }
+            File rootDir = file(projectIdentifier.getBuildIdentifier().getRootDir());
+            BuildIdentifier buildIdentifier = this.buildIdentifiers.get(rootDir);
+            if (buildIdentifier == null) {
+                buildIdentifier = new BuildIdentifierSnapshot(rootDir);
+                this.buildIdentifiers.put(rootDir, buildIdentifier);
+            }
+            return new ProjectIdentifierSnapshot(string(projectIdentifier.getProjectPath()), buildIdentifier);
+        }
+    }
+
+    /**
+     * Snapshot of a {@link GradleProject}.
+     */
+    private static final class GradleProjectSnapshot implements GradleProject, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final String description;
+        private final String path;
+        private final File projectDirectory;
+        private final File buildDirectory;
+        private final GradleScript buildScript;
+        private final ProjectIdentifier projectIdentifier;
+        private final GradleProject parent;
+        private DomainObjectSet<? extends GradleTask> tasks;
+        private DomainObjectSet<? extends GradleProject> children;
+
+        private GradleProjectSnapshot(GradleProject project, ProjectIdentifier projectIdentifier, GradleProject parent) {
+            this.name = string(project.getName());
+            this.description = string(project.getDescription());
+            this.path = string(project.getPath());
+            this.projectDirectory = file(project.getProjectDirectory());
+            this.buildDirectory = file(project.getBuildDirectory());
+            GradleScript buildScript = project.getBuildScript();
+            this.buildScript = buildScript != null ? new GradleScriptSnapshot(file(buildScript.getSourceFile())) : null;
+            this.projectIdentifier = projectIdentifier;
+            this.parent = parent;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public String getDescription() {
+            return this.description;
+        }
+
+        @Override
+        public String getPath() {
+            return this.path;
+        }
+
+        @Override
+        public File getProjectDirectory() {
+            return this.projectDirectory;
+        }
+
+        @Override
+        public File getBuildDirectory() {
+            return this.buildDirectory;
+        }
+
+        @Override
+        public GradleScript getBuildScript() {
+            return this.buildScript;
+        }
+
+        @Override
+        public ProjectIdentifier getProjectIdentifier() {
+            return unsupportedIfNull(this.projectIdentifier, "getProjectIdentifier");
+        }
+
+        @Override
+        public DomainObjectSet<? extends GradleTask> getTasks() {
+            return this.tasks;
+        }
+
+        @Override
+        public GradleProject getParent() {
+            return this.parent;
+        }
+
+        @Override
+        public DomainObjectSet<? extends GradleProject> getChildren() {
+            return this.children;
+        }
+
+        @Override
+        public GradleProject findByPath(String path) {
+            if (this.path.equals(path)) {
+                return this;
+            }
+            for (GradleProject child : this.children) {
+                GradleProject result = child.findByPath(path);
+                if (result != null) {
+                    return result;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Snapshot of a {@link GradleTask}.
+     */
+    private static final class TaskSnapshot implements GradleTask, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final String description;
+        private final String displayName;
+        private final String group;
+        private final String path;
+        private final String buildTreePath;
+        private final boolean isPublic;
+        private final GradleProjectSnapshot project;
+
+        private TaskSnapshot(GradleTask task, GradleProjectSnapshot project) {
+            this.name = string(task.getName());
+            this.description = string(task.getDescription());
+            this.displayName = string(unlessUnsupported(task::getDisplayName));
+            this.group = string(task.getGroup());
+            this.path = string(task.getPath());
+            this.buildTreePath = string(task.getBuildTreePath());
+            this.isPublic = task.isPublic();
+            this.project = project;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public String getDescription() {
+            return this.description;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return unsupportedIfNull(this.displayName, "getDisplayName");
+        }
+
+        @Override
+        public String getGroup() {
+            return this.group;
+        }
+
+        @Override
+        public String getPath() {
+            return this.path;
+        }
+
+        @Override
+        public String getBuildTreePath() {
+            return this.buildTreePath;
+        }
+
+        @Override
+        public boolean isPublic() {
+            return this.isPublic;
+        }
+
+        @Override
+        public GradleProject getProject() {
+            return this.project;
+        }
+
+        @Override
+        public ProjectIdentifier getProjectIdentifier() {
+            return this.project.getProjectIdentifier();
+        }
+    }
+
+    /**
+     * Snapshot of a {@link ProjectIdentifier}.
+     */
+    private static final class ProjectIdentifierSnapshot implements ProjectIdentifier, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String projectPath;
+        private final BuildIdentifier buildIdentifier;
+
+        private ProjectIdentifierSnapshot(String projectPath, BuildIdentifier buildIdentifier) {
+            this.projectPath = projectPath;
+            this.buildIdentifier = buildIdentifier;
+        }
+
+        @Override
+        public String getProjectPath() {
+            return this.projectPath;
+        }
+
+        @Override
+        public BuildIdentifier getBuildIdentifier() {
+            return this.buildIdentifier;
+        }
+    }
+
+    /**
+     * Snapshot of a {@link BuildIdentifier}.
+     */
+    private static final class BuildIdentifierSnapshot implements BuildIdentifier, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final File rootDir;
+
+        private BuildIdentifierSnapshot(File rootDir) {
+            this.rootDir = rootDir;
+        }
+
+        @Override
+        public File getRootDir() {
+            return this.rootDir;
+        }
+    }
+
+    /**
+     * Snapshot of a {@link GradleScript}.
+     */
+    private static final class GradleScriptSnapshot implements GradleScript, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final File sourceFile;
+
+        private GradleScriptSnapshot(File sourceFile) {
+            this.sourceFile = sourceFile;
+        }
+
+        @Override
+        public File getSourceFile() {
+            return this.sourceFile;
+        }
+    }
+
+    /**
+     * Base class for the snapshots of the {@link EclipseClasspathEntry} subtypes.
+     */
+    private abstract static class ClasspathEntrySnapshot implements EclipseClasspathEntry, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DomainObjectSet<? extends AccessRule> accessRules;
+        private final DomainObjectSet<? extends ClasspathAttribute> classpathAttributes;
+        private final boolean supportsAttributes;
+
+        ClasspathEntrySnapshot(EclipseClasspathEntry entry) {
+            List<AccessRule> accessRules = Lists.newArrayList();
+            for (AccessRule accessRule : entry.getAccessRules()) {
+                accessRules.add(new AccessRuleSnapshot(accessRule.getKind(), string(accessRule.getPattern())));
+            }
+            this.accessRules = ModelUtils.asDomainObjectSet(accessRules);
+
+            this.supportsAttributes = CompatEclipseClasspathEntry.supportsAttributes(entry);
+            if (this.supportsAttributes) {
+                List<ClasspathAttribute> attributes = Lists.newArrayList();
+                for (ClasspathAttribute attribute : entry.getClasspathAttributes()) {
+                    attributes.add(new ClasspathAttributeSnapshot(string(attribute.getName()), string(attribute.getValue())));
+                }
+                this.classpathAttributes = ModelUtils.asDomainObjectSet(attributes);
+            } else {
+                this.classpathAttributes = null;
+            }
+        }
+
+        @Override
+        public DomainObjectSet<? extends AccessRule> getAccessRules() {
+            return this.accessRules;
+        }
+
+        @Override
+        public DomainObjectSet<? extends ClasspathAttribute> getClasspathAttributes() {
+            return this.supportsAttributes ? this.classpathAttributes : CompatEclipseClasspathEntry.UNSUPPORTED_ATTRIBUTES;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EclipseExternalDependency}.
+     */
+    private static final class ExternalDependencySnapshot extends ClasspathEntrySnapshot implements EclipseExternalDependency {
+
+        private static final long serialVersionUID = 1L;
+
+        private final File file;
+        private final File source;
+        private final File javadoc;
+        private final GradleModuleVersion gradleModuleVersion;
+        private final ComponentSelector attemptedSelector;
+        private final boolean exported;
+        private final boolean resolved;
+
+        private ExternalDependencySnapshot(EclipseExternalDependency dependency) {
+            super(dependency);
+            this.file = file(dependency.getFile());
+            this.source = file(dependency.getSource());
+            this.javadoc = file(dependency.getJavadoc());
+            GradleModuleVersion moduleVersion = dependency.getGradleModuleVersion();
+            this.gradleModuleVersion = moduleVersion != null ? new GradleModuleVersionSnapshot(moduleVersion) : null;
+            ComponentSelector attemptedSelector = dependency.getAttemptedSelector();
+            this.attemptedSelector = attemptedSelector != null ? new ComponentSelectorSnapshot(string(attemptedSelector.getDisplayName())) : null;
+            this.exported = dependency.isExported();
+            this.resolved = dependency.isResolved();
+        }
+
+        @Override
+        public File getFile() {
+            return this.file;
+        }
+
+        @Override
+        public File getSource() {
+            return this.source;
+        }
+
+        @Override
+        public File getJavadoc() {
+            return this.javadoc;
+        }
+
+        @Override
+        public GradleModuleVersion getGradleModuleVersion() {
+            return this.gradleModuleVersion;
+        }
+
+        @Override
+        public ComponentSelector getAttemptedSelector() {
+            return this.attemptedSelector;
+        }
+
+        @Override
+        public boolean isExported() {
+            return this.exported;
+        }
+
+        @Override
+        public boolean isResolved() {
+            return this.resolved;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EclipseProjectDependency}.
+     */
+    private static final class ProjectDependencySnapshot extends ClasspathEntrySnapshot implements EclipseProjectDependency {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String path;
+        private final boolean exported;
+
+        private ProjectDependencySnapshot(EclipseProjectDependency dependency) {
+            super(dependency);
+            this.path = string(dependency.getPath());
+            this.exported = dependency.isExported();
+        }
+
+        @Override
+        public String getPath() {
+            return this.path;
+        }
+
+        @Override
+        public boolean isExported() {
+            return this.exported;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EclipseSourceDirectory}.
+     */
+    private static final class SourceDirectorySnapshot extends ClasspathEntrySnapshot implements EclipseSourceDirectory {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String path;
+        private final File directory;
+        private final List<String> excludes;
+        private final List<String> includes;
+        private final String output;
+
+        private SourceDirectorySnapshot(EclipseSourceDirectory directory) {
+            super(directory);
+            this.path = string(directory.getPath());
+            this.directory = file(directory.getDirectory());
+            this.excludes = CompatEclipseSourceDirectory.supportsExcludes(directory) ? strings(directory.getExcludes()) : null;
+            this.includes = CompatEclipseSourceDirectory.supportsIncludes(directory) ? strings(directory.getIncludes()) : null;
+            // not interned, the canonical "bin" instance is the marker of the unsupported output
+            this.output = CompatEclipseSourceDirectory.supportsOutput(directory) ? directory.getOutput() : null;
+        }
+
+        @Override
+        public String getPath() {
+            return this.path;
+        }
+
+        @Override
+        public File getDirectory() {
+            return this.directory;
+        }
+
+        @Override
+        public List<String> getExcludes() {
+            return this.excludes != null ? this.excludes : CompatEclipseSourceDirectory.UNSUPPORTED_EXCLUDES;
+        }
+
+        @Override
+        public List<String> getIncludes() {
+            return this.includes != null ? this.includes : CompatEclipseSourceDirectory.UNSUPPORTED_INCLUDES;
+        }
+
+        @Override
+        public String getOutput() {
+            return this.output != null ? this.output : CompatEclipseSourceDirectory.UNSUPPORTED_OUTPUT;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EclipseClasspathContainer}.
+     */
+    private static final class ClasspathContainerSnapshot extends ClasspathEntrySnapshot implements EclipseClasspathContainer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String path;
+        private final boolean exported;
+
+        private ClasspathContainerSnapshot(EclipseClasspathContainer container) {
+            super(container);
+            this.path = string(container.getPath());
+            this.exported = container.isExported();
+        }
+
+        @Override
+        public String getPath() {
+            return this.path;
+        }
+
+        @Override
+        public boolean isExported() {
+            return this.exported;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link AccessRule}.
+     */
+    private static final class AccessRuleSnapshot implements AccessRule, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int kind;
+        private final String pattern;
+
+        private AccessRuleSnapshot(int kind, String pattern) {
+            this.kind = kind;
+            this.pattern = pattern;
+        }
+
+        @Override
+        public int getKind() {
+            return this.kind;
+        }
+
+        @Override
+        public String getPattern() {
+            return this.pattern;
+        }
+    }
+
+    /**
+     * Snapshot of a {@link ClasspathAttribute}.
+     */
+    private static final class ClasspathAttributeSnapshot implements ClasspathAttribute, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final String value;
+
+        private ClasspathAttributeSnapshot(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public String getValue() {
+            return this.value;
+        }
+    }
+
+    /**
+     * Snapshot of a {@link GradleModuleVersion}.
+     */
+    private static final class GradleModuleVersionSnapshot implements GradleModuleVersion, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String group;
+        private final String name;
+        private final String version;
+
+        private GradleModuleVersionSnapshot(GradleModuleVersion moduleVersion) {
+            this.group = string(moduleVersion.getGroup());
+            this.name = string(moduleVersion.getName());
+            this.version = string(moduleVersion.getVersion());
+        }
+
+        @Override
+        public String getGroup() {
+            return this.group;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public String getVersion() {
+            return this.version;
+        }
+    }
+
+    /**
+     * Snapshot of a {@link ComponentSelector}.
+     */
+    private static final class ComponentSelectorSnapshot implements ComponentSelector, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String displayName;
+
+        private ComponentSelectorSnapshot(String displayName) {
+            this.displayName = displayName;
+        }
+
+        @Override
+        public String getDisplayName() {
+            return unsupportedIfNull(this.displayName, "getDisplayName");
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EclipseLinkedResource}.
+     */
+    private static final class LinkedResourceSnapshot implements EclipseLinkedResource, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final String type;
+        private final String location;
+        private final String locationUri;
+
+        private LinkedResourceSnapshot(EclipseLinkedResource linkedResource) {
+            this.name = string(linkedResource.getName());
+            this.type = string(linkedResource.getType());
+            this.location = string(linkedResource.getLocation());
+            this.locationUri = string(linkedResource.getLocationUri());
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public String getType() {
+            return this.type;
+        }
+
+        @Override
+        public String getLocation() {
+            return this.location;
+        }
+
+        @Override
+        public String getLocationUri() {
+            return this.locationUri;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EclipseProjectNature}.
+     */
+    private static final class ProjectNatureSnapshot implements EclipseProjectNature, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String id;
+
+        private ProjectNatureSnapshot(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EclipseBuildCommand}.
+     */
+    private static final class BuildCommandSnapshot implements EclipseBuildCommand, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String name;
+        private final Map<String, String> arguments;
+
+        private BuildCommandSnapshot(EclipseBuildCommand buildCommand) {
+            this.name = string(buildCommand.getName());
+            ImmutableMap.Builder<String, String> arguments = ImmutableMap.builder();
+            for (Map.Entry<String, String> argument : buildCommand.getArguments().entrySet()) {
+                arguments.put(string(argument.getKey()), string(argument.getValue()));
+            }
+            this.arguments = arguments.build();
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public Map<String, String> getArguments() {
+            return this.arguments;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EclipseOutputLocation}.
+     */
+    private static final class OutputLocationSnapshot implements EclipseOutputLocation, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String path;
+
+        private OutputLocationSnapshot(String path) {
+            this.path = path;
+        }
+
+        @Override
+        public String getPath() {
+            return this.path;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link EclipseJavaSourceSettings}.
+     */
+    private static final class JavaSourceSettingsSnapshot implements EclipseJavaSourceSettings, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JavaVersion sourceLanguageLevel;
+        private final JavaVersion targetBytecodeVersion;
+        private final InstalledJdk jdk;
+
+        private JavaSourceSettingsSnapshot(EclipseJavaSourceSettings sourceSettings) {
+            this.sourceLanguageLevel = sourceSettings.getSourceLanguageLevel();
+            this.targetBytecodeVersion = sourceSettings.getTargetBytecodeVersion();
+            InstalledJdk jdk = sourceSettings.getJdk();
+            this.jdk = new InstalledJdkSnapshot(jdk.getJavaVersion(), file(jdk.getJavaHome()));
+        }
+
+        private static EclipseJavaSourceSettings of(EclipseJavaSourceSettings sourceSettings) {
+            return sourceSettings != null ? new JavaSourceSettingsSnapshot(sourceSettings) : null;
+        }
+
+        @Override
+        public JavaVersion getSourceLanguageLevel() {
+            return this.sourceLanguageLevel;
+        }
+
+        @Override
+        public JavaVersion getTargetBytecodeVersion() {
+            return this.targetBytecodeVersion;
+        }
+
+        @Override
+        public InstalledJdk getJdk() {
+            return this.jdk;
+        }
+    }
+
+    /**
+     * Snapshot of an {@link InstalledJdk}.
+     */
+    private static final class InstalledJdkSnapshot implements InstalledJdk, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JavaVersion javaVersion;
+        private final File javaHome;
+
+        private InstalledJdkSnapshot(JavaVersion javaVersion, File javaHome) {
+            this.javaVersion = javaVersion;
+            this.javaHome = javaHome;
+        }
+
+        @Override
+        public JavaVersion getJavaVersion() {
+            return this.javaVersion;
+        }
+
+        @Override
+        public File getJavaHome() {
+            return this.javaHome;
+        }
+    }
+}
@@ -11,10 +11,14 @@ package org.eclipse.buildship.core.internal.util.gradle;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 import org.gradle.tooling.BuildAction;
 import org.gradle.tooling.BuildActionExecuter;
 import org.gradle.tooling.BuildActionExecuter.Builder;
+import org.gradle.tooling.BuildCancelledException;
 import org.gradle.tooling.BuildLauncher;
 import org.gradle.tooling.CancellationTokenSource;
 import org.gradle.tooling.GradleConnectionException;
@@ -28,21 +32,32 @@ import org.gradle.tooling.TestLauncher;
 import org.gradle.tooling.model.build.BuildEnvironment;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
 import org.eclipse.buildship.core.internal.configuration.GradleArguments;
 import org.eclipse.buildship.core.internal.gradle.GradleProgressAttributes;
+import org.eclipse.buildship.core.internal.util.progress.CancellationAwareFutures;
 import org.eclipse.buildship.core.internal.workspace.InternalGradleBuild;
 
 public final class IdeAttachedProjectConnection implements ProjectConnection {
 
     private final ProjectConnection delegate;
+    private final BuildConfiguration buildConfiguration;
     private final GradleArguments gradleArguments;
     private final GradleProgressAttributes progressAttributes;
+    private final CancellationTokenSource tokenSource;
+    private final IProgressMonitor monitor;
 
-    private IdeAttachedProjectConnection(ProjectConnection connection, GradleArguments gradleArguments, GradleProgressAttributes progressAttributes) {
+    private IdeAttachedProjectConnection(ProjectConnection connection, BuildConfiguration buildConfiguration, GradleArguments gradleArguments, GradleProgressAttributes progressAttributes,
+            CancellationTokenSource tokenSource, IProgressMonitor monitor) {
         this.delegate = connection;
+        this.buildConfiguration = buildConfiguration;
         this.gradleArguments = gradleArguments;
         this.progressAttributes = progressAttributes;
+        this.tokenSource = tokenSource != null ? tokenSource : GradleConnector.newCancellationTokenSource();
+        this.monitor = monitor != null ? monitor : new NullProgressMonitor();
     }
 
     @Override
@@ -65,13 +80,47 @@ public final class IdeAttachedProjectConnection implements ProjectConnection {
         return configureOperation(this.delegate.action(buildAction));
     }
 
+    /**
+     * Runs the build action without blocking the calling thread. Unlike
+     * {@code action(buildAction).run(handler)}, the build environment the operation is configured
+     * with is awaited asynchronously too.
+     *
+     * @param buildAction the build action to run
+     * @param handler the handler to report the result to
+     */
+    public <T> void runAction(BuildAction<T> buildAction, ResultHandler<? super T> handler) {
+        configureOperationAsync(this.delegate.action(buildAction)).whenComplete((executer, failure) -> {
+            if (failure == null) {
+                submit(() -> executer.run(handler), handler);
+            } else {
+                handler.onFailure(toConnectionException(failure));
+            }
+        });
+    }
+
     private <T extends LongRunningOperation> T configureOperation(T operation) {
-        BuildEnvironment buildEnvironment = this.delegate.getModel(BuildEnvironment.class);
+        return configureOperation(operation, getBuildEnvironment());
+    }
+
+    private <T extends LongRunningOperation> CompletableFuture<T> configureOperationAsync(T operation) {
+        return getBuildEnvironmentAsync().thenApply(buildEnvironment -> configureOperation(operation, buildEnvironment));
+    }
+
+    private <T extends LongRunningOperation> T configureOperation(T operation, BuildEnvironment buildEnvironment) {
         this.gradleArguments.applyTo(operation, buildEnvironment);
         this.progressAttributes.applyTo(operation);
         return operation;
     }
 
+    private static void submit(Runnable query, ResultHandler<?> handler) {
+        try {
+            query.run();
+        } catch (RuntimeException e) {
+            // e.g. the connection was closed while the build environment was loaded
+            handler.onFailure(toConnectionException(e));
+        }
+    }
+
     @Override
     public void close() {
         this.delegate.close();
@@ -84,12 +133,76 @@ public final class IdeAttachedProjectConnection implements ProjectConnection {
 
     @Override
     public <T> T getModel(Class<T> modelType) throws GradleConnectionException, IllegalStateException {
+        if (modelType == BuildEnvironment.class) {
+            return modelType.cast(getBuildEnvironment());
+        }
         return model(modelType).get();
     }
 
     @Override
     public <T> void getModel(Class<T> modelType, ResultHandler<? super T> handler) throws IllegalStateException {
-        model(modelType).get(handler);
+        if (modelType == BuildEnvironment.class) {
+            getBuildEnvironmentAsync().whenComplete((buildEnvironment, failure) -> {
+                if (failure == null) {
+                    handler.onComplete(modelType.cast(buildEnvironment));
+                } else {
+                    handler.onFailure(toConnectionException(failure));
+                }
+            });
+        } else {
+            // the query is submitted once the build environment is available, without blocking the calling thread
+            configureOperationAsync(this.delegate.model(modelType)).whenComplete((builder, failure) -> {
+                if (failure == null) {
+                    submit(() -> builder.get(handler), handler);
+                } else {
+                    handler.onFailure(toConnectionException(failure));
+                }
+            });
+        }
+    }
+
+    private BuildEnvironment getBuildEnvironment() {
+        try {
+            return CancellationAwareFutures.await(getBuildEnvironmentAsync(), this.tokenSource, this.monitor);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw toConnectionException(e);
+        }
+    }
+
+    private CompletableFuture<BuildEnvironment> getBuildEnvironmentAsync() {
+        // the cached build environment is shared with the other connections; the query runs with the cancellation
+        // token and the progress listeners of the connection that starts it
+        BuildEnvironmentCache cache = CorePlugin.projectConnectionPool().getBuildEnvironmentCache();
+        return cache.getAsync(this.buildConfiguration, this::queryBuildEnvironment).handle((buildEnvironment, failure) -> {
+            if (failure == null) {
+                return CompletableFuture.completedFuture(buildEnvironment);
+            } else if (isCancelledByOtherConnection(failure)) {
+                // the failed query is no longer cached, query the build environment again
+                return getBuildEnvironmentAsync();
+            } else {
+                CompletableFuture<BuildEnvironment> result = new CompletableFuture<>();
+                result.completeExceptionally(failure);
+                return result;
+            }
+        }).thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<BuildEnvironment> queryBuildEnvironment() {
+        ModelBuilder<BuildEnvironment> builder = this.delegate.model(BuildEnvironment.class);
+        this.progressAttributes.applyTo(builder);
+        return ProjectConnectionPool.queryBuildEnvironment(builder, this.buildConfiguration);
+    }
+
+    private boolean isCancelledByOtherConnection(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof BuildCancelledException && !this.tokenSource.token().isCancellationRequested() && !this.monitor.isCanceled();
+    }
+
+    private static GradleConnectionException toConnectionException(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return cause instanceof GradleConnectionException ? (GradleConnectionException) cause : new GradleConnectionException("Failed to submit the query", cause);
     }
 
     @Override
@@ -97,17 +210,17 @@ public final class IdeAttachedProjectConnection implements ProjectConnection {
         this.delegate.notifyDaemonsAboutChangedPaths(changedPaths);
     }
 
-    public static ProjectConnection newInstance(CancellationTokenSource tokenSource, GradleArguments gradleArguments, InternalGradleBuild gradleBuild, IProgressMonitor monitor) {
-        GradleConnector connector = GradleConnector.newConnector();
-        gradleArguments.applyTo(connector);
-        ProjectConnection connection = new CompatProjectConnection(connector.connect());
+    public static IdeAttachedProjectConnection newInstance(CancellationTokenSource tokenSource, GradleArguments gradleArguments, InternalGradleBuild gradleBuild, IProgressMonitor monitor) {
+        // closing the pooled connection only releases the lease; the pool decides when to disconnect
+        ProjectConnection connection = CorePlugin.projectConnectionPool().acquire(gradleBuild.getBuildConfig());
+        CorePlugin.changedPathsCollector().flush(gradleBuild.getBuildConfig(), connection);
 
         GradleProgressAttributes progressAttributes = GradleProgressAttributes.builder(tokenSource, gradleBuild, monitor)
                 .forBackgroundProcess()
                 .withFullProgress()
                 .build();
 
-        return new IdeAttachedProjectConnection(connection, gradleArguments, progressAttributes);
+        return new IdeAttachedProjectConnection(connection, gradleBuild.getBuildConfig(), gradleArguments, progressAttributes, tokenSource, monitor);
     }
 
     private class IdeAttachedBuilder implements Builder {
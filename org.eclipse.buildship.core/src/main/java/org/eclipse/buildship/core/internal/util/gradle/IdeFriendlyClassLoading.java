@@ -15,6 +15,7 @@ import java.lang.reflect.Parameter;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.gradle.api.Action;
@@ -26,6 +27,7 @@ import org.eclipse.core.runtime.Platform;
 
 import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
 import org.eclipse.buildship.core.internal.workspace.CompositeModelQuery;
+import org.eclipse.buildship.core.internal.workspace.CompositeModelsQuery;
 import org.eclipse.buildship.core.internal.workspace.TellGradleToRunAutoSyncTasks;
 
 /**
@@ -52,6 +54,29 @@ public class IdeFriendlyClassLoading {
         return (BuildAction<Map<String, T>>) loadClass(CompositeModelQuery.class, model );
     }
 
+    /**
+     * Loads a composite model query that fetches the models of the included builds in parallel if
+     * the target Gradle version supports it.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BuildAction<Map<String, T>> loadCompositeModelQuery(Class<T> model, GradleVersion gradleVersion) {
+        return (BuildAction<Map<String, T>>) loadClass(CompositeModelQuery.class, model, gradleVersion.supportsParallelModelQueries());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, U> BuildAction<Map<String, T>> loadCompositeModelQuery(Class<T> model, Class<U> parameterType, Action<? super U> parameter, GradleVersion gradleVersion) {
+        return (BuildAction<Map<String, T>>) loadClass(CompositeModelQuery.class, new Object[] { model, parameterType, parameter, gradleVersion.supportsParallelModelQueries() });
+    }
+
+    /**
+     * Loads a query that fetches the composite models of multiple types with a single Gradle
+     * invocation.
+     */
+    @SuppressWarnings("unchecked")
+    public static BuildAction<Map<String, Map<String, Object>>> loadCompositeModelsQuery(List<Class<?>> models, GradleVersion gradleVersion) {
+        return (BuildAction<Map<String, Map<String, Object>>>) loadClass(CompositeModelsQuery.class, models, gradleVersion.supportsParallelModelQueries());
+    }
+
     @SuppressWarnings("unchecked")
     public static <T> T loadClass(Class<T> cls) {
         try {
@@ -0,0 +1,317 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.gradle;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.gradle.tooling.model.BuildIdentifier;
+import org.gradle.tooling.model.GradleProject;
+import org.gradle.tooling.model.GradleTask;
+import org.gradle.tooling.model.ProjectIdentifier;
+import org.gradle.tooling.model.UnsupportedMethodException;
+import org.gradle.tooling.model.build.BuildEnvironment;
+import org.gradle.tooling.model.build.GradleEnvironment;
+import org.gradle.tooling.model.build.JavaEnvironment;
+import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.gradle.GradleScript;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Converts the Tooling API models to JSON and back.
+ * <p/>
+ * Only the attributes displayed by the UI before the first synchronization are recorded: the
+ * Gradle project hierarchy, the tasks and the build environment. The {@link EclipseProject} models
+ * are not recorded: they contain the complete classpath of each project and are never read from a
+ * snapshot, so encoding them would only slow down the synchronization. The decoded models are read-only
+ * proxies; calling a method whose value was not recorded throws an
+ * {@link UnsupportedMethodException}, the same way the Tooling API does for models loaded from
+ * older Gradle versions.
+ */
+final class ModelSnapshotCodec {
+
+    private ModelSnapshotCodec() {
+    }
+
+    static boolean isSupported(Class<?> modelType) {
+        return modelType == BuildEnvironment.class || modelType == GradleProject.class;
+    }
+
+    static JsonElement encode(Class<?> modelType, Object model) {
+        if (model instanceof Map<?, ?>) {
+            JsonObject result = new JsonObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) model).entrySet()) {
+                result.add(String.valueOf(entry.getKey()), encode(modelType, entry.getValue()));
+            }
+            return result;
+        } else if (modelType == BuildEnvironment.class) {
+            return encodeBuildEnvironment((BuildEnvironment) model);
+        } else if (modelType == GradleProject.class) {
+            return encodeGradleProject((GradleProject) model);
+        } else {
+            throw new IllegalArgumentException("Unsupported model type: " + modelType.getName());
+        }
+    }
+
+    static Object decode(Class<?> modelType, boolean composite, JsonElement json) {
+        if (composite) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonElement> entry : json.getAsJsonObject().entrySet()) {
+                result.put(entry.getKey(), decode(modelType, false, entry.getValue()));
+            }
+            return result;
+        } else if (modelType == BuildEnvironment.class) {
+            return decodeBuildEnvironment(json.getAsJsonObject());
+        } else if (modelType == GradleProject.class) {
+            return decodeGradleProject(json.getAsJsonObject(), null);
+        } else {
+            throw new IllegalArgumentException("Unsupported model type: " + modelType.getName());
+        }
+    }
+
+    private static JsonObject encodeBuildEnvironment(BuildEnvironment buildEnvironment) {
+        JsonObject result = new JsonObject();
+        add(result, "buildIdentifier", () -> encodeBuildIdentifier(buildEnvironment.getBuildIdentifier()));
+        add(result, "gradle", () -> {
+            GradleEnvironment gradle = buildEnvironment.getGradle();
+            JsonObject gradleJson = new JsonObject();
+            add(gradleJson, "gradleUserHome", () -> toJson(gradle.getGradleUserHome()));
+            add(gradleJson, "gradleVersion", () -> toJson(gradle.getGradleVersion()));
+            return gradleJson;
+        });
+        add(result, "java", () -> {
+            JavaEnvironment java = buildEnvironment.getJava();
+            JsonObject javaJson = new JsonObject();
+            add(javaJson, "javaHome", () -> toJson(java.getJavaHome()));
+            add(javaJson, "jvmArguments", () -> {
+                JsonArray arguments = new JsonArray();
+                java.getJvmArguments().forEach(arguments::add);
+                return arguments;
+            });
+            return javaJson;
+        });
+        return result;
+    }
+
+    private static JsonObject encodeGradleProject(GradleProject project) {
+        JsonObject result = new JsonObject();
+        add(result, "name", () -> toJson(project.getName()));
+        add(result, "description", () -> toJson(project.getDescription()));
+        add(result, "path", () -> toJson(project.getPath()));
+        add(result, "projectDirectory", () -> toJson(project.getProjectDirectory()));
+        add(result, "buildDirectory", () -> toJson(project.getBuildDirectory()));
+        add(result, "buildScript", () -> {
+            GradleScript buildScript = project.getBuildScript();
+            JsonObject buildScriptJson = new JsonObject();
+            add(buildScriptJson, "sourceFile", () -> toJson(buildScript.getSourceFile()));
+            return buildScriptJson;
+        });
+        add(result, "projectIdentifier", () -> encodeProjectIdentifier(project.getProjectIdentifier()));
+        JsonArray tasks = new JsonArray();
+        for (GradleTask task : project.getTasks()) {
+            tasks.add(encodeTask(task));
+        }
+        result.add("tasks", tasks);
+        JsonArray children = new JsonArray();
+        for (GradleProject child : project.getChildren()) {
+            children.add(encodeGradleProject(child));
+        }
+        result.add("children", children);
+        return result;
+    }
+
+    private static JsonObject encodeTask(GradleTask task) {
+        JsonObject result = new JsonObject();
+        add(result, "name", () -> toJson(task.getName()));
+        add(result, "description", () -> toJson(task.getDescription()));
+        add(result, "path", () -> toJson(task.getPath()));
+        add(result, "buildTreePath", () -> toJson(task.getBuildTreePath()));
+        add(result, "displayName", () -> toJson(task.getDisplayName()));
+        add(result, "group", () -> toJson(task.getGroup()));
+        add(result, "public", () -> new JsonPrimitive(task.isPublic()));
+        return result;
+    }
+
+    private static JsonObject encodeProjectIdentifier(ProjectIdentifier projectIdentifier) {
+        JsonObject result = new JsonObject();
+        add(result, "projectPath", () -> toJson(projectIdentifier.getProjectPath()));
+        add(result, "buildIdentifier", () -> encodeBuildIdentifier(projectIdentifier.getBuildIdentifier()));
+        return result;
+    }
+
+    private static JsonObject encodeBuildIdentifier(BuildIdentifier buildIdentifier) {
+        JsonObject result = new JsonObject();
+        add(result, "rootDir", () -> toJson(buildIdentifier.getRootDir()));
+        return result;
+    }
+
+    private static void add(JsonObject target, String name, Supplier<JsonElement> value) {
+        try {
+            target.add(name, value.get());
+        } catch (UnsupportedMethodException e) {
+            // the attribute is not available in the Gradle version used by the build
+        }
+    }
+
+    private static JsonElement toJson(String value) {
+        return value == null ? JsonNull.INSTANCE : new JsonPrimitive(value);
+    }
+
+    private static JsonElement toJson(File value) {
+        return value == null ? JsonNull.INSTANCE : new JsonPrimitive(value.getAbsolutePath());
+    }
+
+    private static BuildEnvironment decodeBuildEnvironment(JsonObject json) {
+        Map<String, Object> properties = new HashMap<>();
+        put(properties, "getBuildIdentifier", json, "buildIdentifier", element -> decodeBuildIdentifier(element.getAsJsonObject()));
+        put(properties, "getGradle", json, "gradle", element -> {
+            Map<String, Object> gradle = new HashMap<>();
+            put(gradle, "getGradleUserHome", element.getAsJsonObject(), "gradleUserHome", ModelSnapshotCodec::toFile);
+            put(gradle, "getGradleVersion", element.getAsJsonObject(), "gradleVersion", JsonElement::getAsString);
+            return newProxy(GradleEnvironment.class, gradle);
+        });
+        put(properties, "getJava", json, "java", element -> {
+            Map<String, Object> java = new HashMap<>();
+            put(java, "getJavaHome", element.getAsJsonObject(), "javaHome", ModelSnapshotCodec::toFile);
+            put(java, "getJvmArguments", element.getAsJsonObject(), "jvmArguments", ModelSnapshotCodec::toStringList);
+            return newProxy(JavaEnvironment.class, java);
+        });
+        return newProxy(BuildEnvironment.class, properties);
+    }
+
+    private static GradleProject decodeGradleProject(JsonObject json, GradleProject parent) {
+        Map<String, Object> properties = new HashMap<>();
+        GradleProject project = newProxy(GradleProject.class, properties);
+        put(properties, "getName", json, "name", JsonElement::getAsString);
+        put(properties, "getDescription", json, "description", JsonElement::getAsString);
+        put(properties, "getPath", json, "path", JsonElement::getAsString);
+        put(properties, "getProjectDirectory", json, "projectDirectory", ModelSnapshotCodec::toFile);
+        put(properties, "getBuildDirectory", json, "buildDirectory", ModelSnapshotCodec::toFile);
+        put(properties, "getBuildScript", json, "buildScript", element -> {
+            Map<String, Object> buildScript = new HashMap<>();
+            put(buildScript, "getSourceFile", element.getAsJsonObject(), "sourceFile", ModelSnapshotCodec::toFile);
+            return newProxy(GradleScript.class, buildScript);
+        });
+        put(properties, "getProjectIdentifier", json, "projectIdentifier", element -> decodeProjectIdentifier(element.getAsJsonObject()));
+        properties.put("getParent", parent);
+
+        List<GradleTask> tasks = new ArrayList<>();
+        for (JsonElement task : json.getAsJsonArray("tasks")) {
+            tasks.add(decodeTask(task.getAsJsonObject(), project, properties.get("getProjectIdentifier")));
+        }
+        properties.put("getTasks", ModelUtils.asDomainObjectSet(tasks));
+
+        List<GradleProject> children = new ArrayList<>();
+        for (JsonElement child : json.getAsJsonArray("children")) {
+            children.add(decodeGradleProject(child.getAsJsonObject(), project));
+        }
+        properties.put("getChildren", ModelUtils.asDomainObjectSet(children));
+        return project;
+    }
+
+    private static GradleTask decodeTask(JsonObject json, GradleProject project, Object projectIdentifier) {
+        Map<String, Object> properties = new HashMap<>();
+        put(properties, "getName", json, "name", JsonElement::getAsString);
+        put(properties, "getDescription", json, "description", JsonElement::getAsString);
+        put(properties, "getPath", json, "path", JsonElement::getAsString);
+        put(properties, "getBuildTreePath", json, "buildTreePath", JsonElement::getAsString);
+        put(properties, "getDisplayName", json, "displayName", JsonElement::getAsString);
+        put(properties, "getGroup", json, "group", JsonElement::getAsString);
+        put(properties, "isPublic", json, "public", JsonElement::getAsBoolean);
+        properties.put("getProject", project);
+        if (projectIdentifier != null) {
+            properties.put("getProjectIdentifier", projectIdentifier);
+        }
+        return newProxy(GradleTask.class, properties);
+    }
+
+    private static ProjectIdentifier decodeProjectIdentifier(JsonObject json) {
+        Map<String, Object> properties = new HashMap<>();
+        put(properties, "getProjectPath", json, "projectPath", JsonElement::getAsString);
+        put(properties, "getBuildIdentifier", json, "buildIdentifier", element -> decodeBuildIdentifier(element.getAsJsonObject()));
+        return newProxy(ProjectIdentifier.class, properties);
+    }
+
+    private static BuildIdentifier decodeBuildIdentifier(JsonObject json) {
+        Map<String, Object> properties = new HashMap<>();
+        put(properties, "getRootDir", json, "rootDir", ModelSnapshotCodec::toFile);
+        return newProxy(BuildIdentifier.class, properties);
+    }
+
+    private static void put(Map<String, Object> properties, String method, JsonObject json, String name, Function<JsonElement, Object> converter) {
+        if (json.has(name)) {
+            JsonElement element = json.get(name);
+            properties.put(method, element.isJsonNull() ? null : converter.apply(element));
+        }
+    }
+
+    private static File toFile(JsonElement element) {
+        return new File(element.getAsString());
+    }
+
+    private static List<String> toStringList(JsonElement element) {
+        List<String> result = new ArrayList<>();
+        for (JsonElement value : element.getAsJsonArray()) {
+            result.add(value.getAsString());
+        }
+        return result;
+    }
+
+    private static <T> T newProxy(Class<T> type, Map<String, Object> properties) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new SnapshotInvocationHandler(type, properties)));
+    }
+
+    /**
+     * Serves the recorded attributes of a decoded model.
+     */
+    private static final class SnapshotInvocationHandler implements InvocationHandler {
+
+        private final Class<?> type;
+        private final Map<String, Object> properties;
+
+        private SnapshotInvocationHandler(Class<?> type, Map<String, Object> properties) {
+            this.type = type;
+            this.properties = properties;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return this.type.getSimpleName() + this.properties.getOrDefault("getPath", "");
+                }
+            }
+
+            if (!this.properties.containsKey(method.getName())) {
+                throw new UnsupportedMethodException(String.format("%s.%s() is not available in the model snapshot.", this.type.getSimpleName(), method.getName()));
+            }
+            return this.properties.get(method.getName());
+        }
+    }
+}
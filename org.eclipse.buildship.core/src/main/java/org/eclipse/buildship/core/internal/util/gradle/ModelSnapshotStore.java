@@ -0,0 +1,299 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.gradle;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+
+/**
+ * Stores snapshots of the Tooling API models in the plugin state location.
+ * <p/>
+ * The snapshots outlive the Eclipse session so that the models can be displayed right after the
+ * workbench starts, without contacting Gradle. They are not meant to replace the model queries:
+ * clients should treat a snapshot as stale and reload the model in the background. To support
+ * that, the store tracks which snapshots were handed out since they were last saved (see
+ * {@link #claimRefresh(BuildConfiguration, Class, boolean)}).
+ * <p/>
+ * Only the {@link org.gradle.tooling.model.build.BuildEnvironment},
+ * {@link org.gradle.tooling.model.eclipse.EclipseProject} and
+ * {@link org.gradle.tooling.model.GradleProject} models are supported. Failures to read or write
+ * the snapshots are logged and otherwise ignored.
+ * <p/>
+ * The store also keeps the fingerprint of the build inputs of the last synchronization, so that the
+ * first automatic synchronization after a restart can be skipped for unchanged builds.
+ */
+public final class ModelSnapshotStore {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final File location;
+    private final Gson gson = new GsonBuilder().serializeNulls().create();
+    private final Set<File> refreshClaims = ConcurrentHashMap.newKeySet();
+
+    public ModelSnapshotStore(File location) {
+        this.location = location;
+    }
+
+    /**
+     * Returns whether snapshots can be created for the target model type.
+     *
+     * @param modelType the model type
+     * @return {@code true} if the model is supported
+     */
+    public boolean isSupported(Class<?> modelType) {
+        return ModelSnapshotCodec.isSupported(modelType);
+    }
+
+    /**
+     * Saves a snapshot of the model. Unsupported model types are ignored.
+     *
+     * @param buildConfiguration the build the model was loaded from
+     * @param modelType the model type
+     * @param model the model or, for models loaded from all included builds, the map of models
+     */
+    public void save(BuildConfiguration buildConfiguration, Class<?> modelType, Object model) {
+        if (model == null || !isSupported(modelType)) {
+            return;
+        }
+
+        boolean composite = model instanceof Map<?, ?>;
+        File snapshotFile = snapshotFile(buildConfiguration, modelType, composite);
+        try {
+            JsonObject json = new JsonObject();
+            json.addProperty("version", FORMAT_VERSION);
+            json.addProperty("rootDir", buildConfiguration.getRootProjectDirectory().getAbsolutePath());
+            json.add("model", ModelSnapshotCodec.encode(modelType, model));
+            write(snapshotFile, json);
+            this.refreshClaims.remove(snapshotFile);
+        } catch (IOException | RuntimeException e) {
+            CorePlugin.logger().warn("Cannot save model snapshot " + snapshotFile, e);
+        }
+    }
+
+    private void write(File file, JsonObject json) throws IOException {
+        File parent = file.getParentFile();
+        parent.mkdirs();
+        File tmpFile = File.createTempFile(file.getName(), ".tmp", parent);
+        try {
+            try (Writer writer = Files.newBufferedWriter(tmpFile.toPath(), StandardCharsets.UTF_8)) {
+                this.gson.toJson(json, writer);
+            }
+            replace(tmpFile, file);
+        } finally {
+            Files.deleteIfExists(tmpFile.toPath());
+        }
+    }
+
+    private static void replace(File source, File target) throws IOException {
+        try {
+            // replace the previous snapshot atomically so that concurrent readers never see a partial file
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // readers discard the snapshots they cannot parse
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads a model snapshot.
+     *
+     * @param buildConfiguration the build the model belongs to
+     * @param modelType the model type
+     * @param composite whether the snapshot contains the models from all included builds
+     * @return the model, the map of models for composite snapshots or {@code null} if no snapshot
+     *         is available
+     */
+    public Object load(BuildConfiguration buildConfiguration, Class<?> modelType, boolean composite) {
+        if (!isSupported(modelType)) {
+            return null;
+        }
+
+        File snapshotFile = snapshotFile(buildConfiguration, modelType, composite);
+        if (!snapshotFile.isFile()) {
+            return null;
+        }
+
+        try {
+            JsonObject json = read(buildConfiguration, snapshotFile);
+            return json != null ? ModelSnapshotCodec.decode(modelType, composite, json.get("model")) : null;
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            CorePlugin.logger().warn("Cannot load model snapshot " + snapshotFile, e);
+            return null;
+        }
+    }
+
+    private JsonObject read(BuildConfiguration buildConfiguration, File file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            JsonObject json = this.gson.fromJson(reader, JsonObject.class);
+            if (json == null || !json.has("version") || json.get("version").getAsInt() != FORMAT_VERSION
+                    || !buildConfiguration.getRootProjectDirectory().getAbsolutePath().equals(json.get("rootDir").getAsString())) {
+                return null;
+            }
+            return json;
+        }
+    }
+
+    /**
+     * Saves the fingerprint of the build inputs the last synchronization loaded the models from.
+     *
+     * @param buildConfiguration the synchronized build
+     * @param fingerprint the fingerprint
+     */
+    public void saveFingerprint(BuildConfiguration buildConfiguration, Fingerprint fingerprint) {
+        File fingerprintFile = fingerprintFile(buildConfiguration);
+        try {
+            JsonObject json = new JsonObject();
+            json.addProperty("version", FORMAT_VERSION);
+            json.addProperty("rootDir", buildConfiguration.getRootProjectDirectory().getAbsolutePath());
+            json.addProperty("value", fingerprint.getValue());
+            json.add("buildRoots", toJson(fingerprint.getBuildRoots()));
+            json.add("projectDirectories", toJson(fingerprint.getProjectDirectories()));
+            write(fingerprintFile, json);
+        } catch (IOException | RuntimeException e) {
+            CorePlugin.logger().warn("Cannot save build fingerprint " + fingerprintFile, e);
+        }
+    }
+
+    /**
+     * Loads the fingerprint saved by {@link #saveFingerprint(BuildConfiguration, Fingerprint)}.
+     *
+     * @param buildConfiguration the synchronized build
+     * @return the fingerprint or {@code null} if no fingerprint is available
+     */
+    public Fingerprint loadFingerprint(BuildConfiguration buildConfiguration) {
+        File fingerprintFile = fingerprintFile(buildConfiguration);
+        if (!fingerprintFile.isFile()) {
+            return null;
+        }
+
+        try {
+            JsonObject json = read(buildConfiguration, fingerprintFile);
+            if (json == null) {
+                return null;
+            }
+            return new Fingerprint(json.get("value").getAsString(), toFiles(json.getAsJsonArray("buildRoots")), toFiles(json.getAsJsonArray("projectDirectories")));
+        } catch (IOException | JsonParseException | IllegalStateException | NullPointerException e) {
+            CorePlugin.logger().warn("Cannot load build fingerprint " + fingerprintFile, e);
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the fingerprint of the build, e.g. if the last synchronization failed.
+     *
+     * @param buildConfiguration the synchronized build
+     */
+    public void deleteFingerprint(BuildConfiguration buildConfiguration) {
+        File fingerprintFile = fingerprintFile(buildConfiguration);
+        try {
+            Files.deleteIfExists(fingerprintFile.toPath());
+        } catch (IOException e) {
+            CorePlugin.logger().warn("Cannot delete build fingerprint " + fingerprintFile, e);
+        }
+    }
+
+    private static JsonArray toJson(Set<File> files) {
+        JsonArray result = new JsonArray();
+        for (File file : files) {
+            result.add(file.getAbsolutePath());
+        }
+        return result;
+    }
+
+    private static Set<File> toFiles(JsonArray json) {
+        Set<File> result = new LinkedHashSet<>();
+        for (JsonElement element : json) {
+            result.add(new File(element.getAsString()));
+        }
+        return result;
+    }
+
+    /**
+     * Registers that the snapshot was served to a client and has to be refreshed. Returns
+     * {@code true} only for the first call since the snapshot was last saved, so that the refresh is
+     * scheduled at most once.
+     *
+     * @param buildConfiguration the build the model belongs to
+     * @param modelType the model type
+     * @param composite whether the snapshot contains the models from all included builds
+     * @return {@code true} if the caller should refresh the model
+     */
+    public boolean claimRefresh(BuildConfiguration buildConfiguration, Class<?> modelType, boolean composite) {
+        return this.refreshClaims.add(snapshotFile(buildConfiguration, modelType, composite));
+    }
+
+    private File snapshotFile(BuildConfiguration buildConfiguration, Class<?> modelType, boolean composite) {
+        String fileName = modelType.getSimpleName() + (composite ? "-composite" : "") + ".json";
+        return new File(buildDirectory(buildConfiguration), fileName);
+    }
+
+    private File fingerprintFile(BuildConfiguration buildConfiguration) {
+        return new File(buildDirectory(buildConfiguration), "fingerprint.json");
+    }
+
+    private File buildDirectory(BuildConfiguration buildConfiguration) {
+        String buildId = Hashing.sha256().hashString(buildConfiguration.getRootProjectDirectory().getAbsolutePath(), StandardCharsets.UTF_8).toString();
+        return new File(this.location, buildId);
+    }
+
+    public static ModelSnapshotStore create() {
+        return new ModelSnapshotStore(CorePlugin.getInstance().getStateLocation().append("model-snapshots").toFile());
+    }
+
+    /**
+     * The fingerprint of the build inputs, along with the directories it was computed from.
+     */
+    public static final class Fingerprint {
+
+        private final String value;
+        private final Set<File> buildRoots;
+        private final Set<File> projectDirectories;
+
+        public Fingerprint(String value, Set<File> buildRoots, Set<File> projectDirectories) {
+            this.value = value;
+            this.buildRoots = ImmutableSet.copyOf(buildRoots);
+            this.projectDirectories = ImmutableSet.copyOf(projectDirectories);
+        }
+
+        public String getValue() {
+            return this.value;
+        }
+
+        public Set<File> getBuildRoots() {
+            return this.buildRoots;
+        }
+
+        public Set<File> getProjectDirectories() {
+            return this.projectDirectories;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.gradle;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.gradle.tooling.BuildAction;
+import org.gradle.tooling.BuildActionExecuter;
+import org.gradle.tooling.BuildActionExecuter.Builder;
+import org.gradle.tooling.BuildLauncher;
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ModelBuilder;
+import org.gradle.tooling.ProjectConnection;
+import org.gradle.tooling.ResultHandler;
+import org.gradle.tooling.TestLauncher;
+import org.gradle.tooling.model.build.BuildEnvironment;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+import org.eclipse.buildship.core.internal.event.Event;
+import org.eclipse.buildship.core.internal.event.EventListener;
+import org.eclipse.buildship.core.internal.workspace.WorkbenchShutdownEvent;
+
+/**
+ * Keeps one long-lived Tooling API connection per {@link BuildConfiguration}.
+ * <p/>
+ * Clients obtain a lease via {@link #acquire(BuildConfiguration)} and release it by closing the
+ * returned connection. A connection is closed once it was not leased for the idle timeout, when the
+ * workbench shuts down or when the pool itself is closed.
+ * <p/>
+ * The {@link BuildEnvironment} model requested through the leased connections is served from a
+ * {@link BuildEnvironmentCache} which outlives the individual connections.
+ */
+public final class ProjectConnectionPool implements EventListener {
+
+    /**
+     * System property to override the time in seconds an unused connection is kept open.
+     */
+    public static final String IDLE_TIMEOUT_PROPERTY = "org.eclipse.buildship.core.connectionPool.idleTimeout";
+
+    private static final long DEFAULT_IDLE_TIMEOUT_SECONDS = 300;
+
+    private final Object lock = new Object();
+    private final Map<BuildConfiguration, PooledConnection> connections = new HashMap<>();
+    private final BuildEnvironmentCache buildEnvironmentCache = new BuildEnvironmentCache();
+    private final long idleTimeoutMillis;
+    private final Job evictionJob;
+    private boolean closed;
+
+    private ProjectConnectionPool(long idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.evictionJob = new Job("Close idle Gradle connections") {
+
+            @Override
+            protected IStatus run(IProgressMonitor monitor) {
+                evictIdleConnections();
+                return Status.OK_STATUS;
+            }
+        };
+        this.evictionJob.setSystem(true);
+    }
+
+    /**
+     * Leases the connection associated with the target build configuration. A new connection is
+     * opened if none is available. Once the pool is closed, each call opens a new connection that is
+     * closed when the lease is released.
+     *
+     * @param buildConfiguration the build configuration to connect to
+     * @return the leased connection; closing it releases the lease
+     */
+    public ProjectConnection acquire(BuildConfiguration buildConfiguration) {
+        Preconditions.checkNotNull(buildConfiguration);
+        PooledConnection connection;
+        synchronized (this.lock) {
+            connection = this.closed ? null : this.connections.get(buildConfiguration);
+            if (connection == null) {
+                connection = new PooledConnection(buildConfiguration, openConnection(buildConfiguration));
+                if (!this.closed) {
+                    this.connections.put(buildConfiguration, connection);
+                }
+            }
+            connection.leases++;
+        }
+        return new LeasedConnection(connection);
+    }
+
+    /**
+     * Returns the cache storing the build environment models of the pooled connections.
+     *
+     * @return the build environment cache, never null
+     */
+    public BuildEnvironmentCache getBuildEnvironmentCache() {
+        return this.buildEnvironmentCache;
+    }
+
+    private void release(PooledConnection connection) {
+        boolean closeNow = false;
+        synchronized (this.lock) {
+            connection.leases--;
+            if (connection.leases == 0) {
+                if (this.closed || this.connections.get(connection.buildConfiguration) != connection) {
+                    // the pool was closed or the connection was invalidated while it was leased
+                    this.connections.values().remove(connection);
+                    closeNow = true;
+                } else {
+                    connection.idleSince = System.currentTimeMillis();
+                    this.evictionJob.schedule(this.idleTimeoutMillis);
+                }
+            }
+        }
+        if (closeNow) {
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Drops the connection and the cached build environment of a build configuration that is no
+     * longer used, for example because the configuration was changed. An idle connection is closed
+     * immediately, a leased one as soon as its leases are released.
+     *
+     * @param buildConfiguration the build configuration to invalidate
+     */
+    public void invalidate(BuildConfiguration buildConfiguration) {
+        PooledConnection idle = null;
+        synchronized (this.lock) {
+            PooledConnection connection = this.connections.remove(buildConfiguration);
+            if (connection != null && connection.leases == 0) {
+                idle = connection;
+            }
+        }
+        closeQuietly(idle);
+        this.buildEnvironmentCache.invalidate(buildConfiguration);
+    }
+
+    /**
+     * Drops all connections and cached build environments, see
+     * {@link #invalidate(BuildConfiguration)}.
+     */
+    public void invalidateAll() {
+        List<PooledConnection> toClose;
+        synchronized (this.lock) {
+            ImmutableList.Builder<PooledConnection> idle = ImmutableList.builder();
+            for (PooledConnection connection : this.connections.values()) {
+                if (connection.leases == 0) {
+                    idle.add(connection);
+                }
+            }
+            this.connections.clear();
+            toClose = idle.build();
+        }
+        for (PooledConnection connection : toClose) {
+            closeQuietly(connection);
+        }
+        this.buildEnvironmentCache.clear();
+    }
+
+    private void evictIdleConnections() {
+        List<PooledConnection> toClose;
+        long nextEviction = Long.MAX_VALUE;
+        synchronized (this.lock) {
+            ImmutableList.Builder<PooledConnection> expired = ImmutableList.builder();
+            long now = System.currentTimeMillis();
+            Iterator<PooledConnection> iterator = this.connections.values().iterator();
+            while (iterator.hasNext()) {
+                PooledConnection connection = iterator.next();
+                if (connection.leases == 0) {
+                    long idleFor = now - connection.idleSince;
+                    if (idleFor >= this.idleTimeoutMillis) {
+                        iterator.remove();
+                        expired.add(connection);
+                    } else {
+                        nextEviction = Math.min(nextEviction, this.idleTimeoutMillis - idleFor);
+                    }
+                }
+            }
+            toClose = expired.build();
+        }
+
+        for (PooledConnection connection : toClose) {
+            closeQuietly(connection);
+        }
+        if (nextEviction != Long.MAX_VALUE) {
+            this.evictionJob.schedule(nextEviction);
+        }
+    }
+
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof WorkbenchShutdownEvent) {
+            close();
+        }
+    }
+
+    /**
+     * Closes all idle connections and the leased ones as soon as their leases are released. Subsequent
+     * {@link #acquire(BuildConfiguration)} calls no longer share connections.
+     */
+    public void close() {
+        List<PooledConnection> toClose;
+        synchronized (this.lock) {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            ImmutableList.Builder<PooledConnection> idle = ImmutableList.builder();
+            Iterator<PooledConnection> iterator = this.connections.values().iterator();
+            while (iterator.hasNext()) {
+                PooledConnection connection = iterator.next();
+                if (connection.leases == 0) {
+                    iterator.remove();
+                    idle.add(connection);
+                }
+            }
+            toClose = idle.build();
+        }
+        CorePlugin.listenerRegistry().removeEventListener(this);
+        this.evictionJob.cancel();
+        for (PooledConnection connection : toClose) {
+            closeQuietly(connection);
+        }
+    }
+
+    private static ProjectConnection openConnection(BuildConfiguration buildConfiguration) {
+        GradleConnector connector = GradleConnector.newConnector();
+        buildConfiguration.toGradleArguments().applyTo(connector);
+        return new CompatProjectConnection(connector.connect());
+    }
+
+    private static void closeQuietly(PooledConnection connection) {
+        if (connection != null) {
+            try {
+                connection.delegate.close();
+            } catch (Exception e) {
+                CorePlugin.logger().warn("Failed to close Gradle connection", e);
+            }
+        }
+    }
+
+    /**
+     * Starts querying the build environment with the target model builder.
+     *
+     * @param builder the model builder, configured with the progress attributes of the caller
+     * @param buildConfiguration the configuration of the queried build
+     * @return the future build environment
+     */
+    static CompletableFuture<BuildEnvironment> queryBuildEnvironment(ModelBuilder<BuildEnvironment> builder, BuildConfiguration buildConfiguration) {
+        CompletableFuture<BuildEnvironment> result = new CompletableFuture<>();
+        // the Java home is the only operation attribute the build environment depends on
+        builder.setJavaHome(buildConfiguration.getJavaHome()).get(new ResultHandler<BuildEnvironment>() {
+
+            @Override
+            public void onComplete(BuildEnvironment buildEnvironment) {
+                result.complete(buildEnvironment);
+            }
+
+            @Override
+            public void onFailure(GradleConnectionException failure) {
+                result.completeExceptionally(failure);
+            }
+        });
+        return result;
+    }
+
+    public static ProjectConnectionPool createAndRegister() {
+        long idleTimeoutSeconds = Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT_SECONDS);
+        ProjectConnectionPool pool = new ProjectConnectionPool(TimeUnit.SECONDS.toMillis(Math.max(idleTimeoutSeconds, 0)));
+        CorePlugin.listenerRegistry().addEventListener(pool);
+        return pool;
+    }
+
+    /**
+     * A pooled connection along with its bookkeeping data. All fields are guarded by the pool lock.
+     */
+    private static final class PooledConnection {
+
+        private final BuildConfiguration buildConfiguration;
+        private final ProjectConnection delegate;
+        private int leases;
+        private long idleSince;
+
+        private PooledConnection(BuildConfiguration buildConfiguration, ProjectConnection delegate) {
+            this.buildConfiguration = buildConfiguration;
+            this.delegate = delegate;
+        }
+    }
+
+    /**
+     * Connection handed out to the clients. Closing it releases the lease instead of closing the
+     * underlying connection.
+     */
+    private final class LeasedConnection implements ProjectConnection {
+
+        private final PooledConnection connection;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private LeasedConnection(PooledConnection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public <T> T getModel(Class<T> modelType) throws GradleConnectionException, IllegalStateException {
+            if (modelType == BuildEnvironment.class) {
+                return modelType.cast(getBuildEnvironment());
+            }
+            return this.connection.delegate.getModel(modelType);
+        }
+
+        @Override
+        public <T> void getModel(Class<T> modelType, ResultHandler<? super T> handler) throws IllegalStateException {
+            if (modelType == BuildEnvironment.class) {
+                T buildEnvironment;
+                try {
+                    buildEnvironment = modelType.cast(getBuildEnvironment());
+                } catch (GradleConnectionException e) {
+                    handler.onFailure(e);
+                    return;
+                }
+                handler.onComplete(buildEnvironment);
+            } else {
+                this.connection.delegate.getModel(modelType, handler);
+            }
+        }
+
+        private BuildEnvironment getBuildEnvironment() {
+            BuildConfiguration buildConfiguration = this.connection.buildConfiguration;
+            return ProjectConnectionPool.this.buildEnvironmentCache.get(buildConfiguration,
+                    () -> queryBuildEnvironment(this.connection.delegate.model(BuildEnvironment.class), buildConfiguration));
+        }
+
+        @Override
+        public BuildLauncher newBuild() {
+            return this.connection.delegate.newBuild();
+        }
+
+        @Override
+        public TestLauncher newTestLauncher() {
+            return this.connection.delegate.newTestLauncher();
+        }
+
+        @Override
+        public <T> ModelBuilder<T> model(Class<T> modelType) {
+            return this.connection.delegate.model(modelType);
+        }
+
+        @Override
+        public <T> BuildActionExecuter<T> action(BuildAction<T> buildAction) {
+            return this.connection.delegate.action(buildAction);
+        }
+
+        @Override
+        public Builder action() {
+            return this.connection.delegate.action();
+        }
+
+        @Override
+        public void notifyDaemonsAboutChangedPaths(List<Path> changedPaths) {
+            this.connection.delegate.notifyDaemonsAboutChangedPaths(changedPaths);
+        }
+
+        @Override
+        public void close() {
+            if (this.released.compareAndSet(false, true)) {
+                release(this.connection);
+            }
+        }
+    }
+}
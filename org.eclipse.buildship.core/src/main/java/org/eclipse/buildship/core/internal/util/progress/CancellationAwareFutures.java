@@ -0,0 +1,71 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.progress;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.gradle.tooling.CancellationTokenSource;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+/**
+ * Waits for the results of asynchronous Tooling API requests while honoring the cancellation of
+ * the waiting operation.
+ */
+public final class CancellationAwareFutures {
+
+    private static final long CANCELLATION_POLL_INTERVAL_MILLIS = 100;
+
+    private CancellationAwareFutures() {
+    }
+
+    /**
+     * Waits for the result of the target future. If the monitor or the token source is cancelled
+     * in the meantime, the token source is cancelled too and the waiting stops.
+     *
+     * @param future the future to wait for
+     * @param tokenSource the cancellation token source of the request
+     * @param monitor the monitor of the waiting operation
+     * @return the result of the future
+     * @throws Exception the failure of the future
+     * @throws OperationCanceledException if the waiting operation was cancelled
+     */
+    public static <T> T await(CompletableFuture<T> future, CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
+        while (true) {
+            if (monitor.isCanceled() || tokenSource.token().isCancellationRequested()) {
+                tokenSource.cancel();
+                throw new OperationCanceledException();
+            }
+
+            try {
+                return future.get(CANCELLATION_POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // check the cancellation again
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OperationCanceledException();
+            } catch (ExecutionException e) {
+                // report the Tooling API failure itself so that it's presented like the synchronous queries
+                Throwable cause = e.getCause();
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                } else {
+                    throw e;
+                }
+            }
+        }
+    }
+}
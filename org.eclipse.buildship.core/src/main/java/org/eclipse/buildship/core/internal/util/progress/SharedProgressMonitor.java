@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.util.progress;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.ProgressMonitorWrapper;
+
+/**
+ * A progress monitor that can be passed to several operations running at the same time.
+ * <p/>
+ * The operations see the cancellation of the wrapped monitor and report their sub tasks to it,
+ * but they neither begin nor end its task and don't report work: the owner of the wrapped monitor
+ * does that while waiting for the operations.
+ */
+public final class SharedProgressMonitor extends ProgressMonitorWrapper {
+
+    public SharedProgressMonitor(IProgressMonitor monitor) {
+        super(monitor);
+    }
+
+    @Override
+    public void beginTask(String name, int totalWork) {
+    }
+
+    @Override
+    public void setTaskName(String name) {
+    }
+
+    @Override
+    public synchronized void subTask(String name) {
+        super.subTask(name);
+    }
+
+    @Override
+    public void worked(int work) {
+    }
+
+    @Override
+    public void internalWorked(double work) {
+    }
+
+    @Override
+    public void done() {
+    }
+}
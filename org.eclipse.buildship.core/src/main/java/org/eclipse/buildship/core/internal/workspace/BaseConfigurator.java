@@ -30,13 +30,15 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
-import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.InitializationContext;
 import org.eclipse.buildship.core.ProjectConfigurator;
 import org.eclipse.buildship.core.ProjectContext;
 import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.CoreTraceScopes;
+import org.eclipse.buildship.core.internal.preferences.PersistentModel;
 import org.eclipse.buildship.core.internal.util.gradle.GradleVersion;
 import org.eclipse.buildship.core.internal.util.gradle.HierarchicalElementUtils;
+
 public class BaseConfigurator implements ProjectConfigurator {
 
     private Map<File, EclipseProject> locationToProject;
@@ -44,13 +46,12 @@ public class BaseConfigurator implements ProjectConfigurator {
 
     @Override
     public void init(InitializationContext context, IProgressMonitor monitor) {
-        // TODO (donat) add required model declarations to the project configurator extension point
-        GradleBuild gradleBuild = context.getGradleBuild();
+        // the Eclipse models are declared in the requiredModels attribute of the extension
+        InternalGradleBuild gradleBuild = (InternalGradleBuild) context.getGradleBuild();
         try {
-            Collection<EclipseProject> rootModels = gradleBuild.withConnection(connection -> {
-                this.gradleVersion = GradleVersion.version(connection.getModel(BuildEnvironment.class).getGradle().getGradleVersion());
-                return EclipseModelUtils.queryModels(connection).values();
-            }, monitor);
+            BuildEnvironment buildEnvironment = gradleBuild.getModelProvider().fetchModel(BuildEnvironment.class, FetchStrategy.LOAD_IF_NOT_CACHED, null, monitor);
+            this.gradleVersion = GradleVersion.version(buildEnvironment.getGradle().getGradleVersion());
+            Collection<EclipseProject> rootModels = context.getModels(EclipseProject.class).values();
             this.locationToProject = rootModels.stream()
                 .flatMap(p -> HierarchicalElementUtils.getAll(p).stream())
                 .collect(Collectors.toMap(p -> p.getProjectDirectory(), p -> p));
@@ -77,22 +78,30 @@ public class BaseConfigurator implements ProjectConfigurator {
         EclipseProject model = lookupEclipseModel(project);
         progress.worked(1);
 
+        if (isUpToDate(project, model, persistentModel.getPrevious())) {
+            CorePlugin.logger().trace(CoreTraceScopes.PROJECT_CONFIGURATORS, "Project " + project.getName() + " is up-to-date, skipping configuration");
+            return;
+        }
+
+        // projects with problems are always configured, so that the problems are reported again
+        ProblemTrackingContext trackingContext = new ProblemTrackingContext(context);
         persistentModel.gradleVersion(this.gradleVersion);
 
-        BuildScriptLocationUpdater.update(model, persistentModel, progress.newChild(1));
+        measure("BuildScriptLocationUpdater", project, () -> BuildScriptLocationUpdater.update(model, persistentModel, progress.newChild(1)));
 
-        LinkedResourcesUpdater.update(project, ImmutableList.copyOf(model.getLinkedResources()), persistentModel, progress.newChild(1));
-        GradleFolderUpdater.update(project, model, persistentModel, progress.newChild(1));
-        ProjectNatureUpdater.update(project,  ImmutableList.copyOf(model.getProjectNatures()), persistentModel, progress.newChild(1));
-        BuildCommandUpdater.update(project, ImmutableList.copyOf(model.getBuildCommands()), persistentModel, progress.newChild(1));
+        measure("LinkedResourcesUpdater", project, () -> LinkedResourcesUpdater.update(project, ImmutableList.copyOf(model.getLinkedResources()), persistentModel, progress.newChild(1)));
+        measure("GradleFolderUpdater", project, () -> GradleFolderUpdater.update(project, model, persistentModel, progress.newChild(1)));
+        measure("ProjectNatureUpdater", project, () -> ProjectNatureUpdater.update(project,  ImmutableList.copyOf(model.getProjectNatures()), persistentModel, progress.newChild(1)));
+        measure("BuildCommandUpdater", project, () -> BuildCommandUpdater.update(project, ImmutableList.copyOf(model.getBuildCommands()), persistentModel, progress.newChild(1)));
 
         // TODO (donat) extract Java synchronization to external configurator
         if (isJavaProject(model)) {
-            synchronizeJavaProject(context, model, project, persistentModel, progress);
+            synchronizeJavaProject(trackingContext, model, project, persistentModel, progress);
         } else {
             persistentModel.classpath(ImmutableList.<IClasspathEntry>of());
         }
 
+        persistentModel.modelDigest(trackingContext.hasProblems() ? null : ProjectModelDigest.compute(project, model, this.gradleVersion));
         CorePlugin.modelPersistence().saveModel(persistentModel.build());
         CorePlugin.externalLaunchConfigurationManager().updateClasspathProviders(project); // classpath provider depends on persistent model
     }
@@ -104,23 +113,35 @@ public class BaseConfigurator implements ProjectConfigurator {
                 SubMonitor progress = SubMonitor.convert(monitor);
                 synchronizeJavaProjectInTransaction(context, model, project, persistentModel, progress);
             }
-        }, progress.newChild(1));
+        }, project, progress.newChild(1));
     }
 
     private void synchronizeJavaProjectInTransaction(final ProjectContext context, final EclipseProject model, final IProject project, PersistentModelBuilder persistentModel, SubMonitor progress) throws JavaModelException, CoreException {
         progress.setWorkRemaining(7);
         //old Gradle versions did not expose natures, so we need to add the Java nature explicitly
-        CorePlugin.workspaceOperations().addNature(project, JavaCore.NATURE_ID, progress.newChild(1));
+        measure("JavaNature", project, () -> CorePlugin.workspaceOperations().addNature(project, JavaCore.NATURE_ID, progress.newChild(1)));
         IJavaProject javaProject = JavaCore.create(project);
-        OutputLocationUpdater.update(context, javaProject, model, progress.newChild(1));
-        SourceFolderUpdater.update(javaProject, ImmutableList.copyOf(model.getSourceDirectories()), progress.newChild(1));
-        LibraryFilter.update(javaProject, model, progress.newChild(1));
-        ClasspathContainerUpdater.update(javaProject, model, progress.newChild(1));
-        JavaSourceSettingsUpdater.update(javaProject, model, progress.newChild(1));
-        GradleClasspathContainerUpdater.updateFromModel(javaProject, model, this.locationToProject.values(), persistentModel, progress.newChild(1), context);
+        measure("OutputLocationUpdater", project, () -> OutputLocationUpdater.update(context, javaProject, model, progress.newChild(1)));
+        measure("SourceFolderUpdater", project, () -> SourceFolderUpdater.update(javaProject, ImmutableList.copyOf(model.getSourceDirectories()), progress.newChild(1)));
+        measure("LibraryFilter", project, () -> LibraryFilter.update(javaProject, model, progress.newChild(1)));
+        measure("ClasspathContainerUpdater", project, () -> ClasspathContainerUpdater.update(javaProject, model, progress.newChild(1)));
+        measure("JavaSourceSettingsUpdater", project, () -> JavaSourceSettingsUpdater.update(javaProject, model, progress.newChild(1)));
+        measure("GradleClasspathContainerUpdater", project,
+                () -> GradleClasspathContainerUpdater.updateFromModel(javaProject, model, this.locationToProject.values(), persistentModel, progress.newChild(1), context));
         persistentModel.hasAutoBuildTasks(model.hasAutoBuildTasks());
     }
 
+    private static void measure(String updater, IProject project, SynchronizationProfiler.Step<CoreException> step) throws CoreException {
+        SynchronizationProfiler.active().measure(SynchronizationProfiler.CATEGORY_UPDATER, updater, project, step);
+    }
+
+    private boolean isUpToDate(IProject project, EclipseProject model, PersistentModel previous) {
+        if (!ProjectModelDigest.isEnabled() || !previous.isPresent() || previous.getModelDigest() == null) {
+            return false;
+        }
+        return previous.getModelDigest().equals(ProjectModelDigest.compute(project, model, this.gradleVersion));
+    }
+
     private boolean isJavaProject(EclipseProject model) {
         return model.getJavaSourceSettings() != null;
     }
@@ -137,4 +158,38 @@ public class BaseConfigurator implements ProjectConfigurator {
     public void unconfigure(ProjectContext context, IProgressMonitor monitor) {
         CorePlugin.modelPersistence().deleteModel(context.getProject());
     }
+
+    /**
+     * Forwards the reported problems to the synchronization and remembers if there were any.
+     */
+    private static final class ProblemTrackingContext implements ProjectContext {
+
+        private final ProjectContext delegate;
+        private boolean hasProblems;
+
+        ProblemTrackingContext(ProjectContext delegate) {
+            this.delegate = delegate;
+        }
+
+        boolean hasProblems() {
+            return this.hasProblems;
+        }
+
+        @Override
+        public IProject getProject() {
+            return this.delegate.getProject();
+        }
+
+        @Override
+        public void error(String message, Exception exception) {
+            this.hasProblems = true;
+            this.delegate.error(message, exception);
+        }
+
+        @Override
+        public void warning(String message, Exception exception) {
+            this.hasProblems = true;
+            this.delegate.warning(message, exception);
+        }
+    }
 }
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.ProjectConnection;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.CoreTraceScopes;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
+import org.eclipse.buildship.core.internal.configuration.ProjectConfiguration;
+
+/**
+ * Collects the files changed in the workspace and reports them to the Gradle daemons.
+ * <p/>
+ * The daemons watch the file system to avoid rescanning the project directories on each build, but
+ * the events arrive with a delay and are dropped on some file systems. Eclipse already knows about
+ * the changes made in the IDE, so the changed paths are batched per Gradle build and passed to
+ * {@link ProjectConnection#notifyDaemonsAboutChangedPaths(List)} before the next Gradle operation of
+ * the build, see {@link #flush(BuildConfiguration, ProjectConnection)}.
+ * <p/>
+ * Derived and team-private resources are ignored, as these are either written by Gradle or not
+ * build inputs. If too many paths are collected for a build then they are replaced with the root
+ * project directory, which makes the daemons invalidate everything they know about the build.
+ */
+public final class ChangedPathsCollector implements IResourceChangeListener {
+
+    private static final int MAX_PATHS_PER_BUILD = 1000;
+
+    private final Map<File, Set<Path>> changedPaths = new ConcurrentHashMap<>();
+
+    private ChangedPathsCollector() {
+    }
+
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        IResourceDelta delta = event.getDelta();
+        if (delta != null) {
+            for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+                IResource resource = projectDelta.getResource();
+                if (resource instanceof IProject) {
+                    collectChangedPaths((IProject) resource, projectDelta);
+                }
+            }
+        }
+    }
+
+    private void collectChangedPaths(IProject project, IResourceDelta projectDelta) {
+        if (!project.isAccessible() || !GradleProjectNature.isPresentOn(project)) {
+            return;
+        }
+        ProjectConfiguration configuration = CorePlugin.configurationManager().tryLoadProjectConfiguration(project);
+        if (configuration == null) {
+            return;
+        }
+
+        List<Path> paths = new ArrayList<>();
+        try {
+            projectDelta.accept(delta -> visitDelta(delta, paths));
+        } catch (CoreException e) {
+            CorePlugin.logger().warn("Failed to collect changed files of project " + project.getName(), e);
+            return;
+        }
+
+        if (!paths.isEmpty()) {
+            File rootDir = configuration.getBuildConfiguration().getRootProjectDirectory();
+            this.changedPaths.compute(rootDir, (dir, pending) -> {
+                Set<Path> result = pending != null ? pending : new LinkedHashSet<>();
+                if (!result.contains(dir.toPath())) {
+                    result.addAll(paths);
+                    if (result.size() > MAX_PATHS_PER_BUILD) {
+                        result.clear();
+                        result.add(dir.toPath());
+                    }
+                }
+                return result;
+            });
+        }
+    }
+
+    private static boolean visitDelta(IResourceDelta delta, List<Path> paths) {
+        IResource resource = delta.getResource();
+        if (resource.isDerived() || resource.isTeamPrivateMember()) {
+            return false;
+        }
+
+        int kind = delta.getKind();
+        if (resource.getType() == IResource.FILE) {
+            if (kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED || (delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0) {
+                addLocation(resource, paths);
+            }
+            return false;
+        } else if (kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED) {
+            // the daemons invalidate everything below the reported folder
+            addLocation(resource, paths);
+            return false;
+        } else {
+            return true;
+        }
+    }
+
+    private static void addLocation(IResource resource, List<Path> paths) {
+        IPath location = resource.getLocation();
+        if (location != null) {
+            paths.add(location.toFile().toPath());
+        }
+    }
+
+    /**
+     * Returns whether there are changed paths to report for the target build.
+     *
+     * @param buildConfiguration the build to check
+     * @return {@code true} if {@link #flush(BuildConfiguration, ProjectConnection)} would notify the daemons
+     */
+    public boolean hasChangedPaths(BuildConfiguration buildConfiguration) {
+        return this.changedPaths.containsKey(buildConfiguration.getRootProjectDirectory());
+    }
+
+    /**
+     * Reports the paths changed since the last call to the daemons of the target build.
+     * <p/>
+     * Gradle versions older than 6.1 don't support the notification; for those the collected paths
+     * are discarded.
+     *
+     * @param buildConfiguration the build whose changes should be reported
+     * @param connection the connection to the build
+     */
+    public void flush(BuildConfiguration buildConfiguration, ProjectConnection connection) {
+        Set<Path> paths = this.changedPaths.remove(buildConfiguration.getRootProjectDirectory());
+        if (paths == null || paths.isEmpty()) {
+            return;
+        }
+
+        try {
+            connection.notifyDaemonsAboutChangedPaths(new ArrayList<>(paths));
+        } catch (GradleConnectionException e) {
+            CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Cannot notify Gradle daemons about changed paths", e);
+        }
+    }
+
+    public static ChangedPathsCollector createAndRegister() {
+        ChangedPathsCollector collector = new ChangedPathsCollector();
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(collector, IResourceChangeEvent.POST_CHANGE);
+        return collector;
+    }
+
+    public void close() {
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+        this.changedPaths.clear();
+    }
+}
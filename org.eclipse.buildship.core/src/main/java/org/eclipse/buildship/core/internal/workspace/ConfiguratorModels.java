@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.model.eclipse.EclipseProject;
+
+import com.google.common.collect.ImmutableMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.CoreTraceScopes;
+import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
+import org.eclipse.buildship.core.internal.extension.InternalProjectConfigurator;
+
+/**
+ * The Tooling API models declared by the project configurators via the {@code requiredModels}
+ * extension attribute.
+ * <p/>
+ * The {@link EclipseProject} models are the ones loaded by the synchronization itself. All other
+ * declared models are loaded with a single composite build action, so the number of Gradle
+ * invocations doesn't grow with the number of installed configurators.
+ * <p/>
+ * The models are loaded together with the models of the synchronization, before the workspace
+ * root rule is acquired, and are passed to the configurators via
+ * {@link ProjectConfigurators#create(InternalGradleBuild, List, ConfiguratorModels, SynchronizationProfiler)}.
+ */
+public final class ConfiguratorModels {
+
+    private static final ConfiguratorModels NONE = new ConfiguratorModels(ImmutableMap.<String, Map<String, Object>>of(), null);
+
+    private final Map<String, Map<String, Object>> models;
+    private final Exception failure;
+
+    private ConfiguratorModels(Map<String, Map<String, Object>> models, Exception failure) {
+        this.models = models;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the models of the target type.
+     *
+     * @param modelType the model type
+     * @return the root project model of each build in the composite, keyed by the build path
+     * @throws IllegalArgumentException if the model type was not loaded
+     * @throws GradlePluginsRuntimeException if loading the models failed
+     */
+    @SuppressWarnings("unchecked")
+    <T> Map<String, T> get(Class<T> modelType) {
+        Map<String, Object> result = this.models.get(modelType.getName());
+        if (result != null) {
+            return (Map<String, T>) result;
+        } else if (this.failure != null) {
+            throw new GradlePluginsRuntimeException("Cannot load model " + modelType.getName(), this.failure);
+        } else {
+            throw new IllegalArgumentException("Model " + modelType.getName() + " was not loaded");
+        }
+    }
+
+    /**
+     * Loads the models declared by all configurators at once.
+     *
+     * @param gradleBuild the synchronized build
+     * @param eclipseModels the Eclipse models loaded by the synchronization, or {@code null} if they are not available
+     * @param configurators the configurators of the synchronization
+     * @param tokenSource the cancellation token source of the synchronization
+     * @param monitor the monitor to report progress on
+     * @return the loaded models; if the loading fails, the failure is rethrown when a model is accessed
+     * @throws OperationCanceledException if the synchronization is cancelled while the models are loaded
+     */
+    public static ConfiguratorModels load(InternalGradleBuild gradleBuild, Map<String, EclipseProject> eclipseModels, List<InternalProjectConfigurator> configurators,
+            CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+        Set<Class<?>> remainingTypes = new LinkedHashSet<>();
+        configurators.forEach(c -> remainingTypes.addAll(c.getRequiredModels()));
+        if (remainingTypes.isEmpty()) {
+            return NONE;
+        }
+
+        ImmutableMap.Builder<String, Map<String, Object>> result = ImmutableMap.builder();
+        if (eclipseModels != null && remainingTypes.remove(EclipseProject.class)) {
+            result.put(EclipseProject.class.getName(), ImmutableMap.<String, Object>copyOf(eclipseModels));
+        }
+        if (remainingTypes.isEmpty()) {
+            return new ConfiguratorModels(result.build(), null);
+        }
+
+        List<Class<?>> queriedTypes = new ArrayList<>(remainingTypes);
+        CorePlugin.logger().trace(CoreTraceScopes.PROJECT_CONFIGURATORS, "Loading models required by project configurators: " + queriedTypes);
+        try {
+            Map<String, Map<String, Object>> queriedModels = gradleBuild.withConnection(connection -> {
+                Map<String, Map<String, Object>> models = new HashMap<>();
+                if (queriedTypes.remove(EclipseProject.class)) {
+                    // the Eclipse models are queried with the same parameters as during the synchronization
+                    models.put(EclipseProject.class.getName(), ImmutableMap.<String, Object>copyOf(EclipseModelUtils.queryModels(connection)));
+                }
+                if (!queriedTypes.isEmpty()) {
+                    models.putAll(EclipseModelUtils.queryCompositeModels(connection, queriedTypes));
+                }
+                return models;
+            }, tokenSource, monitor);
+            result.putAll(queriedModels);
+            return new ConfiguratorModels(result.build(), null);
+        } catch (Exception e) {
+            if (tokenSource.token().isCancellationRequested()) {
+                throw new OperationCanceledException();
+            }
+            return new ConfiguratorModels(result.build(), e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.util.Set;
+
+import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.model.GradleProject;
+import org.gradle.tooling.model.build.BuildEnvironment;
+
+import com.google.common.base.Preconditions;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.core.runtime.jobs.JobGroup;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.CoreTraceScopes;
+import org.eclipse.buildship.core.internal.launch.BaseLaunchRequestJob;
+import org.eclipse.buildship.core.internal.operation.ToolingApiJob;
+import org.eclipse.buildship.core.internal.operation.ToolingApiJobResultHandler;
+import org.eclipse.buildship.core.internal.operation.ToolingApiStatus;
+
+/**
+ * Starts the Gradle daemons of the workspace builds in the background after the workbench starts.
+ * <p/>
+ * The first Gradle operation of a session pays for starting the daemon and bootstrapping Gradle.
+ * When enabled, this class connects to each build with a low priority and requests the
+ * {@link BuildEnvironment} model, which leaves an idle daemon behind for the first user action.
+ * Optionally, the {@link GradleProject} models are loaded into the model cache too.
+ * <p/>
+ * At most {@link #MAX_CONCURRENCY_PROPERTY} builds are warmed up at the same time. As the warm-up
+ * is only useful until the user starts working, it is cancelled as soon as a synchronization, a
+ * launch or another user-initiated Gradle job is scheduled.
+ */
+public final class DaemonWarmUp {
+
+    /**
+     * System property to enable the warm-up.
+     */
+    public static final String ENABLED_PROPERTY = "org.eclipse.buildship.core.warmUp.enabled";
+
+    /**
+     * System property to also load the Gradle project models into the model cache.
+     */
+    public static final String LOAD_MODELS_PROPERTY = "org.eclipse.buildship.core.warmUp.loadModels";
+
+    /**
+     * System property to override the number of builds warmed up in parallel.
+     */
+    public static final String MAX_CONCURRENCY_PROPERTY = "org.eclipse.buildship.core.warmUp.maxConcurrency";
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 2;
+
+    private final JobGroup jobGroup;
+    private final boolean loadModels;
+    private final CancellingListener cancellingListener = new CancellingListener();
+
+    private DaemonWarmUp(int maxConcurrency, int numberOfBuilds, boolean loadModels) {
+        this.jobGroup = new JobGroup("Warm up Gradle daemons", maxConcurrency, numberOfBuilds);
+        this.loadModels = loadModels;
+    }
+
+    private void start(Set<InternalGradleBuild> gradleBuilds) {
+        Job.getJobManager().addJobChangeListener(this.cancellingListener);
+        for (InternalGradleBuild gradleBuild : gradleBuilds) {
+            WarmUpJob job = new WarmUpJob(gradleBuild);
+            job.setJobGroup(this.jobGroup);
+            job.schedule();
+        }
+    }
+
+    /**
+     * Cancels the warm-up jobs that are still waiting or running.
+     */
+    public void cancel() {
+        Job.getJobManager().removeJobChangeListener(this.cancellingListener);
+        this.jobGroup.cancel();
+    }
+
+    /**
+     * Starts the warm-up if it is enabled.
+     *
+     * @return the started warm-up or {@code null} if it is disabled or there are no Gradle builds in
+     *         the workspace
+     */
+    public static DaemonWarmUp startIfEnabled() {
+        if (!Boolean.getBoolean(ENABLED_PROPERTY)) {
+            return null;
+        }
+
+        Set<InternalGradleBuild> gradleBuilds = CorePlugin.internalGradleWorkspace().getGradleBuilds();
+        if (gradleBuilds.isEmpty()) {
+            return null;
+        }
+
+        int maxConcurrency = Math.max(Integer.getInteger(MAX_CONCURRENCY_PROPERTY, DEFAULT_MAX_CONCURRENCY), 1);
+        DaemonWarmUp warmUp = new DaemonWarmUp(maxConcurrency, gradleBuilds.size(), Boolean.getBoolean(LOAD_MODELS_PROPERTY));
+        warmUp.start(gradleBuilds);
+        return warmUp;
+    }
+
+    /**
+     * Cancels the warm-up when the user starts a Gradle operation and unregisters itself once all
+     * warm-up jobs are finished.
+     */
+    private final class CancellingListener extends JobChangeAdapter {
+
+        @Override
+        public void scheduled(IJobChangeEvent event) {
+            Job job = event.getJob();
+            // background jobs, like reloading the Task View from the model snapshots, don't compete with the warm-up
+            if (job instanceof SynchronizationJob || job instanceof BaseLaunchRequestJob || (job.isUser() && job.belongsTo(CorePlugin.GRADLE_JOB_FAMILY))) {
+                cancel();
+            }
+        }
+
+        @Override
+        public void done(IJobChangeEvent event) {
+            if (event.getJob().getJobGroup() == DaemonWarmUp.this.jobGroup && DaemonWarmUp.this.jobGroup.getActiveJobs().isEmpty()) {
+                Job.getJobManager().removeJobChangeListener(this);
+            }
+        }
+    }
+
+    /**
+     * Starts the daemon of a single build.
+     */
+    private final class WarmUpJob extends ToolingApiJob<Void> {
+
+        private final InternalGradleBuild gradleBuild;
+
+        WarmUpJob(InternalGradleBuild gradleBuild) {
+            super("Warm up Gradle daemon for " + gradleBuild.getBuildConfig().getRootProjectDirectory().getName());
+            this.gradleBuild = Preconditions.checkNotNull(gradleBuild);
+            setPriority(DECORATE);
+            setSystem(true);
+            setResultHandler(new WarmUpResultHandler());
+        }
+
+        @Override
+        public Void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
+            // the pooled connection is kept open and caches the build environment for the later operations
+            this.gradleBuild.withConnection(connection -> connection.getModel(BuildEnvironment.class), tokenSource, monitor);
+            if (DaemonWarmUp.this.loadModels) {
+                this.gradleBuild.getModelProvider().fetchModels(GradleProject.class, FetchStrategy.LOAD_IF_NOT_CACHED, tokenSource, monitor);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The warm-up is best-effort: failures are reported by the user actions executed later.
+     */
+    private static final class WarmUpResultHandler implements ToolingApiJobResultHandler<Void> {
+
+        @Override
+        public void onSuccess(Void result) {
+        }
+
+        @Override
+        public void onFailure(ToolingApiStatus status) {
+            CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Gradle daemon warm-up failed: " + status.getMessage(), status.getException());
+        }
+    }
+}
@@ -9,25 +9,40 @@
  ******************************************************************************/
 package org.eclipse.buildship.core.internal.workspace;
 
+import java.io.File;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 import org.gradle.tooling.BuildAction;
+import org.gradle.tooling.CancellationToken;
 import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.GradleConnectionException;
 import org.gradle.tooling.ProjectConnection;
+import org.gradle.tooling.ResultHandler;
+import org.gradle.tooling.model.GradleProject;
 import org.gradle.tooling.model.build.BuildEnvironment;
 import org.gradle.tooling.model.eclipse.EclipseProject;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.google.common.collect.Maps;
 
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.ISchedulingRule;
 
-import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.ModelCache;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+import org.eclipse.buildship.core.internal.operation.BaseToolingApiOperation;
 import org.eclipse.buildship.core.internal.util.gradle.GradleVersion;
+import org.eclipse.buildship.core.internal.util.gradle.IdeAttachedProjectConnection;
 import org.eclipse.buildship.core.internal.util.gradle.IdeFriendlyClassLoading;
+import org.eclipse.buildship.core.internal.util.gradle.ModelSnapshotStore;
 
 /**
  * Default implementation of {@link ModelProvider}.
@@ -36,11 +51,19 @@ import org.eclipse.buildship.core.internal.util.gradle.IdeFriendlyClassLoading;
  */
 public final class DefaultModelProvider implements ModelProvider {
 
+    // the models of the different queries are cached under the same key, the variants keep their loads apart
+    private static final String SINGLE_MODEL = "model";
+    private static final String COMPOSITE_MODEL = "compositeModel";
+    private static final String SYNC_TASKS = "syncTasks";
+
     private final InternalGradleBuild gradleBuild;
-    private final Cache<Object, Object> cache = CacheBuilder.newBuilder().build();
+    private final ModelCache.Region cache;
+    private final ModelSnapshotStore snapshotStore;
 
-    public DefaultModelProvider(InternalGradleBuild gradleBuild) {
+    public DefaultModelProvider(InternalGradleBuild gradleBuild, ModelCache.Region cache, ModelSnapshotStore snapshotStore) {
         this.gradleBuild = gradleBuild;
+        this.cache = cache;
+        this.snapshotStore = snapshotStore;
     }
 
     @Override
@@ -49,7 +72,7 @@ public final class DefaultModelProvider implements ModelProvider {
             DefaultModelProvider.this.gradleBuild.withConnection(connection -> {
                 return queryModel(model, connection);
             }, tokenSource, monitor),
-        strategy, model);
+        strategy, model, false, SINGLE_MODEL, tokenSource);
     }
 
     @Override
@@ -59,55 +82,192 @@ public final class DefaultModelProvider implements ModelProvider {
                 BuildEnvironment buildEnvironment = connection.getModel(BuildEnvironment.class);
                 GradleVersion gradleVersion = GradleVersion.version(buildEnvironment.getGradle().getGradleVersion());
                 if (gradleVersion.supportsCompositeBuilds()) {
-                    return queryCompositeModel(model, connection);
+                    return queryCompositeModel(model, connection, gradleVersion);
                 } else {
                     return ImmutableMap.of(":", queryModel(model, connection));
                 }
             }, tokenSource, monitor),
-        strategy, model);
+        strategy, model, true, COMPOSITE_MODEL, tokenSource);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> fetchModelAsync(Class<T> model, FetchStrategy strategy, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+        return executeOperationAsync(() ->
+            // the build environment is served from the cache of the connection pool
+            withConnectionAsync((connection, handler) -> connection.getModel(model, handler), tokenSource, monitor),
+        strategy, model, false, SINGLE_MODEL, tokenSource);
+    }
+
+    @Override
+    public <T> CompletableFuture<Map<String, T>> fetchModelsAsync(Class<T> model, FetchStrategy strategy, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+        return executeOperationAsync(() ->
+            // the Gradle version determines the query; the build environment is requested asynchronously too, as it
+            // may require contacting Gradle
+            fetchModelAsync(BuildEnvironment.class, FetchStrategy.LOAD_IF_NOT_CACHED, tokenSource, monitor).thenCompose(buildEnvironment ->
+            withConnectionAsync((IdeAttachedProjectConnection connection, ResultHandler<Map<String, T>> handler) -> {
+                GradleVersion gradleVersion = GradleVersion.version(buildEnvironment.getGradle().getGradleVersion());
+                if (gradleVersion.supportsCompositeBuilds()) {
+                    connection.runAction(IdeFriendlyClassLoading.loadCompositeModelQuery(model, gradleVersion), handler);
+                } else {
+                    connection.getModel(model, new ResultHandler<T>() {
+
+                        @Override
+                        public void onComplete(T result) {
+                            handler.onComplete(ImmutableMap.of(":", result));
+                        }
+
+                        @Override
+                        public void onFailure(GradleConnectionException failure) {
+                            handler.onFailure(failure);
+                        }
+                    });
+                }
+            }, tokenSource, monitor)),
+        strategy, model, true, COMPOSITE_MODEL, tokenSource);
     }
 
     @Override
     public  Map<String, EclipseProject> fetchEclipseProjectAndRunSyncTasks(final CancellationTokenSource tokenSource, final IProgressMonitor monitor) {
-        return executeOperation(() ->
-            // TODO (donat) Right now, project configurators can only get cached model query results if they invoke the same exact actions
-            // used below. We should fix this by letting configurators declare their required models.
-            DefaultModelProvider.this.gradleBuild.withConnection(connection -> EclipseModelUtils.runTasksAndQueryModels(connection), tokenSource, monitor),
-        FetchStrategy.FORCE_RELOAD, EclipseProject.class);
+        return fetchEclipseProjectAndRunSyncTasks(ImmutableMap.<String, File>of(), tokenSource, monitor);
+    }
+
+    @Override
+    public  Map<String, EclipseProject> fetchEclipseProjectAndRunSyncTasks(final Map<String, File> substitutedProjects, final CancellationTokenSource tokenSource, final IProgressMonitor monitor) {
+        Map<String, EclipseProject> result = executeOperation(() ->
+            // the project configurators receive these models via InitializationContext.getModels() if they declare them
+            DefaultModelProvider.this.gradleBuild.withConnection(connection -> EclipseModelUtils.runTasksAndQueryModels(connection, substitutedProjects,
+                    DefaultModelProvider.this.gradleBuild.getBuildConfig().isParallelModelBuilding()), tokenSource, monitor),
+        FetchStrategy.FORCE_RELOAD, EclipseProject.class, true, ImmutableList.of(SYNC_TASKS, ImmutableMap.copyOf(substitutedProjects)), tokenSource);
+
+        // the Task View displays the Gradle projects, which are part of the loaded models
+        Map<String, GradleProject> gradleProjects = Maps.transformValues(result, EclipseProject::getGradleProject);
+        this.cache.put(GradleProject.class, ImmutableMap.copyOf(gradleProjects));
+        this.snapshotStore.save(this.gradleBuild.getBuildConfig(), GradleProject.class, gradleProjects);
+        return result;
     }
 
-    private <T> T executeOperation(final Callable<T> operation, FetchStrategy fetchStrategy, Class<?> cacheKey) {
+    private <T> T executeOperation(final Callable<T> operation, FetchStrategy fetchStrategy, Class<?> cacheKey, boolean composite, Object variant, CancellationTokenSource tokenSource) {
         if (FetchStrategy.FROM_CACHE_ONLY == fetchStrategy) {
             @SuppressWarnings("unchecked")
             T result = (T) this.cache.getIfPresent(cacheKey);
-            return result;
-        }
-
-        if (FetchStrategy.FORCE_RELOAD == fetchStrategy) {
-            this.cache.invalidate(cacheKey);
+            return result != null ? result : loadSnapshot(cacheKey, composite);
         }
+        invalidateBuildEnvironmentIfReloaded(fetchStrategy, cacheKey);
 
-        T value = getFromCache(cacheKey, operation);
+        Callable<T> loader = () -> {
+            T result = operation.call();
+            this.snapshotStore.save(this.gradleBuild.getBuildConfig(), cacheKey, result);
+            return result;
+        };
 
+        // concurrent requests for the same model and query share the same Gradle invocation; forced reloads don't join
+        // the invocations that are already running, see ModelCache
+        CancellationToken token = tokenSource != null ? tokenSource.token() : null;
+        @SuppressWarnings("unchecked")
+        T value = (T) (FetchStrategy.FORCE_RELOAD == fetchStrategy ? this.cache.reload(cacheKey, variant, loader, token) : this.cache.get(cacheKey, variant, loader, token));
         return value;
     }
 
-    private <U> U getFromCache(Class<?> cacheKey, Callable<U> cacheValueLoader) {
-        try {
+    private <T> CompletableFuture<T> executeOperationAsync(Supplier<CompletableFuture<T>> operation, FetchStrategy fetchStrategy, Class<?> cacheKey, boolean composite, Object variant, CancellationTokenSource tokenSource) {
+        if (FetchStrategy.FROM_CACHE_ONLY == fetchStrategy) {
             @SuppressWarnings("unchecked")
-            U result = (U) this.cache.get(cacheKey, cacheValueLoader);
+            T result = (T) this.cache.getIfPresent(cacheKey);
+            return CompletableFuture.completedFuture(result != null ? result : loadSnapshot(cacheKey, composite));
+        }
+        invalidateBuildEnvironmentIfReloaded(fetchStrategy, cacheKey);
+
+        Supplier<CompletableFuture<T>> loader = () -> operation.get().thenApply(result -> {
+            this.snapshotStore.save(this.gradleBuild.getBuildConfig(), cacheKey, result);
             return result;
-        } catch (Exception e) {
-            if (e instanceof UncheckedExecutionException && e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException)e.getCause();
-            } else {
-                throw new GradlePluginsRuntimeException(e);
+        });
+
+        CancellationToken token = tokenSource != null ? tokenSource.token() : null;
+        CompletableFuture<Object> value = FetchStrategy.FORCE_RELOAD == fetchStrategy ? this.cache.reloadAsync(cacheKey, variant, loader, token) : this.cache.getAsync(cacheKey, variant, loader, token);
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T> result = (CompletableFuture<T>) value;
+        return result;
+    }
+
+    private void invalidateBuildEnvironmentIfReloaded(FetchStrategy fetchStrategy, Class<?> model) {
+        // the connection pool memoizes the build environment, a forced reload has to query it again
+        if (FetchStrategy.FORCE_RELOAD == fetchStrategy && model == BuildEnvironment.class) {
+            CorePlugin.projectConnectionPool().getBuildEnvironmentCache().invalidate(this.gradleBuild.getBuildConfig());
+        }
+    }
+
+    private <T> CompletableFuture<T> withConnectionAsync(BiConsumer<IdeAttachedProjectConnection, ResultHandler<T>> query, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            // like the synchronous queries, the connection is opened through the operation manager; the operation
+            // only submits the query, the result is reported to the future
+            CorePlugin.operationManager().run(new AsyncQueryOperation<>(query, result), tokenSource, monitor != null ? monitor : new NullProgressMonitor());
+        } catch (CoreException e) {
+            result.completeExceptionally(e.getStatus().getException() != null ? e.getStatus().getException() : e);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private <T> T loadSnapshot(Class<?> model, boolean composite) {
+        // serve the model persisted in a previous session and reload the current one in the background
+        BuildConfiguration buildConfig = this.gradleBuild.getBuildConfig();
+        @SuppressWarnings("unchecked")
+        T snapshot = (T) this.snapshotStore.load(buildConfig, model, composite);
+        if (snapshot != null && this.snapshotStore.claimRefresh(buildConfig, model, composite)) {
+            new ModelRefreshJob(this.gradleBuild, model, composite).schedule();
+        }
+        return snapshot;
+    }
+
+    /**
+     * Opens a connection and submits an asynchronous query. The connection lease is released when
+     * the query finishes.
+     */
+    private final class AsyncQueryOperation<T> extends BaseToolingApiOperation {
+
+        private final BiConsumer<IdeAttachedProjectConnection, ResultHandler<T>> query;
+        private final CompletableFuture<T> result;
+
+        private AsyncQueryOperation(BiConsumer<IdeAttachedProjectConnection, ResultHandler<T>> query, CompletableFuture<T> result) {
+            super("Connecting to Gradle");
+            this.query = query;
+            this.result = result;
+        }
+
+        @Override
+        public void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
+            IdeAttachedProjectConnection connection = IdeAttachedProjectConnection.newInstance(tokenSource, DefaultModelProvider.this.gradleBuild.getBuildConfig().toGradleArguments(),
+                    DefaultModelProvider.this.gradleBuild, monitor);
+            try {
+                this.query.accept(connection, new ResultHandler<T>() {
+
+                    @Override
+                    public void onComplete(T model) {
+                        connection.close();
+                        AsyncQueryOperation.this.result.complete(model);
+                    }
+
+                    @Override
+                    public void onFailure(GradleConnectionException failure) {
+                        connection.close();
+                        AsyncQueryOperation.this.result.completeExceptionally(failure);
+                    }
+                });
+            } catch (RuntimeException e) {
+                connection.close();
+                throw e;
             }
         }
+
+        @Override
+        public ISchedulingRule getRule() {
+            return null;
+        }
     }
 
-    private static <T> Map<String, T> queryCompositeModel(Class<T> model, ProjectConnection connection) {
-        BuildAction<Map<String, T>> query = IdeFriendlyClassLoading.loadCompositeModelQuery(model);
+    private static <T> Map<String, T> queryCompositeModel(Class<T> model, ProjectConnection connection, GradleVersion gradleVersion) {
+        BuildAction<Map<String, T>> query = IdeFriendlyClassLoading.loadCompositeModelQuery(model, gradleVersion);
         return connection.action(query).run();
     }
 
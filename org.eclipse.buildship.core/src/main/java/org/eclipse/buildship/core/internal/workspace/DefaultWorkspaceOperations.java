@@ -51,29 +51,19 @@ public final class DefaultWorkspaceOperations implements WorkspaceOperations {
     }
 
     @Override
-    public Optional<IProject> findProjectByName(final String name) {
-        return FluentIterable.from(getAllProjects()).firstMatch(new Predicate<IProject>() {
-
-            @Override
-            public boolean apply(IProject project) {
-                return project.getName().equals(name);
-            }
-        });
+    public Optional<IProject> findProjectByName(String name) {
+        IWorkspace workspace = ResourcesPlugin.getWorkspace();
+        if (!workspace.validateName(name, IResource.PROJECT).isOK()) {
+            return Optional.absent();
+        }
+        // the workspace tree already indexes the projects by name
+        IProject project = workspace.getRoot().getProject(name);
+        return project.exists() ? Optional.of(project) : Optional.<IProject>absent();
     }
 
     @Override
-    public Optional<IProject> findProjectByLocation(final File directory) {
-        return FluentIterable.from(getAllProjects()).firstMatch(new Predicate<IProject>() {
-
-            @Override
-            public boolean apply(IProject project) {
-                IPath location = project.getLocation();
-                // since Eclipse 3.4 projects can be non-local and they could return null locations
-                // for Buildship this is not the case, Gradle projects are always available on the
-                // local file system
-                return location != null && location.toFile().equals(directory);
-            }
-        });
+    public Optional<IProject> findProjectByLocation(File directory) {
+        return CorePlugin.workspaceProjectIndex().findProjectByLocation(directory);
     }
 
     @Override
@@ -114,6 +104,7 @@ public final class DefaultWorkspaceOperations implements WorkspaceOperations {
 
             // open the project
             project.open(IResource.NONE, progress.newChild(1));
+            CorePlugin.workspaceProjectIndex().update(project);
 
             // add project natures separately to trigger IProjectNature#configure
             // the project needs to be open while the natures are added
@@ -146,6 +137,7 @@ public final class DefaultWorkspaceOperations implements WorkspaceOperations {
 
             // open the project
             project.open(IResource.NONE, progress.newChild(1));
+            CorePlugin.workspaceProjectIndex().update(project);
 
             // add project natures separately to trigger IProjectNature#configure
             // the project needs to be open while the natures are added
@@ -360,7 +352,10 @@ public final class DefaultWorkspaceOperations implements WorkspaceOperations {
         } catch (CoreException e) {
             throw new GradlePluginsRuntimeException(e);
         }
-        return findProjectByName(newName).get();
+        IProject renamedProject = findProjectByName(newName).get();
+        CorePlugin.workspaceProjectIndex().update(project);
+        CorePlugin.workspaceProjectIndex().update(renamedProject);
+        return renamedProject;
     }
 
     @Override
@@ -9,12 +9,18 @@
  ******************************************************************************/
 package org.eclipse.buildship.core.internal.workspace;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.gradle.tooling.BuildAction;
+import org.gradle.tooling.BuildActionExecuter;
 import org.gradle.tooling.BuildActionFailureException;
+import org.gradle.tooling.LongRunningOperation;
 import org.gradle.tooling.ProjectConnection;
 import org.gradle.tooling.model.build.BuildEnvironment;
 import org.gradle.tooling.model.eclipse.EclipseProject;
@@ -47,36 +53,85 @@ public final class EclipseModelUtils {
         if (gradleVersion.supportsSendingReservedProjects()) {
             return queryCompositeModelWithRuntimInfo(connection, gradleVersion);
         } else if (gradleVersion.supportsCompositeBuilds()) {
-            return queryCompositeModel(EclipseProject.class, connection);
+            return queryCompositeModel(EclipseProject.class, connection, gradleVersion);
         } else {
             return ImmutableMap.of(":", queryModel(EclipseProject.class, connection));
         }
     }
 
     public static Map<String, EclipseProject> runTasksAndQueryModels(ProjectConnection connection) {
+        return runTasksAndQueryModels(connection, ImmutableMap.<String, File>of(), false);
+    }
+
+    /**
+     * Runs the synchronization tasks and queries the Eclipse models.
+     *
+     * @param connection the connection to the build
+     * @param substitutedProjects the projects excluded from the import, keyed by their Eclipse
+     *            project name; they are reported to Gradle as closed workspace projects, so
+     *            dependencies on them are substituted with their jars
+     * @param parallelModelBuilding whether the models of the included builds are built
+     *            concurrently, see {@link org.eclipse.buildship.core.internal.configuration.BuildConfiguration#isParallelModelBuilding()}
+     * @return the Eclipse models of all builds in the composite
+     */
+    public static Map<String, EclipseProject> runTasksAndQueryModels(ProjectConnection connection, Map<String, File> substitutedProjects, boolean parallelModelBuilding) {
         BuildEnvironment buildEnvironment = connection.getModel(BuildEnvironment.class);
         GradleVersion gradleVersion = GradleVersion.version(buildEnvironment.getGradle().getGradleVersion());
         if (gradleVersion.supportsSendingReservedProjects()) {
-            return runTasksAndQueryCompositeModelWithRuntimInfo(connection, gradleVersion);
+            return runTasksAndQueryCompositeModelWithRuntimInfo(connection, gradleVersion, substitutedProjects, parallelModelBuilding);
         } else if (gradleVersion.supportsSyncTasksInEclipsePluginConfig()) {
-            return runTasksAndQueryCompositeModel(connection, gradleVersion);
+            return runTasksAndQueryCompositeModel(connection, gradleVersion, parallelModelBuilding);
         } else if (gradleVersion.supportsCompositeBuilds()) {
-            return queryCompositeModel(EclipseProject.class, connection);
+            BuildAction<Map<String, EclipseProject>> query = IdeFriendlyClassLoading.loadCompositeModelQuery(EclipseProject.class, gradleVersion);
+            return withParallelModelBuilding(connection.action(query), parallelModelBuilding).run();
         } else {
             return ImmutableMap.of(":", queryModel(EclipseProject.class, connection));
         }
     }
 
+    /**
+     * Queries the composite models of multiple types with a single Gradle invocation.
+     *
+     * @param connection the connection to the build
+     * @param modelTypes the requested model types
+     * @return the models of all builds in the composite, keyed by the name of the model type
+     */
+    public static Map<String, Map<String, Object>> queryCompositeModels(ProjectConnection connection, List<Class<?>> modelTypes) {
+        BuildEnvironment buildEnvironment = connection.getModel(BuildEnvironment.class);
+        GradleVersion gradleVersion = GradleVersion.version(buildEnvironment.getGradle().getGradleVersion());
+        if (gradleVersion.supportsCompositeBuilds()) {
+            return connection.action(IdeFriendlyClassLoading.loadCompositeModelsQuery(modelTypes, gradleVersion)).run();
+        } else {
+            ImmutableMap.Builder<String, Map<String, Object>> result = ImmutableMap.builder();
+            for (Class<?> modelType : modelTypes) {
+                result.put(modelType.getName(), ImmutableMap.<String, Object>of(":", queryModel(modelType, connection)));
+            }
+            return result.build();
+        }
+    }
+
     public static EclipseRuntimeConfigurer buildEclipseRuntimeConfigurer() {
+        return buildEclipseRuntimeConfigurer(ImmutableMap.<String, File>of());
+    }
+
+    private static EclipseRuntimeConfigurer buildEclipseRuntimeConfigurer(Map<String, File> substitutedProjects) {
         ImmutableList<IProject> allWorkspaceProjects = CorePlugin.workspaceOperations().getAllProjects();
-        List<EclipseWorkspaceProject> projects = allWorkspaceProjects.stream().map(p -> new DefaultEclipseWorkspaceProject(p.getName(), p.getLocation().toFile(), p.isOpen()))
-                .collect(Collectors.toList());
+        List<EclipseWorkspaceProject> projects = new ArrayList<>(allWorkspaceProjects.stream()
+                .map(p -> new DefaultEclipseWorkspaceProject(p.getName(), p.getLocation().toFile(), p.isOpen() && !substitutedProjects.containsKey(p.getName())))
+                .collect(Collectors.toList()));
+        Set<String> workspaceProjectNames = allWorkspaceProjects.stream().map(IProject::getName).collect(Collectors.toCollection(HashSet::new));
+        for (Map.Entry<String, File> project : substitutedProjects.entrySet()) {
+            if (!workspaceProjectNames.contains(project.getKey())) {
+                projects.add(new DefaultEclipseWorkspaceProject(project.getKey(), project.getValue(), false));
+            }
+        }
         return new EclipseRuntimeConfigurer(new DefaultEclipseWorkspace(ResourcesPlugin.getWorkspace().getRoot().getLocation().toFile(), projects));
     }
 
 
-    private static Map<String, EclipseProject> runTasksAndQueryCompositeModelWithRuntimInfo(ProjectConnection connection, GradleVersion gradleVersion) {
-        EclipseRuntimeConfigurer buildEclipseRuntimeConfigurer = buildEclipseRuntimeConfigurer();
+    private static Map<String, EclipseProject> runTasksAndQueryCompositeModelWithRuntimInfo(ProjectConnection connection, GradleVersion gradleVersion, Map<String, File> substitutedProjects,
+            boolean parallelModelBuilding) {
+        EclipseRuntimeConfigurer buildEclipseRuntimeConfigurer = buildEclipseRuntimeConfigurer(substitutedProjects);
         try {
             BuildAction<Void> runSyncTasksAction = IdeFriendlyClassLoading.loadClass(TellGradleToRunSynchronizationTasks.class);
             if (gradleVersion.supportsClosedProjectDependencySubstitution()) {
@@ -84,10 +139,10 @@ public final class EclipseModelUtils {
                 BuildAction<?> runClosedProjectTasksAction = new CompositeModelQuery<>(RunClosedProjectBuildDependencies.class, EclipseRuntime.class, buildEclipseRuntimeConfigurer);
                 BuildActionSequence projectsLoadedAction = new BuildActionSequence(runSyncTasksAction, runClosedProjectTasksAction);
                 return runPhasedModelQuery(connection, gradleVersion, projectsLoadedAction, IdeFriendlyClassLoading
-                        .loadCompositeModelQuery(EclipseProject.class, EclipseRuntime.class,buildEclipseRuntimeConfigurer));
+                        .loadCompositeModelQuery(EclipseProject.class, EclipseRuntime.class, buildEclipseRuntimeConfigurer, gradleVersion), parallelModelBuilding);
             }
             return runPhasedModelQuery(connection, gradleVersion, runSyncTasksAction, IdeFriendlyClassLoading
-                    .loadCompositeModelQuery(EclipseProject.class, EclipseRuntime.class, buildEclipseRuntimeConfigurer));
+                    .loadCompositeModelQuery(EclipseProject.class, EclipseRuntime.class, buildEclipseRuntimeConfigurer, gradleVersion), parallelModelBuilding);
         } catch (BuildActionFailureException e) {
             // For gradle >= 5.5 project name deduplication happens in gradle. In case gradle can't deduplicate then create an UnsupportedConfigurationException
             // to match the behaviour with previous gradle versions.
@@ -101,24 +156,35 @@ public final class EclipseModelUtils {
         }
     }
 
-    private static Map<String, EclipseProject> runTasksAndQueryCompositeModel(ProjectConnection connection, GradleVersion gradleVersion) {
-        return runPhasedModelQuery(connection, gradleVersion, IdeFriendlyClassLoading.loadClass(TellGradleToRunSynchronizationTasks.class), IdeFriendlyClassLoading.loadCompositeModelQuery(EclipseProject.class));
+    private static Map<String, EclipseProject> runTasksAndQueryCompositeModel(ProjectConnection connection, GradleVersion gradleVersion, boolean parallelModelBuilding) {
+        return runPhasedModelQuery(connection, gradleVersion, IdeFriendlyClassLoading.loadClass(TellGradleToRunSynchronizationTasks.class),
+                IdeFriendlyClassLoading.loadCompositeModelQuery(EclipseProject.class, gradleVersion), parallelModelBuilding);
     }
 
     private static Map<String, EclipseProject> runPhasedModelQuery(ProjectConnection connection, GradleVersion gradleVersion,
-            BuildAction<Void> projectsLoadedAction, BuildAction<Map<String, EclipseProject>> query) {
+            BuildAction<Void> projectsLoadedAction, BuildAction<Map<String, EclipseProject>> query, boolean parallelModelBuilding) {
         SimpleIntermediateResultHandler<Map<String, EclipseProject>> resultHandler = new SimpleIntermediateResultHandler<>();
-        connection.action().projectsLoaded(projectsLoadedAction, new SimpleIntermediateResultHandler<Void>()).buildFinished(query, resultHandler).build().forTasks().run();
+        BuildActionExecuter<Void> executer = connection.action().projectsLoaded(projectsLoadedAction, new SimpleIntermediateResultHandler<Void>()).buildFinished(query, resultHandler).build();
+        withParallelModelBuilding(executer, parallelModelBuilding).forTasks().run();
         return resultHandler.getValue();
     }
 
+    private static <T extends LongRunningOperation> T withParallelModelBuilding(T operation, boolean parallelModelBuilding) {
+        if (parallelModelBuilding) {
+            // Gradle runs the nested build actions of the model queries concurrently only if parallel execution is enabled;
+            // the argument is added after the build configuration's arguments, so it is only set for this query
+            operation.addArguments("--parallel");
+        }
+        return operation;
+    }
+
     private static Map<String, EclipseProject> queryCompositeModelWithRuntimInfo(ProjectConnection connection, GradleVersion gradleVersion) {
-        BuildAction<Map<String, EclipseProject>> query = IdeFriendlyClassLoading.loadCompositeModelQuery(EclipseProject.class, EclipseRuntime.class, buildEclipseRuntimeConfigurer());
+        BuildAction<Map<String, EclipseProject>> query = IdeFriendlyClassLoading.loadCompositeModelQuery(EclipseProject.class, EclipseRuntime.class, buildEclipseRuntimeConfigurer(), gradleVersion);
         return connection.action(query).run();
     }
 
-    private static <T> Map<String, T> queryCompositeModel(Class<T> model, ProjectConnection connection) {
-        BuildAction<Map<String, T>> query = IdeFriendlyClassLoading.loadCompositeModelQuery(model);
+    private static <T> Map<String, T> queryCompositeModel(Class<T> model, ProjectConnection connection, GradleVersion gradleVersion) {
+        BuildAction<Map<String, T>> query = IdeFriendlyClassLoading.loadCompositeModelQuery(model, gradleVersion);
         return connection.action(query).run();
     }
 
@@ -9,19 +9,25 @@
  ******************************************************************************/
 package org.eclipse.buildship.core.internal.workspace;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.ClasspathContainerInitializer;
 import org.eclipse.jdt.core.IClasspathContainer;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.GradleCore;
 import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.DefaultGradleBuild;
+import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
 import org.eclipse.buildship.core.internal.operation.ToolingApiJobResultHandler;
 import org.eclipse.buildship.core.internal.operation.ToolingApiStatus;
 
@@ -31,14 +37,23 @@ import org.eclipse.buildship.core.internal.operation.ToolingApiStatus;
  * This initializer is assigned to the projects via the
  * {@code org.eclipse.jdt.core.classpathContainerInitializer} extension point.
  * <p/>
+ * JDT initializes the containers one project at a time. To avoid a separate Java model update for
+ * each project after startup, the first initialization restores the stored containers of all Gradle
+ * projects in the workspace at once.
  *
  * @see GradleClasspathContainerUpdater
  */
 public final class GradleClasspathContainerInitializer extends ClasspathContainerInitializer {
 
+    private final AtomicBoolean workspaceRestored = new AtomicBoolean();
+
     @Override
     public void initialize(IPath containerPath, IJavaProject javaProject) throws JavaModelException {
-        loadClasspath(javaProject);
+        if (this.workspaceRestored.compareAndSet(false, true)) {
+            restoreWorkspace(javaProject);
+        } else {
+            loadClasspath(javaProject);
+        }
     }
 
     @Override
@@ -46,10 +61,32 @@ public final class GradleClasspathContainerInitializer extends ClasspathContaine
         loadClasspath(javaProject);
     }
 
+    private void restoreWorkspace(IJavaProject javaProject) throws JavaModelException {
+        List<IJavaProject> javaProjects = new ArrayList<>();
+        javaProjects.add(javaProject);
+        for (IProject project : CorePlugin.workspaceOperations().getAllProjects()) {
+            if (!project.equals(javaProject.getProject()) && project.isAccessible() && GradleProjectNature.isPresentOn(project) && hasJavaNature(project)) {
+                javaProjects.add(JavaCore.create(project));
+            }
+        }
+        boolean updatedFromStorage = GradleClasspathContainerUpdater.updateFromStorage(javaProjects, null).contains(javaProject);
+        loadClasspath(javaProject, updatedFromStorage);
+    }
+
+    private static boolean hasJavaNature(IProject project) {
+        try {
+            return project.hasNature(JavaCore.NATURE_ID);
+        } catch (CoreException e) {
+            return false;
+        }
+    }
+
     private void loadClasspath(IJavaProject javaProject) throws JavaModelException {
-        IProject project = javaProject.getProject();
-        boolean updatedFromStorage = updateFromStorage(javaProject);
+        loadClasspath(javaProject, updateFromStorage(javaProject));
+    }
 
+    private void loadClasspath(IJavaProject javaProject, boolean updatedFromStorage) throws JavaModelException {
+        IProject project = javaProject.getProject();
         if (!updatedFromStorage) {
 
             Optional<GradleBuild> gradleBuild = GradleCore.getWorkspace().getBuild(project);
@@ -57,6 +94,7 @@ public final class GradleClasspathContainerInitializer extends ClasspathContaine
                 GradleClasspathContainerUpdater.clear(javaProject, null);
             } else if (!((DefaultGradleBuild)gradleBuild.get()).isSynchronizing()) {
                 SynchronizationJob job = new SynchronizationJob(gradleBuild.get());
+                job.setAutomatic(true);
                 job.setResultHandler(new ResultHander());
                 job.setUser(false);
                 job.schedule();
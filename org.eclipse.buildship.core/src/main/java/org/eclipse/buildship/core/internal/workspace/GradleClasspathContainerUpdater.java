@@ -10,6 +10,11 @@
 package org.eclipse.buildship.core.internal.workspace;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,6 +47,7 @@ import org.eclipse.buildship.core.internal.Logger;
 import org.eclipse.buildship.core.internal.TraceScope;
 import org.eclipse.buildship.core.internal.preferences.ClasspathConverter;
 import org.eclipse.buildship.core.internal.preferences.PersistentModel;
+import org.eclipse.buildship.core.internal.util.classpath.ClasspathInterner;
 import org.eclipse.buildship.core.internal.util.classpath.ClasspathUtils;
 
 /**
@@ -59,6 +65,11 @@ import org.eclipse.buildship.core.internal.util.classpath.ClasspathUtils;
  * If an invalid external dependency is received (anything else, than a folder, {@code .jar} file or
  * {@code .zip} file) the given entry is omitted from the classpath container. Due to performance
  * reasons only the file extension is checked.
+ * <p/>
+ * Each {@link JavaCore#setClasspathContainer(IPath, IJavaProject[], IClasspathContainer[], IProgressMonitor)}
+ * call results in a separate Java model delta, index update and build. During a synchronization the
+ * updates are therefore collected in a {@link Batch} and applied in a single call, omitting the
+ * projects whose container content did not change.
  */
 final class GradleClasspathContainerUpdater {
 
@@ -83,8 +94,14 @@ final class GradleClasspathContainerUpdater {
     }
 
     private void updateClasspathContainer(PersistentModelBuilder persistentModel, IProgressMonitor monitor) throws JavaModelException {
-        ImmutableList<IClasspathEntry> containerEntries = collectClasspathContainerEntries();
-        setClasspathContainer(this.eclipseProject, containerEntries, monitor);
+        // the same libraries appear in many projects, share their entries instead of keeping a copy per project
+        List<IClasspathEntry> containerEntries = ClasspathInterner.internAll(collectClasspathContainerEntries());
+        Batch batch = Batch.ACTIVE.get();
+        if (batch != null) {
+            batch.add(this.eclipseProject, containerEntries);
+        } else {
+            setClasspathContainer(this.eclipseProject, containerEntries, monitor);
+        }
         persistentModel.classpath(containerEntries);
     }
 
@@ -195,6 +212,29 @@ final class GradleClasspathContainerUpdater {
         }
     }
 
+    /**
+     * Updates the classpath containers of the target projects from the stored state in a single
+     * operation.
+     *
+     * @return the projects that had a stored state
+     */
+    public static Set<IJavaProject> updateFromStorage(Collection<IJavaProject> eclipseProjects, IProgressMonitor monitor) throws JavaModelException {
+        Map<IJavaProject, List<IClasspathEntry>> updates = new LinkedHashMap<>();
+        for (IJavaProject eclipseProject : eclipseProjects) {
+            PersistentModel model = CorePlugin.modelPersistence().loadModel(eclipseProject.getProject());
+            if (model.isPresent()) {
+                updates.put(eclipseProject, model.getClasspath());
+            }
+        }
+        setClasspathContainers(updates, monitor);
+        return new LinkedHashSet<>(updates.keySet());
+    }
+
+    private static boolean hasClasspathContainer(IJavaProject eclipseProject, List<IClasspathEntry> classpathEntries) throws JavaModelException {
+        IClasspathContainer container = JavaCore.getClasspathContainer(GradleClasspathContainer.CONTAINER_PATH, eclipseProject);
+        return container != null && Arrays.equals(container.getClasspathEntries(), classpathEntries.toArray(new IClasspathEntry[0]));
+    }
+
     /**
      * Resolves the classpath container to an empty list.
      */
@@ -208,6 +248,22 @@ final class GradleClasspathContainerUpdater {
         JavaCore.setClasspathContainer(GradleClasspathContainer.CONTAINER_PATH, new IJavaProject[] { eclipseProject }, new IClasspathContainer[] { classpathContainer }, monitor);
     }
 
+    private static void setClasspathContainers(Map<IJavaProject, List<IClasspathEntry>> updates, IProgressMonitor monitor) throws JavaModelException {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        List<IJavaProject> eclipseProjects = new ArrayList<>(updates.size());
+        List<IClasspathContainer> classpathContainers = new ArrayList<>(updates.size());
+        for (Map.Entry<IJavaProject, List<IClasspathEntry>> update : updates.entrySet()) {
+            traceClasspathEntries(update.getKey(), update.getValue());
+            eclipseProjects.add(update.getKey());
+            classpathContainers.add(GradleClasspathContainer.newInstance(update.getValue()));
+        }
+        JavaCore.setClasspathContainer(GradleClasspathContainer.CONTAINER_PATH, eclipseProjects.toArray(new IJavaProject[0]),
+                classpathContainers.toArray(new IClasspathContainer[0]), monitor);
+    }
+
     private static void traceClasspathEntries(IJavaProject eclipseProject, List<IClasspathEntry> classpathEntries) {
         Logger logger = CorePlugin.logger();
         TraceScope scope = CoreTraceScopes.CLASSPATH;
@@ -218,4 +274,67 @@ final class GradleClasspathContainerUpdater {
         }
     }
 
+
+    /**
+     * Collects the classpath container updates of a single synchronization.
+     * <p/>
+     * While the batch is activated on the current thread, the
+     * {@link GradleClasspathContainerUpdater#updateFromModel(IJavaProject, EclipseProject, Iterable, PersistentModelBuilder, IProgressMonitor, ProjectContext)}
+     * calls made on that thread are collected instead of being applied immediately. The collected
+     * updates are applied with {@link #apply(IProgressMonitor)}.
+     */
+    static final class Batch {
+
+        private static final ThreadLocal<Batch> ACTIVE = new ThreadLocal<>();
+
+        private final Map<IJavaProject, List<IClasspathEntry>> pendingUpdates = new LinkedHashMap<>();
+
+        /**
+         * Collects the updates made on the current thread until {@link Activation#deactivate()} is
+         * called on the returned object.
+         */
+        Activation activate() {
+            Batch previous = ACTIVE.get();
+            ACTIVE.set(this);
+            return () -> {
+                if (previous != null) {
+                    ACTIVE.set(previous);
+                } else {
+                    ACTIVE.remove();
+                }
+            };
+        }
+
+        private synchronized void add(IJavaProject eclipseProject, List<IClasspathEntry> classpathEntries) {
+            this.pendingUpdates.put(eclipseProject, classpathEntries);
+        }
+
+        /**
+         * Applies the collected updates.
+         */
+        void apply(IProgressMonitor monitor) throws JavaModelException {
+            Map<IJavaProject, List<IClasspathEntry>> updates;
+            synchronized (this) {
+                updates = new LinkedHashMap<>(this.pendingUpdates);
+                this.pendingUpdates.clear();
+            }
+
+            Map<IJavaProject, List<IClasspathEntry>> changedUpdates = new LinkedHashMap<>();
+            for (Map.Entry<IJavaProject, List<IClasspathEntry>> update : updates.entrySet()) {
+                IJavaProject eclipseProject = update.getKey();
+                if (eclipseProject.getProject().isAccessible() && !hasClasspathContainer(eclipseProject, update.getValue())) {
+                    changedUpdates.put(eclipseProject, update.getValue());
+                }
+            }
+            setClasspathContainers(changedUpdates, monitor);
+        }
+    }
+
+    /**
+     * Ends the activation of a {@link Batch}.
+     */
+    interface Activation {
+
+        void deactivate();
+    }
 }
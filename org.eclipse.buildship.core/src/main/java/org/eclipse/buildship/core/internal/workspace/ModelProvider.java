@@ -9,7 +9,9 @@
  ******************************************************************************/
 package org.eclipse.buildship.core.internal.workspace;
 
+import java.io.File;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.gradle.tooling.CancellationTokenSource;
 import org.gradle.tooling.model.eclipse.EclipseProject;
@@ -45,10 +47,48 @@ public interface ModelProvider {
      */
     <T>  Map<String, T> fetchModels(Class<T> model, FetchStrategy strategy, CancellationTokenSource tokenSource, IProgressMonitor monitor);
 
+    /**
+     * Asynchronously queries a target model from this build. The calling thread is not blocked
+     * while Gradle builds the model, so clients can query multiple builds at once and combine the
+     * returned futures.
+     * <p/>
+     * The future completes exceptionally with the failure of the Tooling API query.
+     *
+     * @param model the model to query
+     * @param strategy the fetch strategy
+     * @param tokenSource the cancellation token source
+     * @param monitor the monitor to report the progress on
+     * @return the future of the returned model
+     */
+    <T> CompletableFuture<T> fetchModelAsync(Class<T> model, FetchStrategy strategy, CancellationTokenSource tokenSource, IProgressMonitor monitor);
+
+    /**
+     * Asynchronously queries a target model from this build and from all included builds.
+     *
+     * @param model the model to query
+     * @param strategy the fetch strategy
+     * @param tokenSource the cancellation token source
+     * @param monitor the monitor to report the progress on
+     * @return the future of the returned models
+     * @see #fetchModelAsync(Class, FetchStrategy, CancellationTokenSource, IProgressMonitor)
+     */
+    <T> CompletableFuture<Map<String, T>> fetchModelsAsync(Class<T> model, FetchStrategy strategy, CancellationTokenSource tokenSource, IProgressMonitor monitor);
+
     /**
      * Queries the {@link EclipseProject} model and executes the synchronization tasks in the same Tooling API query.
      *
      * @return the returned models
      */
     Map<String, EclipseProject> fetchEclipseProjectAndRunSyncTasks(CancellationTokenSource tokenSource, IProgressMonitor monitor);
+
+    /**
+     * Queries the {@link EclipseProject} model and executes the synchronization tasks in the same Tooling API query.
+     * <p/>
+     * The substituted projects are reported to Gradle as closed workspace projects, so the dependencies on them are
+     * resolved to their jars.
+     *
+     * @param substitutedProjects the locations of the projects excluded from the import, keyed by their Eclipse project name
+     * @return the returned models
+     */
+    Map<String, EclipseProject> fetchEclipseProjectAndRunSyncTasks(Map<String, File> substitutedProjects, CancellationTokenSource tokenSource, IProgressMonitor monitor);
 }
@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace;
+
+import org.gradle.tooling.CancellationTokenSource;
+
+import com.google.common.base.Preconditions;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.buildship.core.internal.operation.ToolingApiJob;
+
+/**
+ * Reloads a model in the background after a stale model snapshot was served to a client.
+ * <p/>
+ * The loaded model is stored in the model cache and the snapshot is updated. Clients displaying
+ * the model can listen to the completion of this job and reload the content with
+ * {@link FetchStrategy#FROM_CACHE_ONLY}.
+ */
+public final class ModelRefreshJob extends ToolingApiJob<Void> {
+
+    private final InternalGradleBuild gradleBuild;
+    private final Class<?> modelType;
+    private final boolean composite;
+
+    public ModelRefreshJob(InternalGradleBuild gradleBuild, Class<?> modelType, boolean composite) {
+        super("Refreshing Gradle models of " + gradleBuild.getBuildConfig().getRootProjectDirectory().getName());
+        this.gradleBuild = Preconditions.checkNotNull(gradleBuild);
+        this.modelType = Preconditions.checkNotNull(modelType);
+        this.composite = composite;
+        setPriority(DECORATE);
+    }
+
+    @Override
+    public Void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
+        ModelProvider modelProvider = this.gradleBuild.getModelProvider();
+        if (this.composite) {
+            modelProvider.fetchModels(this.modelType, FetchStrategy.LOAD_IF_NOT_CACHED, tokenSource, monitor);
+        } else {
+            modelProvider.fetchModel(this.modelType, FetchStrategy.LOAD_IF_NOT_CACHED, tokenSource, monitor);
+        }
+        return null;
+    }
+}
@@ -41,6 +41,7 @@ public final class PersistentModelBuilder {
     private Collection<ICommand> managedBuilders;
     private boolean hasAutoBuildTasks;
     private GradleVersion gradleVersion;
+    private String modelDigest;
 
     public PersistentModelBuilder(PersistentModel previous) {
         this.previous = Preconditions.checkNotNull(previous);
@@ -54,6 +55,7 @@ public final class PersistentModelBuilder {
             this.managedNatures = previous.getManagedNatures();
             this.managedBuilders = previous.getManagedBuilders();
             this.gradleVersion = previous.getGradleVersion();
+            this.modelDigest = previous.getModelDigest();
         }
     }
 
@@ -107,11 +109,16 @@ public final class PersistentModelBuilder {
         return this;
     }
 
+    public PersistentModelBuilder modelDigest(String modelDigest) {
+        this.modelDigest = modelDigest;
+        return this;
+    }
+
     public PersistentModel getPrevious() {
         return this.previous;
     }
 
     public PersistentModel build() {
-        return new DefaultPersistentModel(this.previous.getProject(), this.buildDir, this.buildScriptPath, this.subprojectPaths, this.classpath, this.derivedResources, this.linkedResources, this.managedNatures, this.managedBuilders, this.hasAutoBuildTasks, this.gradleVersion);
+        return new DefaultPersistentModel(this.previous.getProject(), this.buildDir, this.buildScriptPath, this.subprojectPaths, this.classpath, this.derivedResources, this.linkedResources, this.managedNatures, this.managedBuilders, this.hasAutoBuildTasks, this.gradleVersion, this.modelDigest);
     }
 }
@@ -11,6 +11,7 @@ package org.eclipse.buildship.core.internal.workspace;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import com.google.common.base.Optional;
 
@@ -26,18 +27,22 @@ import org.eclipse.buildship.core.InitializationContext;
 import org.eclipse.buildship.core.ProjectContext;
 import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.extension.InternalProjectConfigurator;
-import org.eclipse.buildship.core.internal.extension.ProjectConfiguratorContribution;
 import org.eclipse.buildship.core.internal.preferences.PersistentModel;
 import org.eclipse.buildship.core.internal.util.gradle.Pair;
+import org.eclipse.buildship.core.internal.workspace.SynchronizationProfiler.Activation;
 
 public final class ProjectConfigurators {
 
     private final InternalGradleBuild gradleBuild;
     private final List<InternalProjectConfigurator> contributions;
+    private final ConfiguratorModels models;
+    private final SynchronizationProfiler profiler;
 
-    private ProjectConfigurators(InternalGradleBuild gradleBuild, List<InternalProjectConfigurator> contributions) {
+    private ProjectConfigurators(InternalGradleBuild gradleBuild, List<InternalProjectConfigurator> contributions, ConfiguratorModels models, SynchronizationProfiler profiler) {
         this.gradleBuild = gradleBuild;
         this.contributions = contributions;
+        this.models = models;
+        this.profiler = profiler;
     }
 
     List<SynchronizationProblem> initConfigurators(IProgressMonitor monitor) {
@@ -46,9 +51,9 @@ public final class ProjectConfigurators {
         SubMonitor progress = SubMonitor.convert(monitor);
         progress.setWorkRemaining(this.contributions.size());
         for (InternalProjectConfigurator contribution : this.contributions) {
-            DefaultInitializationContext context = newInitializationContext(this.gradleBuild);
+            DefaultInitializationContext context = newInitializationContext(this.gradleBuild, this.models, contribution.getRequiredModels());
             try {
-                contribution.init(context, progress.newChild(1));
+                measure(SynchronizationProfiler.CATEGORY_INIT, contribution, null, () -> contribution.init(context, progress.newChild(1)));
                 context.getErrors().forEach(e -> result.add(SynchronizationProblem.newError(contribution.getContributorPluginId(), markerLocation(), e.getFirst(), e.getSecond())));
                 context.getWarnings().forEach(e -> result.add(SynchronizationProblem.newWarning(contribution.getContributorPluginId(), markerLocation(), e.getFirst(), e.getSecond())));
             } catch (Exception e) {
@@ -67,7 +72,7 @@ public final class ProjectConfigurators {
         for (InternalProjectConfigurator contribution : this.contributions) {
             DefaultProjectContext context = newProjectContext(project);
             try {
-                contribution.configure(context, progress.newChild(1));
+                measure(SynchronizationProfiler.CATEGORY_CONFIGURE, contribution, project, () -> contribution.configure(context, progress.newChild(1)));
                 context.getErrors().forEach(e -> result.add(SynchronizationProblem.newError(contribution.getContributorPluginId(), markerLocation(), e.getFirst(), e.getSecond())));
                 context.getWarnings().forEach(e -> result.add(SynchronizationProblem.newWarning(contribution.getContributorPluginId(), markerLocation(), e.getFirst(), e.getSecond())));
             } catch (Exception e) {
@@ -86,7 +91,7 @@ public final class ProjectConfigurators {
         for (InternalProjectConfigurator contribution : this.contributions) {
             DefaultProjectContext context = newProjectContext(project);
             try {
-                contribution.unconfigure(context, progress.newChild(1));
+                measure(SynchronizationProfiler.CATEGORY_UNCONFIGURE, contribution, project, () -> contribution.unconfigure(context, progress.newChild(1)));
                 context.getErrors().forEach(e -> result.add(SynchronizationProblem.newError(contribution.getContributorPluginId(), markerLocation(), e.getFirst(), e.getSecond())));
                 context.getWarnings().forEach(e -> result.add(SynchronizationProblem.newWarning(contribution.getContributorPluginId(), markerLocation(), e.getFirst(), e.getSecond())));
             } catch (Exception e) {
@@ -97,12 +102,32 @@ public final class ProjectConfigurators {
         return result;
     }
 
-    public static ProjectConfigurators create(InternalGradleBuild gradleBuild, List<ProjectConfiguratorContribution> configurators) {
-        return new ProjectConfigurators(gradleBuild, InternalProjectConfigurator.from(configurators));
+    private void measure(String category, InternalProjectConfigurator contribution, IProject project, SynchronizationProfiler.Step<Exception> step) throws Exception {
+        // the configurators can record their own steps via SynchronizationProfiler.active()
+        Activation activation = this.profiler.activate();
+        try {
+            this.profiler.measure(category, contribution.getId(), project, step);
+        } finally {
+            activation.deactivate();
+        }
+    }
+
+    /**
+     * Creates the configurators for a synchronization.
+     *
+     * @param gradleBuild the synchronized build
+     * @param configurators the configurators created from the contributions, see {@link InternalProjectConfigurator#from(List)}
+     * @param models the models declared by the configurators
+     * @param profiler the profiler of the synchronization
+     * @return the configurators
+     */
+    public static ProjectConfigurators create(InternalGradleBuild gradleBuild, List<InternalProjectConfigurator> configurators, ConfiguratorModels models,
+            SynchronizationProfiler profiler) {
+        return new ProjectConfigurators(gradleBuild, configurators, models, profiler);
     }
 
-    private static DefaultInitializationContext newInitializationContext(InternalGradleBuild gradleBuild) {
-        return new DefaultInitializationContext(gradleBuild);
+    private static DefaultInitializationContext newInitializationContext(InternalGradleBuild gradleBuild, ConfiguratorModels models, List<Class<?>> declaredModels) {
+        return new DefaultInitializationContext(gradleBuild, models, declaredModels);
     }
 
     private static DefaultProjectContext newProjectContext(IProject project) {
@@ -157,15 +182,27 @@ public final class ProjectConfigurators {
     private static class DefaultInitializationContext extends BaseContext implements InitializationContext {
 
         private final InternalGradleBuild gradleBuild;
+        private final ConfiguratorModels models;
+        private final List<Class<?>> declaredModels;
 
-        DefaultInitializationContext(InternalGradleBuild gradleBuild) {
+        DefaultInitializationContext(InternalGradleBuild gradleBuild, ConfiguratorModels models, List<Class<?>> declaredModels) {
             this.gradleBuild = gradleBuild;
+            this.models = models;
+            this.declaredModels = declaredModels;
         }
 
         @Override
         public GradleBuild getGradleBuild() {
             return this.gradleBuild;
         }
+
+        @Override
+        public <T> Map<String, T> getModels(Class<T> modelType) {
+            if (!this.declaredModels.contains(modelType)) {
+                throw new IllegalArgumentException("Model " + modelType.getName() + " is not declared in the requiredModels attribute of the project configurator");
+            }
+            return this.models.get(modelType);
+        }
     }
 
     private static class DefaultProjectContext extends BaseContext implements ProjectContext {
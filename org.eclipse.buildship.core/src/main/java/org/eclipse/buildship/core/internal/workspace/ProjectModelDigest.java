@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.gradle.tooling.model.GradleProject;
+import org.gradle.tooling.model.UnsupportedMethodException;
+import org.gradle.tooling.model.eclipse.AccessRule;
+import org.gradle.tooling.model.eclipse.ClasspathAttribute;
+import org.gradle.tooling.model.eclipse.EclipseBuildCommand;
+import org.gradle.tooling.model.eclipse.EclipseClasspathContainer;
+import org.gradle.tooling.model.eclipse.EclipseClasspathEntry;
+import org.gradle.tooling.model.eclipse.EclipseExternalDependency;
+import org.gradle.tooling.model.eclipse.EclipseJavaSourceSettings;
+import org.gradle.tooling.model.eclipse.EclipseLinkedResource;
+import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.eclipse.EclipseProjectDependency;
+import org.gradle.tooling.model.eclipse.EclipseProjectNature;
+import org.gradle.tooling.model.eclipse.EclipseSourceDirectory;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.preferences.PersistentModel;
+import org.eclipse.buildship.core.internal.util.gradle.GradleVersion;
+import org.eclipse.buildship.core.internal.util.gradle.HierarchicalElementUtils;
+
+/**
+ * Computes a digest of the parts of the Gradle model that {@link BaseConfigurator} applies to a
+ * workspace project.
+ * <p/>
+ * The digest covers the natures, build commands, linked resources, source folders, classpath,
+ * classpath containers, output location and Java source settings of the project, the build and
+ * subproject folders and the Gradle version. If the digest stored in the persistent model equals to
+ * the current one, then the updaters would not change anything and the project is not reconfigured.
+ * <p/>
+ * The updaters write the {@code .project}, {@code .classpath} and JDT settings files, so their
+ * modification stamps are part of the digest too: if the user edits them between two
+ * synchronizations then the project is configured again. Other project configurators can change
+ * the same files after {@link BaseConfigurator} has run, so the stamps are recorded with
+ * {@link #recordWorkspaceFiles(IProject)} once all configurators have finished.
+ */
+final class ProjectModelDigest {
+
+    /**
+     * System property to disable skipping the unchanged projects.
+     */
+    static final String ENABLED_PROPERTY = "org.eclipse.buildship.core.projectModelDigest.enabled";
+
+    // increment when the content of the digest or the behavior of the updaters changes
+    private static final int DIGEST_VERSION = 3;
+
+    private static final String WORKSPACE_FILES_SEPARATOR = ":";
+
+    private static final String[] WORKSPACE_FILES = { ".project", ".classpath", ".settings/org.eclipse.jdt.core.prefs" };
+
+    private ProjectModelDigest() {
+    }
+
+    static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    }
+
+    /**
+     * Computes the digest of the target project.
+     *
+     * @param project the workspace project
+     * @param model the Gradle model of the project
+     * @param gradleVersion the Gradle version used by the build
+     * @return the digest or {@code null} if it cannot be computed
+     */
+    static String compute(IProject project, EclipseProject model, GradleVersion gradleVersion) {
+        return compute(project, hashModel(model), gradleVersion);
+    }
+
+    /**
+     * Computes the hash of the Gradle model of a project. Only reads the model, so it can be called
+     * without holding a scheduling rule.
+     *
+     * @param model the Gradle model of the project
+     * @return the hash or {@code null} if it cannot be computed
+     */
+    static String hashModel(EclipseProject model) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        try {
+            putProject(hasher, model);
+        } catch (UnsupportedMethodException e) {
+            return null;
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Computes the digest of the target project from the hash of its Gradle model.
+     *
+     * @param project the workspace project
+     * @param modelHash the hash returned by {@link #hashModel(EclipseProject)}
+     * @param gradleVersion the Gradle version used by the build
+     * @return the digest or {@code null} if it cannot be computed
+     */
+    static String compute(IProject project, String modelHash, GradleVersion gradleVersion) {
+        if (modelHash == null) {
+            return null;
+        }
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putInt(DIGEST_VERSION);
+        putString(hasher, project.getName());
+        putString(hasher, String.valueOf(gradleVersion != null ? gradleVersion.getVersion() : null));
+        putString(hasher, modelHash);
+        return hasher.hash().toString() + WORKSPACE_FILES_SEPARATOR + hashWorkspaceFiles(project);
+    }
+
+    /**
+     * Replaces the workspace file stamps in the digest stored in the persistent model of the target
+     * project with the current ones. Has to be called after all project configurators have finished,
+     * so that their changes to the workspace files don't invalidate the digest.
+     *
+     * @param project the workspace project
+     */
+    static void recordWorkspaceFiles(IProject project) {
+        PersistentModel model = CorePlugin.modelPersistence().loadModel(project);
+        if (!model.isPresent() || model.getModelDigest() == null) {
+            return;
+        }
+
+        String digest = model.getModelDigest();
+        int separator = digest.indexOf(WORKSPACE_FILES_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+
+        String updatedDigest = digest.substring(0, separator) + WORKSPACE_FILES_SEPARATOR + hashWorkspaceFiles(project);
+        if (!updatedDigest.equals(digest)) {
+            CorePlugin.modelPersistence().saveModel(new PersistentModelBuilder(model).hasAutoBuildTasks(model.hasAutoBuildTasks()).modelDigest(updatedDigest).build());
+        }
+    }
+
+    private static String hashWorkspaceFiles(IProject project) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (String path : WORKSPACE_FILES) {
+            IFile file = project.getFile(path);
+            hasher.putLong(file.exists() ? file.getModificationStamp() : IFile.NULL_STAMP);
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putProject(Hasher hasher, EclipseProject model) {
+        putString(hasher, model.getProjectDirectory().getAbsolutePath());
+        for (EclipseProject project : HierarchicalElementUtils.getAll(model)) {
+            GradleProject gradleProject = project.getGradleProject();
+            putString(hasher, project.getProjectDirectory().getAbsolutePath());
+            putString(hasher, String.valueOf(gradleProject.getBuildDirectory()));
+            putString(hasher, String.valueOf(gradleProject.getBuildScript() != null ? gradleProject.getBuildScript().getSourceFile() : null));
+        }
+
+        for (EclipseProjectNature nature : model.getProjectNatures()) {
+            putString(hasher, nature.getId());
+        }
+        for (EclipseBuildCommand buildCommand : model.getBuildCommands()) {
+            putString(hasher, buildCommand.getName());
+            putString(hasher, String.valueOf(new TreeMap<>(buildCommand.getArguments())));
+        }
+        for (EclipseLinkedResource linkedResource : model.getLinkedResources()) {
+            putString(hasher, linkedResource.getName());
+            putString(hasher, linkedResource.getType());
+            putString(hasher, String.valueOf(linkedResource.getLocation()));
+            putString(hasher, String.valueOf(linkedResource.getLocationUri()));
+        }
+
+        EclipseJavaSourceSettings sourceSettings = model.getJavaSourceSettings();
+        hasher.putBoolean(sourceSettings != null);
+        if (sourceSettings == null) {
+            return;
+        }
+        putString(hasher, String.valueOf(sourceSettings.getSourceLanguageLevel()));
+        putString(hasher, String.valueOf(sourceSettings.getTargetBytecodeVersion()));
+        putString(hasher, String.valueOf(sourceSettings.getJdk().getJavaHome()));
+        putString(hasher, String.valueOf(sourceSettings.getJdk().getJavaVersion()));
+        putString(hasher, String.valueOf(model.getOutputLocation() != null ? model.getOutputLocation().getPath() : null));
+        hasher.putBoolean(model.hasAutoBuildTasks());
+
+        for (EclipseSourceDirectory sourceDirectory : model.getSourceDirectories()) {
+            putString(hasher, sourceDirectory.getPath());
+            putString(hasher, String.valueOf(sourceDirectory.getDirectory()));
+            putString(hasher, String.valueOf(sourceDirectory.getIncludes()));
+            putString(hasher, String.valueOf(sourceDirectory.getExcludes()));
+            putString(hasher, String.valueOf(sourceDirectory.getOutput()));
+            putClasspathEntry(hasher, sourceDirectory);
+        }
+        for (EclipseClasspathContainer container : model.getClasspathContainers()) {
+            putString(hasher, container.getPath());
+            hasher.putBoolean(container.isExported());
+            putClasspathEntry(hasher, container);
+        }
+        for (EclipseProjectDependency dependency : model.getProjectDependencies()) {
+            putString(hasher, dependency.getPath());
+            hasher.putBoolean(dependency.isExported());
+            putClasspathEntry(hasher, dependency);
+        }
+        for (EclipseExternalDependency dependency : model.getClasspath()) {
+            putString(hasher, String.valueOf(dependency.getFile()));
+            putString(hasher, String.valueOf(dependency.getSource()));
+            hasher.putBoolean(dependency.getFile() != null && dependency.getFile().exists());
+            hasher.putBoolean(dependency.isExported());
+            putClasspathEntry(hasher, dependency);
+        }
+    }
+
+    private static void putClasspathEntry(Hasher hasher, EclipseClasspathEntry entry) {
+        Map<String, String> attributes = new TreeMap<>();
+        for (ClasspathAttribute attribute : entry.getClasspathAttributes()) {
+            attributes.put(attribute.getName(), attribute.getValue());
+        }
+        putString(hasher, attributes.toString());
+        for (AccessRule rule : entry.getAccessRules()) {
+            hasher.putInt(rule.getKind());
+            putString(hasher, rule.getPattern());
+        }
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        hasher.putString(String.valueOf(value), StandardCharsets.UTF_8).putChar('\0');
+    }
+}
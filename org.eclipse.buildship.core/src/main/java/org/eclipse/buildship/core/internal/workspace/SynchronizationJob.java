@@ -9,6 +9,15 @@
  ******************************************************************************/
 package org.eclipse.buildship.core.internal.workspace;
 
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.gradle.tooling.CancellationTokenSource;
 
@@ -17,20 +26,47 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 
 import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.SynchronizationResult;
 import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.CoreTraceScopes;
 import org.eclipse.buildship.core.internal.DefaultGradleBuild;
 import org.eclipse.buildship.core.internal.operation.ToolingApiJob;
 
+/**
+ * Synchronizes a set of Gradle builds with the workspace.
+ * <p/>
+ * The builds are synchronized one after the other. If multiple builds are synchronized, the models
+ * of the builds that are independent of the others are loaded concurrently before the first
+ * synchronization starts, without holding any scheduling rule. Two builds are independent if their
+ * root directories are not nested and the projects loaded by their last synchronizations, including
+ * the ones of included builds, don't overlap. The number of builds loaded at the same time, and
+ * therefore the number of Gradle daemons in use, can be set with the
+ * {@link #DAEMON_BUDGET_PROPERTY} system property; a value of 1 disables the concurrent loading.
+ * <p/>
+ * The synchronizations reload the models of the builds unless the job is marked as
+ * {@link #setAutomatic(boolean) automatic}, in which case the models of the builds with unchanged
+ * inputs are reused.
+ */
 public final class SynchronizationJob extends ToolingApiJob<Void> {
 
+    /**
+     * System property to override the number of Gradle builds whose models are loaded concurrently.
+     */
+    public static final String DAEMON_BUDGET_PROPERTY = "org.eclipse.buildship.core.synchronization.daemonBudget";
+
+    private static final int DEFAULT_DAEMON_BUDGET = Math.min(2, Runtime.getRuntime().availableProcessors());
+
     private final Iterable<GradleBuild> gradleBuilds;
     private final NewProjectHandler newProjectHandler;
+    private boolean automatic;
 
     public SynchronizationJob(GradleBuild gradleBuild) {
         this(NewProjectHandler.NO_OP, ImmutableList.of(gradleBuild));
@@ -53,23 +89,91 @@ public final class SynchronizationJob extends ToolingApiJob<Void> {
         return this.gradleBuilds;
     }
 
+    /**
+     * Marks the synchronization as triggered automatically, e.g. by a build script change, rather
+     * than by the user. Automatic synchronizations skip the model queries of the builds whose
+     * inputs didn't change since their last synchronization.
+     *
+     * @param automatic {@code true} if the synchronization was not requested by the user
+     */
+    public void setAutomatic(boolean automatic) {
+        this.automatic = automatic;
+    }
+
     @Override
     public Void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
-        final SubMonitor progress = SubMonitor.convert(monitor, ImmutableSet.copyOf(SynchronizationJob.this.gradleBuilds).size() + 1);
-
-        for (GradleBuild build : SynchronizationJob.this.gradleBuilds) {
-            if (monitor.isCanceled()) {
-                throw new OperationCanceledException();
-            }
-            SynchronizationResult result = ((DefaultGradleBuild)build).synchronize(SynchronizationJob.this.newProjectHandler, tokenSource, progress.newChild(1));
-            if (result.getStatus().getException() instanceof Exception) {
-                throw (Exception) result.getStatus().getException();
+        final SubMonitor progress = SubMonitor.convert(monitor, ImmutableSet.copyOf(SynchronizationJob.this.gradleBuilds).size() + 2);
+
+        List<DefaultGradleBuild> independentBuilds = findIndependentBuilds(this.gradleBuilds);
+        try {
+            prefetchModels(independentBuilds, this.automatic, tokenSource, progress.newChild(1));
+
+            // the workspace is updated in the original order
+            for (GradleBuild build : SynchronizationJob.this.gradleBuilds) {
+                if (monitor.isCanceled()) {
+                    throw new OperationCanceledException();
+                }
+                SynchronizationResult result = ((DefaultGradleBuild)build).synchronize(SynchronizationJob.this.newProjectHandler, this.automatic, tokenSource, progress.newChild(1));
+                if (result.getStatus().getException() instanceof Exception) {
+                    throw (Exception) result.getStatus().getException();
+                }
             }
+        } finally {
+            independentBuilds.forEach(DefaultGradleBuild::discardPrefetchedModels);
         }
 
         return null;
     }
 
+    private static void prefetchModels(List<DefaultGradleBuild> builds, boolean automatic, CancellationTokenSource tokenSource, SubMonitor progress) {
+        int daemonBudget = Integer.getInteger(DAEMON_BUDGET_PROPERTY, DEFAULT_DAEMON_BUDGET);
+        if (daemonBudget <= 1 || builds.size() <= 1) {
+            return;
+        }
+
+        JobGroup jobGroup = new JobGroup("Load Gradle models", daemonBudget, builds.size());
+        for (DefaultGradleBuild build : builds) {
+            Job job = new PrefetchModelsJob(build, automatic, tokenSource);
+            job.setJobGroup(jobGroup);
+            job.schedule();
+        }
+        try {
+            jobGroup.join(0, progress);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            jobGroup.cancel();
+            throw new OperationCanceledException();
+        } catch (OperationCanceledException e) {
+            jobGroup.cancel();
+            throw e;
+        }
+    }
+
+    private static List<DefaultGradleBuild> findIndependentBuilds(Iterable<GradleBuild> gradleBuilds) {
+        Map<DefaultGradleBuild, Set<File>> directories = new LinkedHashMap<>();
+        for (GradleBuild build : gradleBuilds) {
+            DefaultGradleBuild defaultBuild = (DefaultGradleBuild) build;
+            Set<File> buildDirectories = new HashSet<>(defaultBuild.getSynchronizedProjectDirectories());
+            buildDirectories.add(defaultBuild.getBuildConfig().getRootProjectDirectory());
+            directories.put(defaultBuild, buildDirectories);
+        }
+
+        List<DefaultGradleBuild> result = new ArrayList<>();
+        for (DefaultGradleBuild build : directories.keySet()) {
+            boolean independent = directories.keySet().stream().filter(other -> other != build).noneMatch(other -> overlap(build, directories.get(build), other, directories.get(other)));
+            if (independent) {
+                result.add(build);
+            }
+        }
+        return result;
+    }
+
+    private static boolean overlap(DefaultGradleBuild build, Set<File> directories, DefaultGradleBuild other, Set<File> otherDirectories) {
+        Path root = build.getBuildConfig().getRootProjectDirectory().toPath();
+        Path otherRoot = other.getBuildConfig().getRootProjectDirectory().toPath();
+        return root.startsWith(otherRoot) || otherRoot.startsWith(root) || !Collections.disjoint(directories, otherDirectories);
+    }
+
     /**
      * A {@link SynchronizationJob} is only scheduled if there is not already another one that
      * fully covers it.
@@ -79,6 +183,7 @@ public final class SynchronizationJob extends ToolingApiJob<Void> {
      * <li>A synchronizes the same Gradle builds as B</li>
      * <li>A and B have the same {@link NewProjectHandler} or B's {@link NewProjectHandler} is a
      * no-op</li>
+     * <li>A reloads the models or B is automatic</li>
      * </ul>
      */
     @Override
@@ -92,6 +197,39 @@ public final class SynchronizationJob extends ToolingApiJob<Void> {
     }
 
     private boolean isCoveredBy(SynchronizationJob other) {
-        return Objects.equal(this.gradleBuilds, other.gradleBuilds) && (this.newProjectHandler == NewProjectHandler.NO_OP || Objects.equal(this.newProjectHandler, other.newProjectHandler));
+        return Objects.equal(this.gradleBuilds, other.gradleBuilds) && (this.newProjectHandler == NewProjectHandler.NO_OP || Objects.equal(this.newProjectHandler, other.newProjectHandler))
+                && (this.automatic || !other.automatic);
+    }
+
+    /**
+     * Loads the models of a single build before the synchronization.
+     */
+    private static final class PrefetchModelsJob extends Job {
+
+        private final DefaultGradleBuild gradleBuild;
+        private final boolean automatic;
+        private final CancellationTokenSource tokenSource;
+
+        PrefetchModelsJob(DefaultGradleBuild gradleBuild, boolean automatic, CancellationTokenSource tokenSource) {
+            super("Load models of Gradle build " + gradleBuild.getBuildConfig().getRootProjectDirectory().getName());
+            this.gradleBuild = gradleBuild;
+            this.automatic = automatic;
+            this.tokenSource = tokenSource;
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            if (monitor.isCanceled()) {
+                return Status.CANCEL_STATUS;
+            }
+            try {
+                this.gradleBuild.prefetchModels(this.automatic, this.tokenSource, monitor);
+            } catch (Exception e) {
+                // the synchronization loads the models again and reports the failure
+                CorePlugin.logger().trace(CoreTraceScopes.TOOLING_API, "Cannot prefetch models of " + this.gradleBuild.getBuildConfig().getRootProjectDirectory(), e);
+            }
+            return Status.OK_STATUS;
+        }
     }
 }
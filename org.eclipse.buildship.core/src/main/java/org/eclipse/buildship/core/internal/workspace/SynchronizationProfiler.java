@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import com.google.common.base.Optional;
+import com.google.common.io.Files;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IStatus;
+
+import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+
+/**
+ * Records the wall time and the allocated memory of the steps of a project synchronization.
+ * <p/>
+ * The synchronization phases, the {@code init} and {@code configure} calls of each project
+ * configurator and the updaters of {@link BaseConfigurator} are measured. When the synchronization
+ * finishes, the measurements are written as a {@link SynchronizationReport} to the
+ * {@code last-synchronization.json} file in the state location of the core plugin, overwriting the
+ * report of the previous synchronization.
+ * <p/>
+ * The steps are nested, e.g. the time spent in the updaters is also part of the base configurator
+ * entry of the same project and of the workspace synchronization phase. The allocated memory is
+ * measured on the thread executing the step, so it doesn't include the allocations of the Gradle
+ * daemon or of the background jobs started by the step.
+ * <p/>
+ * Code that doesn't have access to the profiler instance, like the project configurators, can
+ * record measurements with {@link #active()}.
+ */
+public final class SynchronizationProfiler {
+
+    /**
+     * System property to disable the profiler.
+     */
+    public static final String ENABLED_PROPERTY = "org.eclipse.buildship.core.synchronizationProfiler.enabled";
+
+    public static final String CATEGORY_PHASE = "phase";
+    public static final String CATEGORY_INIT = "init";
+    public static final String CATEGORY_CONFIGURE = "configure";
+    public static final String CATEGORY_UNCONFIGURE = "unconfigure";
+    public static final String CATEGORY_UPDATER = "updater";
+
+    private static final String REPORT_FILE_NAME = "last-synchronization.json";
+    private static final Object REPORT_LOCK = new Object();
+    private static final ThreadLocal<SynchronizationProfiler> ACTIVE = new ThreadLocal<>();
+    private static final SynchronizationProfiler DISABLED = new SynchronizationProfiler(null);
+    private static final Measurement NO_MEASUREMENT = () -> {
+    };
+    private static final boolean ALLOCATION_MEASURED = isAllocationMeasured();
+
+    private final File rootProjectDirectory;
+    private final long startTime = System.currentTimeMillis();
+    private final long startNanos = System.nanoTime();
+    private final Queue<SynchronizationReport.Entry> entries = new ConcurrentLinkedQueue<>();
+
+    private SynchronizationProfiler(File rootProjectDirectory) {
+        this.rootProjectDirectory = rootProjectDirectory;
+    }
+
+    /**
+     * Creates a profiler for a new synchronization.
+     *
+     * @param buildConfiguration the configuration of the synchronized build
+     * @return the new profiler, or a profiler that doesn't record anything if profiling is disabled
+     */
+    public static SynchronizationProfiler start(BuildConfiguration buildConfiguration) {
+        if (Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"))) {
+            return new SynchronizationProfiler(buildConfiguration.getRootProjectDirectory());
+        } else {
+            return DISABLED;
+        }
+    }
+
+    /**
+     * Returns the profiler activated on the current thread by {@link #activate()}.
+     *
+     * @return the active profiler, or a profiler that doesn't record anything if there's none
+     */
+    public static SynchronizationProfiler active() {
+        SynchronizationProfiler profiler = ACTIVE.get();
+        return profiler != null ? profiler : DISABLED;
+    }
+
+    /**
+     * Makes this profiler available via {@link #active()} on the current thread until
+     * {@link Activation#deactivate()} is called on the returned object, which has to happen on the
+     * same thread.
+     * <p/>
+     * The profiler is not inherited by other threads, so the steps executed by jobs or executors
+     * started during the synchronization are not recorded unless the profiler is activated there.
+     *
+     * @return the activation
+     */
+    public Activation activate() {
+        SynchronizationProfiler previous = ACTIVE.get();
+        ACTIVE.set(this);
+        return () -> {
+            if (previous != null) {
+                ACTIVE.set(previous);
+            } else {
+                ACTIVE.remove();
+            }
+        };
+    }
+
+    /**
+     * Executes and measures a step.
+     *
+     * @param category the category of the step, one of the {@code CATEGORY_*} constants
+     * @param name the name of the step
+     * @param project the configured project, can be {@code null}
+     * @param step the step to execute
+     * @throws E if the step fails; the measurement is recorded in this case too
+     */
+    public <E extends Exception> void measure(String category, String name, IProject project, Step<E> step) throws E {
+        Measurement measurement = start(category, name, project);
+        try {
+            step.run();
+        } finally {
+            measurement.stop();
+        }
+    }
+
+    /**
+     * Executes and measures a step that computes a value.
+     *
+     * @param category the category of the step, one of the {@code CATEGORY_*} constants
+     * @param name the name of the step
+     * @param project the configured project, can be {@code null}
+     * @param step the step to execute
+     * @return the value computed by the step
+     * @throws E if the step fails; the measurement is recorded in this case too
+     */
+    public <T, E extends Exception> T measure(String category, String name, IProject project, Computation<T, E> step) throws E {
+        Measurement measurement = start(category, name, project);
+        try {
+            return step.compute();
+        } finally {
+            measurement.stop();
+        }
+    }
+
+    private Measurement start(String category, String name, IProject project) {
+        if (this == DISABLED) {
+            return NO_MEASUREMENT;
+        }
+
+        long start = System.nanoTime();
+        long allocatedAtStart = allocatedBytes();
+        return () -> {
+            long end = System.nanoTime();
+            long allocatedAtEnd = allocatedBytes();
+            this.entries.add(new SynchronizationReport.Entry(category, name, project != null ? project.getName() : null, Thread.currentThread().getName(),
+                    toMillis(start - this.startNanos), toMillis(end - start), allocatedAtStart < 0 || allocatedAtEnd < 0 ? -1 : allocatedAtEnd - allocatedAtStart));
+        };
+    }
+
+    /**
+     * Writes the report of the finished synchronization.
+     *
+     * @param status the result of the synchronization
+     */
+    public void finish(IStatus status) {
+        if (this == DISABLED) {
+            return;
+        }
+
+        List<SynchronizationReport.Entry> entries = new ArrayList<>(this.entries);
+        entries.sort(Comparator.comparingDouble(SynchronizationReport.Entry::getStartMillis));
+        SynchronizationReport report = new SynchronizationReport(this.rootProjectDirectory.getAbsolutePath(), this.startTime, toMillis(System.nanoTime() - this.startNanos),
+                statusName(status), entries);
+
+        String json = new GsonBuilder().setPrettyPrinting().create().toJson(report);
+        File reportFile = getReportFile();
+        // concurrent synchronizations of different builds finish at the same time
+        synchronized (REPORT_LOCK) {
+            try {
+                Files.createParentDirs(reportFile);
+                Files.asCharSink(reportFile, StandardCharsets.UTF_8).write(json);
+            } catch (IOException e) {
+                CorePlugin.logger().warn("Cannot write synchronization report to " + reportFile, e);
+            }
+        }
+    }
+
+    /**
+     * Loads the report of the last synchronization.
+     *
+     * @return the report, or {@link Optional#absent()} if there's no report or it can't be read
+     */
+    public static Optional<SynchronizationReport> loadLastReport() {
+        File reportFile = getReportFile();
+        if (!reportFile.isFile()) {
+            return Optional.absent();
+        }
+
+        try {
+            String json;
+            synchronized (REPORT_LOCK) {
+                json = Files.asCharSource(reportFile, StandardCharsets.UTF_8).read();
+            }
+            return Optional.fromNullable(new Gson().fromJson(json, SynchronizationReport.class));
+        } catch (IOException | JsonParseException e) {
+            CorePlugin.logger().warn("Cannot read synchronization report from " + reportFile, e);
+            return Optional.absent();
+        }
+    }
+
+    private static File getReportFile() {
+        return CorePlugin.getInstance().getStateLocation().append(REPORT_FILE_NAME).toFile();
+    }
+
+    private static String statusName(IStatus status) {
+        switch (status.getSeverity()) {
+            case IStatus.CANCEL:
+                return "CANCEL";
+            case IStatus.ERROR:
+                return "ERROR";
+            case IStatus.WARNING:
+                return "WARNING";
+            case IStatus.INFO:
+                return "INFO";
+            default:
+                return "OK";
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static boolean isAllocationMeasured() {
+        try {
+            return ThreadAllocation.isSupported();
+        } catch (LinkageError e) {
+            // the com.sun.management API is not visible to the bundle class loader
+            return false;
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ALLOCATION_MEASURED ? ThreadAllocation.currentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * A step measured by {@link SynchronizationProfiler#measure(String, String, IProject, Step)}.
+     *
+     * @param <E> the type of the exception thrown by the step
+     */
+    @FunctionalInterface
+    public interface Step<E extends Exception> {
+
+        void run() throws E;
+    }
+
+    /**
+     * A step measured by
+     * {@link SynchronizationProfiler#measure(String, String, IProject, Computation)}.
+     *
+     * @param <T> the type of the computed value
+     * @param <E> the type of the exception thrown by the step
+     */
+    @FunctionalInterface
+    public interface Computation<T, E extends Exception> {
+
+        T compute() throws E;
+    }
+
+    /**
+     * A profiler made available on the current thread by {@link SynchronizationProfiler#activate()}.
+     */
+    @FunctionalInterface
+    public interface Activation {
+
+        /**
+         * Restores the profiler that was active on the current thread before the activation.
+         */
+        void deactivate();
+    }
+
+    /**
+     * A started measurement.
+     */
+    @FunctionalInterface
+    private interface Measurement {
+
+        void stop();
+    }
+
+    /**
+     * Reads the allocation counter of the current thread, if the JVM provides it.
+     */
+    private static final class ThreadAllocation {
+
+        private static final com.sun.management.ThreadMXBean THREAD_BEAN = loadThreadBean();
+
+        private static com.sun.management.ThreadMXBean loadThreadBean() {
+            try {
+                ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+                if (threadBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported()) {
+                    ((com.sun.management.ThreadMXBean) threadBean).setThreadAllocatedMemoryEnabled(true);
+                    return (com.sun.management.ThreadMXBean) threadBean;
+                }
+            } catch (UnsupportedOperationException | SecurityException e) {
+                // the measurement is optional
+            }
+            return null;
+        }
+
+        static boolean isSupported() {
+            return THREAD_BEAN != null;
+        }
+
+        static long currentThreadAllocatedBytes() {
+            return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+}
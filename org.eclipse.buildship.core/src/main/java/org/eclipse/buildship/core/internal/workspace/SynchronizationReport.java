@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Timing report of a project synchronization, recorded by {@link SynchronizationProfiler}.
+ */
+public final class SynchronizationReport {
+
+    private final String rootProjectDirectory;
+    private final long startTime;
+    private final double durationMillis;
+    private final String status;
+    private final List<Entry> entries;
+
+    SynchronizationReport(String rootProjectDirectory, long startTime, double durationMillis, String status, List<Entry> entries) {
+        this.rootProjectDirectory = rootProjectDirectory;
+        this.startTime = startTime;
+        this.durationMillis = durationMillis;
+        this.status = status;
+        this.entries = ImmutableList.copyOf(entries);
+    }
+
+    public String getRootProjectDirectory() {
+        return this.rootProjectDirectory;
+    }
+
+    /**
+     * @return the start of the synchronization in milliseconds since the epoch
+     */
+    public long getStartTime() {
+        return this.startTime;
+    }
+
+    public double getDurationMillis() {
+        return this.durationMillis;
+    }
+
+    public String getStatus() {
+        return this.status;
+    }
+
+    public List<Entry> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * A single measured step of the synchronization.
+     */
+    public static final class Entry {
+
+        private final String category;
+        private final String name;
+        private final String project;
+        private final String thread;
+        private final double startMillis;
+        private final double durationMillis;
+        private final long allocatedBytes;
+
+        Entry(String category, String name, String project, String thread, double startMillis, double durationMillis, long allocatedBytes) {
+            this.category = category;
+            this.name = name;
+            this.project = project;
+            this.thread = thread;
+            this.startMillis = startMillis;
+            this.durationMillis = durationMillis;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * @return one of the {@code CATEGORY_*} constants of {@link SynchronizationProfiler}
+         */
+        public String getCategory() {
+            return this.category;
+        }
+
+        /**
+         * @return the name of the phase, project configurator or updater
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * @return the name of the configured workspace project or {@code null} if the step is not
+         *         project-specific
+         */
+        public String getProject() {
+            return this.project;
+        }
+
+        public String getThread() {
+            return this.thread;
+        }
+
+        /**
+         * @return the start of the step relative to the start of the synchronization
+         */
+        public double getStartMillis() {
+            return this.startMillis;
+        }
+
+        public double getDurationMillis() {
+            return this.durationMillis;
+        }
+
+        /**
+         * @return the bytes allocated by the executing thread during the step or {@code -1} if the
+         *         JVM doesn't support the measurement
+         */
+        public long getAllocatedBytes() {
+            return this.allocatedBytes;
+        }
+    }
+}
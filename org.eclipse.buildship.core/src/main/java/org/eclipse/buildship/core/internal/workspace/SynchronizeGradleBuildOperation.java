@@ -24,7 +24,8 @@ import com.google.common.collect.ImmutableList;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
-import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -35,9 +36,17 @@ import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
 import org.eclipse.buildship.core.internal.configuration.ConfigurationManager;
 import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
 import org.eclipse.buildship.core.internal.configuration.ProjectConfiguration;
+import org.eclipse.buildship.core.internal.workspace.GradleClasspathContainerUpdater.Activation;
 
 /**
  * Synchronizes the given Gradle build with the Eclipse workspace.
+ * <p/>
+ * The synchronization has two phases. First, the workspace projects are created, renamed and
+ * uncoupled from the build. Then, the workspace projects are refreshed and configured one after the
+ * other. Both phases run in a single workspace operation holding the workspace root rule: setting
+ * the raw classpath also modifies the external folders project, changing the project description
+ * requires the root rule, and other jobs (e.g. the auto-build) must not see a partially configured
+ * workspace.
  */
 public final class SynchronizeGradleBuildOperation {
 
@@ -66,9 +75,42 @@ public final class SynchronizeGradleBuildOperation {
     }
 
     private void synchronizeProjectsWithWorkspace(SubMonitor progress) throws CoreException {
+        List<ProjectSynchronization> synchronizations = new ArrayList<>();
+        IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+        ResourcesPlugin.getWorkspace().run(monitor -> synchronizations.addAll(synchronizeProjectsWithWorkspace(monitor)), root, 0, progress);
+        for (ProjectSynchronization synchronization : synchronizations) {
+            this.failures.addAll(synchronization.failures);
+            if (synchronization.imported) {
+                this.newProjectHandler.afterProjectImported(synchronization.workspaceProject);
+            }
+        }
+    }
+
+    private List<ProjectSynchronization> synchronizeProjectsWithWorkspace(IProgressMonitor monitor) throws CoreException {
+        SubMonitor progress = SubMonitor.convert(monitor, 2 * this.allProjects.size() + 3);
+
+        // create, rename and uncouple the workspace projects
+        SynchronizationProfiler profiler = SynchronizationProfiler.active();
+        List<ProjectSynchronization> synchronizations = profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Prepare workspace projects", null,
+                () -> prepareWorkspaceProjects(progress.newChild(this.allProjects.size() + 1)));
+
+        // configure the workspace projects and update the changed classpath containers at once
+        GradleClasspathContainerUpdater.Batch classpathContainers = new GradleClasspathContainerUpdater.Batch();
+        Activation activation = classpathContainers.activate();
+        try {
+            profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Configure workspace projects", null,
+                    () -> configureWorkspaceProjects(synchronizations, progress.newChild(this.allProjects.size() + 1)));
+        } finally {
+            activation.deactivate();
+            profiler.measure(SynchronizationProfiler.CATEGORY_PHASE, "Update classpath containers", null, () -> classpathContainers.apply(progress.newChild(1)));
+        }
+        return synchronizations;
+    }
+
+    private List<ProjectSynchronization> prepareWorkspaceProjects(IProgressMonitor monitor) throws CoreException {
         // collect Gradle projects and Eclipse workspace projects to sync
         List<IProject> decoupledWorkspaceProjects = getOpenWorkspaceProjectsRemovedFromGradleBuild();
-        progress.setWorkRemaining(decoupledWorkspaceProjects.size() + this.allProjects.size() + 1);
+        SubMonitor progress = SubMonitor.convert(monitor, decoupledWorkspaceProjects.size() + this.allProjects.size() + 1);
 
         this.failures.addAll(this.configurators.initConfigurators(progress.newChild(1)));
 
@@ -77,14 +119,21 @@ public final class SynchronizeGradleBuildOperation {
             uncoupleWorkspaceProjectFromGradle(project, progress.newChild(1));
         }
 
-        // synchronize the Gradle projects with their corresponding workspace projects
-        for (final EclipseProject gradleProject : this.allProjects) {
-            ResourcesPlugin.getWorkspace().run(new IWorkspaceRunnable() {
-                @Override
-                public void run(IProgressMonitor monitor) throws CoreException {
-                    synchronizeGradleProjectWithWorkspaceProject(gradleProject, SubMonitor.convert(monitor));
-                }
-            }, progress.newChild(1));
+        // find or create the workspace projects corresponding to the Gradle projects
+        List<ProjectSynchronization> result = new ArrayList<>();
+        for (EclipseProject gradleProject : this.allProjects) {
+            ProjectSynchronization synchronization = prepareWorkspaceProject(gradleProject, progress.newChild(1));
+            if (synchronization != null) {
+                result.add(synchronization);
+            }
+        }
+        return result;
+    }
+
+    private void configureWorkspaceProjects(List<ProjectSynchronization> synchronizations, SubMonitor progress) throws CoreException {
+        progress.setWorkRemaining(synchronizations.size());
+        for (ProjectSynchronization synchronization : synchronizations) {
+            synchronization.configure(progress.newChild(1));
         }
     }
 
@@ -105,69 +154,61 @@ public final class SynchronizeGradleBuildOperation {
 
             @Override
             public boolean apply(IProject project) {
-                    ProjectConfiguration projectConfiguration = CorePlugin.configurationManager().tryLoadProjectConfiguration(project);
-                    if (projectConfiguration != null) {
-                        BuildConfiguration buildConfiguration = projectConfiguration.getBuildConfiguration();
-                        return buildConfiguration.getRootProjectDirectory().equals(SynchronizeGradleBuildOperation.this.gradleBuild.getBuildConfig().getRootProjectDirectory())
-                                && (project.getLocation() == null || !gradleProjectDirectories.contains(project.getLocation().toFile()));
-                    } else {
-                        return false;
-                    }
+                return isPartOfBuild(project) && (project.getLocation() == null || !gradleProjectDirectories.contains(project.getLocation().toFile()));
             }
         }).toList();
     }
 
-    private void synchronizeGradleProjectWithWorkspaceProject(EclipseProject project, SubMonitor progress) throws CoreException {
+    private boolean isPartOfBuild(IProject project) {
+        ProjectConfiguration projectConfiguration = CorePlugin.configurationManager().tryLoadProjectConfiguration(project);
+        if (projectConfiguration != null) {
+            BuildConfiguration buildConfiguration = projectConfiguration.getBuildConfiguration();
+            return buildConfiguration.getRootProjectDirectory().equals(this.gradleBuild.getBuildConfig().getRootProjectDirectory());
+        } else {
+            return false;
+        }
+    }
+
+    private ProjectSynchronization prepareWorkspaceProject(EclipseProject project, SubMonitor progress) throws CoreException {
         progress.setWorkRemaining(1);
         progress.subTask(String.format("Synchronize Gradle project %s with workspace project", project.getName()));
         // check if a project already exists in the workspace at the location of the Gradle project to import
         Optional<IProject> workspaceProject = CorePlugin.workspaceOperations().findProjectByLocation(project.getProjectDirectory());
         SubMonitor childProgress = progress.newChild(1, SubMonitor.SUPPRESS_ALL_LABELS);
-        if (workspaceProject.isPresent()) {
-            synchronizeWorkspaceProject(project, workspaceProject.get(), childProgress);
-        } else {
-            if (project.getProjectDirectory().exists() && this.newProjectHandler.shouldImportNewProjects()) {
-                synchronizeNonWorkspaceProject(project, childProgress);
+        BuildConfiguration buildConfig = this.gradleBuild.getBuildConfig();
+        if (!buildConfig.getProjectFilter().isSelected(buildConfig.getRootProjectDirectory(), project)) {
+            // excluded projects are not imported, the dependencies on them are substituted with their jars
+            // only the projects imported from this build are removed, other projects at the same location are kept
+            if (workspaceProject.isPresent() && workspaceProject.get().isAccessible() && GradleProjectNature.isPresentOn(workspaceProject.get())
+                    && isPartOfBuild(workspaceProject.get())) {
+                removeExcludedWorkspaceProject(workspaceProject.get(), childProgress);
             }
-        }
-    }
-
-    private void synchronizeWorkspaceProject(EclipseProject project, IProject workspaceProject, SubMonitor progress) throws CoreException {
-        if (workspaceProject.isAccessible()) {
-            synchronizeOpenWorkspaceProject(project, workspaceProject, true, progress);
+            return null;
+        } else if (workspaceProject.isPresent()) {
+            return prepareExistingWorkspaceProject(project, workspaceProject.get(), childProgress);
+        } else if (project.getProjectDirectory().exists() && this.newProjectHandler.shouldImportNewProjects()) {
+            return prepareNonWorkspaceProject(project, childProgress);
         } else {
-            synchronizeClosedWorkspaceProject(progress);
+            return null;
         }
     }
 
-    private void synchronizeOpenWorkspaceProject(EclipseProject project, IProject workspaceProject, boolean refreshNeeded, SubMonitor progress) throws CoreException {
-        progress.setWorkRemaining(10);
+    private ProjectSynchronization prepareExistingWorkspaceProject(EclipseProject project, IProject workspaceProject, SubMonitor progress) {
+        if (!workspaceProject.isAccessible()) {
+            // do not modify closed projects
+            return null;
+        }
 
-        //currently lots of our synchronization logic assumes that the whole resource tree is readable.
-        if (refreshNeeded) {
+        progress.setWorkRemaining(2);
+        if (!project.getName().equals(workspaceProject.getName())) {
+            // the project has to be in sync with the file system to be renamed
             CorePlugin.workspaceOperations().refreshProject(workspaceProject, progress.newChild(1));
-        } else {
-            progress.worked(1);
         }
-
-        // save the project configuration; has to be called after workspace project is in sync with the file system
-        // otherwise the Eclipse preferences API will throw BackingStoreException
-        ConfigurationManager configManager = CorePlugin.configurationManager();
-        ProjectConfiguration projectConfig = configManager.createProjectConfiguration(this.gradleBuild.getBuildConfig(), project.getProjectDirectory());
-        configManager.saveProjectConfiguration(projectConfig);
-
         workspaceProject = ProjectNameUpdater.updateProjectName(workspaceProject, project, this.allProjects, progress.newChild(1));
-
-        CorePlugin.workspaceOperations().addNature(workspaceProject, GradleProjectNature.ID, progress.newChild(1));
-
-        this.failures.addAll(this.configurators.configureConfigurators(workspaceProject, progress.newChild(1)));
-    }
-
-    private void synchronizeClosedWorkspaceProject(SubMonitor childProgress) {
-        // do not modify closed projects
+        return new ProjectSynchronization(project, workspaceProject, true, false);
     }
 
-    private void synchronizeNonWorkspaceProject(EclipseProject project, SubMonitor progress) throws CoreException {
+    private ProjectSynchronization prepareNonWorkspaceProject(EclipseProject project, SubMonitor progress) throws CoreException {
         progress.setWorkRemaining(2);
         IProject workspaceProject;
 
@@ -179,23 +220,27 @@ public final class SynchronizeGradleBuildOperation {
             workspaceProject = addNewEclipseProjectToWorkspace(project, progress.newChild(1));
         }
 
-        this.newProjectHandler.afterProjectImported(workspaceProject);
+        return new ProjectSynchronization(project, workspaceProject, false, true);
     }
 
     private IProject addExistingEclipseProjectToWorkspace(EclipseProject project, IProjectDescription projectDescription, SubMonitor progress) throws CoreException {
-        progress.setWorkRemaining(3);
+        progress.setWorkRemaining(2);
         ProjectNameUpdater.ensureProjectNameIsFree(project, this.allProjects, progress.newChild(1));
-        IProject workspaceProject = CorePlugin.workspaceOperations().includeProject(projectDescription, ImmutableList.<String>of(), progress.newChild(1));
-        synchronizeOpenWorkspaceProject(project, workspaceProject, false, progress.newChild(1));
-        return workspaceProject;
+        return CorePlugin.workspaceOperations().includeProject(projectDescription, ImmutableList.<String>of(), progress.newChild(1));
     }
 
     private IProject addNewEclipseProjectToWorkspace(EclipseProject project, SubMonitor progress) throws CoreException {
-        progress.setWorkRemaining(3);
+        progress.setWorkRemaining(2);
         ProjectNameUpdater.ensureProjectNameIsFree(project, this.allProjects, progress.newChild(1));
-        IProject workspaceProject = CorePlugin.workspaceOperations().createProject(project.getName(), project.getProjectDirectory(), ImmutableList.<String>of(), progress.newChild(1));
-        synchronizeOpenWorkspaceProject(project, workspaceProject, false, progress.newChild(1));
-        return workspaceProject;
+        return CorePlugin.workspaceOperations().createProject(project.getName(), project.getProjectDirectory(), ImmutableList.<String>of(), progress.newChild(1));
+    }
+
+    private void removeExcludedWorkspaceProject(IProject workspaceProject, SubMonitor monitor) throws CoreException {
+        monitor.setWorkRemaining(2);
+        monitor.subTask(String.format("Remove excluded project %s from the workspace", workspaceProject.getName()));
+        this.failures.addAll(this.configurators.unconfigureConfigurators(workspaceProject, monitor.newChild(1)));
+        // the project content and its configuration are kept, so including the project again restores it
+        workspaceProject.delete(IResource.NEVER_DELETE_PROJECT_CONTENT | IResource.FORCE, monitor.newChild(1));
     }
 
     private void uncoupleWorkspaceProjectFromGradle(IProject workspaceProject, SubMonitor monitor) {
@@ -206,4 +251,50 @@ public final class SynchronizeGradleBuildOperation {
         CorePlugin.workspaceOperations().removeNature(workspaceProject, GradleProjectNature.ID, monitor.newChild(1, SubMonitor.SUPPRESS_ALL_LABELS));
         CorePlugin.configurationManager().deleteProjectConfiguration(workspaceProject);
     }
+
+    /**
+     * Configures a single workspace project. The failures are recorded instead of thrown so that the
+     * synchronization can collect them after the workspace operation.
+     */
+    private final class ProjectSynchronization {
+
+        private final EclipseProject project;
+        private final IProject workspaceProject;
+        private final boolean refreshNeeded;
+        private final boolean imported;
+        private final List<SynchronizationProblem> failures = new ArrayList<>();
+
+        private ProjectSynchronization(EclipseProject project, IProject workspaceProject, boolean refreshNeeded, boolean imported) {
+            this.project = project;
+            this.workspaceProject = workspaceProject;
+            this.refreshNeeded = refreshNeeded;
+            this.imported = imported;
+        }
+
+        private void configure(SubMonitor progress) throws CoreException {
+            progress.setWorkRemaining(4);
+            progress.subTask(String.format("Configure workspace project %s", this.workspaceProject.getName()));
+
+            //currently lots of our synchronization logic assumes that the whole resource tree is readable.
+            if (this.refreshNeeded) {
+                CorePlugin.workspaceOperations().refreshProject(this.workspaceProject, progress.newChild(1));
+            } else {
+                progress.worked(1);
+            }
+
+            // save the project configuration; has to be called after workspace project is in sync with the file system
+            // otherwise the Eclipse preferences API will throw BackingStoreException
+            ConfigurationManager configManager = CorePlugin.configurationManager();
+            ProjectConfiguration projectConfig = configManager.createProjectConfiguration(SynchronizeGradleBuildOperation.this.gradleBuild.getBuildConfig(), this.project.getProjectDirectory());
+            configManager.saveProjectConfiguration(projectConfig);
+            progress.worked(1);
+
+            CorePlugin.workspaceOperations().addNature(this.workspaceProject, GradleProjectNature.ID, progress.newChild(1));
+
+            this.failures.addAll(SynchronizeGradleBuildOperation.this.configurators.configureConfigurators(this.workspaceProject, progress.newChild(1)));
+
+            // the other configurators may have changed the files written by the base configurator
+            ProjectModelDigest.recordWorkspaceFiles(this.workspaceProject);
+        }
+    }
 }
@@ -9,7 +9,10 @@
  ******************************************************************************/
 package org.eclipse.buildship.core.internal.workspace;
 
+import java.io.File;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.collect.Sets;
 
@@ -23,11 +26,14 @@ import org.eclipse.core.resources.IWorkspaceRoot;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.GradleCore;
+import org.eclipse.buildship.core.internal.BuildInputFingerprint;
 import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.configuration.GradleProjectNature;
 import org.eclipse.buildship.core.internal.configuration.ProjectConfiguration;
@@ -37,12 +43,35 @@ import org.eclipse.buildship.core.internal.preferences.PersistentModel;
 
 /**
  * Executes project synchronization if the corresponding preference is enabled and the user changes
- * the build script.
+ * the build script or another build configuration input.
+ * <p/>
+ * The configuration inputs are the files covered by {@link BuildInputFingerprint}. The changes are
+ * debounced per Gradle build: the synchronization starts once no further change happened for
+ * {@link #QUIET_PERIOD_PROPERTY} milliseconds, but at most {@link #MAX_DELAY_PROPERTY} milliseconds
+ * after the first change. This way, saving several files or switching branches results in a single
+ * synchronization.
  *
  * @author Donat Csikos
  */
 public final class SynchronizingBuildScriptUpdateListener implements IResourceChangeListener {
 
+    /**
+     * System property to override the time in milliseconds without changes after which the
+     * synchronization starts.
+     */
+    public static final String QUIET_PERIOD_PROPERTY = "org.eclipse.buildship.core.autoSync.quietPeriod";
+
+    /**
+     * System property to override the maximum time in milliseconds between the first change and
+     * the start of the synchronization.
+     */
+    public static final String MAX_DELAY_PROPERTY = "org.eclipse.buildship.core.autoSync.maxDelay";
+
+    private static final int DEFAULT_QUIET_PERIOD = 500;
+    private static final int DEFAULT_MAX_DELAY = 3000;
+
+    private final Map<File, DebouncedSynchronizationJob> pendingSynchronizations = new ConcurrentHashMap<>();
+
     private SynchronizingBuildScriptUpdateListener() {
     }
 
@@ -92,25 +121,35 @@ public final class SynchronizingBuildScriptUpdateListener implements IResourceCh
     }
 
     private void executeSyncIfBuildScriptChanged(final IProject project, IResourceDelta delta) {
-        if (hasBuildScriptFileChanged(project, delta.getAffectedChildren())) {
+        if (hasBuildInputChanged(project, delta.getAffectedChildren())) {
             GradleBuild gradleBuild = GradleCore.getWorkspace().getBuild(project).get();
-            SynchronizationJob job = new SynchronizationJob(gradleBuild);
-            job.setResultHandler(new ResultHander());
-            job.schedule();
+            scheduleSynchronization((InternalGradleBuild) gradleBuild);
         }
     }
 
-    private boolean hasBuildScriptFileChanged(IProject project, IResourceDelta[] deltas) {
+    private boolean hasBuildInputChanged(IProject project, IResourceDelta[] deltas) {
         PersistentModel model = CorePlugin.modelPersistence().loadModel(project);
         if (!model.isPresent())  {
             return false;
         } else {
             IPath buildScriptPath = model.getbuildScriptPath();
-            Set<IPath> affectedResourcePaths  = collectAffectedResourcePaths(deltas);
-            return affectedResourcePaths.contains(buildScriptPath);
+            for (IPath path : collectAffectedResourcePaths(deltas)) {
+                if (path.equals(buildScriptPath) || BuildInputFingerprint.isInput(path)) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 
+    private void scheduleSynchronization(InternalGradleBuild gradleBuild) {
+        File rootProjectDir = gradleBuild.getBuildConfig().getRootProjectDirectory();
+        DebouncedSynchronizationJob job = this.pendingSynchronizations.computeIfAbsent(rootProjectDir, dir -> new DebouncedSynchronizationJob());
+        long quietPeriod = Math.max(Integer.getInteger(QUIET_PERIOD_PROPERTY, DEFAULT_QUIET_PERIOD), 0);
+        long maxDelay = Math.max(Integer.getInteger(MAX_DELAY_PROPERTY, DEFAULT_MAX_DELAY), quietPeriod);
+        job.trigger(gradleBuild, quietPeriod, maxDelay);
+    }
+
     private Set<IPath> collectAffectedResourcePaths(IResourceDelta[] children) {
         Set<IPath> result = Sets.newHashSet();
         collectAffectedResourcePaths(result, children);
@@ -119,7 +158,9 @@ public final class SynchronizingBuildScriptUpdateListener implements IResourceCh
 
     private void  collectAffectedResourcePaths(Set<IPath> result, IResourceDelta[] deltas) {
         for (IResourceDelta delta : deltas) {
-            result.add(delta.getResource().getProjectRelativePath());
+            if (delta.getResource().getType() == IResource.FILE) {
+                result.add(delta.getResource().getProjectRelativePath());
+            }
             collectAffectedResourcePaths(result, delta.getAffectedChildren());
         }
     }
@@ -132,6 +173,58 @@ public final class SynchronizingBuildScriptUpdateListener implements IResourceCh
 
     public void close() {
         ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+        for (DebouncedSynchronizationJob job : this.pendingSynchronizations.values()) {
+            job.cancel();
+        }
+        this.pendingSynchronizations.clear();
+    }
+
+    /**
+     * Waits for the changes of a single Gradle build to settle and then schedules one
+     * {@link SynchronizationJob} for them.
+     */
+    private static final class DebouncedSynchronizationJob extends Job {
+
+        private InternalGradleBuild gradleBuild;
+        private long firstTrigger;
+
+        DebouncedSynchronizationJob() {
+            super("Wait for build configuration changes");
+            setSystem(true);
+        }
+
+        synchronized void trigger(InternalGradleBuild gradleBuild, long quietPeriod, long maxDelay) {
+            long now = System.currentTimeMillis();
+            if (this.gradleBuild == null) {
+                this.firstTrigger = now;
+            }
+            this.gradleBuild = gradleBuild;
+            long delay = Math.max(Math.min(quietPeriod, this.firstTrigger + maxDelay - now), 0);
+            // rescheduling a waiting or sleeping job has no effect, so it is removed first
+            cancel();
+            schedule(delay);
+        }
+
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            InternalGradleBuild gradleBuild;
+            synchronized (this) {
+                gradleBuild = this.gradleBuild;
+                this.gradleBuild = null;
+            }
+            if (gradleBuild != null) {
+                SynchronizationJob job = new SynchronizationJob(gradleBuild);
+                job.setAutomatic(true);
+                job.setResultHandler(new ResultHander());
+                job.schedule();
+            }
+            return Status.OK_STATUS;
+        }
+
+        @Override
+        public boolean belongsTo(Object family) {
+            return CorePlugin.GRADLE_JOB_FAMILY.equals(family);
+        }
     }
 
     /**
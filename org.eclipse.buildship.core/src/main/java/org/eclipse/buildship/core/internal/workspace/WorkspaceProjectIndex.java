@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.core.internal.workspace;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.base.Optional;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+
+/**
+ * Indexes the workspace projects by their location.
+ * <p/>
+ * Finding the workspace project of a Gradle project by scanning all workspace projects makes the
+ * synchronization quadratic in the size of the workspace. The index is updated when a project is
+ * added, removed, moved, renamed, opened or closed. As resource change events are only sent after
+ * the workspace operation finishes, {@link DefaultWorkspaceOperations} also updates the index
+ * directly when it creates or renames a project. The returned projects are always checked against
+ * the workspace, so a missed event can't cause a wrong match.
+ */
+public final class WorkspaceProjectIndex implements IResourceChangeListener {
+
+    private final Map<File, IProject> projectsByLocation = new ConcurrentHashMap<>();
+    private final Map<IProject, File> locationsByProject = new ConcurrentHashMap<>();
+
+    private WorkspaceProjectIndex() {
+    }
+
+    /**
+     * Returns the workspace project at the target location.
+     *
+     * @param location the project location
+     * @return the project, or {@link Optional#absent()} if there's no project at the location
+     */
+    public Optional<IProject> findProjectByLocation(File location) {
+        IProject project = this.projectsByLocation.get(location);
+        if (project != null && location.equals(locationOf(project))) {
+            return Optional.of(project);
+        } else {
+            return Optional.absent();
+        }
+    }
+
+    /**
+     * Updates the index entry of the target project.
+     *
+     * @param project the project which was created, removed or changed
+     */
+    public synchronized void update(IProject project) {
+        File previousLocation = this.locationsByProject.remove(project);
+        if (previousLocation != null) {
+            this.projectsByLocation.remove(previousLocation, project);
+        }
+
+        File location = locationOf(project);
+        if (location != null) {
+            this.locationsByProject.put(project, location);
+            this.projectsByLocation.put(location, project);
+        }
+    }
+
+    private static File locationOf(IProject project) {
+        if (!project.exists()) {
+            return null;
+        }
+        // since Eclipse 3.4 projects can be non-local and they could return null locations
+        IPath location = project.getLocation();
+        return location != null ? location.toFile() : null;
+    }
+
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+        IResourceDelta delta = event.getDelta();
+        if (delta == null) {
+            return;
+        }
+
+        for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+            IResource resource = projectDelta.getResource();
+            // only the changes of the project itself are relevant, not the changes of its members
+            boolean projectChanged = projectDelta.getKind() != IResourceDelta.CHANGED || (projectDelta.getFlags() & ~IResourceDelta.MARKERS) != 0;
+            if (resource instanceof IProject && projectChanged) {
+                update((IProject) resource);
+            }
+        }
+    }
+
+    public static WorkspaceProjectIndex createAndRegister() {
+        WorkspaceProjectIndex index = new WorkspaceProjectIndex();
+        // register first, so that no change is missed while the index is populated
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(index, IResourceChangeEvent.POST_CHANGE);
+        for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+            index.update(project);
+        }
+        return index;
+    }
+
+    public void close() {
+        ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+        this.projectsByLocation.clear();
+        this.locationsByProject.clear();
+    }
+}
@@ -32,7 +32,6 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 
-import org.eclipse.buildship.core.GradleBuild;
 import org.eclipse.buildship.core.InitializationContext;
 import org.eclipse.buildship.core.ProjectConfigurator;
 import org.eclipse.buildship.core.ProjectContext;
@@ -60,10 +59,9 @@ public class WtpConfigurator implements ProjectConfigurator {
 
     @Override
     public void init(InitializationContext context, IProgressMonitor monitor) {
-        // TODO (donat) add required model declarations to the project configurator extension point
-        GradleBuild gradleBuild = context.getGradleBuild();
+        // the Eclipse models are declared in the requiredModels attribute of the extension
         try {
-            Collection<EclipseProject> rootModels = gradleBuild.withConnection(connection -> EclipseModelUtils.queryModels(connection).values(), monitor);
+            Collection<EclipseProject> rootModels = context.getModels(EclipseProject.class).values();
             this.locationToProject = rootModels.stream()
                 .flatMap(p -> HierarchicalElementUtils.getAll(p).stream())
                 .collect(Collectors.toMap(p -> p.getProjectDirectory(), p -> p));
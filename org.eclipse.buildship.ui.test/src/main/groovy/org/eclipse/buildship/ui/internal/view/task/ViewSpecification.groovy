@@ -11,7 +11,6 @@ package org.eclipse.buildship.ui.internal.view.task
 
 import org.gradle.tooling.model.GradleProject
 import org.gradle.tooling.model.build.BuildEnvironment
-import org.gradle.tooling.model.eclipse.EclipseProject
 
 import com.google.common.base.Optional
 
@@ -26,8 +25,8 @@ import org.eclipse.buildship.ui.internal.test.fixtures.WorkspaceSpecification
 abstract class ViewSpecification extends WorkspaceSpecification {
 
     protected def newProjectNode(ProjectNode parent, String projectLocation) {
-        EclipseProject eclipseProject = newEclipseProject(parent, projectLocation)
-        new ProjectNode(parent, newBuildNode(eclipseProject, projectLocation), Optional.absent(), eclipseProject)
+        GradleProject gradleProject = newGradleProject(parent, projectLocation)
+        new ProjectNode(parent, newBuildNode(gradleProject, projectLocation), Optional.absent(), gradleProject)
     }
 
     protected ProjectTaskNode newProjectTaskNode(ProjectNode parent, String taskPath) {
@@ -42,23 +41,21 @@ abstract class ViewSpecification extends WorkspaceSpecification {
         new TaskSelectorNode(parent, taskSelector)
     }
 
-    private EclipseProject newEclipseProject(ProjectNode parentNode, String path) {
+    private GradleProject newGradleProject(ProjectNode parentNode, String path) {
         File projectDir = dir(path)
         BuildConfiguration buildConfiguration = createInheritingBuildConfiguration(projectDir)
         CorePlugin.configurationManager().saveBuildConfiguration(buildConfiguration)
-        EclipseProject eclipseProject = Stub(EclipseProject) {
+        GradleProject gradleProject = Stub(GradleProject) {
             getProjectDirectory() >> projectDir
-            getParent() >> parentNode?.eclipseProject
-            getGradleProject() >> Stub(GradleProject) {
-                getPath() >> ":"
-            }
+            getParent() >> parentNode?.gradleProject
+            getPath() >> ":"
         }
     }
 
-    private BuildNode newBuildNode(EclipseProject eclipseProject, String projectLocation) {
+    private BuildNode newBuildNode(GradleProject gradleProject, String projectLocation) {
         BuildNode buildNode = Stub(BuildNode)
         buildNode.isIncludedBuild() >> false
-        buildNode.getRootEclipseProject() >> eclipseProject
+        buildNode.getRootProject() >> gradleProject
         buildNode.getBuildTreeNode() >> newBuildTreeNode(projectLocation)
         buildNode
     }
@@ -55,6 +55,7 @@ public final class GradleProjectPreferencePage extends PropertyPage {
         this.gradleProjectSettingsComposite = GradleProjectSettingsComposite.builder(parent)
                 .withAutoSyncCheckbox()
                 .withOverrideCheckbox("Override workspace settings", "Configure Workspace Settings")
+                .withProjectFilter()
                 .build();
 
         initValues();
@@ -78,6 +79,7 @@ public final class GradleProjectPreferencePage extends PropertyPage {
         this.gradleProjectSettingsComposite.getAutoSyncCheckbox().setSelection(buildConfig.getProperties().isAutoSync());
         this.gradleProjectSettingsComposite.getShowConsoleViewCheckbox().setSelection(buildConfig.getProperties().isShowConsoleView());
         this.gradleProjectSettingsComposite.getShowExecutionsViewCheckbox().setSelection(buildConfig.getProperties().isShowExecutionsView());
+        this.gradleProjectSettingsComposite.setProjectFilter(buildConfig.getProjectFilter());
         this.gradleProjectSettingsComposite.updateEnablement();
     }
 
@@ -105,7 +107,8 @@ public final class GradleProjectPreferencePage extends PropertyPage {
            this.gradleProjectSettingsComposite.getAdvancedOptionsGroup().getArguments(),
            this.gradleProjectSettingsComposite.getAdvancedOptionsGroup().getJvmArguments(),
            this.gradleProjectSettingsComposite.getShowConsoleViewCheckbox().getSelection(),
-           this.gradleProjectSettingsComposite.getShowExecutionsViewCheckbox().getSelection());
+           this.gradleProjectSettingsComposite.getShowExecutionsViewCheckbox().getSelection(),
+           this.gradleProjectSettingsComposite.getProjectFilter());
        manager.saveBuildConfiguration(updatedConfig);
        return true;
     }
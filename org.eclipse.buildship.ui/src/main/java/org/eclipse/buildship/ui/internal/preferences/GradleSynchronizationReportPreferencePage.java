@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Gradle Inc. and others
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ ******************************************************************************/
+package org.eclipse.buildship.ui.internal.preferences;
+
+import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Strings;
+
+import org.eclipse.jface.layout.GridDataFactory;
+import org.eclipse.jface.layout.GridLayoutFactory;
+import org.eclipse.jface.preference.PreferencePage;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Table;
+import org.eclipse.swt.widgets.TableColumn;
+import org.eclipse.swt.widgets.TableItem;
+import org.eclipse.ui.IWorkbench;
+import org.eclipse.ui.IWorkbenchPreferencePage;
+
+import org.eclipse.buildship.core.internal.i18n.CoreMessages;
+import org.eclipse.buildship.core.internal.workspace.SynchronizationProfiler;
+import org.eclipse.buildship.core.internal.workspace.SynchronizationReport;
+
+/**
+ * Shows the timing report of the last project synchronization, recorded by
+ * {@link SynchronizationProfiler}. The slowest steps are listed first.
+ */
+public final class GradleSynchronizationReportPreferencePage extends PreferencePage implements IWorkbenchPreferencePage {
+
+    public static final String PAGE_ID = "org.eclipse.buildship.ui.preferences.synchronizationReport";
+
+    @Override
+    public void init(IWorkbench workbench) {
+        noDefaultAndApplyButton();
+    }
+
+    @Override
+    protected Control createContents(Composite parent) {
+        Composite composite = new Composite(parent, SWT.NONE);
+        GridLayoutFactory.swtDefaults().numColumns(1).applyTo(composite);
+        GridDataFactory.swtDefaults().align(SWT.FILL, SWT.FILL).grab(true, true).applyTo(composite);
+
+        Optional<SynchronizationReport> report = SynchronizationProfiler.loadLastReport();
+        Label summary = new Label(composite, SWT.WRAP);
+        GridDataFactory.swtDefaults().align(SWT.FILL, SWT.TOP).grab(true, false).hint(400, SWT.DEFAULT).applyTo(summary);
+        if (!report.isPresent()) {
+            summary.setText(CoreMessages.Preference_Label_SynchronizationReportMissing);
+            return composite;
+        }
+
+        summary.setText(NLS.bind(CoreMessages.Preference_Label_SynchronizationReportSummary, new Object[] { report.get().getRootProjectDirectory(),
+                DateFormat.getDateTimeInstance().format(new Date(report.get().getStartTime())), formatMillis(report.get().getDurationMillis()), report.get().getStatus() }));
+
+        Table table = new Table(composite, SWT.BORDER | SWT.FULL_SELECTION | SWT.V_SCROLL | SWT.H_SCROLL);
+        table.setHeaderVisible(true);
+        table.setLinesVisible(true);
+        GridDataFactory.swtDefaults().align(SWT.FILL, SWT.FILL).grab(true, true).hint(SWT.DEFAULT, 300).applyTo(table);
+        createColumn(table, CoreMessages.Preference_Label_SynchronizationReportCategory, SWT.LEFT);
+        createColumn(table, CoreMessages.Preference_Label_SynchronizationReportName, SWT.LEFT);
+        createColumn(table, CoreMessages.Preference_Label_SynchronizationReportProject, SWT.LEFT);
+        createColumn(table, CoreMessages.Preference_Label_SynchronizationReportTime, SWT.RIGHT);
+        createColumn(table, CoreMessages.Preference_Label_SynchronizationReportAllocation, SWT.RIGHT);
+
+        List<SynchronizationReport.Entry> entries = new ArrayList<>(report.get().getEntries());
+        entries.sort(Comparator.comparingDouble(SynchronizationReport.Entry::getDurationMillis).reversed());
+        for (SynchronizationReport.Entry entry : entries) {
+            TableItem item = new TableItem(table, SWT.NONE);
+            item.setText(new String[] { entry.getCategory(), entry.getName(), Strings.nullToEmpty(entry.getProject()), formatMillis(entry.getDurationMillis()),
+                    entry.getAllocatedBytes() < 0 ? "" : String.valueOf(entry.getAllocatedBytes() / 1024) });
+        }
+
+        for (TableColumn column : table.getColumns()) {
+            column.pack();
+        }
+        return composite;
+    }
+
+    private static void createColumn(Table table, String text, int alignment) {
+        TableColumn column = new TableColumn(table, alignment);
+        column.setText(text);
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format("%.1f", millis);
+    }
+}
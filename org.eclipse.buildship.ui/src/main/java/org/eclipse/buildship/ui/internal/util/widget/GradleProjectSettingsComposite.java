@@ -9,6 +9,11 @@
  ******************************************************************************/
 package org.eclipse.buildship.ui.internal.util.widget;
 
+import java.util.List;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+
 import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.layout.GridLayoutFactory;
@@ -17,10 +22,13 @@ import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.events.SelectionListener;
 import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Group;
 import org.eclipse.swt.widgets.Label;
 import org.eclipse.swt.widgets.Link;
+import org.eclipse.swt.widgets.Text;
 
 import org.eclipse.buildship.core.internal.CorePlugin;
+import org.eclipse.buildship.core.internal.configuration.ProjectFilter;
 import org.eclipse.buildship.core.internal.i18n.CoreMessages;
 import org.eclipse.buildship.core.internal.util.gradle.Pair;
 
@@ -31,6 +39,7 @@ import org.eclipse.buildship.core.internal.util.gradle.Pair;
  * <li>Gradle user home</li>
  * <li>Build scans enablement</li>
  * <li>Offline mode enablement</li>
+ * <li>Project filter (optional)</li>
  * </ul>
  *
  * @author Donat Csikos
@@ -49,8 +58,11 @@ public final class GradleProjectSettingsComposite extends Composite {
     private Button autoSyncCheckbox;
     private Button showConsoleViewCheckbox;
     private Button showExecutionsViewCheckbox;
+    private Text projectFilterIncludesText;
+    private Text projectFilterExcludesText;
 
-    private GradleProjectSettingsComposite(Composite parent, boolean hasOverrideCheckbox, String overrideCheckboxLabel, String configureParentPrefsLinkLabel, boolean hasAutoSyncCheckbox, boolean variableSelector) {
+    private GradleProjectSettingsComposite(Composite parent, boolean hasOverrideCheckbox, String overrideCheckboxLabel, String configureParentPrefsLinkLabel, boolean hasAutoSyncCheckbox, boolean variableSelector,
+            boolean hasProjectFilter) {
         super(parent, SWT.NONE);
 
         this.overrideCheckboxLabel = overrideCheckboxLabel;
@@ -72,6 +84,9 @@ public final class GradleProjectSettingsComposite extends Composite {
         }
         createShowConsoleViewCheckbox(this);
         createShowExecutionsViewCheckbox(this);
+        if (hasProjectFilter) {
+            createProjectFilterGroup(this);
+        }
 
         addListeners();
 
@@ -142,6 +157,23 @@ public final class GradleProjectSettingsComposite extends Composite {
         new Label(parent, SWT.NONE).setVisible(false);
     }
 
+    private void createProjectFilterGroup(Composite parent) {
+        // the project filter belongs to the build, so it is not affected by the override checkbox
+        Group projectFilterGroup = new Group(parent, SWT.NONE);
+        projectFilterGroup.setText(CoreMessages.Preference_Label_ProjectFilter);
+        GridLayoutFactory.swtDefaults().numColumns(2).applyTo(projectFilterGroup);
+        GridDataFactory.swtDefaults().align(SWT.FILL, SWT.CENTER).grab(true, false).span(2, 1).applyTo(projectFilterGroup);
+        HoverText.createAndAttach(projectFilterGroup, CoreMessages.Preference_Label_ProjectFilterHover);
+
+        new Label(projectFilterGroup, SWT.NONE).setText(CoreMessages.Preference_Label_ProjectFilterIncludes);
+        this.projectFilterIncludesText = new Text(projectFilterGroup, SWT.BORDER);
+        GridDataFactory.swtDefaults().align(SWT.FILL, SWT.CENTER).grab(true, false).applyTo(this.projectFilterIncludesText);
+
+        new Label(projectFilterGroup, SWT.NONE).setText(CoreMessages.Preference_Label_ProjectFilterExcludes);
+        this.projectFilterExcludesText = new Text(projectFilterGroup, SWT.BORDER);
+        GridDataFactory.swtDefaults().align(SWT.FILL, SWT.CENTER).grab(true, false).applyTo(this.projectFilterExcludesText);
+    }
+
     private void addListeners() {
         if (this.overrideSettingsCheckbox != null) {
             this.overrideSettingsCheckbox.addSelectionListener(new SelectionListener() {
@@ -215,6 +247,27 @@ public final class GradleProjectSettingsComposite extends Composite {
         return this.showExecutionsViewCheckbox;
     }
 
+    public Text getProjectFilterIncludesText() {
+        return this.projectFilterIncludesText;
+    }
+
+    public Text getProjectFilterExcludesText() {
+        return this.projectFilterExcludesText;
+    }
+
+    public ProjectFilter getProjectFilter() {
+        return ProjectFilter.from(splitPatterns(this.projectFilterIncludesText.getText()), splitPatterns(this.projectFilterExcludesText.getText()));
+    }
+
+    public void setProjectFilter(ProjectFilter projectFilter) {
+        this.projectFilterIncludesText.setText(Joiner.on(' ').join(projectFilter.getIncludes()));
+        this.projectFilterExcludesText.setText(Joiner.on(' ').join(projectFilter.getExcludes()));
+    }
+
+    private static List<String> splitPatterns(String patterns) {
+        return Splitter.on(' ').omitEmptyStrings().trimResults().splitToList(patterns);
+    }
+
     public static final GradleProjectSettingsCompositeBuilder builder(Composite parent) {
         return new GradleProjectSettingsCompositeBuilder(parent);
     }
@@ -229,6 +282,7 @@ public final class GradleProjectSettingsComposite extends Composite {
         private Pair<String, String> overrideCheckbox = null;
         private boolean autoSyncCheckbox = false;
         private boolean variableSelector = false;
+        private boolean projectFilter = false;
         private Composite parent;
         private GradleProjectSettingsCompositeBuilder(Composite parent) {
             this.parent = parent;
@@ -245,12 +299,16 @@ public final class GradleProjectSettingsComposite extends Composite {
             this.variableSelector = true;
             return this;
         }
+        public GradleProjectSettingsCompositeBuilder withProjectFilter() {
+            this.projectFilter = true;
+            return this;
+        }
 
         public GradleProjectSettingsComposite build() {
             if (this.overrideCheckbox != null) {
-                return new GradleProjectSettingsComposite(this.parent, true, this.overrideCheckbox.getFirst(), this.overrideCheckbox.getSecond(), this.autoSyncCheckbox, this.variableSelector);
+                return new GradleProjectSettingsComposite(this.parent, true, this.overrideCheckbox.getFirst(), this.overrideCheckbox.getSecond(), this.autoSyncCheckbox, this.variableSelector, this.projectFilter);
             } else {
-                return new GradleProjectSettingsComposite(this.parent, false, null, null, this.autoSyncCheckbox, this.variableSelector);
+                return new GradleProjectSettingsComposite(this.parent, false, null, null, this.autoSyncCheckbox, this.variableSelector, this.projectFilter);
             }
         }
     }
@@ -12,7 +12,7 @@ package org.eclipse.buildship.ui.internal.view.task;
 
 import java.util.Map;
 
-import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.GradleProject;
 
 import com.google.common.base.Objects;
 
@@ -24,15 +24,15 @@ import org.eclipse.buildship.core.internal.util.gradle.Path;
 public class BuildNode {
 
     private final BuildTreeNode buildTreeNode;
-    private final EclipseProject rootEclipseProject;
+    private final GradleProject rootProject;
     private final String includedBuildName;
     private final Map<Path, BuildInvocations> allBuildInvocations;
 
-    public BuildNode(BuildTreeNode buildTreeNode, EclipseProject rootEclipseProject, String includedBuildName) {
+    public BuildNode(BuildTreeNode buildTreeNode, GradleProject rootProject, String includedBuildName) {
         this.buildTreeNode = buildTreeNode;
-        this.rootEclipseProject = rootEclipseProject;
+        this.rootProject = rootProject;
         this.includedBuildName = includedBuildName;
-        this.allBuildInvocations = BuildInvocations.collectAll(rootEclipseProject.getGradleProject());
+        this.allBuildInvocations = BuildInvocations.collectAll(rootProject);
     }
 
     public BuildTreeNode getBuildTreeNode() {
@@ -48,8 +48,8 @@ public class BuildNode {
     }
 
 
-    public EclipseProject getRootEclipseProject() {
-        return this.rootEclipseProject;
+    public GradleProject getRootProject() {
+        return this.rootProject;
     }
 
     public BuildInvocations buildInvocationsFor(Path path) {
@@ -67,12 +67,12 @@ public class BuildNode {
 
         BuildNode that = (BuildNode) other;
         return Objects.equal(this.buildTreeNode, that.buildTreeNode) &&
-                Objects.equal(this.rootEclipseProject, that.rootEclipseProject) &&
+                Objects.equal(this.rootProject, that.rootProject) &&
                 Objects.equal(this.includedBuildName, that.includedBuildName);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.buildTreeNode, this.rootEclipseProject, this.includedBuildName);
+        return Objects.hashCode(this.buildTreeNode, this.rootProject, this.includedBuildName);
     }
 }
@@ -10,7 +10,6 @@
 package org.eclipse.buildship.ui.internal.view.task;
 
 import org.gradle.tooling.model.GradleProject;
-import org.gradle.tooling.model.eclipse.EclipseProject;
 
 import com.google.common.base.Objects;
 import com.google.common.base.Optional;
@@ -26,15 +25,15 @@ import org.eclipse.buildship.core.internal.util.gradle.Path;
 public final class ProjectNode extends BaseProjectNode {
 
     private final ProjectNode parentProjectNode;
-    private final EclipseProject eclipseProject;
+    private final GradleProject gradleProject;
     private final BuildInvocations buildInvocations;
     private final BuildNode buildNode;
 
-    public ProjectNode(ProjectNode parentProjectNode, BuildNode buildNode, Optional<IProject> workspaceProject, EclipseProject eclipseProject) {
+    public ProjectNode(ProjectNode parentProjectNode, BuildNode buildNode, Optional<IProject> workspaceProject, GradleProject gradleProject) {
         super(workspaceProject);
         this.parentProjectNode = parentProjectNode; // null for root project
-        this.eclipseProject = eclipseProject;
-        this.buildInvocations = buildNode.buildInvocationsFor(Path.from(eclipseProject.getGradleProject().getPath()));
+        this.gradleProject = gradleProject;
+        this.buildInvocations = buildNode.buildInvocationsFor(Path.from(gradleProject.getPath()));
         this.buildNode = buildNode;
     }
 
@@ -44,7 +43,7 @@ public final class ProjectNode extends BaseProjectNode {
         if (workspaceProject.isPresent()) {
             name = workspaceProject.get().getName();
         } else {
-            name = this.getEclipseProject().getName();
+            name = this.gradleProject.getName();
         }
         return name;
     }
@@ -61,12 +60,8 @@ public final class ProjectNode extends BaseProjectNode {
         return this.parentProjectNode;
     }
 
-    public EclipseProject getEclipseProject() {
-        return this.eclipseProject;
-    }
-
     public GradleProject getGradleProject() {
-        return this.eclipseProject.getGradleProject();
+        return this.gradleProject;
     }
 
     public BuildInvocations getInvocations() {
@@ -79,7 +74,7 @@ public final class ProjectNode extends BaseProjectNode {
 
     @Override
     public String toString() {
-        return this.eclipseProject.getGradleProject().getName();
+        return this.gradleProject.getName();
     }
 
     @Override
@@ -94,13 +89,13 @@ public final class ProjectNode extends BaseProjectNode {
         ProjectNode that = (ProjectNode) other;
         return Objects.equal(this.getWorkspaceProject(), that.getWorkspaceProject())
                 && Objects.equal(this.parentProjectNode, that.parentProjectNode)
-                && Objects.equal(this.eclipseProject, that.eclipseProject)
+                && Objects.equal(this.gradleProject, that.gradleProject)
                 && Objects.equal(this.buildInvocations, that.buildInvocations)
                 && Objects.equal(this.buildNode, that.buildNode);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(getWorkspaceProject(), this.parentProjectNode, this.eclipseProject, this.buildInvocations, this.buildNode);
+        return Objects.hashCode(getWorkspaceProject(), this.parentProjectNode, this.gradleProject, this.buildInvocations, this.buildNode);
     }
 }
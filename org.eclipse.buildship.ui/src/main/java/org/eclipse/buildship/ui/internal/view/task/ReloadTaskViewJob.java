@@ -14,15 +14,19 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.model.GradleProject;
 import org.gradle.tooling.model.build.BuildEnvironment;
-import org.gradle.tooling.model.eclipse.EclipseProject;
 
 import com.google.common.base.Preconditions;
 
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.ui.PlatformUI;
 
@@ -30,8 +34,11 @@ import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.operation.ToolingApiJob;
 import org.eclipse.buildship.core.internal.operation.ToolingApiJobResultHandler;
 import org.eclipse.buildship.core.internal.operation.ToolingApiStatus;
+import org.eclipse.buildship.core.internal.util.progress.CancellationAwareFutures;
+import org.eclipse.buildship.core.internal.util.progress.SharedProgressMonitor;
 import org.eclipse.buildship.core.internal.workspace.FetchStrategy;
 import org.eclipse.buildship.core.internal.workspace.InternalGradleBuild;
+import org.eclipse.buildship.core.internal.workspace.ModelProvider;
 
 /**
  * Loads the tasks for all projects into the cache and refreshes the task view afterwards.
@@ -54,22 +61,43 @@ final class ReloadTaskViewJob extends ToolingApiJob<TaskViewContent> {
         return loadContent(tokenSource, monitor);
     }
 
-    private TaskViewContent loadContent(CancellationTokenSource tokenSource, IProgressMonitor monitor) {
-        Map<File, Map<String, EclipseProject>> allModels = new LinkedHashMap<>();
+    private TaskViewContent loadContent(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
+        // query all builds at once and wait until all of them finished; the queries share the monitor of the job
+        // for the cancellation and the sub tasks, the job reports the work
+        SubMonitor progress = SubMonitor.convert(monitor, 1);
+        IProgressMonitor queryMonitor = new SharedProgressMonitor(progress);
+        Map<InternalGradleBuild, CompletableFuture<BuildEnvironment>> environmentRequests = new LinkedHashMap<>();
+        Map<InternalGradleBuild, CompletableFuture<Map<String, GradleProject>>> modelRequests = new LinkedHashMap<>();
+        List<CompletableFuture<?>> allRequests = new ArrayList<>();
+        for (InternalGradleBuild gradleBuild : CorePlugin.internalGradleWorkspace().getGradleBuilds()) {
+            ModelProvider modelProvider = gradleBuild.getModelProvider();
+            CompletableFuture<BuildEnvironment> environmentRequest = modelProvider.fetchModelAsync(BuildEnvironment.class, this.modelFetchStrategy, tokenSource, queryMonitor);
+            // the Task View only needs the project hierarchy and the tasks, which don't require resolving the dependencies
+            CompletableFuture<Map<String, GradleProject>> modelRequest = modelProvider.fetchModelsAsync(GradleProject.class, this.modelFetchStrategy, tokenSource, queryMonitor);
+            environmentRequests.put(gradleBuild, environmentRequest);
+            modelRequests.put(gradleBuild, modelRequest);
+            // the failures are reported per build below
+            allRequests.add(environmentRequest.handle((result, failure) -> null));
+            allRequests.add(modelRequest.handle((result, failure) -> null));
+        }
+        CancellationAwareFutures.await(CompletableFuture.allOf(allRequests.toArray(new CompletableFuture<?>[0])), tokenSource, progress);
+        progress.worked(1);
+
+        Map<File, Map<String, GradleProject>> allModels = new LinkedHashMap<>();
         Map<File, BuildEnvironment> environments = new LinkedHashMap<>();
         List<InternalGradleBuild> faultyBuilds = new ArrayList<>();
-        for (InternalGradleBuild gradleBuild : CorePlugin.internalGradleWorkspace().getGradleBuilds()) {
+        for (InternalGradleBuild gradleBuild : environmentRequests.keySet()) {
             try {
-                BuildEnvironment buildEnvironment = gradleBuild.getModelProvider().fetchModel(BuildEnvironment.class, this.modelFetchStrategy, tokenSource, monitor);
-                Map<String, EclipseProject> models = gradleBuild.getModelProvider().fetchModels(EclipseProject.class, this.modelFetchStrategy, tokenSource, monitor);
+                BuildEnvironment buildEnvironment = environmentRequests.get(gradleBuild).join();
+                Map<String, GradleProject> models = modelRequests.get(gradleBuild).join();
                 if (buildEnvironment != null && models != null) {
                     allModels.put(gradleBuild.getBuildConfig().getRootProjectDirectory(), models);
                     environments.put(gradleBuild.getBuildConfig().getRootProjectDirectory(), buildEnvironment);
                 } else {
                     faultyBuilds.add(gradleBuild);
                 }
-            } catch (RuntimeException e) {
-                CorePlugin.logger().warn("Tasks can't be loaded for project located at " + gradleBuild.getBuildConfig().getRootProjectDirectory().getAbsolutePath(), e);
+            } catch (CompletionException | CancellationException e) {
+                CorePlugin.logger().warn("Tasks can't be loaded for project located at " + gradleBuild.getBuildConfig().getRootProjectDirectory().getAbsolutePath(), e.getCause() != null ? e.getCause() : e);
                 faultyBuilds.add(gradleBuild);
             }
         }
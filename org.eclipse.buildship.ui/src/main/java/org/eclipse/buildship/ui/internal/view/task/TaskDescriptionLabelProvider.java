@@ -43,7 +43,7 @@ public final class TaskDescriptionLabelProvider extends ColumnLabelProvider {
     }
 
     private String getProjectTaskText(ProjectNode projectNode) {
-        return projectNode.getEclipseProject().getDescription();
+        return projectNode.getGradleProject().getDescription();
     }
 
     private String getFaultyBuildTreeNodeText(FaultyBuildTreeNode faultyBuildTreeNode) {
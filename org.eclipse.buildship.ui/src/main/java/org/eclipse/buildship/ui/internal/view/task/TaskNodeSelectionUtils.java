@@ -81,7 +81,7 @@ public final class TaskNodeSelectionUtils {
 
     private static GradleRunConfigurationAttributes runConfigAttributesForTask(NodeSelection selection, List<String> tasks) {
         TaskNode taskNode = selection.getFirstElement(TaskNode.class);
-        File rootDir = HierarchicalElementUtils.getRoot(taskNode.getParentProjectNode().getEclipseProject()).getProjectDirectory();
+        File rootDir = HierarchicalElementUtils.getRoot(taskNode.getParentProjectNode().getGradleProject()).getProjectDirectory();
         File workingDir = workingDirForTask(taskNode, rootDir);
         return createARunConfigAttributes(rootDir, workingDir, tasks);
     }
@@ -90,7 +90,7 @@ public final class TaskNodeSelectionUtils {
         if (taskNode instanceof ProjectTaskNode) {
             return taskNode.getParentProjectNode().getBuildNode().getBuildTreeNode().getRootProjectDir();
         } else if (taskNode instanceof TaskSelectorNode) {
-            return taskNode.getParentProjectNode().getEclipseProject().getProjectDirectory();
+            return taskNode.getParentProjectNode().getGradleProject().getProjectDirectory();
         } else {
             throw new GradlePluginsRuntimeException("Unrecognized task type " + taskNode.getClass().getName());
         }
@@ -98,7 +98,7 @@ public final class TaskNodeSelectionUtils {
 
     private static GradleRunConfigurationAttributes runConfigAttributesForProject(NodeSelection selection, List<String> tasks) {
         ProjectNode projectNode = selection.getFirstElement(ProjectNode.class);
-        File rootDir = HierarchicalElementUtils.getRoot(projectNode.getEclipseProject()).getProjectDirectory();
+        File rootDir = HierarchicalElementUtils.getRoot(projectNode.getGradleProject()).getProjectDirectory();
         return createARunConfigAttributes(rootDir, rootDir, tasks);
     }
 
@@ -9,7 +9,7 @@
  ******************************************************************************/
 package org.eclipse.buildship.ui.internal.view.task;
 
-import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.GradleProject;
 
 import com.google.common.collect.Ordering;
 
@@ -93,8 +93,8 @@ public final class TaskNodeViewerSorter extends ViewerComparator {
                 if (!isHierarchyFlattened) {
                     return left.getDisplayName().compareTo(right.getDisplayName());
                 } else {
-                    EclipseProject leftRoot = HierarchicalElementUtils.getRoot(left.getEclipseProject());
-                    EclipseProject rightRoot = HierarchicalElementUtils.getRoot(right.getEclipseProject());
+                    GradleProject leftRoot = HierarchicalElementUtils.getRoot(left.getGradleProject());
+                    GradleProject rightRoot = HierarchicalElementUtils.getRoot(right.getGradleProject());
 
                     if (leftRoot.getProjectIdentifier() == rightRoot.getProjectIdentifier()) {
                         // do not change sorting of projects that belong to the same root
@@ -38,6 +38,7 @@ import org.eclipse.ui.wizards.IWizardDescriptor;
 
 import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
 import org.eclipse.buildship.core.internal.workspace.FetchStrategy;
+import org.eclipse.buildship.core.internal.workspace.ModelRefreshJob;
 import org.eclipse.buildship.core.internal.workspace.SynchronizationJob;
 import org.eclipse.buildship.ui.internal.UiPluginConstants;
 import org.eclipse.buildship.ui.internal.util.nodeselection.NodeSelection;
@@ -169,6 +170,9 @@ public final class TaskView extends ViewPart implements NodeSelectionProvider {
             public void done(IJobChangeEvent event) {
                 if (event.getJob() instanceof SynchronizationJob) {
                     reload(FetchStrategy.FROM_CACHE_ONLY);
+                } else if (event.getJob() instanceof ModelRefreshJob) {
+                    // the view was populated from a model snapshot, display the up-to-date models
+                    reload(FetchStrategy.FROM_CACHE_ONLY);
                 }
             }
         });
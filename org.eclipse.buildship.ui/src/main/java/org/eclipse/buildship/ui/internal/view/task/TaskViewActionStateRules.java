@@ -11,7 +11,7 @@ package org.eclipse.buildship.ui.internal.view.task;
 
 import java.util.List;
 
-import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.GradleProject;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
@@ -114,7 +114,7 @@ public final class TaskViewActionStateRules {
 
             @Override
             public boolean apply(TaskNode node) {
-                EclipseProject project = node.getParentProjectNode().getEclipseProject();
+                GradleProject project = node.getParentProjectNode().getGradleProject();
                 Path projectPath = new Path(project.getProjectDirectory().getPath());
                 IPath masterPath = projectPath.removeLastSegments(1).append("master");
                 Path rootPath = new Path(HierarchicalElementUtils.getRoot(project).getProjectDirectory().getPath());
@@ -18,7 +18,7 @@ import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 import org.gradle.tooling.model.build.BuildEnvironment;
-import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.GradleProject;
 
 import org.eclipse.buildship.core.internal.workspace.InternalGradleBuild;
 
@@ -47,17 +47,17 @@ public final class TaskViewContent {
         return this.allBuilds;
     }
 
-    public static TaskViewContent from(Map<File, Map<String, EclipseProject>> allModels, Map<File, BuildEnvironment> environments,
+    public static TaskViewContent from(Map<File, Map<String, GradleProject>> allModels, Map<File, BuildEnvironment> environments,
             List<InternalGradleBuild> faultyBuilds) {
         List<BuildNode> builds = new ArrayList<>();
-        for (Entry<File, Map<String, EclipseProject>> model : allModels.entrySet()) {
+        for (Entry<File, Map<String, GradleProject>> model : allModels.entrySet()) {
             File rootProjectDir = model.getKey();
             BuildEnvironment buildEnvironment = environments.get(rootProjectDir);
             BuildTreeNode buildTreeNode = new BuildTreeNode(rootProjectDir, buildEnvironment);
-            for (Entry<String, EclipseProject> entry : model.getValue().entrySet()) {
+            for (Entry<String, GradleProject> entry : model.getValue().entrySet()) {
                 String includedBuildName = entry.getKey().equals(":") ? null : entry.getKey();
-                EclipseProject rootEclipseProject = entry.getValue();
-                builds.add(new BuildNode(buildTreeNode, rootEclipseProject, includedBuildName));
+                GradleProject rootProject = entry.getValue();
+                builds.add(new BuildNode(buildTreeNode, rootProject, includedBuildName));
             }
         }
 
@@ -13,7 +13,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
-import org.gradle.tooling.model.eclipse.EclipseProject;
+import org.gradle.tooling.model.GradleProject;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
@@ -69,31 +69,31 @@ public final class TaskViewContentProvider implements ITreeContentProvider {
             // flatten the tree of Gradle projects to a list, similar
             // to how Eclipse projects look in the Project explorer
             for (BuildNode build : builds) {
-                collectProjectNodesRecursively(build.getRootEclipseProject(), null, allProjectNodes, build);
+                collectProjectNodesRecursively(build.getRootProject(), null, allProjectNodes, build);
             }
         } else {
             // put all subprojects into the parent project's folder, similar
             // to how a Java class look in the Eclipse Type Hierarchy
             for (BuildNode build : builds) {
-                EclipseProject rootEclipseProject = build.getRootEclipseProject();
-                Optional<IProject> workspaceProject = CorePlugin.workspaceOperations().findProjectByName(rootEclipseProject.getName());
-                allProjectNodes.add(new ProjectNode(null, build, workspaceProject, rootEclipseProject));
+                GradleProject rootProject = build.getRootProject();
+                Optional<IProject> workspaceProject = CorePlugin.workspaceOperations().findProjectByLocation(rootProject.getProjectDirectory());
+                allProjectNodes.add(new ProjectNode(null, build, workspaceProject, rootProject));
             }
         }
 
         return allProjectNodes;
     }
 
-    private void collectProjectNodesRecursively(EclipseProject eclipseProject, ProjectNode parentProjectNode, List<BaseProjectNode> acc, BuildNode buildNode) {
+    private void collectProjectNodesRecursively(GradleProject gradleProject, ProjectNode parentProjectNode, List<BaseProjectNode> acc, BuildNode buildNode) {
         // find the corresponding Eclipse project in the workspace
         // (find by location rather than by name since the Eclipse project name does not always
         // correspond to the Gradle project name)
-        Optional<IProject> workspaceProject = CorePlugin.workspaceOperations().findProjectByName(eclipseProject.getName());
+        Optional<IProject> workspaceProject = CorePlugin.workspaceOperations().findProjectByLocation(gradleProject.getProjectDirectory());
 
-        // create a new node for the given Eclipse project and then recurse into the children
-        ProjectNode projectNode = new ProjectNode(parentProjectNode, buildNode, workspaceProject, eclipseProject);
+        // create a new node for the given Gradle project and then recurse into the children
+        ProjectNode projectNode = new ProjectNode(parentProjectNode, buildNode, workspaceProject, gradleProject);
         acc.add(projectNode);
-        for (EclipseProject childProject : eclipseProject.getChildren()) {
+        for (GradleProject childProject : gradleProject.getChildren()) {
             collectProjectNodesRecursively(childProject, projectNode, acc, buildNode);
         }
     }
@@ -132,9 +132,9 @@ public final class TaskViewContentProvider implements ITreeContentProvider {
 
     private Set<ProjectNode> projectNodesFor(ProjectNode projectNode) {
         Set<ProjectNode> result = Sets.newHashSet();
-        EclipseProject eclipseProject = projectNode.getEclipseProject();
+        GradleProject gradleProject = projectNode.getGradleProject();
 
-        for (EclipseProject childProject : eclipseProject.getChildren()) {
+        for (GradleProject childProject : gradleProject.getChildren()) {
             Optional<IProject> workspaceProject = CorePlugin.workspaceOperations().findProjectByLocation(childProject.getProjectDirectory());
             ProjectNode childProjectNode = new ProjectNode(projectNode, projectNode.getBuildNode(), workspaceProject, childProject);
             result.add(childProjectNode);
@@ -14,6 +14,7 @@ import java.util.List;
 
 import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+import org.eclipse.buildship.core.internal.configuration.ProjectFilter;
 import org.eclipse.buildship.core.internal.util.binding.Property;
 import org.eclipse.buildship.core.internal.util.binding.Validator;
 import org.eclipse.buildship.core.internal.util.binding.Validators;
@@ -38,6 +39,7 @@ public final class ProjectImportConfiguration {
     private final Property<List<String>> jvmArguments;
     private final Property<Boolean> showConsoleView;
     private final Property<Boolean> showExecutionsView;
+    private final Property<ProjectFilter> projectFilter;
 
     public ProjectImportConfiguration() {
         this(Validators.<File>noOp(), Validators.<GradleDistributionViewModel>noOp(), Validators.<File>noOp(), Validators.<File>noOp(), Validators.<Boolean>noOp(), Validators.<List<String>>noOp());
@@ -59,6 +61,8 @@ public final class ProjectImportConfiguration {
         this.jvmArguments = Property.<List<String>>create(Validators.<List<String>>noOp());
         this.showConsoleView = Property.<Boolean>create(Validators.<Boolean>noOp());
         this.showExecutionsView = Property.<Boolean>create(Validators.<Boolean>noOp());
+        this.projectFilter = Property.<ProjectFilter>create(Validators.<ProjectFilter>noOp());
+        this.projectFilter.setValue(ProjectFilter.ALL);
     }
 
     public Property<File> getProjectDir() {
@@ -174,6 +178,14 @@ public final class ProjectImportConfiguration {
         this.showExecutionsView.setValue(Boolean.valueOf(showExecutionsView));
     }
 
+    public Property<ProjectFilter> getProjectFilter() {
+        return this.projectFilter;
+    }
+
+    public void setProjectFilter(ProjectFilter projectFilter) {
+        this.projectFilter.setValue(projectFilter);
+    }
+
     public BuildConfiguration toInternalBuildConfiguration() {
         return CorePlugin.configurationManager().createBuildConfiguration(getProjectDir().getValue(),
                 getOverrideWorkspaceConfiguration().getValue(),
@@ -186,7 +198,8 @@ public final class ProjectImportConfiguration {
                 getArguments().getValue(),
                 getJvmArguments().getValue(),
                 getShowConsoleView().getValue(),
-                getShowExecutionsView().getValue());
+                getShowExecutionsView().getValue(),
+                getProjectFilter().getValue());
     }
 
     public org.eclipse.buildship.core.BuildConfiguration toBuildConfiguration() {
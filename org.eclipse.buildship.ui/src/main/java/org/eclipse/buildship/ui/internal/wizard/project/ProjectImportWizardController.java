@@ -199,8 +199,8 @@ public class ProjectImportWizardController {
                 public void run(IProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
                     BuildConfiguration internalBuildConfiguration = ProjectImportWizardController.this.configuration.toInternalBuildConfiguration();
                     boolean showExecutionsView = internalBuildConfiguration.getWorkspaceConfiguration().isShowExecutionsView();
-                    org.eclipse.buildship.core.BuildConfiguration buildConfiguration = ProjectImportWizardController.this.configuration.toBuildConfiguration();
-                    org.eclipse.buildship.core.GradleBuild gradleBuild = GradleCore.getWorkspace().createBuild(buildConfiguration);
+                    // the internal configuration carries the project filter, which the public API doesn't expose
+                    org.eclipse.buildship.core.GradleBuild gradleBuild = CorePlugin.internalGradleWorkspace().getGradleBuild(internalBuildConfiguration);
 
                     ImportWizardNewProjectHandler workingSetsAddingNewProjectHandler = new ImportWizardNewProjectHandler(newProjectHandler, ProjectImportWizardController.this.configuration, showExecutionsView);
                     InitializeNewProjectOperation initializeOperation = new InitializeNewProjectOperation(internalBuildConfiguration);
@@ -11,9 +11,13 @@ package org.eclipse.buildship.ui.internal.wizard.project;
 
 import java.io.File;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.model.UnsupportedMethodException;
 import org.gradle.tooling.model.build.BuildEnvironment;
 import org.gradle.tooling.model.build.GradleEnvironment;
 import org.gradle.tooling.model.gradle.BasicGradleProject;
@@ -38,6 +42,8 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.MouseAdapter;
 import org.eclipse.swt.events.MouseEvent;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.graphics.Font;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
@@ -54,6 +60,7 @@ import org.eclipse.ui.part.PageBook;
 import org.eclipse.buildship.core.internal.CorePlugin;
 import org.eclipse.buildship.core.internal.GradlePluginsRuntimeException;
 import org.eclipse.buildship.core.internal.configuration.BuildConfiguration;
+import org.eclipse.buildship.core.internal.configuration.ProjectFilter;
 import org.eclipse.buildship.core.internal.gradle.MissingFeatures;
 import org.eclipse.buildship.core.internal.i18n.CoreMessages;
 import org.eclipse.buildship.core.internal.operation.BaseToolingApiOperation;
@@ -63,6 +70,8 @@ import org.eclipse.buildship.core.internal.operation.ToolingApiStatus.ToolingApi
 import org.eclipse.buildship.core.internal.util.binding.Property;
 import org.eclipse.buildship.core.internal.util.gradle.GradleVersion;
 import org.eclipse.buildship.core.internal.util.gradle.Pair;
+import org.eclipse.buildship.core.internal.util.progress.CancellationAwareFutures;
+import org.eclipse.buildship.core.internal.util.progress.SharedProgressMonitor;
 import org.eclipse.buildship.core.internal.workspace.FetchStrategy;
 import org.eclipse.buildship.core.internal.workspace.InitializeNewProjectOperation;
 import org.eclipse.buildship.core.internal.workspace.ModelProvider;
@@ -193,7 +202,17 @@ public final class ProjectPreviewWizardPage extends AbstractWizardPage {
 
         this.previewResultPages = new PageBook(container, SWT.NONE);
         GridDataFactory.fillDefaults().span(2, 1).grab(true, true).applyTo(this.previewResultPages);
-        this.previewResultSuccessTree = new Tree(this.previewResultPages, SWT.NONE);
+        this.previewResultSuccessTree = new Tree(this.previewResultPages, SWT.CHECK);
+        this.previewResultSuccessTree.setToolTipText(ProjectWizardMessages.PreviewStructure_SelectProjects_Tooltip);
+        this.previewResultSuccessTree.addSelectionListener(new SelectionAdapter() {
+
+            @Override
+            public void widgetSelected(SelectionEvent e) {
+                if (e.detail == SWT.CHECK) {
+                    projectSelectionChanged((TreeItem) e.item);
+                }
+            }
+        });
         this.previewResultErrorText = new Text(this.previewResultPages, SWT.MULTI | SWT.READ_ONLY | SWT.BORDER | SWT.H_SCROLL | SWT.V_SCROLL);
         this.previewResultPages.showPage(this.previewResultSuccessTree);
     }
@@ -412,21 +431,66 @@ public final class ProjectPreviewWizardPage extends AbstractWizardPage {
     }
 
     private void populateRecursively(GradleBuild gradleBuild, Tree parent) {
+        populateRecursively(gradleBuild, parent, buildRootDirectory(gradleBuild));
+    }
+
+    private void populateRecursively(GradleBuild gradleBuild, Tree parent, File rootProjectDirectory) {
         BasicGradleProject rootProject = gradleBuild.getRootProject();
         TreeItem rootTreeItem = new TreeItem(this.previewResultSuccessTree, SWT.NONE);
         rootTreeItem.setExpanded(true);
         rootTreeItem.setText(rootProject.getName());
-        populateRecursively(rootProject, rootTreeItem);
+        File buildRootDirectory = buildRootDirectory(gradleBuild);
+        initProjectSelection(rootTreeItem, ProjectFilter.projectPath(rootProjectDirectory, buildRootDirectory, rootProject.getPath()));
+        populateRecursively(rootProject, rootTreeItem, rootProjectDirectory, buildRootDirectory);
         for (GradleBuild includedBuilds : gradleBuild.getIncludedBuilds()) {
-            populateRecursively(includedBuilds, parent);
+            populateRecursively(includedBuilds, parent, rootProjectDirectory);
         }
     }
 
-    private void populateRecursively(BasicGradleProject gradleProject, TreeItem parent) {
+    private void populateRecursively(BasicGradleProject gradleProject, TreeItem parent, File rootProjectDirectory, File buildRootDirectory) {
         for (BasicGradleProject childProject : gradleProject.getChildren()) {
             TreeItem treeItem = new TreeItem(parent, SWT.NONE);
             treeItem.setText(childProject.getName());
-            populateRecursively(childProject, treeItem);
+            initProjectSelection(treeItem, ProjectFilter.projectPath(rootProjectDirectory, buildRootDirectory, childProject.getPath()));
+            populateRecursively(childProject, treeItem, rootProjectDirectory, buildRootDirectory);
+        }
+    }
+
+    private static File buildRootDirectory(GradleBuild gradleBuild) {
+        try {
+            return gradleBuild.getBuildIdentifier().getRootDir();
+        } catch (UnsupportedMethodException e) {
+            // included builds are not supported by the Gradle version used by the build
+            return null;
+        }
+    }
+
+    private void initProjectSelection(TreeItem treeItem, String projectPath) {
+        treeItem.setData(projectPath);
+        treeItem.setChecked(getConfiguration().getProjectFilter().getValue().isSelected(projectPath));
+    }
+
+    private void projectSelectionChanged(TreeItem treeItem) {
+        // unchecked projects are excluded by their path, checking them again removes the exclusion
+        String projectPath = (String) treeItem.getData();
+        ProjectFilter projectFilter = getConfiguration().getProjectFilter().getValue();
+        List<String> includes = new ArrayList<>(projectFilter.getIncludes());
+        List<String> excludes = new ArrayList<>(projectFilter.getExcludes());
+        if (treeItem.getChecked()) {
+            excludes.remove(projectPath);
+            if (!ProjectFilter.from(includes, excludes).isSelected(projectPath)) {
+                includes.add(projectPath);
+            }
+        } else {
+            excludes.add(projectPath);
+        }
+
+        ProjectFilter updatedFilter = ProjectFilter.from(includes, excludes);
+        if (updatedFilter.isSelected(projectPath) == treeItem.getChecked()) {
+            getConfiguration().setProjectFilter(updatedFilter);
+        } else {
+            // the root project is always imported, and patterns can exclude a project regardless of its includes
+            treeItem.setChecked(!treeItem.getChecked());
         }
     }
 
@@ -437,14 +501,14 @@ public final class ProjectPreviewWizardPage extends AbstractWizardPage {
         super.dispose();
     }
 
-    private static BuildEnvironment fetchBuildEnvironment(BuildConfiguration buildConfig, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+    private static CompletableFuture<BuildEnvironment> fetchBuildEnvironment(BuildConfiguration buildConfig, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
         ModelProvider modelProvider = CorePlugin.internalGradleWorkspace().getGradleBuild(buildConfig).getModelProvider();
-        return modelProvider.fetchModel(BuildEnvironment.class, FetchStrategy.FORCE_RELOAD, tokenSource, monitor);
+        return modelProvider.fetchModelAsync(BuildEnvironment.class, FetchStrategy.FORCE_RELOAD, tokenSource, monitor);
     }
 
-    private static GradleBuild fetchGradleBuildStructure(BuildConfiguration buildConfig, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
+    private static CompletableFuture<GradleBuild> fetchGradleBuildStructure(BuildConfiguration buildConfig, CancellationTokenSource tokenSource, IProgressMonitor monitor) {
         ModelProvider modelProvider = CorePlugin.internalGradleWorkspace().getGradleBuild(buildConfig).getModelProvider();
-        return modelProvider.fetchModel(GradleBuild.class, FetchStrategy.FORCE_RELOAD, tokenSource, monitor);
+        return modelProvider.fetchModelAsync(GradleBuild.class, FetchStrategy.FORCE_RELOAD, tokenSource, monitor);
     }
 
     /**
@@ -461,12 +525,18 @@ public final class ProjectPreviewWizardPage extends AbstractWizardPage {
 
         @Override
         public void runInToolingApi(CancellationTokenSource tokenSource, IProgressMonitor monitor) throws Exception {
-            SubMonitor progress = SubMonitor.convert(monitor);
-            progress.setWorkRemaining(2);
-
-            BuildEnvironment buildEnvironment = fetchBuildEnvironment(this.buildConfig, tokenSource, progress.newChild(1));
-            GradleBuild gradleBuild = fetchGradleBuildStructure(this.buildConfig, tokenSource, progress.newChild(1));
-            previewFinished(buildEnvironment, gradleBuild);
+            SubMonitor progress = SubMonitor.convert(monitor, 2);
+
+            // both models are loaded at the same time; the queries share the monitor of the operation for the
+            // cancellation and the sub tasks, the operation reports the work
+            IProgressMonitor queryMonitor = new SharedProgressMonitor(progress);
+            CompletableFuture<BuildEnvironment> buildEnvironment = fetchBuildEnvironment(this.buildConfig, tokenSource, queryMonitor);
+            CompletableFuture<GradleBuild> gradleBuild = fetchGradleBuildStructure(this.buildConfig, tokenSource, queryMonitor);
+            BuildEnvironment buildEnvironmentResult = CancellationAwareFutures.await(buildEnvironment, tokenSource, progress);
+            progress.worked(1);
+            GradleBuild gradleBuildResult = CancellationAwareFutures.await(gradleBuild, tokenSource, progress);
+            progress.worked(1);
+            previewFinished(buildEnvironmentResult, gradleBuildResult);
         }
 
         @Override
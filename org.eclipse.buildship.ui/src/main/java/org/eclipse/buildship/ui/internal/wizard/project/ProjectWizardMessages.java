@@ -55,6 +55,7 @@ public final class ProjectWizardMessages extends NLS {
 
     public static String Title_Dialog_PreviewStructureInfo;
     public static String PreviewStructureInfo_Tooltip;
+    public static String PreviewStructure_SelectProjects_Tooltip;
     public static String PreviewStructureInfo_Details;
 
     public static String Preview_Failed;